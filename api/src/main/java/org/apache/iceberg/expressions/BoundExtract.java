@@ -18,17 +18,21 @@
  */
 package org.apache.iceberg.expressions;
 
+import java.util.List;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.types.Type;
+import org.apache.iceberg.variants.VariantValue;
 
 public class BoundExtract<T> implements BoundTerm<T> {
   private final BoundReference<?> ref;
+  private final List<String> fieldNames;
   private final String path;
   private final Type type;
 
   BoundExtract(BoundReference<?> ref, String path, Type type) {
     this.ref = ref;
-    this.path = PathUtil.toNormalizedPath(PathUtil.parse(path));
+    this.fieldNames = PathUtil.parse(path);
+    this.path = PathUtil.toNormalizedPath(fieldNames);
     this.type = type;
   }
 
@@ -41,6 +45,21 @@ public class BoundExtract<T> implements BoundTerm<T> {
     return path;
   }
 
+  /** Returns the names of the nested object fields in the path, starting from the variant root. */
+  public List<String> pathFieldNames() {
+    return fieldNames;
+  }
+
+  /**
+   * Converts a variant value to the extracted type.
+   *
+   * @param value a variant value
+   * @return the value as the extracted type, or null if it cannot be converted
+   */
+  public T convert(VariantValue value) {
+    return VariantExpressionUtil.castTo(value, type);
+  }
+
   @Override
   public Type type() {
     return type;
@@ -20,6 +20,9 @@ package org.apache.iceberg.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * {@code RangeReadable} is an interface that allows for implementations of {@link InputFile}
@@ -77,4 +80,48 @@ public interface RangeReadable extends Closeable {
   default int readTail(byte[] buffer) throws IOException {
     return readTail(buffer, 0, buffer.length);
   }
+
+  /**
+   * Read a list of ranges from the input source.
+   *
+   * <p>Each range's {@link FileRange#byteBuffer() buffer future} is completed with a buffer
+   * allocated by {@code allocate} containing the bytes of the range, or exceptionally if the range
+   * could not be read. Implementations may complete the futures asynchronously, merge nearby ranges
+   * into a single request and read ranges concurrently. Ranges must not overlap.
+   *
+   * <p>The default implementation reads the ranges one at a time using {@link #readFully(long,
+   * byte[], int, int)} before returning. Ranges are read directly into buffers that are backed by
+   * an array.
+   *
+   * @param ranges the ranges to read
+   * @param allocate a function to allocate a buffer for a given length
+   * @throws IOException if an error occurs while reading
+   */
+  default void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate)
+      throws IOException {
+    for (FileRange range : ranges) {
+      try {
+        ByteBuffer buffer = allocate.apply(range.length());
+        if (buffer.hasArray()) {
+          readFully(
+              range.offset(),
+              buffer.array(),
+              buffer.arrayOffset() + buffer.position(),
+              range.length());
+          buffer.position(buffer.position() + range.length());
+        } else {
+          byte[] bytes = new byte[range.length()];
+          readFully(range.offset(), bytes, 0, bytes.length);
+          buffer.put(bytes);
+        }
+
+        buffer.flip();
+        range.byteBuffer().complete(buffer);
+      } catch (IOException | RuntimeException e) {
+        // fail all ranges that have not been read, completed ranges are not affected
+        ranges.forEach(unread -> unread.byteBuffer().completeExceptionally(e));
+        throw e;
+      }
+    }
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.Files.localInput;
+import static org.apache.iceberg.Files.localOutput;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.data.IcebergGenerics;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A base benchmark that reads a table with one Parquet data file through {@link ArrowReader} and,
+ * for comparison, through the row-based generic readers.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+public abstract class ArrowReaderBenchmark {
+  protected static final int NUM_ROWS = 1_000_000;
+  private static final int BATCH_SIZE = 4096;
+
+  private File tableDir = null;
+  private Table table = null;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.tableDir = Files.createTempDirectory("arrow-reader-bench").toFile();
+    this.table =
+        new HadoopTables()
+            .create(schema(), PartitionSpec.unpartitioned(), tableDir.toURI().toString());
+
+    File parquetFile = new File(tableDir, "data.parquet");
+    FileAppender<Record> appender =
+        Parquet.write(localOutput(parquetFile))
+            .schema(table.schema())
+            .createWriterFunc(GenericParquetWriter::create)
+            .build();
+    try {
+      for (int id = 0; id < NUM_ROWS; id += 1) {
+        appender.add(record(table.schema(), id));
+      }
+    } finally {
+      appender.close();
+    }
+
+    DataFile dataFile =
+        DataFiles.builder(table.spec())
+            .withInputFile(localInput(parquetFile))
+            .withMetrics(appender.metrics())
+            .withFormat(FileFormat.PARQUET)
+            .build();
+    table.newAppend().appendFile(dataFile).commit();
+    addDeletes(tableDir, dataFile);
+  }
+
+  @TearDown
+  public void tearDownBenchmark() throws IOException {
+    if (tableDir != null) {
+      try (Stream<Path> paths = Files.walk(tableDir.toPath())) {
+        paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readArrow(Blackhole blackhole) throws IOException {
+    try (VectorizedTableScanIterable batches =
+        new VectorizedTableScanIterable(table.newScan(), BATCH_SIZE, true)) {
+      for (ColumnarBatch batch : batches) {
+        blackhole.consume(batch.numRows());
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readGenericRecords(Blackhole blackhole) throws IOException {
+    try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+      for (Record record : records) {
+        blackhole.consume(record);
+      }
+    }
+  }
+
+  protected Table table() {
+    return table;
+  }
+
+  /** Returns the schema of the benchmark table. */
+  protected abstract Schema schema();
+
+  /** Returns the record with the given id that is written to the data file. */
+  protected abstract Record record(Schema schema, int id);
+
+  /**
+   * Adds deletes for the data file to the benchmark table, which has none by default.
+   *
+   * @param dir a directory for delete files
+   * @param dataFile the data file of the table
+   */
+  protected void addDeletes(File dir, DataFile dataFile) throws IOException {}
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.Files.localOutput;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.deletes.PositionDelete;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.types.Types;
+
+/**
+ * A benchmark that reads a table with position and equality deletes through {@link ArrowReader},
+ * which removes deleted rows from each batch.
+ *
+ * <p>A tenth of the rows are deleted by position, two of the twenty categories are deleted by
+ * equality on the dictionary-encoded category column, and a further 5% of the rows are deleted by
+ * equality on id.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-arrow:jmh
+ *       -PjmhIncludeRegex=ArrowReaderWithDeletesBenchmark
+ *       -PjmhOutputPath=benchmark/arrow-reader-with-deletes-benchmark-result.txt
+ * </code>
+ */
+public class ArrowReaderWithDeletesBenchmark extends ArrowReaderBenchmark {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()),
+          optional(2, "category", Types.StringType.get()),
+          optional(3, "value", Types.LongType.get()));
+  private static final int NUM_CATEGORIES = 20;
+
+  @Override
+  protected Schema schema() {
+    return SCHEMA;
+  }
+
+  @Override
+  protected Record record(Schema schema, int id) {
+    Record record = GenericRecord.create(schema);
+    record.setField("id", id);
+    record.setField("category", "category-" + id % NUM_CATEGORIES);
+    record.setField("value", id * 31L);
+    return record;
+  }
+
+  @Override
+  protected void addDeletes(File dir, DataFile dataFile) throws IOException {
+    Table table = table();
+
+    PositionDeleteWriter<Record> posDeleteWriter =
+        Parquet.writeDeletes(localOutput(new File(dir, "pos-deletes.parquet")))
+            .createWriterFunc(GenericParquetWriter::create)
+            .withSpec(table.spec())
+            .buildPositionWriter();
+    PositionDelete<Record> positionDelete = PositionDelete.create();
+    try (PositionDeleteWriter<Record> writer = posDeleteWriter) {
+      for (long pos = 0; pos < NUM_ROWS; pos += 10) {
+        writer.write(positionDelete.set(dataFile.location(), pos, null));
+      }
+    }
+
+    Schema categorySchema = table.schema().select("category");
+    EqualityDeleteWriter<Record> categoryDeleteWriter =
+        Parquet.writeDeletes(localOutput(new File(dir, "category-deletes.parquet")))
+            .createWriterFunc(GenericParquetWriter::create)
+            .rowSchema(categorySchema)
+            .withSpec(table.spec())
+            .equalityFieldIds(2)
+            .buildEqualityWriter();
+    try (EqualityDeleteWriter<Record> writer = categoryDeleteWriter) {
+      for (int category : new int[] {3, 7}) {
+        Record delete = GenericRecord.create(categorySchema);
+        delete.setField("category", "category-" + category);
+        writer.write(delete);
+      }
+    }
+
+    Schema idSchema = table.schema().select("id");
+    EqualityDeleteWriter<Record> idDeleteWriter =
+        Parquet.writeDeletes(localOutput(new File(dir, "id-deletes.parquet")))
+            .createWriterFunc(GenericParquetWriter::create)
+            .rowSchema(idSchema)
+            .withSpec(table.spec())
+            .equalityFieldIds(1)
+            .buildEqualityWriter();
+    try (EqualityDeleteWriter<Record> writer = idDeleteWriter) {
+      for (int id = 1; id < NUM_ROWS; id += 20) {
+        Record delete = GenericRecord.create(idSchema);
+        delete.setField("id", id);
+        writer.write(delete);
+      }
+    }
+
+    table
+        .newRowDelta()
+        .addDeletes(posDeleteWriter.toDeleteFile())
+        .addDeletes(categoryDeleteWriter.toDeleteFile())
+        .addDeletes(idDeleteWriter.toDeleteFile())
+        .commit();
+  }
+}
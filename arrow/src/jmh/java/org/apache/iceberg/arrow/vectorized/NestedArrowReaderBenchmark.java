@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+
+/**
+ * A benchmark that reads struct, list and map columns through {@link ArrowReader}, which assembles
+ * them with {@link NestedVectorReader}.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-arrow:jmh
+ *       -PjmhIncludeRegex=NestedArrowReaderBenchmark
+ *       -PjmhOutputPath=benchmark/nested-arrow-reader-benchmark-result.txt
+ * </code>
+ */
+public class NestedArrowReaderBenchmark extends ArrowReaderBenchmark {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(
+              2,
+              "event",
+              Types.StructType.of(
+                  required(3, "name", Types.StringType.get()),
+                  optional(4, "ts", Types.TimestampType.withZone()),
+                  optional(5, "value", Types.DoubleType.get()))),
+          optional(6, "tags", Types.ListType.ofOptional(7, Types.LongType.get())),
+          optional(
+              8,
+              "attributes",
+              Types.MapType.ofOptional(9, 10, Types.StringType.get(), Types.IntegerType.get())));
+
+  @Override
+  protected Schema schema() {
+    return SCHEMA;
+  }
+
+  @Override
+  protected Record record(Schema schema, int id) {
+    Record record = GenericRecord.create(schema);
+    record.setField("id", (long) id);
+    if (id % 10 != 0) {
+      Record event = GenericRecord.create(schema.findType("event").asStructType());
+      event.setField("name", "event-" + id % 100);
+      event.setField("ts", id % 7 == 0 ? null : 1_600_000_000_000_000L + id);
+      event.setField("value", id * 0.5);
+      record.setField("event", event);
+    }
+
+    List<Long> tags = Lists.newArrayList();
+    for (int pos = 0; pos < id % 5; pos += 1) {
+      tags.add((long) id + pos);
+    }
+
+    record.setField("tags", tags);
+    Map<String, Integer> attributes =
+        id % 3 == 0 ? ImmutableMap.of() : ImmutableMap.of("a", id, "b", id % 11);
+    record.setField("attributes", attributes);
+    return record;
+  }
+}
@@ -18,18 +18,287 @@
  */
 package org.apache.iceberg.arrow.vectorized;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.And;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeSet;
+import org.apache.iceberg.util.UUIDUtil;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 
 /**
  * A collection of vectorized readers per column (in the expected read schema) and Arrow Vector
  * holders. This class owns the Arrow vectors and is responsible for closing the Arrow vectors.
+ *
+ * <p>When created with a filter, rows are materialized late: the columns referenced by the filter
+ * are read first, the filter is evaluated for each row, and the remaining columns are read only for
+ * the rows that match. Rows that do not match are removed from the batch, so a batch may have fewer
+ * rows than requested. The filter is evaluated on the Arrow validity vectors, so the readers must
+ * set them.
+ *
+ * <p>Parts of the filter that reference a single column are evaluated one column at a time. When
+ * the column is dictionary encoded, the predicate is evaluated once for each dictionary entry and
+ * rows are selected by looking up their dictionary ids, so dictionary values are not materialized
+ * for each row. The filter columns themselves are always read in full: every page is read and the
+ * dictionary ids or values of every row are decoded before the filter is evaluated. Only the other
+ * columns skip the rows that do not match, along with the pages that contain none of the matching
+ * rows.
+ *
+ * <p>When created with an {@link ArrowDeleteFilter}, deleted rows are removed from each batch.
+ * Deleted positions are looked up using the row position column. Equality deletes are applied one
+ * delete set at a time, probing only the rows that are still live. When a delete set has a single
+ * dictionary-encoded column, each dictionary entry is probed once and rows are removed using their
+ * dictionary ids. The columns that were read only to apply deletes are not returned.
  */
 class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
+  private static final Set<Type.TypeID> FILTER_TYPES =
+      ImmutableSet.of(
+          Type.TypeID.BOOLEAN,
+          Type.TypeID.INTEGER,
+          Type.TypeID.DATE,
+          Type.TypeID.LONG,
+          Type.TypeID.TIME,
+          Type.TypeID.TIMESTAMP,
+          Type.TypeID.FLOAT,
+          Type.TypeID.DOUBLE,
+          Type.TypeID.STRING,
+          Type.TypeID.BINARY,
+          Type.TypeID.FIXED,
+          Type.TypeID.UUID,
+          Type.TypeID.DECIMAL);
+
+  // state used for late materialization, unset if the filter cannot be evaluated on the batch
+  private final int[] filterColumns;
+  // filters on a single column by filter column, null if a column has no single-column filter
+  private final ColumnFilter[] columnFilters;
+  // the part of the filter that references several columns, null if there is none
+  private final Evaluator evaluator;
+  private final int[] lazyColumns;
+  private final RowIndexQueue[] lazyRowIndexes;
+  private final FieldVector[] filteredVectors;
+  private final BatchRow row;
+  private PrimitiveIterator.OfLong rowIndexes = null;
+  private long nextRowIndex = 0L;
+  private int[] matches = new int[0];
+  private long[] batchRowIndexes = new long[0];
+
+  // state used to apply deletes, unset if there are no delete files
+  private final ArrowDeleteFilter deletes;
+  private final int posColumn;
+  private final List<EqualityDeleteProbe> eqDeleteProbes;
+  private final FieldVector[] liveVectors;
+  private int[] liveRows = new int[0];
 
   ArrowBatchReader(List<VectorizedReader<?>> readers) {
+    this(readers, null, null, true, null);
+  }
+
+  ArrowBatchReader(
+      List<VectorizedReader<?>> readers,
+      Schema expectedSchema,
+      Expression filter,
+      boolean caseSensitive,
+      ArrowDeleteFilter deletes) {
     super(readers);
+
+    this.deletes = deletes;
+    if (deletes != null) {
+      List<Types.NestedField> columns = expectedSchema.columns();
+      this.posColumn = fieldPosition(columns, MetadataColumns.ROW_POSITION.fieldId());
+      Preconditions.checkArgument(
+          !deletes.hasPosDeletes() || posColumn >= 0,
+          "Cannot apply position deletes without the row position column");
+      this.eqDeleteProbes = Lists.newArrayList();
+      if (deletes.hasEqDeletes()) {
+        for (ArrowDeleteFilter.EqualityDeletes eqDeletes : deletes.equalityDeletes()) {
+          eqDeleteProbes.add(new EqualityDeleteProbe(columns, eqDeletes));
+        }
+      }
+
+      this.liveVectors = new FieldVector[deletes.expectedSchema().columns().size()];
+    } else {
+      this.posColumn = -1;
+      this.eqDeleteProbes = null;
+      this.liveVectors = null;
+    }
+
+    List<Types.NestedField> filterFields =
+        lateMaterializedFields(expectedSchema, filter, caseSensitive);
+    if (filterFields != null && supportsPageFiltering()) {
+      List<Types.NestedField> columns = expectedSchema.columns();
+      this.filterColumns = filterFields.stream().mapToInt(columns::indexOf).toArray();
+      this.lazyColumns = new int[columns.size() - filterColumns.length];
+      this.lazyRowIndexes = new RowIndexQueue[lazyColumns.length];
+      int lazyIndex = 0;
+      for (int pos = 0; pos < columns.size(); pos += 1) {
+        if (!filterFields.contains(columns.get(pos))) {
+          lazyColumns[lazyIndex] = pos;
+          lazyRowIndexes[lazyIndex] = new RowIndexQueue();
+          if (this.readers[pos] != null) {
+            this.readers[pos].setRowSelection(lazyRowIndexes[lazyIndex]);
+          }
+
+          lazyIndex += 1;
+        }
+      }
+
+      List<Expression> rowFilters = Lists.newArrayList();
+      this.columnFilters =
+          columnFilters(expectedSchema, filterFields, filter, caseSensitive, rowFilters);
+      if (!rowFilters.isEmpty()) {
+        Expression rowFilter = rowFilters.stream().reduce(Expressions::and).get();
+        this.evaluator =
+            new Evaluator(Types.StructType.of(filterFields), rowFilter, caseSensitive);
+        this.row = new BatchRow(filterFields);
+      } else {
+        this.evaluator = null;
+        this.row = null;
+      }
+
+      this.filteredVectors = new FieldVector[readers.size()];
+    } else {
+      this.evaluator = null;
+      this.columnFilters = null;
+      this.filterColumns = null;
+      this.lazyColumns = null;
+      this.lazyRowIndexes = null;
+      this.filteredVectors = null;
+      this.row = null;
+    }
+  }
+
+  /**
+   * Returns the top-level fields referenced by the filter, or null if rows cannot be filtered.
+   *
+   * <p>Late materialization is used only when the filter references top-level primitive columns of
+   * the expected schema and there are other columns to read lazily.
+   */
+  private static List<Types.NestedField> lateMaterializedFields(
+      Schema expectedSchema, Expression filter, boolean caseSensitive) {
+    if (expectedSchema == null || filter == null || filter == Expressions.alwaysTrue()) {
+      return null;
+    }
+
+    Set<Integer> filterIds;
+    try {
+      filterIds =
+          Binder.boundReferences(
+              expectedSchema.asStruct(), ImmutableList.of(filter), caseSensitive);
+    } catch (ValidationException e) {
+      // the filter references columns that are not projected
+      return null;
+    }
+
+    List<Types.NestedField> fields = Lists.newArrayList();
+    for (int id : filterIds) {
+      Types.NestedField field = expectedSchema.asStruct().field(id);
+      if (field == null || !FILTER_TYPES.contains(field.type().typeId())) {
+        return null;
+      }
+
+      fields.add(field);
+    }
+
+    if (fields.isEmpty() || fields.size() == expectedSchema.columns().size()) {
+      return null;
+    }
+
+    return fields;
+  }
+
+  /**
+   * Creates a filter for each filter field from the parts of the filter that reference only that
+   * field, and adds the remaining parts to {@code rowFilters}.
+   */
+  private static ColumnFilter[] columnFilters(
+      Schema expectedSchema,
+      List<Types.NestedField> filterFields,
+      Expression filter,
+      boolean caseSensitive,
+      List<Expression> rowFilters) {
+    List<Expression> conjuncts = Lists.newArrayList();
+    addConjuncts(filter, conjuncts);
+
+    Expression[] fieldFilters = new Expression[filterFields.size()];
+    for (Expression conjunct : conjuncts) {
+      Set<Integer> ids =
+          Binder.boundReferences(
+              expectedSchema.asStruct(), ImmutableList.of(conjunct), caseSensitive);
+      int pos = ids.size() == 1 ? fieldPosition(filterFields, ids.iterator().next()) : -1;
+      if (pos >= 0) {
+        fieldFilters[pos] =
+            fieldFilters[pos] != null ? Expressions.and(fieldFilters[pos], conjunct) : conjunct;
+      } else {
+        rowFilters.add(conjunct);
+      }
+    }
+
+    ColumnFilter[] columnFilters = new ColumnFilter[filterFields.size()];
+    for (int pos = 0; pos < columnFilters.length; pos += 1) {
+      if (fieldFilters[pos] != null) {
+        columnFilters[pos] =
+            new ColumnFilter(filterFields.get(pos), fieldFilters[pos], caseSensitive);
+      }
+    }
+
+    return columnFilters;
+  }
+
+  private static void addConjuncts(Expression expr, List<Expression> conjuncts) {
+    if (expr.op() == Expression.Operation.AND) {
+      And and = (And) expr;
+      addConjuncts(and.left(), conjuncts);
+      addConjuncts(and.right(), conjuncts);
+    } else {
+      conjuncts.add(expr);
+    }
+  }
+
+  private static int fieldPosition(List<Types.NestedField> fields, int fieldId) {
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      if (fields.get(pos).fieldId() == fieldId) {
+        return pos;
+      }
+    }
+
+    return -1;
+  }
+
+  @Override
+  public void setRowGroupInfo(
+      PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData) {
+    if (filterColumns != null) {
+      this.rowIndexes = pageStore.getRowIndexes().orElse(null);
+      this.nextRowIndex = 0L;
+      for (RowIndexQueue queue : lazyRowIndexes) {
+        queue.clear();
+      }
+    }
+
+    super.setRowGroupInfo(pageStore, metaData);
   }
 
   @Override
@@ -41,18 +310,483 @@ class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
       closeVectors();
     }
 
+    ColumnarBatch batch;
+    if (filterColumns != null) {
+      batch = readLateMaterialized(numRowsToRead);
+    } else {
+      ColumnVector[] columnVectors = new ColumnVector[readers.length];
+      for (int i = 0; i < readers.length; i += 1) {
+        columnVectors[i] = readColumn(i, numRowsToRead);
+      }
+      batch = new ColumnarBatch(numRowsToRead, columnVectors);
+    }
+
+    return deletes != null ? applyDeletes(batch) : batch;
+  }
+
+  private ColumnarBatch readLateMaterialized(int numRowsToRead) {
+    closeVectors(filteredVectors);
+
     ColumnVector[] columnVectors = new ColumnVector[readers.length];
-    for (int i = 0; i < readers.length; i += 1) {
-      vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
-      int numRowsInVector = vectorHolders[i].numValues();
-      Preconditions.checkState(
-          numRowsInVector == numRowsToRead,
-          "Number of rows in the vector %s didn't match expected %s ",
-          numRowsInVector,
-          numRowsToRead);
-      // Handle null vector for constant case
-      columnVectors[i] = new ColumnVector(vectorHolders[i]);
-    }
-    return new ColumnarBatch(numRowsToRead, columnVectors);
+    for (int pos : filterColumns) {
+      columnVectors[pos] = readColumn(pos, numRowsToRead);
+    }
+
+    int numMatches = filterRows(columnVectors, numRowsToRead);
+
+    for (int pos : lazyColumns) {
+      columnVectors[pos] = readColumn(pos, numMatches);
+    }
+
+    if (numMatches < numRowsToRead) {
+      for (int pos : filterColumns) {
+        columnVectors[pos] =
+            compactColumn(vectorHolders[pos], matches, numMatches, filteredVectors, pos);
+      }
+    }
+
+    return new ColumnarBatch(numMatches, columnVectors);
+  }
+
+  private ColumnVector readColumn(int pos, int numRowsToRead) {
+    vectorHolders[pos] = readers[pos].read(vectorHolders[pos], numRowsToRead);
+    int numRowsInVector = vectorHolders[pos].numValues();
+    Preconditions.checkState(
+        numRowsInVector == numRowsToRead,
+        "Number of rows in the vector %s didn't match expected %s ",
+        numRowsInVector,
+        numRowsToRead);
+    // Handle null vector for constant case
+    return new ColumnVector(vectorHolders[pos]);
+  }
+
+  /**
+   * Evaluates the filter for each row and selects the matching rows in the lazy column readers.
+   *
+   * @return the number of matching rows, whose batch positions are stored in {@link #matches}
+   */
+  private int filterRows(ColumnVector[] columnVectors, int numRows) {
+    if (matches.length < numRows) {
+      this.matches = new int[numRows];
+      this.batchRowIndexes = new long[numRows];
+    }
+
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      matches[rowId] = rowId;
+      batchRowIndexes[rowId] = rowIndexes != null ? rowIndexes.nextLong() : nextRowIndex++;
+    }
+
+    int numMatches = numRows;
+    for (int i = 0; i < filterColumns.length && numMatches > 0; i += 1) {
+      if (columnFilters[i] != null) {
+        int pos = filterColumns[i];
+        numMatches =
+            columnFilters[i].filter(vectorHolders[pos], columnVectors[pos], matches, numMatches);
+      }
+    }
+
+    if (evaluator != null && numMatches > 0) {
+      row.setColumns(columnVectors, filterColumns);
+      int numRowMatches = 0;
+      for (int i = 0; i < numMatches; i += 1) {
+        if (evaluator.eval(row.setRowId(matches[i]))) {
+          matches[numRowMatches] = matches[i];
+          numRowMatches += 1;
+        }
+      }
+
+      numMatches = numRowMatches;
+    }
+
+    for (int i = 0; i < numMatches; i += 1) {
+      long rowIndex = batchRowIndexes[matches[i]];
+      for (RowIndexQueue queue : lazyRowIndexes) {
+        queue.add(rowIndex);
+      }
+    }
+
+    return numMatches;
+  }
+
+  /**
+   * Removes the deleted rows from a batch and drops the columns that were read to apply deletes.
+   */
+  private ColumnarBatch applyDeletes(ColumnarBatch batch) {
+    closeVectors(liveVectors);
+
+    int numRows = batch.numRows();
+    if (liveRows.length < numRows) {
+      this.liveRows = new int[numRows];
+    }
+
+    PositionDeleteIndex deletedPositions = deletes.deletedRowPositions();
+    int numLiveRows = 0;
+    if (deletedPositions != null) {
+      ColumnVector positions = batch.column(posColumn);
+      for (int rowId = 0; rowId < numRows; rowId += 1) {
+        if (!deletedPositions.isDeleted(positions.getLong(rowId))) {
+          liveRows[numLiveRows] = rowId;
+          numLiveRows += 1;
+        }
+      }
+
+    } else {
+      for (int rowId = 0; rowId < numRows; rowId += 1) {
+        liveRows[rowId] = rowId;
+      }
+
+      numLiveRows = numRows;
+    }
+
+    for (EqualityDeleteProbe probe : eqDeleteProbes) {
+      if (numLiveRows == 0) {
+        break;
+      }
+
+      numLiveRows = probe.removeDeleted(batch, liveRows, numLiveRows);
+    }
+
+    for (int i = numLiveRows; i < numRows; i += 1) {
+      deletes.incrementDeleteCount();
+    }
+
+    ColumnVector[] columnVectors = new ColumnVector[liveVectors.length];
+    for (int pos = 0; pos < columnVectors.length; pos += 1) {
+      ColumnVector column = batch.column(pos);
+      if (numLiveRows < numRows) {
+        columnVectors[pos] =
+            compactColumn(column.vectorHolder(), liveRows, numLiveRows, liveVectors, pos);
+      } else {
+        columnVectors[pos] = column;
+      }
+    }
+
+    return new ColumnarBatch(numLiveRows, columnVectors);
+  }
+
+  /**
+   * Copies the given rows of a column into a new vector, which is owned by {@code vectors[pos]}.
+   */
+  private static ColumnVector compactColumn(
+      VectorHolder holder, int[] rowIds, int numRows, FieldVector[] vectors, int pos) {
+    FieldVector vector = holder.vector();
+    FieldVector compacted = vector.getField().createVector(vector.getAllocator());
+    compacted.setInitialCapacity(numRows);
+    compacted.allocateNew();
+    vectors[pos] = compacted;
+
+    NullabilityHolder nulls = new NullabilityHolder(numRows);
+    for (int i = 0; i < numRows; i += 1) {
+      compacted.copyFromSafe(rowIds[i], i, vector);
+      if (holder.nullabilityHolder().isNullAt(rowIds[i]) == 1) {
+        nulls.setNull(i);
+      } else {
+        nulls.setNotNull(i);
+      }
+    }
+
+    compacted.setValueCount(numRows);
+    return new ColumnVector(
+        new VectorHolder(
+            holder.descriptor(),
+            compacted,
+            holder.isDictionaryEncoded(),
+            holder.dictionary(),
+            nulls,
+            holder.icebergField()));
+  }
+
+  private static void closeVectors(FieldVector[] vectors) {
+    for (int i = 0; i < vectors.length; i += 1) {
+      if (vectors[i] != null) {
+        vectors[i].close();
+        vectors[i] = null;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    if (filteredVectors != null) {
+      closeVectors(filteredVectors);
+    }
+
+    if (liveVectors != null) {
+      closeVectors(liveVectors);
+    }
+
+    super.close();
+  }
+
+  /**
+   * A filter on a single column.
+   *
+   * <p>When a column is dictionary encoded, the filter is evaluated for each dictionary entry when
+   * the dictionary changes and rows are selected by looking up their dictionary ids. The ids are
+   * looked up after the batch has been decoded, one row at a time.
+   */
+  private static class ColumnFilter {
+    private final Evaluator evaluator;
+    private final BatchRow row;
+    private Dictionary dictionary = null;
+    private boolean[] dictionaryMatches = null;
+    private Boolean nullMatches = null;
+
+    private ColumnFilter(Types.NestedField field, Expression filter, boolean caseSensitive) {
+      this.evaluator = new Evaluator(Types.StructType.of(field), filter, caseSensitive);
+      this.row = new BatchRow(ImmutableList.of(field));
+    }
+
+    /**
+     * Removes the rows that do not match from a list of batch positions.
+     *
+     * @return the number of matching rows, which are moved to the start of {@code rowIds}
+     */
+    private int filter(VectorHolder holder, ColumnVector column, int[] rowIds, int numRows) {
+      row.setColumn(0, column);
+      int numMatches = 0;
+      if (holder.isDictionaryEncoded()) {
+        boolean[] idMatches = dictionaryMatches(holder);
+        IntVector ids = (IntVector) holder.vector();
+        NullabilityHolder nulls = holder.nullabilityHolder();
+        for (int i = 0; i < numRows; i += 1) {
+          int rowId = rowIds[i];
+          boolean matches =
+              nulls.isNullAt(rowId) == 1 ? matchesNull(rowId) : idMatches[ids.get(rowId)];
+          if (matches) {
+            rowIds[numMatches] = rowId;
+            numMatches += 1;
+          }
+        }
+
+      } else {
+        for (int i = 0; i < numRows; i += 1) {
+          if (evaluator.eval(row.setRowId(rowIds[i]))) {
+            rowIds[numMatches] = rowIds[i];
+            numMatches += 1;
+          }
+        }
+      }
+
+      return numMatches;
+    }
+
+    private boolean matchesNull(int rowId) {
+      if (nullMatches == null) {
+        this.nullMatches = evaluator.eval(row.setRowId(rowId));
+      }
+
+      return nullMatches;
+    }
+
+    /** Evaluates the filter for each entry of the dictionary of a dictionary-encoded vector. */
+    private boolean[] dictionaryMatches(VectorHolder holder) {
+      if (holder.dictionary() == dictionary) {
+        return dictionaryMatches;
+      }
+
+      int size = holder.dictionary().getMaxId() + 1;
+      boolean[] idMatches = new boolean[size];
+      try (ColumnVector valueColumn = dictionaryValues(holder)) {
+        BatchRow dictionaryRow = new BatchRow(ImmutableList.of(holder.icebergField()));
+        dictionaryRow.setColumn(0, valueColumn);
+        for (int id = 0; id < size; id += 1) {
+          idMatches[id] = evaluator.eval(dictionaryRow.setRowId(id));
+        }
+      }
+
+      this.dictionary = holder.dictionary();
+      this.dictionaryMatches = idMatches;
+      return idMatches;
+    }
+  }
+
+  /**
+   * Returns a column with one row for each entry of the dictionary of a dictionary-encoded vector.
+   */
+  private static ColumnVector dictionaryValues(VectorHolder holder) {
+    int size = holder.dictionary().getMaxId() + 1;
+    IntVector ids = new IntVector("dictionary_ids", holder.vector().getAllocator());
+    ids.allocateNew(size);
+    for (int id = 0; id < size; id += 1) {
+      ids.set(id, id);
+    }
+
+    ids.setValueCount(size);
+    NullabilityHolder notNull = new NullabilityHolder(size);
+    notNull.setNotNulls(0, size);
+    return new ColumnVector(
+        new VectorHolder(
+            holder.descriptor(), ids, true, holder.dictionary(), notNull, holder.icebergField()));
+  }
+
+  /**
+   * Probes the rows of a batch with the rows deleted by a set of equality delete files.
+   *
+   * <p>When the delete set has a single column that is dictionary encoded, each dictionary entry is
+   * probed when the dictionary changes and rows are removed by looking up their dictionary ids.
+   */
+  private static class EqualityDeleteProbe {
+    private final StructLikeSet deletedRows;
+    private final int[] columns;
+    private final BatchRow row;
+    private Dictionary dictionary = null;
+    private boolean[] dictionaryDeletes = null;
+    private Boolean nullDeleted = null;
+
+    private EqualityDeleteProbe(
+        List<Types.NestedField> batchFields, ArrowDeleteFilter.EqualityDeletes deletes) {
+      List<Types.NestedField> deleteFields = deletes.schema().columns();
+      this.deletedRows = deletes.rows();
+      this.columns =
+          deleteFields.stream()
+              .mapToInt(field -> fieldPosition(batchFields, field.fieldId()))
+              .toArray();
+      this.row = new BatchRow(deleteFields);
+    }
+
+    /**
+     * Removes the deleted rows from a list of batch positions.
+     *
+     * @return the number of live rows, which are moved to the start of {@code rowIds}
+     */
+    private int removeDeleted(ColumnarBatch batch, int[] rowIds, int numRows) {
+      for (int i = 0; i < columns.length; i += 1) {
+        row.setColumn(i, batch.column(columns[i]));
+      }
+
+      int numLive = 0;
+      VectorHolder holder = batch.column(columns[0]).vectorHolder();
+      if (columns.length == 1 && holder.isDictionaryEncoded()) {
+        boolean[] idDeletes = dictionaryDeletes(holder);
+        IntVector ids = (IntVector) holder.vector();
+        NullabilityHolder nulls = holder.nullabilityHolder();
+        for (int i = 0; i < numRows; i += 1) {
+          int rowId = rowIds[i];
+          boolean deleted =
+              nulls.isNullAt(rowId) == 1 ? isNullDeleted(rowId) : idDeletes[ids.get(rowId)];
+          if (!deleted) {
+            rowIds[numLive] = rowId;
+            numLive += 1;
+          }
+        }
+
+      } else {
+        for (int i = 0; i < numRows; i += 1) {
+          if (!deletedRows.contains(row.setRowId(rowIds[i]))) {
+            rowIds[numLive] = rowIds[i];
+            numLive += 1;
+          }
+        }
+      }
+
+      return numLive;
+    }
+
+    private boolean isNullDeleted(int rowId) {
+      if (nullDeleted == null) {
+        this.nullDeleted = deletedRows.contains(row.setRowId(rowId));
+      }
+
+      return nullDeleted;
+    }
+
+    /** Probes the delete set with each entry of the dictionary of a dictionary-encoded vector. */
+    private boolean[] dictionaryDeletes(VectorHolder holder) {
+      if (holder.dictionary() == dictionary) {
+        return dictionaryDeletes;
+      }
+
+      int size = holder.dictionary().getMaxId() + 1;
+      boolean[] idDeletes = new boolean[size];
+      try (ColumnVector valueColumn = dictionaryValues(holder)) {
+        BatchRow dictionaryRow = new BatchRow(ImmutableList.of(holder.icebergField()));
+        dictionaryRow.setColumn(0, valueColumn);
+        for (int id = 0; id < size; id += 1) {
+          idDeletes[id] = deletedRows.contains(dictionaryRow.setRowId(id));
+        }
+      }
+
+      this.dictionary = holder.dictionary();
+      this.dictionaryDeletes = idDeletes;
+      return idDeletes;
+    }
+  }
+
+  /** A row of a batch that exposes the filter columns in Iceberg's internal representation. */
+  private static class BatchRow implements StructLike {
+    private final Type[] types;
+    private final ColumnVector[] columns;
+    private int rowId = 0;
+
+    private BatchRow(List<Types.NestedField> fields) {
+      this.types = fields.stream().map(Types.NestedField::type).toArray(Type[]::new);
+      this.columns = new ColumnVector[fields.size()];
+    }
+
+    private void setColumns(ColumnVector[] batchColumns, int[] positions) {
+      for (int i = 0; i < positions.length; i += 1) {
+        columns[i] = batchColumns[positions[i]];
+      }
+    }
+
+    private void setColumn(int pos, ColumnVector column) {
+      columns[pos] = column;
+    }
+
+    private BatchRow setRowId(int newRowId) {
+      this.rowId = newRowId;
+      return this;
+    }
+
+    @Override
+    public int size() {
+      return columns.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(get(pos));
+    }
+
+    private Object get(int pos) {
+      ColumnVector column = columns[pos];
+      if (column.isNullAt(rowId)) {
+        return null;
+      }
+
+      switch (types[pos].typeId()) {
+        case BOOLEAN:
+          return column.getBoolean(rowId);
+        case INTEGER:
+        case DATE:
+          return column.getInt(rowId);
+        case LONG:
+        case TIME:
+        case TIMESTAMP:
+          return column.getLong(rowId);
+        case FLOAT:
+          return column.getFloat(rowId);
+        case DOUBLE:
+          return column.getDouble(rowId);
+        case STRING:
+          return column.getString(rowId);
+        case BINARY:
+        case FIXED:
+          return ByteBuffer.wrap(column.getBinary(rowId));
+        case UUID:
+          return UUIDUtil.convert(column.getBinary(rowId));
+        case DECIMAL:
+          Types.DecimalType decimal = (Types.DecimalType) types[pos];
+          return column.getDecimal(rowId, decimal.precision(), decimal.scale());
+        default:
+          throw new UnsupportedOperationException("Unsupported filter type: " + types[pos]);
+      }
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("BatchRow is read-only");
+    }
   }
 }
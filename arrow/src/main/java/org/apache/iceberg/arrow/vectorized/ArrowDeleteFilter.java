@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Multimap;
+import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.util.StructLikeSet;
+
+/**
+ * A {@link DeleteFilter} for the rows of Arrow batches, which are read in Iceberg's internal
+ * representation and can be used as {@link StructLike} directly.
+ *
+ * <p>Delete files are opened using the input files of the reader, which are decrypted with the
+ * table's encryption manager. Equality deletes are exposed as sets by equality field ids so that
+ * batches can be probed one delete set at a time.
+ */
+class ArrowDeleteFilter extends DeleteFilter<StructLike> {
+  private final Function<String, InputFile> inputFiles;
+  private final List<DeleteFile> eqDeleteFiles;
+  private List<EqualityDeletes> equalityDeletes = null;
+
+  ArrowDeleteFilter(
+      FileScanTask task,
+      Schema tableSchema,
+      Schema expectedSchema,
+      Function<String, InputFile> inputFiles) {
+    super(task.file().location(), task.deletes(), tableSchema, expectedSchema);
+    this.inputFiles = inputFiles;
+    this.eqDeleteFiles = Lists.newArrayList();
+    for (DeleteFile delete : task.deletes()) {
+      if (delete.content() == FileContent.EQUALITY_DELETES) {
+        eqDeleteFiles.add(delete);
+      }
+    }
+  }
+
+  @Override
+  protected StructLike asStructLike(StructLike row) {
+    return row;
+  }
+
+  @Override
+  protected InputFile getInputFile(String location) {
+    return inputFiles.apply(location);
+  }
+
+  /** Returns the equality deletes of the task, loaded once and grouped by equality field ids. */
+  List<EqualityDeletes> equalityDeletes() {
+    if (equalityDeletes == null) {
+      Multimap<Set<Integer>, DeleteFile> filesByDeleteIds =
+          Multimaps.newMultimap(Maps.newLinkedHashMap(), Lists::newArrayList);
+      for (DeleteFile delete : eqDeleteFiles) {
+        filesByDeleteIds.put(Sets.newHashSet(delete.equalityFieldIds()), delete);
+      }
+
+      List<EqualityDeletes> sets = Lists.newArrayList();
+      for (Map.Entry<Set<Integer>, Collection<DeleteFile>> entry :
+          filesByDeleteIds.asMap().entrySet()) {
+        Schema deleteSchema = TypeUtil.select(requiredSchema(), entry.getKey());
+        StructLikeSet rows = newDeleteLoader().loadEqualityDeletes(entry.getValue(), deleteSchema);
+        sets.add(new EqualityDeletes(deleteSchema, rows));
+      }
+
+      this.equalityDeletes = sets;
+    }
+
+    return equalityDeletes;
+  }
+
+  /** The rows deleted by the equality delete files that share a set of equality field ids. */
+  static class EqualityDeletes {
+    private final Schema schema;
+    private final StructLikeSet rows;
+
+    private EqualityDeletes(Schema schema, StructLikeSet rows) {
+      this.schema = schema;
+      this.rows = rows;
+    }
+
+    /** Returns the schema of the deleted rows, with fields in the order of the read schema. */
+    Schema schema() {
+      return schema;
+    }
+
+    /** Returns the deleted rows. */
+    StructLikeSet rows() {
+      return rows;
+    }
+  }
+}
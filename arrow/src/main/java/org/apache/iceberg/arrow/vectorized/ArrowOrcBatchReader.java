@@ -0,0 +1,529 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.orc.OrcBatchReader;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DecimalColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.ListColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.MapColumnVector;
+import org.apache.orc.storage.ql.exec.vector.MultiValuedColumnVector;
+import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
+import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+
+/**
+ * Reads ORC {@link VectorizedRowBatch row batches} into {@link ColumnarBatch columnar batches}.
+ *
+ * <p>Each ORC column vector is copied into an Arrow vector of the type produced by {@link
+ * ArrowSchemaUtil#convert(Types.NestedField)}, so batches have the same vectors as batches read
+ * from Parquet. Rows that were not selected by the ORC reader and rows that were deleted by
+ * position are skipped while copying, so each value is copied once and batches may have fewer rows
+ * than the ORC batch.
+ *
+ * <p>This class owns the Arrow vectors and closes them when it is closed. When containers are not
+ * reused, the vectors of the previous batch are closed before reading the next batch.
+ */
+class ArrowOrcBatchReader implements OrcBatchReader<ColumnarBatch>, Closeable {
+  private final Types.NestedField[] fields;
+  // converters by column, null for the row position column
+  private final Converter[] converters;
+  // the position of each column in the ORC batch, or -1 for the row position column
+  private final int[] orcColumns;
+  private final DeleteFilter<StructLike> deletes;
+  private final boolean reuseContainers;
+  private final BufferAllocator allocator;
+  private final FieldVector[] vectors;
+  private final NullabilityHolder[] nulls;
+  private long batchOffsetInFile = 0L;
+  private int[] rowIds = new int[0];
+
+  /**
+   * Create a new instance.
+   *
+   * @param expectedSchema Schema of the returned batches.
+   * @param deletes Delete filter used to remove rows deleted by position, or null if there are no
+   *     deletes. Equality deletes are not supported.
+   * @param reuseContainers Whether to reuse the Arrow vectors of the previous batch.
+   */
+  ArrowOrcBatchReader(
+      Schema expectedSchema, DeleteFilter<StructLike> deletes, boolean reuseContainers) {
+    Preconditions.checkArgument(
+        deletes == null || !deletes.hasEqDeletes(),
+        "Cannot apply equality deletes to vectorized ORC reads");
+    List<Types.NestedField> columns = expectedSchema.columns();
+    this.fields = columns.toArray(new Types.NestedField[0]);
+    this.converters = new Converter[fields.length];
+    this.orcColumns = new int[fields.length];
+    int orcColumn = 0;
+    for (int pos = 0; pos < fields.length; pos += 1) {
+      Types.NestedField field = fields[pos];
+      if (field.fieldId() == MetadataColumns.ROW_POSITION.fieldId()) {
+        orcColumns[pos] = -1;
+      } else if (MetadataColumns.isMetadataColumn(field.name())) {
+        throw new UnsupportedOperationException(
+            "Cannot read metadata column from ORC: " + field.name());
+      } else {
+        converters[pos] = converter(field.type());
+        orcColumns[pos] = orcColumn;
+        orcColumn += 1;
+      }
+    }
+
+    this.deletes = deletes;
+    this.reuseContainers = reuseContainers;
+    this.allocator =
+        ArrowAllocation.rootAllocator()
+            .newChildAllocator("ArrowOrcBatchReader", 0, Long.MAX_VALUE);
+    this.vectors = new FieldVector[fields.length];
+    this.nulls = new NullabilityHolder[fields.length];
+  }
+
+  @Override
+  public void setBatchContext(long newBatchOffsetInFile) {
+    this.batchOffsetInFile = newBatchOffsetInFile;
+  }
+
+  @Override
+  public ColumnarBatch read(VectorizedRowBatch batch) {
+    int numRows = selectRows(batch);
+
+    ColumnVector[] columns = new ColumnVector[fields.length];
+    for (int pos = 0; pos < fields.length; pos += 1) {
+      FieldVector vector = newVector(pos, numRows);
+      if (converters[pos] != null) {
+        converters[pos].convert(batch.cols[orcColumns[pos]], rowIds, numRows, vector, 0);
+      } else {
+        BigIntVector positions = (BigIntVector) vector;
+        for (int i = 0; i < numRows; i += 1) {
+          positions.setSafe(i, batchOffsetInFile + rowIds[i]);
+        }
+      }
+
+      vector.setValueCount(numRows);
+      columns[pos] = new ColumnVector(new VectorHolder(vector, fields[pos], nulls(pos, numRows)));
+    }
+
+    return new ColumnarBatch(numRows, columns);
+  }
+
+  /**
+   * Finds the rows of an ORC batch to return.
+   *
+   * @return the number of rows, whose ids in the ORC batch are stored in {@link #rowIds}
+   */
+  private int selectRows(VectorizedRowBatch batch) {
+    if (rowIds.length < batch.size) {
+      this.rowIds = new int[batch.size];
+    }
+
+    PositionDeleteIndex deletedPositions = deletes != null ? deletes.deletedRowPositions() : null;
+    int numRows = 0;
+    for (int i = 0; i < batch.size; i += 1) {
+      int rowId = batch.selectedInUse ? batch.selected[i] : i;
+      if (deletedPositions != null && deletedPositions.isDeleted(batchOffsetInFile + rowId)) {
+        deletes.incrementDeleteCount();
+      } else {
+        rowIds[numRows] = rowId;
+        numRows += 1;
+      }
+    }
+
+    return numRows;
+  }
+
+  private FieldVector newVector(int pos, int numRows) {
+    FieldVector vector = vectors[pos];
+    if (vector != null && reuseContainers) {
+      vector.reset();
+      return vector;
+    }
+
+    if (vector != null) {
+      vector.close();
+    }
+
+    vector = ArrowSchemaUtil.convert(fields[pos]).createVector(allocator);
+    vector.setInitialCapacity(numRows);
+    vector.allocateNew();
+    vectors[pos] = vector;
+    return vector;
+  }
+
+  private NullabilityHolder nulls(int pos, int numRows) {
+    NullabilityHolder holder = nulls[pos];
+    if (holder == null || holder.size() < numRows) {
+      holder = new NullabilityHolder(numRows);
+      nulls[pos] = holder;
+    } else {
+      holder.reset();
+    }
+
+    FieldVector vector = vectors[pos];
+    for (int index = 0; index < numRows; index += 1) {
+      if (vector.isNull(index)) {
+        holder.setNull(index);
+      } else {
+        holder.setNotNull(index);
+      }
+    }
+
+    return holder;
+  }
+
+  @Override
+  public void close() {
+    for (int pos = 0; pos < vectors.length; pos += 1) {
+      if (vectors[pos] != null) {
+        vectors[pos].close();
+        vectors[pos] = null;
+      }
+    }
+
+    allocator.close();
+  }
+
+  /** Copies values from an ORC column vector to an Arrow vector. */
+  private interface Converter {
+    /**
+     * Copies the values of the given rows of an ORC column to consecutive positions of an Arrow
+     * vector. Null values are not set, so they must be null in the Arrow vector.
+     *
+     * @param column an ORC column vector
+     * @param rows the rows of the ORC column to copy
+     * @param numRows the number of rows to copy
+     * @param vector the Arrow vector to copy to
+     * @param index the position in the Arrow vector of the first row
+     */
+    void convert(
+        org.apache.orc.storage.ql.exec.vector.ColumnVector column,
+        int[] rows,
+        int numRows,
+        FieldVector vector,
+        int index);
+  }
+
+  private interface ValueSetter<C extends org.apache.orc.storage.ql.exec.vector.ColumnVector, V> {
+    void set(V vector, int index, C column, int row);
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  private static Converter converter(Type type) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return new PrimitiveConverter<LongColumnVector, BitVector>(
+            (vector, index, column, row) -> vector.setSafe(index, (int) column.vector[row]));
+      case INTEGER:
+        return new PrimitiveConverter<LongColumnVector, IntVector>(
+            (vector, index, column, row) -> vector.setSafe(index, (int) column.vector[row]));
+      case DATE:
+        return new PrimitiveConverter<LongColumnVector, DateDayVector>(
+            (vector, index, column, row) -> vector.setSafe(index, (int) column.vector[row]));
+      case LONG:
+        return new PrimitiveConverter<LongColumnVector, BigIntVector>(
+            (vector, index, column, row) -> vector.setSafe(index, column.vector[row]));
+      case TIME:
+        return new PrimitiveConverter<LongColumnVector, TimeMicroVector>(
+            (vector, index, column, row) -> vector.setSafe(index, column.vector[row]));
+      case FLOAT:
+        return new PrimitiveConverter<DoubleColumnVector, Float4Vector>(
+            (vector, index, column, row) -> vector.setSafe(index, (float) column.vector[row]));
+      case DOUBLE:
+        return new PrimitiveConverter<DoubleColumnVector, Float8Vector>(
+            (vector, index, column, row) -> vector.setSafe(index, column.vector[row]));
+      case TIMESTAMP:
+        return new PrimitiveConverter<TimestampColumnVector, TimeStampVector>(
+            (vector, index, column, row) ->
+                vector.setSafe(
+                    index,
+                    Math.floorDiv(column.time[row], 1_000) * 1_000_000
+                        + column.nanos[row] / 1_000));
+      case DECIMAL:
+        return decimalConverter((Types.DecimalType) type);
+      case STRING:
+      case BINARY:
+        return new PrimitiveConverter<BytesColumnVector, BaseVariableWidthVector>(
+            (vector, index, column, row) ->
+                vector.setSafe(index, column.vector[row], column.start[row], column.length[row]));
+      case UUID:
+      case FIXED:
+        return new PrimitiveConverter<BytesColumnVector, FixedSizeBinaryVector>(
+            ArrowOrcBatchReader::setFixed);
+      case STRUCT:
+        return new StructConverter(
+            type.asStructType().fields().stream()
+                .map(field -> converter(field.type()))
+                .toArray(Converter[]::new));
+      case LIST:
+        return new ListConverter(converter(type.asListType().elementType()));
+      case MAP:
+        return new MapConverter(
+            converter(type.asMapType().keyType()), converter(type.asMapType().valueType()));
+      default:
+        throw new UnsupportedOperationException(
+            "Unsupported type for vectorized ORC reads: " + type);
+    }
+  }
+
+  private static Converter decimalConverter(Types.DecimalType decimal) {
+    int scale = decimal.scale();
+    if (decimal.precision() <= 18) {
+      // the unscaled value fits in a long
+      return new PrimitiveConverter<DecimalColumnVector, DecimalVector>(
+          (vector, index, column, row) ->
+              vector.setSafe(index, column.vector[row].serialize64(scale)));
+    }
+
+    return new PrimitiveConverter<DecimalColumnVector, DecimalVector>(
+        (vector, index, column, row) -> {
+          BigDecimal value = column.vector[row].getHiveDecimal().bigDecimalValue();
+          vector.setSafe(index, value.setScale(scale));
+        });
+  }
+
+  private static void setFixed(
+      FixedSizeBinaryVector vector, int index, BytesColumnVector column, int row) {
+    int width = vector.getByteWidth();
+    Preconditions.checkArgument(
+        column.length[row] == width,
+        "Cannot read %s bytes into a fixed-width vector of %s bytes",
+        column.length[row],
+        width);
+    while (index >= vector.getValueCapacity()) {
+      vector.reAlloc();
+    }
+
+    // copy directly from the ORC buffer to avoid a temporary array
+    vector
+        .getDataBuffer()
+        .setBytes((long) index * width, column.vector[row], column.start[row], width);
+    vector.setIndexDefined(index);
+  }
+
+  private static class PrimitiveConverter<
+          C extends org.apache.orc.storage.ql.exec.vector.ColumnVector, V extends FieldVector>
+      implements Converter {
+    private final ValueSetter<C, V> setter;
+
+    private PrimitiveConverter(ValueSetter<C, V> setter) {
+      this.setter = setter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void convert(
+        org.apache.orc.storage.ql.exec.vector.ColumnVector column,
+        int[] rows,
+        int numRows,
+        FieldVector vector,
+        int index) {
+      C values = (C) column;
+      V arrowVector = (V) vector;
+      if (column.isRepeating) {
+        if (column.noNulls || !column.isNull[0]) {
+          for (int i = 0; i < numRows; i += 1) {
+            setter.set(arrowVector, index + i, values, 0);
+          }
+        }
+
+      } else if (column.noNulls) {
+        for (int i = 0; i < numRows; i += 1) {
+          setter.set(arrowVector, index + i, values, rows[i]);
+        }
+
+      } else {
+        for (int i = 0; i < numRows; i += 1) {
+          int row = rows[i];
+          if (!column.isNull[row]) {
+            setter.set(arrowVector, index + i, values, row);
+          }
+        }
+      }
+    }
+  }
+
+  private static class StructConverter implements Converter {
+    private final Converter[] children;
+    private int[] repeatedRows = new int[0];
+
+    private StructConverter(Converter[] children) {
+      this.children = children;
+    }
+
+    @Override
+    public void convert(
+        org.apache.orc.storage.ql.exec.vector.ColumnVector column,
+        int[] rows,
+        int numRows,
+        FieldVector vector,
+        int index) {
+      StructColumnVector struct = (StructColumnVector) column;
+      StructVector structVector = (StructVector) vector;
+      for (int i = 0; i < numRows; i += 1) {
+        int row = column.isRepeating ? 0 : rows[i];
+        if (column.noNulls || !column.isNull[row]) {
+          structVector.setIndexDefined(index + i);
+        }
+      }
+
+      int[] childRows = rows;
+      if (column.isRepeating) {
+        if (repeatedRows.length < numRows) {
+          // all zeros, the only row of a repeating column
+          this.repeatedRows = new int[numRows];
+        }
+
+        childRows = repeatedRows;
+      }
+
+      for (int pos = 0; pos < children.length; pos += 1) {
+        children[pos].convert(
+            struct.fields[pos],
+            childRows,
+            numRows,
+            (FieldVector) structVector.getChildByOrdinal(pos),
+            index);
+      }
+    }
+  }
+
+  /**
+   * Converts a list or map by setting the offsets of each row and converting the elements of all
+   * rows at once.
+   */
+  private abstract static class RepeatedConverter implements Converter {
+    private int[] elementRows = new int[0];
+
+    @Override
+    public void convert(
+        org.apache.orc.storage.ql.exec.vector.ColumnVector column,
+        int[] rows,
+        int numRows,
+        FieldVector vector,
+        int index) {
+      MultiValuedColumnVector repeated = (MultiValuedColumnVector) column;
+      ListVector listVector = (ListVector) vector;
+      int firstElement = -1;
+      int numElements = 0;
+      for (int i = 0; i < numRows; i += 1) {
+        int row = column.isRepeating ? 0 : rows[i];
+        if (column.noNulls || !column.isNull[row]) {
+          int offset = (int) repeated.offsets[row];
+          int length = (int) repeated.lengths[row];
+          int start = listVector.startNewValue(index + i);
+          if (firstElement < 0) {
+            firstElement = start;
+          }
+
+          if (elementRows.length < numElements + length) {
+            int[] newElementRows = new int[Math.max(numElements + length, 2 * elementRows.length)];
+            System.arraycopy(elementRows, 0, newElementRows, 0, numElements);
+            this.elementRows = newElementRows;
+          }
+
+          for (int element = 0; element < length; element += 1) {
+            elementRows[numElements + element] = offset + element;
+          }
+
+          numElements += length;
+          listVector.endValue(index + i, length);
+        }
+      }
+
+      if (numElements > 0) {
+        convertElements(
+            repeated, elementRows, numElements, listVector.getDataVector(), firstElement);
+      }
+    }
+
+    abstract void convertElements(
+        MultiValuedColumnVector column,
+        int[] rows,
+        int numRows,
+        FieldVector elements,
+        int index);
+  }
+
+  private static class ListConverter extends RepeatedConverter {
+    private final Converter element;
+
+    private ListConverter(Converter element) {
+      this.element = element;
+    }
+
+    @Override
+    void convertElements(
+        MultiValuedColumnVector column, int[] rows, int numRows, FieldVector elements, int index) {
+      element.convert(((ListColumnVector) column).child, rows, numRows, elements, index);
+    }
+  }
+
+  private static class MapConverter extends RepeatedConverter {
+    private final Converter key;
+    private final Converter value;
+
+    private MapConverter(Converter key, Converter value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    void convertElements(
+        MultiValuedColumnVector column, int[] rows, int numRows, FieldVector elements, int index) {
+      MapColumnVector map = (MapColumnVector) column;
+      StructVector entries = (StructVector) elements;
+      for (int i = 0; i < numRows; i += 1) {
+        entries.setIndexDefined(index + i);
+      }
+
+      key.convert(map.keys, rows, numRows, (FieldVector) entries.getChildByOrdinal(0), index);
+      value.convert(map.values, rows, numRows, (FieldVector) entries.getChildByOrdinal(1), index);
+    }
+  }
+}
@@ -35,17 +35,23 @@ import org.apache.arrow.vector.types.Types.MinorType;
 import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.encryption.EncryptedFiles;
 import org.apache.iceberg.encryption.EncryptedInputFile;
 import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -54,9 +60,9 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Type.TypeID;
+import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ExceptionUtil;
-import org.apache.iceberg.util.TableScanUtil;
 import org.apache.parquet.schema.MessageType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,6 +86,9 @@ import org.slf4j.LoggerFactory;
  *   <li>Iceberg: {@link Types.DateType}, Arrow: {@link MinorType#DATEDAY}
  *   <li>Iceberg: {@link Types.TimeType}, Arrow: {@link MinorType#TIMEMICRO}
  *   <li>Iceberg: {@link Types.UUIDType}, Arrow: {@link MinorType#FIXEDSIZEBINARY}(16)
+ *   <li>Iceberg: {@link Types.StructType}, Arrow: {@link MinorType#STRUCT}
+ *   <li>Iceberg: {@link Types.ListType}, Arrow: {@link MinorType#LIST}
+ *   <li>Iceberg: {@link Types.MapType}, Arrow: {@link MinorType#MAP}
  * </ul>
  *
  * <p>Features that don't work in this implementation:
@@ -91,11 +100,11 @@ import org.slf4j.LoggerFactory;
  *   <li>Columns with constant values are physically encoded as a dictionary. The Arrow vector type
  *       is int32 instead of the type as per the schema. See
  *       https://github.com/apache/iceberg/issues/2484.
- *   <li>Data types: {@link Types.ListType}, {@link Types.MapType}, {@link Types.StructType}, {@link
- *       Types.FixedType} and {@link Types.DecimalType} See
+ *   <li>Data types: {@link Types.FixedType} and {@link Types.DecimalType} See
  *       https://github.com/apache/iceberg/issues/2485 and
  *       https://github.com/apache/iceberg/issues/2486.
- *   <li>Delete files are not supported. See https://github.com/apache/iceberg/issues/2487.
+ *   <li>ORC data files: equality deletes and late materialization are not supported. The residual
+ *       filter is only used to skip ORC row groups.
  * </ul>
  */
 public class ArrowReader extends CloseableGroup {
@@ -114,13 +123,18 @@ public class ArrowReader extends CloseableGroup {
           TypeID.DATE,
           TypeID.UUID,
           TypeID.TIME,
-          TypeID.DECIMAL);
+          TypeID.DECIMAL,
+          TypeID.STRUCT,
+          TypeID.LIST,
+          TypeID.MAP);
 
   private final Schema schema;
+  private final Schema tableSchema;
   private final FileIO io;
   private final EncryptionManager encryption;
   private final int batchSize;
   private final boolean reuseContainers;
+  private final boolean lateMaterialization;
 
   /**
    * Create a new instance of the reader.
@@ -136,12 +150,35 @@ public class ArrowReader extends CloseableGroup {
    *     before creating new instances if the current {@link Iterator#next()}.
    */
   public ArrowReader(TableScan scan, int batchSize, boolean reuseContainers) {
+    this(scan, batchSize, reuseContainers, false);
+  }
+
+  /**
+   * Create a new instance of the reader.
+   *
+   * <p>When {@code lateMaterialization} is {@code true}, the columns referenced by a file's
+   * residual filter are read first and the remaining columns are decoded only for the rows that
+   * match the filter. Rows that do not match are removed, so batches may contain fewer than {@code
+   * batchSize} rows. This is applied only when the filter references projected, top-level columns;
+   * otherwise all rows are returned and callers must still apply the residual filter.
+   *
+   * @param scan the table scan object.
+   * @param batchSize the maximum number of rows per Arrow batch.
+   * @param reuseContainers whether to reuse Arrow vectors when iterating through the data. See
+   *     {@link #ArrowReader(TableScan, int, boolean)}.
+   * @param lateMaterialization whether to filter rows using the residual filter before decoding
+   *     the columns that are not referenced by the filter.
+   */
+  public ArrowReader(
+      TableScan scan, int batchSize, boolean reuseContainers, boolean lateMaterialization) {
     this.schema = scan.schema();
+    this.tableSchema = scan.table().schema();
     this.io = scan.table().io();
     this.encryption = scan.table().encryption();
     this.batchSize = batchSize;
     // start planning tasks in the background
     this.reuseContainers = reuseContainers;
+    this.lateMaterialization = lateMaterialization;
   }
 
   /**
@@ -163,17 +200,28 @@ public class ArrowReader extends CloseableGroup {
    * <p>This method works for only when the following conditions are true:
    *
    * <ol>
-   *   <li>At least one column is queried,
-   *   <li>There are no delete files, and
+   *   <li>At least one column is queried, and
    *   <li>Supported data types are queried (see {@link #SUPPORTED_TYPES}).
    * </ol>
    *
    * When any of these conditions fail, an {@link UnsupportedOperationException} is thrown.
+   *
+   * <p>Rows removed by position or equality delete files are not returned, so batches may contain
+   * fewer rows than the batch size.
    */
   public CloseableIterator<ColumnarBatch> open(CloseableIterable<CombinedScanTask> tasks) {
     CloseableIterator<ColumnarBatch> itr =
         new VectorizedCombinedScanIterator(
-            tasks, schema, null, io, encryption, true, batchSize, reuseContainers);
+            tasks,
+            schema,
+            tableSchema,
+            null,
+            io,
+            encryption,
+            true,
+            batchSize,
+            reuseContainers,
+            lateMaterialization);
     addCloseable(itr);
     return itr;
   }
@@ -184,8 +232,8 @@ public class ArrowReader extends CloseableGroup {
   }
 
   /**
-   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet data file
-   * format is supported.
+   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet and ORC
+   * data file formats are supported.
    */
   private static final class VectorizedCombinedScanIterator
       implements CloseableIterator<ColumnarBatch> {
@@ -193,10 +241,12 @@ public class ArrowReader extends CloseableGroup {
     private final Iterator<FileScanTask> fileItr;
     private final Map<String, InputFile> inputFiles;
     private final Schema expectedSchema;
+    private final Schema tableSchema;
     private final String nameMapping;
     private final boolean caseSensitive;
     private final int batchSize;
     private final boolean reuseContainers;
+    private final boolean lateMaterialization;
     private CloseableIterator<ColumnarBatch> currentIterator;
     private FileScanTask currentTask;
 
@@ -205,6 +255,7 @@ public class ArrowReader extends CloseableGroup {
      *
      * @param tasks Combined file scan tasks.
      * @param expectedSchema Read schema. The returned data will have this schema.
+     * @param tableSchema Table schema, used to find the columns needed to apply equality deletes.
      * @param nameMapping Mapping from external schema names to Iceberg type IDs.
      * @param io File I/O.
      * @param encryptionManager Encryption manager.
@@ -219,16 +270,20 @@ public class ArrowReader extends CloseableGroup {
      *     the value of {@code reuseContainers}, the Arrow vectors in the previous {@link
      *     Iterator#next()} call are closed before creating new instances if the current {@link
      *     Iterator#next()}.
+     * @param lateMaterialization If {@code true}, rows that do not match a file's residual filter
+     *     are removed before the columns that are not referenced by the filter are decoded.
      */
     VectorizedCombinedScanIterator(
         CloseableIterable<CombinedScanTask> tasks,
         Schema expectedSchema,
+        Schema tableSchema,
         String nameMapping,
         FileIO io,
         EncryptionManager encryptionManager,
         boolean caseSensitive,
         int batchSize,
-        boolean reuseContainers) {
+        boolean reuseContainers,
+        boolean lateMaterialization) {
       List<FileScanTask> fileTasks =
           StreamSupport.stream(tasks.spliterator(), false)
               .map(CombinedScanTask::files)
@@ -236,11 +291,6 @@ public class ArrowReader extends CloseableGroup {
               .collect(Collectors.toList());
       this.fileItr = fileTasks.iterator();
 
-      if (fileTasks.stream().anyMatch(TableScanUtil::hasDeletes)) {
-        throw new UnsupportedOperationException(
-            "Cannot read files that require applying delete files");
-      }
-
       if (expectedSchema.columns().isEmpty()) {
         throw new UnsupportedOperationException(
             "Cannot read without at least one projected column");
@@ -257,10 +307,12 @@ public class ArrowReader extends CloseableGroup {
             "Cannot read unsupported column types: " + unsupportedTypes);
       }
 
+      // delete files are decrypted with the data files so that deletes are read through encryption
       Map<String, ByteBuffer> keyMetadata = Maps.newHashMap();
-      fileTasks.stream()
-          .map(FileScanTask::file)
-          .forEach(file -> keyMetadata.put(file.location(), file.keyMetadata()));
+      for (FileScanTask task : fileTasks) {
+        keyMetadata.put(task.file().location(), task.file().keyMetadata());
+        task.deletes().forEach(delete -> keyMetadata.put(delete.location(), delete.keyMetadata()));
+      }
 
       Stream<EncryptedInputFile> encrypted =
           keyMetadata.entrySet().stream()
@@ -278,10 +330,12 @@ public class ArrowReader extends CloseableGroup {
       this.inputFiles = ImmutableMap.copyOf(files);
       this.currentIterator = CloseableIterator.empty();
       this.expectedSchema = expectedSchema;
+      this.tableSchema = tableSchema;
       this.nameMapping = nameMapping;
       this.caseSensitive = caseSensitive;
       this.batchSize = batchSize;
       this.reuseContainers = reuseContainers;
+      this.lateMaterialization = lateMaterialization;
     }
 
     @Override
@@ -322,16 +376,25 @@ public class ArrowReader extends CloseableGroup {
       InputFile location = getInputFile(task);
       Preconditions.checkNotNull(location, "Could not find InputFile associated with FileScanTask");
       if (task.file().format() == FileFormat.PARQUET) {
+        Expression rowFilter = lateMaterialization ? task.residual() : null;
+        ArrowDeleteFilter deletes =
+            task.deletes().isEmpty()
+                ? null
+                : new ArrowDeleteFilter(task, tableSchema, expectedSchema, this::getInputFile);
+        Schema readSchema = deletes != null ? deletes.requiredSchema() : expectedSchema;
         Parquet.ReadBuilder builder =
             Parquet.read(location)
-                .project(expectedSchema)
+                .project(readSchema)
                 .split(task.start(), task.length())
                 .createBatchedReaderFunc(
                     fileSchema ->
                         buildReader(
-                            expectedSchema,
+                            readSchema,
                             fileSchema, /* setArrowValidityVector */
-                            NullCheckingForGet.NULL_CHECKING_ENABLED))
+                            NullCheckingForGet.NULL_CHECKING_ENABLED,
+                            rowFilter,
+                            caseSensitive,
+                            deletes))
                 .recordsPerBatch(batchSize)
                 .filter(task.residual())
                 .caseSensitive(caseSensitive);
@@ -344,6 +407,12 @@ public class ArrowReader extends CloseableGroup {
         }
 
         iter = builder.build();
+        if (rowFilter != null || deletes != null) {
+          // skip batches in which all rows were filtered or deleted
+          iter = CloseableIterable.filter(iter, batch -> batch.numRows() > 0);
+        }
+      } else if (task.file().format() == FileFormat.ORC) {
+        return openOrc(task, location);
       } else {
         throw new UnsupportedOperationException(
             "Format: " + task.file().format() + " not supported for batched reads");
@@ -351,6 +420,82 @@ public class ArrowReader extends CloseableGroup {
       return iter.iterator();
     }
 
+    /**
+     * Opens an ORC data file.
+     *
+     * <p>The residual filter is pushed down to ORC as a search argument when it references only
+     * projected columns. Rows deleted by position are removed, but equality deletes are not
+     * supported.
+     */
+    private CloseableIterator<ColumnarBatch> openOrc(FileScanTask task, InputFile location) {
+      ArrowDeleteFilter deletes =
+          task.deletes().isEmpty()
+              ? null
+              : new ArrowDeleteFilter(task, tableSchema, expectedSchema, this::getInputFile);
+      if (deletes != null && deletes.hasEqDeletes()) {
+        throw new UnsupportedOperationException(
+            "Cannot apply equality deletes to ORC file: " + location.location());
+      }
+
+      Schema readSchema = deletes != null ? deletes.requiredSchema() : expectedSchema;
+      Schema orcSchema = TypeUtil.selectNot(readSchema, MetadataColumns.metadataFieldIds());
+      ArrowOrcBatchReader batchReader =
+          new ArrowOrcBatchReader(expectedSchema, deletes, reuseContainers);
+      ORC.ReadBuilder builder =
+          ORC.read(location)
+              .project(orcSchema)
+              .split(task.start(), task.length())
+              .createBatchedReaderFunc(fileSchema -> batchReader)
+              .recordsPerBatch(batchSize)
+              .filter(orcFilter(task.residual(), orcSchema, caseSensitive))
+              .caseSensitive(caseSensitive);
+
+      if (nameMapping != null) {
+        builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+      }
+
+      CloseableIterable<ColumnarBatch> iter = builder.build();
+      if (deletes != null) {
+        // skip batches in which all rows were deleted
+        iter = CloseableIterable.filter(iter, batch -> batch.numRows() > 0);
+      }
+
+      CloseableIterator<ColumnarBatch> batches = iter.iterator();
+      return new CloseableIterator<ColumnarBatch>() {
+        @Override
+        public boolean hasNext() {
+          return batches.hasNext();
+        }
+
+        @Override
+        public ColumnarBatch next() {
+          return batches.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+          // the batch reader owns the Arrow vectors, which are not closed by the ORC iterator
+          try (batchReader) {
+            batches.close();
+          }
+        }
+      };
+    }
+
+    /**
+     * Returns the residual filter if it can be converted to an ORC search argument, which requires
+     * that it references only columns of the ORC projection.
+     */
+    private static Expression orcFilter(
+        Expression residual, Schema orcSchema, boolean caseSensitive) {
+      try {
+        Binder.bind(orcSchema.asStruct(), residual, caseSensitive);
+        return residual;
+      } catch (ValidationException e) {
+        return Expressions.alwaysTrue();
+      }
+    }
+
     @Override
     public void close() throws IOException {
       // close the current iterator
@@ -367,15 +512,30 @@ public class ArrowReader extends CloseableGroup {
       return inputFiles.get(task.file().location());
     }
 
+    private InputFile getInputFile(String location) {
+      InputFile inputFile = inputFiles.get(location);
+      Preconditions.checkNotNull(
+          inputFile, "Could not find InputFile for delete file: %s", location);
+      return inputFile;
+    }
+
     /**
      * Build the {@link ArrowBatchReader} for the expected schema and file schema.
      *
-     * @param expectedSchema Expected schema of the data returned.
+     * @param expectedSchema Schema of the data read, including the columns used to apply deletes.
      * @param fileSchema Schema of the data file.
      * @param setArrowValidityVector Indicates whether to set the validity vector in Arrow vectors.
+     * @param rowFilter Filter used to remove rows before decoding the other columns, or null.
+     * @param caseSensitive Whether column names in the filter are case sensitive.
+     * @param deletes Delete filter used to remove deleted rows, or null if there are no deletes.
      */
     private static ArrowBatchReader buildReader(
-        Schema expectedSchema, MessageType fileSchema, boolean setArrowValidityVector) {
+        Schema expectedSchema,
+        MessageType fileSchema,
+        boolean setArrowValidityVector,
+        Expression rowFilter,
+        boolean caseSensitive,
+        ArrowDeleteFilter deletes) {
       return (ArrowBatchReader)
           TypeWithSchemaVisitor.visit(
               expectedSchema.asStruct(),
@@ -385,7 +545,9 @@ public class ArrowReader extends CloseableGroup {
                   fileSchema,
                   setArrowValidityVector,
                   ImmutableMap.of(),
-                  ArrowBatchReader::new));
+                  readers ->
+                      new ArrowBatchReader(
+                          readers, expectedSchema, rowFilter, caseSensitive, deletes)));
     }
   }
 }
@@ -49,6 +49,17 @@ public abstract class BaseBatchReader<T> implements VectorizedReader<T> {
     }
   }
 
+  @Override
+  public boolean supportsPageFiltering() {
+    for (VectorizedArrowReader reader : readers) {
+      if (reader != null && !reader.supportsPageFiltering()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   protected void closeVectors() {
     for (int i = 0; i < vectorHolders.length; i++) {
       if (vectorHolders[i] != null) {
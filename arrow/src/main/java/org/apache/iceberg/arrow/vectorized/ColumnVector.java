@@ -56,6 +56,10 @@ public class ColumnVector implements AutoCloseable {
     this.accessor = getVectorAccessor(vectorHolder);
   }
 
+  VectorHolder vectorHolder() {
+    return vectorHolder;
+  }
+
   /**
    * Returns the potentially dict-encoded {@link FieldVector}.
    *
@@ -0,0 +1,587 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.arrow.vectorized.parquet.VectorizedNestedColumnIterator;
+import org.apache.iceberg.parquet.ParquetSchemaUtil;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.values.ValuesReader;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * A reader for a top-level struct, list or map column that assembles an Arrow {@link StructVector}
+ * or {@link ListVector} from the repetition and definition levels of its leaf columns.
+ *
+ * <p>Each leaf column is read by a {@link VectorizedNestedColumnIterator}, which decodes the
+ * repetition and definition levels of each data page in bulk. A leaf assembles its rows from the
+ * level arrays of a page, collecting the vector positions of its defined values, and then reads
+ * those values from the page in one pass. Each leaf writes its values to its own child vector,
+ * and the validity and offsets of a struct, list or map vector are written only by the first leaf
+ * in its subtree. Every leaf of a container sees the same levels down to that container, so the
+ * other leaves only need to track the container positions to place their values.
+ */
+class NestedVectorReader extends VectorizedArrowReader {
+  private final Field arrowField;
+  private final BufferAllocator allocator;
+  private final Node root;
+  private final List<Leaf> leaves = Lists.newArrayList();
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private FieldVector vector = null;
+  private NullabilityHolder nulls = null;
+
+  NestedVectorReader(
+      Types.NestedField icebergField,
+      GroupType group,
+      MessageType parquetSchema,
+      BufferAllocator allocator) {
+    super(icebergField);
+    this.arrowField = ArrowSchemaUtil.convert(icebergField);
+    this.allocator = allocator;
+    this.root =
+        buildNode(
+            parquetSchema, icebergField.type(), group, new String[] {group.getName()}, new Node[0]);
+  }
+
+  private Node buildNode(
+      MessageType parquetSchema,
+      org.apache.iceberg.types.Type type,
+      Type parquetType,
+      String[] path,
+      Node[] parents) {
+    int definitionLevel = parquetSchema.getMaxDefinitionLevel(path);
+    if (parquetType.isPrimitive()) {
+      Leaf leaf = new Leaf(parquetSchema.getColumnDescription(path), parents);
+      leaves.add(leaf);
+      return leaf;
+    }
+
+    GroupType group = parquetType.asGroupType();
+    switch (type.typeId()) {
+      case STRUCT:
+        List<Types.NestedField> fields = type.asStructType().fields();
+        StructNode struct = new StructNode(definitionLevel, fields.size());
+        Node[] structParents = append(parents, struct);
+        for (int pos = 0; pos < fields.size(); pos += 1) {
+          struct.children[pos] =
+              buildChild(parquetSchema, fields.get(pos), group, path, structParents);
+        }
+
+        return struct;
+
+      case LIST:
+        Type repeated = group.getType(0);
+        String[] repeatedPath = append(path, repeated.getName());
+        ListNode list =
+            new ListNode(
+                definitionLevel,
+                parquetSchema.getMaxRepetitionLevel(repeatedPath),
+                parquetSchema.getMaxDefinitionLevel(repeatedPath));
+        Type element = ParquetSchemaUtil.determineListElementType(group);
+        // two-level lists use the repeated field as the element
+        String[] elementPath =
+            element == repeated ? repeatedPath : append(repeatedPath, element.getName());
+        list.element =
+            buildNode(
+                parquetSchema,
+                type.asListType().elementType(),
+                element,
+                elementPath,
+                append(parents, list));
+        return list;
+
+      case MAP:
+        GroupType keyValue = group.getType(0).asGroupType();
+        String[] keyValuePath = append(path, keyValue.getName());
+        int entryLevel = parquetSchema.getMaxDefinitionLevel(keyValuePath);
+        ListNode map =
+            new ListNode(
+                definitionLevel, parquetSchema.getMaxRepetitionLevel(keyValuePath), entryLevel);
+        StructNode entries = new StructNode(entryLevel, 2);
+        map.element = entries;
+        Node[] entryParents = append(append(parents, map), entries);
+        List<Types.NestedField> keyAndValue = type.asMapType().fields();
+        for (int pos = 0; pos < keyAndValue.size(); pos += 1) {
+          entries.children[pos] =
+              buildChild(parquetSchema, keyAndValue.get(pos), keyValue, keyValuePath, entryParents);
+        }
+
+        return map;
+
+      default:
+        throw new UnsupportedOperationException(
+            "Cannot read " + type + " from Parquet group: " + group);
+    }
+  }
+
+  private Node buildChild(
+      MessageType parquetSchema,
+      Types.NestedField field,
+      GroupType group,
+      String[] path,
+      Node[] parents) {
+    for (Type child : group.getFields()) {
+      if (child.getId() != null && child.getId().intValue() == field.fieldId()) {
+        return buildNode(
+            parquetSchema, field.type(), child, append(path, child.getName()), parents);
+      }
+    }
+
+    // fields that are not in the file are left null
+    if (field.initialDefault() != null) {
+      throw new UnsupportedOperationException(
+          String.format("Cannot read default value of nested field: %s", field.name()));
+    } else if (field.isRequired()) {
+      throw new IllegalArgumentException(
+          String.format("Missing required field: %s", field.name()));
+    }
+
+    return null;
+  }
+
+  private static String[] append(String[] path, String name) {
+    String[] result = Arrays.copyOf(path, path.length + 1);
+    result[path.length] = name;
+    return result;
+  }
+
+  private static Node[] append(Node[] parents, Node node) {
+    Node[] result = Arrays.copyOf(parents, parents.length + 1);
+    result[parents.length] = node;
+    return result;
+  }
+
+  @Override
+  public VectorHolder read(VectorHolder reuse, int numValsToRead) {
+    if (reuse == null || vector == null) {
+      this.vector = arrowField.createVector(allocator);
+      vector.setInitialCapacity(batchSize);
+      vector.allocateNew();
+      root.bind(vector);
+      this.nulls = new NullabilityHolder(Math.max(batchSize, numValsToRead));
+    } else {
+      vector.reset();
+      nulls.reset();
+    }
+
+    for (Leaf leaf : leaves) {
+      leaf.read(numValsToRead);
+    }
+
+    vector.setValueCount(numValsToRead);
+    for (int index = 0; index < numValsToRead; index += 1) {
+      if (vector.isNull(index)) {
+        nulls.setNull(index);
+      } else {
+        nulls.setNotNull(index);
+      }
+    }
+
+    return new VectorHolder(vector, icebergField(), nulls);
+  }
+
+  @Override
+  public void setRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
+    for (Leaf leaf : leaves) {
+      leaf.column.setPageSource(source.getPageReader(leaf.descriptor));
+    }
+  }
+
+  @Override
+  public boolean supportsPageFiltering() {
+    // rows are assembled from all of the levels of a row group
+    return false;
+  }
+
+  @Override
+  public void setBatchSize(int batchSize) {
+    this.batchSize = (batchSize == 0) ? DEFAULT_BATCH_SIZE : batchSize;
+  }
+
+  @Override
+  public void close() {
+    if (vector != null) {
+      vector.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "NestedVectorReader(" + icebergField() + ")";
+  }
+
+  private abstract static class Node {
+    private final int definitionLevel;
+    // whether a leaf column writes the validity and offsets of this node
+    private boolean hasWriter = false;
+
+    private Node(int definitionLevel) {
+      this.definitionLevel = definitionLevel;
+    }
+
+    abstract void bind(FieldVector vector);
+  }
+
+  private static class StructNode extends Node {
+    // children that are not in the file are null
+    private final Node[] children;
+    private StructVector vector = null;
+
+    private StructNode(int definitionLevel, int numChildren) {
+      super(definitionLevel);
+      this.children = new Node[numChildren];
+    }
+
+    @Override
+    void bind(FieldVector fieldVector) {
+      this.vector = (StructVector) fieldVector;
+      for (int pos = 0; pos < children.length; pos += 1) {
+        if (children[pos] != null) {
+          children[pos].bind((FieldVector) vector.getChildByOrdinal(pos));
+        }
+      }
+    }
+  }
+
+  /** A list or map, where map elements are the entries struct of key and value. */
+  private static class ListNode extends Node {
+    private final int repetitionLevel;
+    private final int elementLevel;
+    private Node element = null;
+    private ListVector vector = null;
+
+    private ListNode(int definitionLevel, int repetitionLevel, int elementLevel) {
+      super(definitionLevel);
+      this.repetitionLevel = repetitionLevel;
+      this.elementLevel = elementLevel;
+    }
+
+    @Override
+    void bind(FieldVector fieldVector) {
+      this.vector = (ListVector) fieldVector;
+      if (element != null) {
+        element.bind(vector.getDataVector());
+      }
+    }
+  }
+
+  private static class Leaf extends Node {
+    private final ColumnDescriptor descriptor;
+    private final int maxDefinitionLevel;
+    private final VectorizedNestedColumnIterator column;
+    private final Node[] parents;
+    // whether this leaf writes the validity and offsets of each parent
+    private final boolean[] writesParent;
+    // the position of the list parent for each repetition level
+    private final int[] repeatedParents;
+    // the current index of each parent and the next element index of each list parent
+    private final int[] current;
+    private final int[] nextElement;
+    // the vector positions of the defined values of a page
+    private int[] valueIndexes = new int[0];
+    private ValueWriter writer = null;
+
+    private Leaf(ColumnDescriptor descriptor, Node[] parents) {
+      super(descriptor.getMaxDefinitionLevel());
+      this.descriptor = descriptor;
+      this.maxDefinitionLevel = descriptor.getMaxDefinitionLevel();
+      this.column = new VectorizedNestedColumnIterator(descriptor, "");
+      this.parents = parents;
+      this.writesParent = new boolean[parents.length];
+      this.repeatedParents = new int[descriptor.getMaxRepetitionLevel() + 1];
+      this.current = new int[parents.length];
+      this.nextElement = new int[parents.length];
+      for (int pos = 0; pos < parents.length; pos += 1) {
+        Node parent = parents[pos];
+        writesParent[pos] = !parent.hasWriter;
+        parent.hasWriter = true;
+        if (parent instanceof ListNode) {
+          repeatedParents[((ListNode) parent).repetitionLevel] = pos;
+        }
+      }
+    }
+
+    @Override
+    void bind(FieldVector vector) {
+      this.writer = writer(vector, descriptor.getPrimitiveType());
+    }
+
+    private void read(int numRows) {
+      Arrays.fill(nextElement, 0);
+      int row = -1;
+      boolean finished = false;
+      while (!finished && column.hasNext()) {
+        int[] repetitionLevels = column.repetitionLevels();
+        int[] definitionLevels = column.definitionLevels();
+        int offset = column.pageOffset();
+        int end = offset + column.pageRemaining();
+        if (valueIndexes.length < end - offset) {
+          this.valueIndexes = new int[end - offset];
+        }
+
+        int numValues = 0;
+        int pos = offset;
+        for (; pos < end; pos += 1) {
+          int repetitionLevel = repetitionLevels[pos];
+          int index;
+          if (repetitionLevel == 0) {
+            if (row + 1 == numRows) {
+              finished = true;
+              break;
+            }
+
+            row += 1;
+            index = assemble(0, row, definitionLevels[pos]);
+          } else {
+            // the repetition level is the level of the list that has a new element
+            int parent = repeatedParents[repetitionLevel];
+            if (writesParent[parent]) {
+              ((ListNode) parents[parent]).vector.endValue(current[parent], 1);
+            }
+
+            index = assemble(parent + 1, nextElement[parent]++, definitionLevels[pos]);
+          }
+
+          if (index >= 0) {
+            valueIndexes[numValues++] = index;
+          }
+        }
+
+        writer.write(column.values(), valueIndexes, numValues);
+        column.consume(pos - offset);
+      }
+    }
+
+    /**
+     * Marks the parents of a triple from the given parent position as defined.
+     *
+     * @return the vector position of the value, or -1 if the value or one of its parents is null
+     */
+    private int assemble(int start, int startIndex, int definitionLevel) {
+      int index = startIndex;
+      for (int pos = start; pos < parents.length; pos += 1) {
+        Node parent = parents[pos];
+        current[pos] = index;
+        if (definitionLevel < parent.definitionLevel) {
+          // the parent is null
+          return -1;
+        }
+
+        if (parent instanceof ListNode) {
+          ListNode list = (ListNode) parent;
+          if (writesParent[pos]) {
+            list.vector.startNewValue(index);
+          }
+
+          if (definitionLevel < list.elementLevel) {
+            // the list is empty
+            return -1;
+          }
+
+          if (writesParent[pos]) {
+            list.vector.endValue(index, 1);
+          }
+
+          index = nextElement[pos]++;
+
+        } else if (writesParent[pos]) {
+          ((StructNode) parent).vector.setIndexDefined(index);
+        }
+      }
+
+      return definitionLevel == maxDefinitionLevel ? index : -1;
+    }
+  }
+
+  /** Reads values from a page into a vector at the given positions. */
+  private interface ValueWriter {
+    void write(ValuesReader values, int[] indexes, int count);
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  private static ValueWriter writer(FieldVector vector, PrimitiveType primitive) {
+    PrimitiveType.PrimitiveTypeName typeName = primitive.getPrimitiveTypeName();
+    if (typeName == PrimitiveType.PrimitiveTypeName.INT96) {
+      throw new UnsupportedOperationException(
+          "Unsupported type for nested vectorized reads: " + primitive);
+    }
+
+    switch (vector.getMinorType()) {
+      case BIT:
+        BitVector bits = (BitVector) vector;
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            bits.setSafe(indexes[i], values.readBoolean() ? 1 : 0);
+          }
+        };
+      case INT:
+        IntVector ints = (IntVector) vector;
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            ints.setSafe(indexes[i], values.readInteger());
+          }
+        };
+      case DATEDAY:
+        DateDayVector dates = (DateDayVector) vector;
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            dates.setSafe(indexes[i], values.readInteger());
+          }
+        };
+      case BIGINT:
+        BigIntVector longs = (BigIntVector) vector;
+        if (typeName == PrimitiveType.PrimitiveTypeName.INT32) {
+          return (values, indexes, count) -> {
+            for (int i = 0; i < count; i += 1) {
+              longs.setSafe(indexes[i], values.readInteger());
+            }
+          };
+        }
+
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            longs.setSafe(indexes[i], values.readLong());
+          }
+        };
+      case TIMEMICRO:
+        TimeMicroVector times = (TimeMicroVector) vector;
+        if (primitive.getOriginalType() == OriginalType.TIME_MILLIS) {
+          return (values, indexes, count) -> {
+            for (int i = 0; i < count; i += 1) {
+              times.setSafe(indexes[i], values.readInteger() * 1000L);
+            }
+          };
+        }
+
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            times.setSafe(indexes[i], values.readLong());
+          }
+        };
+      case TIMESTAMPMICRO:
+      case TIMESTAMPMICROTZ:
+        TimeStampVector timestamps = (TimeStampVector) vector;
+        if (primitive.getOriginalType() == OriginalType.TIMESTAMP_MILLIS) {
+          return (values, indexes, count) -> {
+            for (int i = 0; i < count; i += 1) {
+              timestamps.setSafe(indexes[i], values.readLong() * 1000L);
+            }
+          };
+        }
+
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            timestamps.setSafe(indexes[i], values.readLong());
+          }
+        };
+      case FLOAT4:
+        Float4Vector floats = (Float4Vector) vector;
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            floats.setSafe(indexes[i], values.readFloat());
+          }
+        };
+      case FLOAT8:
+        Float8Vector doubles = (Float8Vector) vector;
+        if (typeName == PrimitiveType.PrimitiveTypeName.FLOAT) {
+          return (values, indexes, count) -> {
+            for (int i = 0; i < count; i += 1) {
+              doubles.setSafe(indexes[i], values.readFloat());
+            }
+          };
+        }
+
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            doubles.setSafe(indexes[i], values.readDouble());
+          }
+        };
+      case DECIMAL:
+        DecimalVector decimals = (DecimalVector) vector;
+        switch (typeName) {
+          case INT32:
+            return (values, indexes, count) -> {
+              for (int i = 0; i < count; i += 1) {
+                decimals.setSafe(indexes[i], values.readInteger());
+              }
+            };
+          case INT64:
+            return (values, indexes, count) -> {
+              for (int i = 0; i < count; i += 1) {
+                decimals.setSafe(indexes[i], values.readLong());
+              }
+            };
+          default:
+            return (values, indexes, count) -> {
+              for (int i = 0; i < count; i += 1) {
+                decimals.setBigEndianSafe(indexes[i], values.readBytes().getBytesUnsafe());
+              }
+            };
+        }
+      case VARCHAR:
+      case VARBINARY:
+        BaseVariableWidthVector binaries = (BaseVariableWidthVector) vector;
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            ByteBuffer buffer = values.readBytes().toByteBuffer();
+            binaries.setSafe(indexes[i], buffer, buffer.position(), buffer.remaining());
+          }
+        };
+      case FIXEDSIZEBINARY:
+        FixedSizeBinaryVector fixed = (FixedSizeBinaryVector) vector;
+        return (values, indexes, count) -> {
+          for (int i = 0; i < count; i += 1) {
+            fixed.setSafe(indexes[i], values.readBytes().getBytesUnsafe());
+          }
+        };
+      default:
+        throw new UnsupportedOperationException(
+            "Unsupported type for nested vectorized reads: " + primitive);
+    }
+  }
+}
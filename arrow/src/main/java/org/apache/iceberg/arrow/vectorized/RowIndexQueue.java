@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A queue of increasing row indexes that selects the rows a column reader decodes.
+ *
+ * <p>Indexes are added as rows are selected and are consumed by the column reader as it reads.
+ */
+class RowIndexQueue implements PrimitiveIterator.OfLong {
+  private long[] indexes = new long[16];
+  private int head = 0;
+  private int tail = 0;
+
+  void clear() {
+    this.head = 0;
+    this.tail = 0;
+  }
+
+  void add(long rowIndex) {
+    if (tail == indexes.length) {
+      if (head > 0) {
+        System.arraycopy(indexes, head, indexes, 0, tail - head);
+        this.tail -= head;
+        this.head = 0;
+      } else {
+        this.indexes = Arrays.copyOf(indexes, indexes.length * 2);
+      }
+    }
+
+    indexes[tail] = rowIndex;
+    tail += 1;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return head < tail;
+  }
+
+  @Override
+  public long nextLong() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    long rowIndex = indexes[head];
+    head += 1;
+    return rowIndex;
+  }
+}
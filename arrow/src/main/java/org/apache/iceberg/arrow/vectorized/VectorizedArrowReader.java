@@ -19,6 +19,7 @@
 package org.apache.iceberg.arrow.vectorized;
 
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.vector.BigIntVector;
@@ -73,6 +74,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
   private Integer typeWidth;
   private ReadType readType;
   private NullabilityHolder nullabilityHolder;
+  private PrimitiveIterator.OfLong rowSelection = null;
 
   // In cases when Parquet employs fall back to plain encoding, we eagerly decode the dictionary
   // encoded pages
@@ -96,7 +98,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     this(null);
   }
 
-  private VectorizedArrowReader(Types.NestedField icebergField) {
+  protected VectorizedArrowReader(Types.NestedField icebergField) {
     this.icebergField = icebergField;
     this.batchSize = DEFAULT_BATCH_SIZE;
     this.columnDescriptor = null;
@@ -147,54 +149,60 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     }
     if (vectorizedColumnIterator.hasNext()) {
       if (dictEncoded) {
-        vectorizedColumnIterator.dictionaryBatchReader().nextBatch(vec, -1, nullabilityHolder);
+        vectorizedColumnIterator
+            .dictionaryBatchReader()
+            .nextBatch(vec, -1, nullabilityHolder, numValsToRead);
       } else {
         switch (readType) {
           case VARBINARY:
           case VARCHAR:
             vectorizedColumnIterator
                 .varWidthTypeBatchReader()
-                .nextBatch(vec, -1, nullabilityHolder);
+                .nextBatch(vec, -1, nullabilityHolder, numValsToRead);
             break;
           case BOOLEAN:
-            vectorizedColumnIterator.booleanBatchReader().nextBatch(vec, -1, nullabilityHolder);
+            vectorizedColumnIterator
+                .booleanBatchReader()
+                .nextBatch(vec, -1, nullabilityHolder, numValsToRead);
             break;
           case INT:
           case INT_BACKED_DECIMAL:
             vectorizedColumnIterator
                 .integerBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
+                .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
             break;
           case LONG:
           case LONG_BACKED_DECIMAL:
-            vectorizedColumnIterator.longBatchReader().nextBatch(vec, typeWidth, nullabilityHolder);
+            vectorizedColumnIterator
+                .longBatchReader()
+                .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
             break;
           case FLOAT:
             vectorizedColumnIterator
                 .floatBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
+                .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
             break;
           case DOUBLE:
             vectorizedColumnIterator
                 .doubleBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
+                .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
             break;
           case TIMESTAMP_MILLIS:
             vectorizedColumnIterator
                 .timestampMillisBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
+                .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
             break;
           case TIMESTAMP_INT96:
             vectorizedColumnIterator
                 .timestampInt96BatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
+                .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
             break;
           case UUID:
           case FIXED_WIDTH_BINARY:
           case FIXED_LENGTH_DECIMAL:
             vectorizedColumnIterator
                 .fixedSizeBinaryBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
+                .nextBatch(vec, typeWidth, nullabilityHolder, numValsToRead);
             break;
         }
       }
@@ -434,7 +442,25 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     this.dictionary =
         vectorizedColumnIterator.setRowGroupInfo(
             source.getPageReader(columnDescriptor),
-            !ParquetUtil.hasNonDictionaryPages(chunkMetaData));
+            !ParquetUtil.hasNonDictionaryPages(chunkMetaData),
+            rowSelection != null ? rowSelection : source.getRowIndexes().orElse(null));
+  }
+
+  /**
+   * Sets the rows to read from each row group instead of the rows selected by page filtering.
+   *
+   * <p>Row indexes are consumed as values are read, so indexes may be added to the iterator after
+   * the row group is set. The selection must include only rows of the row group's pages.
+   *
+   * @param rowIndexes increasing indexes of the rows to read within the current row group
+   */
+  void setRowSelection(PrimitiveIterator.OfLong rowIndexes) {
+    this.rowSelection = rowIndexes;
+  }
+
+  @Override
+  public boolean supportsPageFiltering() {
+    return true;
   }
 
   @Override
@@ -589,6 +615,12 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
                           "PageReadStore does not contain row index offset"));
     }
 
+    @Override
+    public boolean supportsPageFiltering() {
+      // positions are produced by counting rows from the start of the row group
+      return false;
+    }
+
     @Override
     public String toString() {
       return getClass().toString();
@@ -667,6 +699,12 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       posReader.setRowGroupInfo(source, metadata);
     }
 
+    @Override
+    public boolean supportsPageFiltering() {
+      // row ids are derived from row positions
+      return false;
+    }
+
     @Override
     public void setBatchSize(int batchSize) {
       if (nulls == null || nulls.size() < batchSize) {
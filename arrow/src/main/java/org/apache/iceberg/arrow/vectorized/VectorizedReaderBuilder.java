@@ -130,11 +130,46 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
   @Override
   public VectorizedReader<?> struct(
       Types.StructType expected, GroupType groupType, List<VectorizedReader<?>> fieldReaders) {
-    if (expected != null) {
-      throw new UnsupportedOperationException(
-          "Vectorized reads are not supported yet for struct fields");
+    return nestedReader(expected, groupType);
+  }
+
+  @Override
+  public VectorizedReader<?> list(
+      Types.ListType expected, GroupType array, VectorizedReader<?> element) {
+    return nestedReader(expected, array);
+  }
+
+  @Override
+  public VectorizedReader<?> map(
+      Types.MapType expected, GroupType map, VectorizedReader<?> key, VectorizedReader<?> value) {
+    return nestedReader(expected, map);
+  }
+
+  /**
+   * Returns a reader for a top-level struct, list or map column.
+   *
+   * <p>Nested columns are read as a whole by the reader of their top-level column, so there are no
+   * readers for the fields of nested types.
+   */
+  private VectorizedReader<?> nestedReader(
+      org.apache.iceberg.types.Type expected, GroupType group) {
+    if (expected == null || group.getId() == null) {
+      return null;
     }
-    return null;
+
+    boolean isTopLevel =
+        parquetSchema.containsField(group.getName())
+            && parquetSchema.getType(group.getName()) == group;
+    if (!isTopLevel) {
+      return null;
+    }
+
+    Types.NestedField icebergField = icebergSchema.findField(group.getId().intValue());
+    if (icebergField == null) {
+      return null;
+    }
+
+    return new NestedVectorReader(icebergField, group, parquetSchema, rootAllocator);
   }
 
   @Override
@@ -147,7 +182,7 @@ public class VectorizedReaderBuilder extends TypeWithSchemaVisitor<VectorizedRea
     }
     int parquetFieldId = primitive.getId().intValue();
     ColumnDescriptor desc = parquetSchema.getColumnDescription(currentPath());
-    // Nested types not yet supported for vectorized reads
+    // repeated values are read by the reader of the top-level nested column
     if (desc.getMaxRepetitionLevel() > 0) {
       return null;
     }
@@ -52,7 +52,17 @@ public class VectorizedTableScanIterable extends CloseableGroup
    * <p>See {@link ArrowReader#ArrowReader(TableScan, int, boolean)} for details.
    */
   public VectorizedTableScanIterable(TableScan scan, int batchSize, boolean reuseContainers) {
-    this.reader = new ArrowReader(scan, batchSize, reuseContainers);
+    this(scan, batchSize, reuseContainers, false);
+  }
+
+  /**
+   * Create a new instance.
+   *
+   * <p>See {@link ArrowReader#ArrowReader(TableScan, int, boolean, boolean)} for details.
+   */
+  public VectorizedTableScanIterable(
+      TableScan scan, int batchSize, boolean reuseContainers, boolean lateMaterialization) {
+    this.reader = new ArrowReader(scan, batchSize, reuseContainers, lateMaterialization);
     // start planning tasks in the background
     this.tasks = scan.planTasks();
   }
@@ -20,6 +20,7 @@ package org.apache.iceberg.arrow.vectorized.parquet;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.parquet.bytes.ByteBufferInputStream;
 import org.apache.parquet.bytes.BytesUtils;
@@ -210,6 +211,77 @@ public class BaseVectorizedParquetValuesReader extends ValuesReader {
     }
   }
 
+  /**
+   * Reads the next {@code total} values into an array, filling RLE runs and copying bit-packed
+   * groups instead of decoding one value at a time.
+   *
+   * @param total the number of values to read
+   * @param dest the array to fill
+   * @param offset the position in the array of the first value
+   */
+  void readIntegers(int total, int[] dest, int offset) {
+    int pos = offset;
+    int left = total;
+    while (left > 0) {
+      if (this.currentCount == 0) {
+        this.readNextGroup();
+      }
+
+      int numValues = Math.min(left, this.currentCount);
+      switch (mode) {
+        case RLE:
+          Arrays.fill(dest, pos, pos + numValues, this.currentValue);
+          break;
+        case PACKED:
+          System.arraycopy(this.packedValuesBuffer, packedValuesBufferIdx, dest, pos, numValues);
+          packedValuesBufferIdx += numValues;
+          break;
+      }
+
+      pos += numValues;
+      left -= numValues;
+      this.currentCount -= numValues;
+    }
+  }
+
+  /**
+   * Skips the next {@code total} values.
+   *
+   * @param total the number of values to skip
+   * @param value a value to count
+   * @return the number of skipped values that were equal to {@code value}
+   */
+  int skipAndCount(int total, int value) {
+    int count = 0;
+    int left = total;
+    while (left > 0) {
+      if (this.currentCount == 0) {
+        this.readNextGroup();
+      }
+
+      int numValues = Math.min(left, this.currentCount);
+      switch (mode) {
+        case RLE:
+          if (this.currentValue == value) {
+            count += numValues;
+          }
+          break;
+        case PACKED:
+          for (int i = 0; i < numValues; i += 1) {
+            if (this.packedValuesBuffer[packedValuesBufferIdx++] == value) {
+              count += 1;
+            }
+          }
+          break;
+      }
+
+      left -= numValues;
+      this.currentCount -= numValues;
+    }
+
+    return count;
+  }
+
   @Override
   public boolean readBoolean() {
     return this.readInteger() != 0;
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.arrow.vectorized.parquet;
 
+import java.util.PrimitiveIterator;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.IntVector;
 import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
@@ -52,13 +53,45 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
   }
 
   public Dictionary setRowGroupInfo(PageReader store, boolean allPagesDictEncoded) {
+    return setRowGroupInfo(store, allPagesDictEncoded, null);
+  }
+
+  public Dictionary setRowGroupInfo(
+      PageReader store, boolean allPagesDictEncoded, PrimitiveIterator.OfLong rowIndexes) {
     // setPageSource can result in a data page read. If that happens, we need
     // to know in advance whether all the pages in the row group are dictionary encoded or not
     this.vectorizedPageIterator.setAllPagesDictEncoded(allPagesDictEncoded);
-    super.setPageSource(store);
+    super.setPageSource(store, rowIndexes);
     return dictionary;
   }
 
+  /**
+   * Skips rows of the current page that were not selected by the page index.
+   *
+   * @param maxRows the maximum number of rows to read
+   * @return the number of consecutive selected rows that can be read from the current page, or 0
+   *     if rows were skipped and the next page may need to be read
+   */
+  private int skipToSelectedRows(int maxRows) {
+    long rowIndex = vectorizedPageIterator.currentRowIndex();
+    long selectedRow = nextSelectedRow(rowIndex);
+    if (selectedRow > rowIndex) {
+      int remainingRows = vectorizedPageIterator.remainingRowCount();
+      int rowsToSkip = (int) Math.min(selectedRow - rowIndex, remainingRows);
+      this.triplesRead += vectorizedPageIterator.skip(rowsToSkip);
+      return 0;
+    }
+
+    int maxSelectedRows = Math.min(maxRows, vectorizedPageIterator.remainingRowCount());
+    int selectedRows = 1;
+    while (selectedRows < maxSelectedRows
+        && nextSelectedRow(rowIndex + selectedRows) == rowIndex + selectedRows) {
+      selectedRows += 1;
+    }
+
+    return selectedRows;
+  }
+
   @Override
   protected BasePageIterator pageIterator() {
     return vectorizedPageIterator;
@@ -70,11 +103,34 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
 
   public abstract class BatchReader {
     public void nextBatch(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
+      nextBatch(fieldVector, typeWidth, holder, batchSize);
+    }
+
+    /**
+     * Reads the next rows of the column into a vector.
+     *
+     * <p>When rows are selected, only selected rows are read and count toward {@code numRows}.
+     *
+     * @param fieldVector the vector to read into
+     * @param typeWidth the width of fixed-width values
+     * @param holder the nullability holder for the vector
+     * @param numRows the maximum number of rows to read, at most the batch size
+     */
+    public void nextBatch(
+        FieldVector fieldVector, int typeWidth, NullabilityHolder holder, int numRows) {
       int rowsReadSoFar = 0;
-      while (rowsReadSoFar < batchSize && hasNext()) {
+      while (rowsReadSoFar < numRows && hasNext()) {
         advance();
+        int rowsToRead = numRows - rowsReadSoFar;
+        if (skipsRows()) {
+          rowsToRead = skipToSelectedRows(rowsToRead);
+          if (rowsToRead == 0) {
+            continue;
+          }
+        }
+
         int rowsInThisBatch =
-            nextBatchOf(fieldVector, batchSize - rowsReadSoFar, rowsReadSoFar, typeWidth, holder);
+            nextBatchOf(fieldVector, rowsToRead, rowsReadSoFar, typeWidth, holder);
         rowsReadSoFar += rowsInThisBatch;
         triplesRead += rowsInThisBatch;
         fieldVector.setValueCount(rowsReadSoFar);
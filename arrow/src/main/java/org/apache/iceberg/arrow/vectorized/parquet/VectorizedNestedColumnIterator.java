@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized.parquet;
+
+import java.io.IOException;
+import org.apache.iceberg.parquet.BaseColumnIterator;
+import org.apache.iceberg.parquet.BasePageIterator;
+import org.apache.parquet.CorruptDeltaByteArrays;
+import org.apache.parquet.bytes.ByteBufferInputStream;
+import org.apache.parquet.bytes.BytesUtils;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.ValuesType;
+import org.apache.parquet.column.page.DataPageV1;
+import org.apache.parquet.column.page.DataPageV2;
+import org.apache.parquet.column.values.RequiresPreviousReader;
+import org.apache.parquet.column.values.ValuesReader;
+import org.apache.parquet.io.ParquetDecodingException;
+
+/**
+ * Reads the levels and values of a nested column in a row group one page at a time.
+ *
+ * <p>The repetition and definition levels of each data page are decoded in bulk into arrays when
+ * the page is read, copying RLE runs and bit-packed groups at once. Callers assemble rows from the
+ * level arrays of the current page and then read the values of the assembled triples from {@link
+ * #values()}.
+ */
+public class VectorizedNestedColumnIterator extends BaseColumnIterator {
+  private final NestedPageIterator pageIterator;
+
+  public VectorizedNestedColumnIterator(ColumnDescriptor desc, String writerVersion) {
+    super(desc);
+    this.pageIterator = new NestedPageIterator(desc, writerVersion);
+  }
+
+  @Override
+  protected BasePageIterator pageIterator() {
+    return pageIterator;
+  }
+
+  /** Returns the number of triples of the current page that have not been consumed. */
+  public int pageRemaining() {
+    return pageIterator.remaining();
+  }
+
+  /** Returns the position in the level arrays of the next triple of the current page. */
+  public int pageOffset() {
+    return pageIterator.offset();
+  }
+
+  /** Returns the repetition levels of the current page. */
+  public int[] repetitionLevels() {
+    return pageIterator.repLevels;
+  }
+
+  /** Returns the definition levels of the current page. */
+  public int[] definitionLevels() {
+    return pageIterator.defLevels;
+  }
+
+  /** Returns the reader for the values of the current page. */
+  public ValuesReader values() {
+    return pageIterator.valuesReader();
+  }
+
+  /**
+   * Marks triples of the current page as read, moving to the next page if the page is exhausted.
+   *
+   * <p>The values of the consumed triples that are defined must have been read from {@link
+   * #values()}.
+   *
+   * @param numTriples the number of triples to consume
+   */
+  public void consume(int numTriples) {
+    pageIterator.consume(numTriples);
+    this.triplesRead += numTriples;
+    advance();
+  }
+
+  private static class NestedPageIterator extends BasePageIterator {
+    private int[] repLevels = new int[0];
+    private int[] defLevels = new int[0];
+
+    private NestedPageIterator(ColumnDescriptor desc, String writerVersion) {
+      super(desc, writerVersion);
+    }
+
+    private int remaining() {
+      return triplesCount - triplesRead;
+    }
+
+    private int offset() {
+      return triplesRead;
+    }
+
+    private ValuesReader valuesReader() {
+      return values;
+    }
+
+    private void consume(int numTriples) {
+      this.triplesRead += numTriples;
+      this.hasNext = triplesRead < triplesCount;
+    }
+
+    @Override
+    protected void initRepetitionLevelsReader(
+        DataPageV1 dataPageV1, ColumnDescriptor descriptor, ByteBufferInputStream in, int count)
+        throws IOException {
+      int maxLevel = descriptor.getMaxRepetitionLevel();
+      BaseVectorizedParquetValuesReader reader =
+          new BaseVectorizedParquetValuesReader(
+              BytesUtils.getWidthFromMaxInt(maxLevel), maxLevel, false);
+      reader.initFromPage(count, in);
+      this.repLevels = readLevels(reader, count, repLevels);
+    }
+
+    @Override
+    protected void initRepetitionLevelsReader(DataPageV2 dataPageV2, ColumnDescriptor descriptor)
+        throws IOException {
+      int maxLevel = descriptor.getMaxRepetitionLevel();
+      BaseVectorizedParquetValuesReader reader =
+          new BaseVectorizedParquetValuesReader(
+              BytesUtils.getWidthFromMaxInt(maxLevel), maxLevel, false, false);
+      int count = dataPageV2.getValueCount();
+      reader.initFromPage(count, dataPageV2.getRepetitionLevels().toInputStream());
+      this.repLevels = readLevels(reader, count, repLevels);
+    }
+
+    @Override
+    protected void initDefinitionLevelsReader(
+        DataPageV1 dataPageV1, ColumnDescriptor descriptor, ByteBufferInputStream in, int count)
+        throws IOException {
+      int maxLevel = descriptor.getMaxDefinitionLevel();
+      BaseVectorizedParquetValuesReader reader =
+          new BaseVectorizedParquetValuesReader(
+              BytesUtils.getWidthFromMaxInt(maxLevel), maxLevel, false);
+      reader.initFromPage(count, in);
+      this.defLevels = readLevels(reader, count, defLevels);
+    }
+
+    @Override
+    protected void initDefinitionLevelsReader(DataPageV2 dataPageV2, ColumnDescriptor descriptor)
+        throws IOException {
+      int maxLevel = descriptor.getMaxDefinitionLevel();
+      BaseVectorizedParquetValuesReader reader =
+          new BaseVectorizedParquetValuesReader(
+              BytesUtils.getWidthFromMaxInt(maxLevel), maxLevel, false, false);
+      int count = dataPageV2.getValueCount();
+      reader.initFromPage(count, dataPageV2.getDefinitionLevels().toInputStream());
+      this.defLevels = readLevels(reader, count, defLevels);
+    }
+
+    private static int[] readLevels(
+        BaseVectorizedParquetValuesReader reader, int count, int[] reuse) {
+      int[] levels = reuse.length >= count ? reuse : new int[count];
+      reader.readIntegers(count, levels, 0);
+      return levels;
+    }
+
+    @Override
+    protected void initDataReader(Encoding dataEncoding, ByteBufferInputStream in, int valueCount) {
+      ValuesReader previousReader = values;
+      if (dataEncoding.usesDictionary()) {
+        if (dictionary == null) {
+          throw new ParquetDecodingException(
+              "could not read page in col "
+                  + desc
+                  + " as the dictionary was missing for encoding "
+                  + dataEncoding);
+        }
+
+        this.values =
+            dataEncoding.getDictionaryBasedValuesReader(desc, ValuesType.VALUES, dictionary);
+      } else {
+        this.values = dataEncoding.getValuesReader(desc, ValuesType.VALUES);
+      }
+
+      try {
+        values.initFromPage(valueCount, in);
+      } catch (IOException e) {
+        throw new ParquetDecodingException("could not read page in col " + desc, e);
+      }
+
+      if (CorruptDeltaByteArrays.requiresSequentialReads(writerVersion, dataEncoding)
+          && previousReader instanceof RequiresPreviousReader) {
+        // previous reader can only be set if reading sequentially
+        ((RequiresPreviousReader) values).setPreviousReader(previousReader);
+      }
+    }
+  }
+}
@@ -119,6 +119,46 @@ public class VectorizedPageIterator extends BasePageIterator {
     }
   }
 
+  /** Returns the index within the row group of the next row to read from this page. */
+  public long currentRowIndex() {
+    return firstRowIndex + triplesRead;
+  }
+
+  /** Returns the number of rows that have not been read from this page. */
+  public int remainingRowCount() {
+    return triplesCount - triplesRead;
+  }
+
+  /**
+   * Skips rows of the current page without decoding their values.
+   *
+   * @param numRows the number of rows to skip
+   * @return the number of rows that were skipped, limited by the rows left in the page
+   */
+  public int skip(int numRows) {
+    int rowsToSkip = Math.min(numRows, triplesCount - triplesRead);
+    if (rowsToSkip <= 0) {
+      return 0;
+    } else if (rowsToSkip == triplesCount - triplesRead) {
+      // the rest of the page is not needed, so its levels and values are not decoded
+      triplesRead = triplesCount;
+      this.hasNext = false;
+      return rowsToSkip;
+    }
+
+    int numValues =
+        vectorizedDefinitionLevelReader.skipAndCount(rowsToSkip, desc.getMaxDefinitionLevel());
+    if (dictionaryDecodeMode == DictionaryDecodeMode.NONE) {
+      valuesReader.skipValues(numValues, desc.getPrimitiveType());
+    } else {
+      dictionaryEncodedValuesReader.skipAndCount(numValues, 0);
+    }
+
+    triplesRead += rowsToSkip;
+    this.hasNext = triplesRead < triplesCount;
+    return rowsToSkip;
+  }
+
   public boolean producesDictionaryEncodedVector() {
     return dictionaryDecodeMode == DictionaryDecodeMode.LAZY;
   }
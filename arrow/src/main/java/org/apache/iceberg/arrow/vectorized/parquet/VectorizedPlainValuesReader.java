@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.iceberg.parquet.ValuesAsBytesReader;
 import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType;
 
 class VectorizedPlainValuesReader extends ValuesAsBytesReader implements VectorizedValuesReader {
 
@@ -55,6 +56,38 @@ class VectorizedPlainValuesReader extends ValuesAsBytesReader implements Vectori
     }
   }
 
+  @Override
+  public void skipValues(int total, PrimitiveType type) {
+    switch (type.getPrimitiveTypeName()) {
+      case BOOLEAN:
+        for (int i = 0; i < total; i += 1) {
+          readBoolean();
+        }
+        break;
+      case BINARY:
+        for (int i = 0; i < total; i += 1) {
+          skipBytes(readInteger());
+        }
+        break;
+      case INT32:
+      case FLOAT:
+        skipBytes((long) total * INT_SIZE);
+        break;
+      case INT64:
+      case DOUBLE:
+        skipBytes((long) total * LONG_SIZE);
+        break;
+      case INT96:
+        skipBytes(total * 12L);
+        break;
+      case FIXED_LEN_BYTE_ARRAY:
+        skipBytes((long) total * type.getTypeLength());
+        break;
+      default:
+        throw new UnsupportedOperationException("Cannot skip values of type: " + type);
+    }
+  }
+
   private void readValues(int total, FieldVector vec, int rowId, int typeWidth) {
     ByteBuffer buffer = getBuffer(total * typeWidth);
     vec.getDataBuffer().setBytes((long) rowId * typeWidth, buffer);
@@ -23,6 +23,7 @@ import org.apache.arrow.vector.FieldVector;
 import org.apache.parquet.bytes.ByteBufferInputStream;
 import org.apache.parquet.column.values.ValuesReader;
 import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType;
 
 /**
  * Interface for value decoding that supports vectorized (aka batched) decoding. Implementations are
@@ -71,6 +72,9 @@ interface VectorizedValuesReader {
   /** Read `total` doubles into `vec` starting at `vec[rowId]` */
   void readDoubles(int total, FieldVector vec, int rowId);
 
+  /** Skip `total` values of the given `type` */
+  void skipValues(int total, PrimitiveType type);
+
   /**
    * Initialize the reader from a page. See {@link ValuesReader#initFromPage(int,
    * ByteBufferInputStream)}.
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.writer;
+
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * Rows of an Arrow batch to write, either all rows of a {@link VectorSchemaRoot} or a selection of
+ * its row ids.
+ *
+ * <p>A batch does not copy the vectors or the row ids, so they must not change until it is written.
+ */
+public class ArrowBatch {
+  private final VectorSchemaRoot root;
+  private final int[] rowIds;
+  private final int offset;
+  private final int numRows;
+
+  private ArrowBatch(VectorSchemaRoot root, int[] rowIds, int offset, int numRows) {
+    this.root = root;
+    this.rowIds = rowIds;
+    this.offset = offset;
+    this.numRows = numRows;
+  }
+
+  /** Returns a batch of all rows of a {@link VectorSchemaRoot}. */
+  public static ArrowBatch of(VectorSchemaRoot root) {
+    return new ArrowBatch(root, null, 0, root.getRowCount());
+  }
+
+  /**
+   * Returns a batch of the rows of a {@link VectorSchemaRoot} with the given ids.
+   *
+   * @param root a batch of vectors
+   * @param rowIds an array of row ids
+   * @param offset the position of the first row id in the array
+   * @param numRows the number of row ids
+   * @return a batch of the selected rows
+   */
+  public static ArrowBatch of(VectorSchemaRoot root, int[] rowIds, int offset, int numRows) {
+    Preconditions.checkArgument(
+        offset >= 0 && numRows >= 0 && offset + numRows <= rowIds.length,
+        "Invalid row id range: offset %s, length %s",
+        offset,
+        numRows);
+    return new ArrowBatch(root, rowIds, offset, numRows);
+  }
+
+  public VectorSchemaRoot root() {
+    return root;
+  }
+
+  public int numRows() {
+    return numRows;
+  }
+
+  /** Returns the id in the root of the row at a position of this batch. */
+  public int rowId(int pos) {
+    return rowIds != null ? rowIds[offset + pos] : pos;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.writer;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.io.FileAppender;
+
+/**
+ * A {@link FileAppender} for Arrow batches.
+ *
+ * <p>Each batch is passed as a whole to an appender of {@link ArrowBatch}, such as a Parquet
+ * appender created with {@link ArrowParquetWriter#buildWriter}, which writes the batch column by
+ * column. Metrics are those of the wrapped appender.
+ *
+ * <p>For example:
+ *
+ * <pre>
+ * FileAppender&lt;VectorSchemaRoot&gt; appender =
+ *     new ArrowFileAppender(
+ *         Parquet.write(outputFile)
+ *             .schema(schema)
+ *             .createWriterFunc(ArrowParquetWriter::buildWriter)
+ *             .build());
+ * </pre>
+ */
+public class ArrowFileAppender implements FileAppender<VectorSchemaRoot> {
+  private final FileAppender<ArrowBatch> appender;
+
+  public ArrowFileAppender(FileAppender<ArrowBatch> appender) {
+    this.appender = appender;
+  }
+
+  @Override
+  public void add(VectorSchemaRoot batch) {
+    appender.add(ArrowBatch.of(batch));
+  }
+
+  @Override
+  public Metrics metrics() {
+    return appender.metrics();
+  }
+
+  @Override
+  public long length() {
+    return appender.length();
+  }
+
+  @Override
+  public List<Long> splitOffsets() {
+    return appender.splitOffsets();
+  }
+
+  @Override
+  public void close() throws IOException {
+    appender.close();
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.writer;
+
+import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT;
+import static org.apache.iceberg.TableProperties.DEFAULT_FILE_FORMAT_DEFAULT;
+import static org.apache.iceberg.TableProperties.DELETE_DEFAULT_FILE_FORMAT;
+
+import java.util.Map;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.data.BaseFileWriterFactory;
+import org.apache.iceberg.orc.ORC;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A writer factory for Arrow batches, see {@link ArrowPartitioningWriter}.
+ *
+ * <p>Only Parquet files are supported and the builder rejects other data or delete file formats.
+ * Position delete files are written without row data.
+ */
+public class ArrowFileWriterFactory extends BaseFileWriterFactory<ArrowBatch> {
+
+  ArrowFileWriterFactory(
+      Table table,
+      Schema dataSchema,
+      SortOrder dataSortOrder,
+      int[] equalityFieldIds,
+      Schema equalityDeleteRowSchema,
+      SortOrder equalityDeleteSortOrder) {
+    super(
+        table,
+        FileFormat.PARQUET,
+        dataSchema,
+        dataSortOrder,
+        FileFormat.PARQUET,
+        equalityFieldIds,
+        equalityDeleteRowSchema,
+        equalityDeleteSortOrder,
+        null);
+  }
+
+  public static Builder builderFor(Table table) {
+    return new Builder(table);
+  }
+
+  // Avro and ORC formats are rejected by the builder, so their configure methods are never called
+
+  @Override
+  protected void configureDataWrite(Avro.DataWriteBuilder builder) {
+    throw unsupportedFormat(FileFormat.AVRO);
+  }
+
+  @Override
+  protected void configureEqualityDelete(Avro.DeleteWriteBuilder builder) {
+    throw unsupportedFormat(FileFormat.AVRO);
+  }
+
+  @Override
+  protected void configurePositionDelete(Avro.DeleteWriteBuilder builder) {
+    throw unsupportedFormat(FileFormat.AVRO);
+  }
+
+  @Override
+  protected void configureDataWrite(Parquet.DataWriteBuilder builder) {
+    builder.createWriterFunc(ArrowParquetWriter::buildWriter);
+  }
+
+  @Override
+  protected void configureEqualityDelete(Parquet.DeleteWriteBuilder builder) {
+    builder.createWriterFunc(ArrowParquetWriter::buildWriter);
+  }
+
+  @Override
+  protected void configurePositionDelete(Parquet.DeleteWriteBuilder builder) {}
+
+  @Override
+  protected void configureDataWrite(ORC.DataWriteBuilder builder) {
+    throw unsupportedFormat(FileFormat.ORC);
+  }
+
+  @Override
+  protected void configureEqualityDelete(ORC.DeleteWriteBuilder builder) {
+    throw unsupportedFormat(FileFormat.ORC);
+  }
+
+  @Override
+  protected void configurePositionDelete(ORC.DeleteWriteBuilder builder) {
+    throw unsupportedFormat(FileFormat.ORC);
+  }
+
+  private static UnsupportedOperationException unsupportedFormat(FileFormat format) {
+    return new UnsupportedOperationException("Cannot write Arrow batches to " + format);
+  }
+
+  public static class Builder {
+    private final Table table;
+    private FileFormat dataFileFormat;
+    private Schema dataSchema;
+    private SortOrder dataSortOrder;
+    private FileFormat deleteFileFormat;
+    private int[] equalityFieldIds;
+    private Schema equalityDeleteRowSchema;
+    private SortOrder equalityDeleteSortOrder;
+
+    private Builder(Table table) {
+      this.table = table;
+      this.dataSchema = table.schema();
+
+      Map<String, String> properties = table.properties();
+
+      String dataFileFormatName =
+          properties.getOrDefault(DEFAULT_FILE_FORMAT, DEFAULT_FILE_FORMAT_DEFAULT);
+      this.dataFileFormat = FileFormat.fromString(dataFileFormatName);
+
+      String deleteFileFormatName =
+          properties.getOrDefault(DELETE_DEFAULT_FILE_FORMAT, dataFileFormatName);
+      this.deleteFileFormat = FileFormat.fromString(deleteFileFormatName);
+    }
+
+    public Builder dataFileFormat(FileFormat newDataFileFormat) {
+      this.dataFileFormat = newDataFileFormat;
+      return this;
+    }
+
+    public Builder dataSchema(Schema newDataSchema) {
+      this.dataSchema = newDataSchema;
+      return this;
+    }
+
+    public Builder dataSortOrder(SortOrder newDataSortOrder) {
+      this.dataSortOrder = newDataSortOrder;
+      return this;
+    }
+
+    public Builder deleteFileFormat(FileFormat newDeleteFileFormat) {
+      this.deleteFileFormat = newDeleteFileFormat;
+      return this;
+    }
+
+    public Builder equalityFieldIds(int[] newEqualityFieldIds) {
+      this.equalityFieldIds = newEqualityFieldIds;
+      return this;
+    }
+
+    public Builder equalityDeleteRowSchema(Schema newEqualityDeleteRowSchema) {
+      this.equalityDeleteRowSchema = newEqualityDeleteRowSchema;
+      return this;
+    }
+
+    public Builder equalityDeleteSortOrder(SortOrder newEqualityDeleteSortOrder) {
+      this.equalityDeleteSortOrder = newEqualityDeleteSortOrder;
+      return this;
+    }
+
+    public ArrowFileWriterFactory build() {
+      boolean noEqualityDeleteConf = equalityFieldIds == null && equalityDeleteRowSchema == null;
+      boolean fullEqualityDeleteConf = equalityFieldIds != null && equalityDeleteRowSchema != null;
+      Preconditions.checkArgument(
+          noEqualityDeleteConf || fullEqualityDeleteConf,
+          "Equality field IDs and equality delete row schema must be set together");
+      Preconditions.checkArgument(
+          dataFileFormat == FileFormat.PARQUET,
+          "Cannot write Arrow batches to %s data files, only Parquet is supported",
+          dataFileFormat);
+      Preconditions.checkArgument(
+          deleteFileFormat == FileFormat.PARQUET,
+          "Cannot write Arrow batches to %s delete files, only Parquet is supported",
+          deleteFileFormat);
+
+      return new ArrowFileWriterFactory(
+          table,
+          dataSchema,
+          dataSortOrder,
+          equalityFieldIds,
+          equalityDeleteRowSchema,
+          equalityDeleteSortOrder);
+    }
+  }
+}
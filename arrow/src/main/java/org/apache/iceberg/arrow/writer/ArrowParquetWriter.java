@@ -0,0 +1,749 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.writer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.DoubleFieldMetrics;
+import org.apache.iceberg.FieldMetrics;
+import org.apache.iceberg.FloatFieldMetrics;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.parquet.ParquetBatchValueWriter;
+import org.apache.iceberg.parquet.ParquetValueWriter;
+import org.apache.iceberg.parquet.ParquetValueWriters;
+import org.apache.iceberg.parquet.TripleWriter;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnWriteStore;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * Builds Parquet value writers for Arrow batches.
+ *
+ * <p>Batches are written column by column: each column is written for a range of rows of the batch
+ * before the next column, reading values directly from the Arrow vectors and passing them to the
+ * Parquet column writers as primitives, without creating an object for each value. Columns nested
+ * in structs are written the same way; lists and maps are written one row at a time. Column metrics
+ * are collected by the Parquet column writers as values are written, and NaN counts for float and
+ * double columns are kept while writing each column.
+ */
+public class ArrowParquetWriter {
+  private ArrowParquetWriter() {}
+
+  @SuppressWarnings("unchecked")
+  public static ParquetBatchValueWriter<ArrowBatch> buildWriter(Schema schema, MessageType type) {
+    return (ParquetBatchValueWriter<ArrowBatch>)
+        TypeWithSchemaVisitor.visit(schema.asStruct(), type, new WriteBuilder(type));
+  }
+
+  /** Writes the values of an Arrow vector to one or more Parquet columns. */
+  private interface VectorWriter {
+    /** Writes the value at a position of a vector. */
+    void write(int repetitionLevel, FieldVector vector, int index);
+
+    /**
+     * Writes the values of a vector for a range of rows of a batch at repetition level 0.
+     *
+     * <p>Rows that have a null parent have a non-negative null level, which is the definition level
+     * of the nulls to write for the row; other rows have a null level of -1.
+     */
+    default void writeRows(
+        FieldVector vector, ArrowBatch rows, int start, int end, int[] nullLevels) {
+      for (int pos = start; pos < end; pos += 1) {
+        if (nullLevels[pos] >= 0) {
+          for (TripleWriter<?> column : columns()) {
+            column.writeNull(0, nullLevels[pos]);
+          }
+
+        } else {
+          write(0, vector, rows.rowId(pos));
+        }
+      }
+    }
+
+    List<TripleWriter<?>> columns();
+
+    void setColumnStore(ColumnWriteStore columnStore);
+
+    default Stream<FieldMetrics<?>> metrics() {
+      return Stream.empty();
+    }
+  }
+
+  private static class WriteBuilder extends TypeWithSchemaVisitor<Object> {
+    private final MessageType type;
+
+    private WriteBuilder(MessageType type) {
+      this.type = type;
+    }
+
+    @Override
+    public Object message(Types.StructType struct, MessageType message, List<Object> fields) {
+      List<Types.NestedField> rowFields = struct.fields();
+      int[] positions = new int[fields.size()];
+      for (int i = 0; i < positions.length; i += 1) {
+        int fieldId = message.getType(i).getId().intValue();
+        positions[i] = rowFields.indexOf(struct.field(fieldId));
+      }
+
+      return new BatchWriter(new ArrowRow(struct), positions, fieldWriters(message, fields));
+    }
+
+    @Override
+    public Object struct(Types.StructType struct, GroupType group, List<Object> fields) {
+      String[] names = new String[fields.size()];
+      for (int i = 0; i < names.length; i += 1) {
+        names[i] = struct.field(group.getType(i).getId().intValue()).name();
+      }
+
+      return new StructWriter(names, fieldWriters(group, fields));
+    }
+
+    private List<VectorWriter> fieldWriters(GroupType group, List<Object> fields) {
+      List<VectorWriter> writers = Lists.newArrayListWithExpectedSize(fields.size());
+      for (int i = 0; i < fields.size(); i += 1) {
+        Type fieldType = group.getType(i);
+        int fieldD = type.getMaxDefinitionLevel(path(fieldType.getName()));
+        writers.add(option(fieldType, fieldD, (VectorWriter) fields.get(i)));
+      }
+
+      return writers;
+    }
+
+    @Override
+    public Object list(Types.ListType list, GroupType array, Object element) {
+      GroupType repeated = array.getFields().get(0).asGroupType();
+      String[] repeatedPath = currentPath();
+
+      int repeatedD = type.getMaxDefinitionLevel(repeatedPath);
+      int repeatedR = type.getMaxRepetitionLevel(repeatedPath);
+
+      Type elementType = repeated.getType(0);
+      int elementD = type.getMaxDefinitionLevel(path(elementType.getName()));
+
+      return new ListWriter(
+          repeatedD, repeatedR, option(elementType, elementD, (VectorWriter) element));
+    }
+
+    @Override
+    public Object map(Types.MapType map, GroupType group, Object key, Object value) {
+      GroupType repeatedKeyValue = group.getFields().get(0).asGroupType();
+      String[] repeatedPath = currentPath();
+
+      int repeatedD = type.getMaxDefinitionLevel(repeatedPath);
+      int repeatedR = type.getMaxRepetitionLevel(repeatedPath);
+
+      Type keyType = repeatedKeyValue.getType(0);
+      int keyD = type.getMaxDefinitionLevel(path(keyType.getName()));
+      Type valueType = repeatedKeyValue.getType(1);
+      int valueD = type.getMaxDefinitionLevel(path(valueType.getName()));
+
+      return new MapWriter(
+          repeatedD,
+          repeatedR,
+          option(keyType, keyD, (VectorWriter) key),
+          option(valueType, valueD, (VectorWriter) value));
+    }
+
+    @Override
+    public Object primitive(
+        org.apache.iceberg.types.Type.PrimitiveType iPrimitive, PrimitiveType primitive) {
+      ColumnDescriptor desc = type.getColumnDescription(currentPath());
+      switch (iPrimitive.typeId()) {
+        case BOOLEAN:
+          return new BooleanWriter(desc);
+        case INTEGER:
+        case DATE:
+          return new IntWriter(desc);
+        case LONG:
+        case TIME:
+        case TIMESTAMP:
+          return new LongWriter(desc);
+        case FLOAT:
+          return new FloatWriter(desc);
+        case DOUBLE:
+          return new DoubleWriter(desc);
+        case STRING:
+        case BINARY:
+          return new VariableWidthWriter(desc);
+        case FIXED:
+        case UUID:
+          return new FixedWidthWriter(desc);
+        case DECIMAL:
+          switch (primitive.getPrimitiveTypeName()) {
+            case INT32:
+              return new IntDecimalWriter(desc);
+            case INT64:
+              return new LongDecimalWriter(desc);
+            case FIXED_LEN_BYTE_ARRAY:
+              return new FixedDecimalWriter(desc);
+            default:
+              throw new UnsupportedOperationException("Unsupported decimal type: " + primitive);
+          }
+        default:
+          throw new UnsupportedOperationException(
+              "Cannot write Arrow values of type: " + iPrimitive);
+      }
+    }
+
+    private static VectorWriter option(Type fieldType, int fieldD, VectorWriter writer) {
+      if (fieldType.isRepetition(Type.Repetition.OPTIONAL)) {
+        return new OptionWriter(fieldD, writer);
+      }
+
+      return writer;
+    }
+  }
+
+  /** Writes the fields of an {@link ArrowBatch}, one field at a time. */
+  private static class BatchWriter implements ParquetBatchValueWriter<ArrowBatch> {
+    private final ArrowRow row;
+    private final int[] positions;
+    private final VectorWriter[] writers;
+    private final List<TripleWriter<?>> children;
+    private int[] nullLevels = new int[0];
+
+    private BatchWriter(ArrowRow row, int[] positions, List<VectorWriter> writers) {
+      this.row = row;
+      this.positions = positions;
+      this.writers = writers.toArray(new VectorWriter[0]);
+      this.children = allColumns(writers);
+    }
+
+    @Override
+    public int numRows(ArrowBatch batch) {
+      return batch.numRows();
+    }
+
+    @Override
+    public void writeRows(ArrowBatch batch, int start, int end) {
+      if (nullLevels.length < end) {
+        this.nullLevels = new int[end];
+        Arrays.fill(nullLevels, -1);
+      }
+
+      row.wrap(batch.root());
+      for (int i = 0; i < writers.length; i += 1) {
+        writers[i].writeRows(row.vector(positions[i]), batch, start, end, nullLevels);
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return children;
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      for (VectorWriter writer : writers) {
+        writer.setColumnStore(columnStore);
+      }
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Arrays.stream(writers).flatMap(VectorWriter::metrics);
+    }
+  }
+
+  private static List<TripleWriter<?>> allColumns(List<VectorWriter> writers) {
+    ImmutableList.Builder<TripleWriter<?>> columns = ImmutableList.builder();
+    for (VectorWriter writer : writers) {
+      columns.addAll(writer.columns());
+    }
+
+    return columns.build();
+  }
+
+  private static class OptionWriter implements VectorWriter {
+    private final int definitionLevel;
+    private final VectorWriter writer;
+    private final List<TripleWriter<?>> children;
+    private long nullValueCount = 0;
+    private int[] nullLevels = new int[0];
+
+    private OptionWriter(int definitionLevel, VectorWriter writer) {
+      this.definitionLevel = definitionLevel;
+      this.writer = writer;
+      this.children = writer.columns();
+    }
+
+    @Override
+    public void writeRows(
+        FieldVector vector, ArrowBatch rows, int start, int end, int[] parentNullLevels) {
+      if (nullLevels.length < end) {
+        this.nullLevels = new int[end];
+      }
+
+      for (int pos = start; pos < end; pos += 1) {
+        if (parentNullLevels[pos] >= 0) {
+          nullLevels[pos] = parentNullLevels[pos];
+        } else if (vector.isNull(rows.rowId(pos))) {
+          nullValueCount += 1;
+          nullLevels[pos] = definitionLevel - 1;
+        } else {
+          nullLevels[pos] = -1;
+        }
+      }
+
+      writer.writeRows(vector, rows, start, end, nullLevels);
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      if (vector.isNull(index)) {
+        nullValueCount += 1;
+        for (TripleWriter<?> column : children) {
+          column.writeNull(repetitionLevel, definitionLevel - 1);
+        }
+
+      } else {
+        writer.write(repetitionLevel, vector, index);
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return children;
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      writer.setColumnStore(columnStore);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      if (writer instanceof PrimitiveWriter) {
+        List<FieldMetrics<?>> fieldMetrics = writer.metrics().collect(Collectors.toList());
+        Preconditions.checkState(
+            fieldMetrics.size() <= 1, "Expected at most one field metric: %s", fieldMetrics);
+        return fieldMetrics.stream()
+            .map(
+                metrics ->
+                    new FieldMetrics<>(
+                        metrics.id(),
+                        metrics.valueCount() + nullValueCount,
+                        nullValueCount,
+                        metrics.nanValueCount(),
+                        metrics.lowerBound(),
+                        metrics.upperBound()));
+      }
+
+      return writer.metrics();
+    }
+  }
+
+  private static class StructWriter implements VectorWriter {
+    private final String[] names;
+    private final VectorWriter[] writers;
+    private final List<TripleWriter<?>> children;
+    private final FieldVector[] fieldVectors;
+    private FieldVector boundVector = null;
+
+    private StructWriter(String[] names, List<VectorWriter> writers) {
+      this.names = names;
+      this.writers = writers.toArray(new VectorWriter[0]);
+      this.children = allColumns(writers);
+      this.fieldVectors = new FieldVector[names.length];
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      bind(vector);
+      for (int i = 0; i < writers.length; i += 1) {
+        writers[i].write(repetitionLevel, fieldVectors[i], index);
+      }
+    }
+
+    @Override
+    public void writeRows(
+        FieldVector vector, ArrowBatch rows, int start, int end, int[] nullLevels) {
+      bind(vector);
+      for (int i = 0; i < writers.length; i += 1) {
+        writers[i].writeRows(fieldVectors[i], rows, start, end, nullLevels);
+      }
+    }
+
+    private void bind(FieldVector vector) {
+      if (vector != boundVector) {
+        StructVector struct = (StructVector) vector;
+        for (int i = 0; i < names.length; i += 1) {
+          fieldVectors[i] = struct.getChild(names[i]);
+          Preconditions.checkArgument(
+              fieldVectors[i] != null, "Cannot find vector for field: %s", names[i]);
+        }
+
+        this.boundVector = vector;
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return children;
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      for (VectorWriter writer : writers) {
+        writer.setColumnStore(columnStore);
+      }
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Arrays.stream(writers).flatMap(VectorWriter::metrics);
+    }
+  }
+
+  private static class ListWriter implements VectorWriter {
+    private final int definitionLevel;
+    private final int repetitionLevel;
+    private final VectorWriter writer;
+    private final List<TripleWriter<?>> children;
+
+    private ListWriter(int definitionLevel, int repetitionLevel, VectorWriter writer) {
+      this.definitionLevel = definitionLevel;
+      this.repetitionLevel = repetitionLevel;
+      this.writer = writer;
+      this.children = writer.columns();
+    }
+
+    @Override
+    public void write(int parentRepetition, FieldVector vector, int index) {
+      ListVector list = (ListVector) vector;
+      int start = list.getElementStartIndex(index);
+      int end = list.getElementEndIndex(index);
+      if (start == end) {
+        // write the empty list to each column
+        for (TripleWriter<?> column : children) {
+          column.writeNull(parentRepetition, definitionLevel - 1);
+        }
+
+      } else {
+        FieldVector elements = list.getDataVector();
+        writer.write(parentRepetition, elements, start);
+        for (int pos = start + 1; pos < end; pos += 1) {
+          writer.write(repetitionLevel, elements, pos);
+        }
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return children;
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      writer.setColumnStore(columnStore);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return writer.metrics();
+    }
+  }
+
+  /** Writes a map, which Arrow stores as a list of key-value structs. */
+  private static class MapWriter implements VectorWriter {
+    private final int definitionLevel;
+    private final int repetitionLevel;
+    private final VectorWriter keyWriter;
+    private final VectorWriter valueWriter;
+    private final List<TripleWriter<?>> children;
+    private FieldVector boundEntries = null;
+    private FieldVector keys = null;
+    private FieldVector values = null;
+
+    private MapWriter(
+        int definitionLevel,
+        int repetitionLevel,
+        VectorWriter keyWriter,
+        VectorWriter valueWriter) {
+      this.definitionLevel = definitionLevel;
+      this.repetitionLevel = repetitionLevel;
+      this.keyWriter = keyWriter;
+      this.valueWriter = valueWriter;
+      this.children =
+          ImmutableList.<TripleWriter<?>>builder()
+              .addAll(keyWriter.columns())
+              .addAll(valueWriter.columns())
+              .build();
+    }
+
+    @Override
+    public void write(int parentRepetition, FieldVector vector, int index) {
+      ListVector map = (ListVector) vector;
+      int start = map.getElementStartIndex(index);
+      int end = map.getElementEndIndex(index);
+      if (start == end) {
+        // write the empty map to each column
+        for (TripleWriter<?> column : children) {
+          column.writeNull(parentRepetition, definitionLevel - 1);
+        }
+
+      } else {
+        FieldVector entries = map.getDataVector();
+        if (entries != boundEntries) {
+          List<FieldVector> keyValue = ((StructVector) entries).getChildrenFromFields();
+          this.keys = keyValue.get(0);
+          this.values = keyValue.get(1);
+          this.boundEntries = entries;
+        }
+
+        for (int pos = start; pos < end; pos += 1) {
+          int rl = pos == start ? parentRepetition : repetitionLevel;
+          keyWriter.write(rl, keys, pos);
+          valueWriter.write(rl, values, pos);
+        }
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return children;
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      keyWriter.setColumnStore(columnStore);
+      valueWriter.setColumnStore(columnStore);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Stream.concat(keyWriter.metrics(), valueWriter.metrics());
+    }
+  }
+
+  private abstract static class PrimitiveWriter implements VectorWriter {
+    private final ParquetValueWriter<?> writer;
+
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    protected final TripleWriter<?> column;
+
+    private PrimitiveWriter(ColumnDescriptor desc) {
+      this.writer = ParquetValueWriters.unboxed(desc);
+      this.column = writer.columns().get(0);
+    }
+
+    @Override
+    public void writeRows(
+        FieldVector vector, ArrowBatch rows, int start, int end, int[] nullLevels) {
+      for (int pos = start; pos < end; pos += 1) {
+        if (nullLevels[pos] >= 0) {
+          column.writeNull(0, nullLevels[pos]);
+        } else {
+          write(0, vector, rows.rowId(pos));
+        }
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return writer.columns();
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      writer.setColumnStore(columnStore);
+    }
+  }
+
+  private static class BooleanWriter extends PrimitiveWriter {
+    private BooleanWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      column.writeBoolean(repetitionLevel, ((BitVector) vector).get(index) == 1);
+    }
+  }
+
+  private static class IntWriter extends PrimitiveWriter {
+    private IntWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      column.writeInteger(
+          repetitionLevel, vector.getDataBuffer().getInt((long) index * Integer.BYTES));
+    }
+  }
+
+  private static class LongWriter extends PrimitiveWriter {
+    private LongWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      column.writeLong(repetitionLevel, vector.getDataBuffer().getLong((long) index * Long.BYTES));
+    }
+  }
+
+  private static class FloatWriter extends PrimitiveWriter {
+    private final FloatFieldMetrics.Builder metricsBuilder;
+
+    private FloatWriter(ColumnDescriptor desc) {
+      super(desc);
+      this.metricsBuilder =
+          new FloatFieldMetrics.Builder(desc.getPrimitiveType().getId().intValue());
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      float value = vector.getDataBuffer().getFloat((long) index * Float.BYTES);
+      column.writeFloat(repetitionLevel, value);
+      metricsBuilder.addValue(value);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Stream.of(metricsBuilder.build());
+    }
+  }
+
+  private static class DoubleWriter extends PrimitiveWriter {
+    private final DoubleFieldMetrics.Builder metricsBuilder;
+
+    private DoubleWriter(ColumnDescriptor desc) {
+      super(desc);
+      this.metricsBuilder =
+          new DoubleFieldMetrics.Builder(desc.getPrimitiveType().getId().intValue());
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      double value = vector.getDataBuffer().getDouble((long) index * Double.BYTES);
+      column.writeDouble(repetitionLevel, value);
+      metricsBuilder.addValue(value);
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Stream.of(metricsBuilder.build());
+    }
+  }
+
+  /** Writes strings and binary, reusing a buffer because Parquet copies the bytes it keeps. */
+  private static class VariableWidthWriter extends PrimitiveWriter {
+    private byte[] buffer = new byte[64];
+
+    private VariableWidthWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      BaseVariableWidthVector values = (BaseVariableWidthVector) vector;
+      int length = values.getValueLength(index);
+      if (buffer.length < length) {
+        this.buffer = new byte[Math.max(length, buffer.length * 2)];
+      }
+
+      values.getDataBuffer().getBytes(values.getStartOffset(index), buffer, 0, length);
+      column.writeBinary(repetitionLevel, Binary.fromReusedByteArray(buffer, 0, length));
+    }
+  }
+
+  private static class FixedWidthWriter extends PrimitiveWriter {
+    private final byte[] buffer;
+
+    private FixedWidthWriter(ColumnDescriptor desc) {
+      super(desc);
+      this.buffer = new byte[desc.getPrimitiveType().getTypeLength()];
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      int width = ((FixedSizeBinaryVector) vector).getByteWidth();
+      Preconditions.checkArgument(
+          width == buffer.length, "Invalid fixed-width vector: %s bytes per value", width);
+      vector.getDataBuffer().getBytes((long) index * width, buffer, 0, width);
+      column.writeBinary(repetitionLevel, Binary.fromReusedByteArray(buffer, 0, width));
+    }
+  }
+
+  // Arrow stores decimals as 16-byte little-endian two's complement values, so the low bytes hold
+  // the unscaled value of decimals that fit in an int or a long
+
+  private static class IntDecimalWriter extends PrimitiveWriter {
+    private IntDecimalWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      column.writeInteger(repetitionLevel, vector.getDataBuffer().getInt((long) index * 16));
+    }
+  }
+
+  private static class LongDecimalWriter extends PrimitiveWriter {
+    private LongDecimalWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      column.writeLong(repetitionLevel, vector.getDataBuffer().getLong((long) index * 16));
+    }
+  }
+
+  /** Writes decimals as big-endian fixed-length two's complement values. */
+  private static class FixedDecimalWriter extends PrimitiveWriter {
+    private final byte[] littleEndian = new byte[16];
+    private final byte[] bigEndian;
+
+    private FixedDecimalWriter(ColumnDescriptor desc) {
+      super(desc);
+      this.bigEndian = new byte[desc.getPrimitiveType().getTypeLength()];
+    }
+
+    @Override
+    public void write(int repetitionLevel, FieldVector vector, int index) {
+      vector.getDataBuffer().getBytes((long) index * 16, littleEndian, 0, 16);
+      int length = bigEndian.length;
+      for (int i = 0; i < length; i += 1) {
+        bigEndian[length - 1 - i] = littleEndian[i];
+      }
+
+      column.writeBinary(repetitionLevel, Binary.fromReusedByteArray(bigEndian, 0, length));
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.Accessor;
+import org.apache.iceberg.PartitionField;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.io.PartitioningWriter;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/**
+ * Writes Arrow batches to a {@link PartitioningWriter}.
+ *
+ * <p>Partitions are computed for a whole batch one partition field at a time: the transform of a
+ * field is applied to its source column for all rows of the batch, and each distinct combination of
+ * transformed values gets a partition id. A {@link PartitionKey} is created once for each partition
+ * of a batch, and the rows of each partition are passed to the wrapped writer as a single {@link
+ * ArrowBatch}, which is written column by column. Batches may contain rows for any number of
+ * partitions, so the wrapped writer is usually a {@link org.apache.iceberg.io.FanoutDataWriter}.
+ *
+ * @param <R> the result type of the wrapped writer
+ */
+public class ArrowPartitioningWriter<R> implements Closeable {
+  private final PartitioningWriter<ArrowBatch, R> writer;
+  private final PartitionSpec spec;
+  private final ArrowRow row;
+  private final PartitionKey partitionKey;
+  private final Accessor<StructLike>[] accessors;
+  private final Function<Object, Object>[] transforms;
+  private final Map<Object, Integer> valueIds = Maps.newHashMap();
+  private final Map<Long, Integer> partitionIds = Maps.newHashMap();
+  private int[] rowPartitions = new int[0];
+  private int[] firstRows = new int[0];
+  private int[] sortedRows = new int[0];
+
+  @SuppressWarnings("unchecked")
+  public ArrowPartitioningWriter(
+      PartitioningWriter<ArrowBatch, R> writer, Schema schema, PartitionSpec spec) {
+    this.writer = writer;
+    this.spec = spec;
+    this.row = new ArrowRow(schema.asStruct());
+    this.partitionKey = new PartitionKey(spec, schema);
+
+    List<PartitionField> fields = spec.fields();
+    this.accessors = new Accessor[fields.size()];
+    this.transforms = new Function[fields.size()];
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      PartitionField field = fields.get(pos);
+      Accessor<StructLike> accessor = schema.accessorForField(field.sourceId());
+      Preconditions.checkArgument(
+          accessor != null, "Cannot build accessor for field: %s", field.sourceId());
+      accessors[pos] = accessor;
+      transforms[pos] = (Function<Object, Object>) field.transform().bind(accessor.type());
+    }
+  }
+
+  public void write(VectorSchemaRoot batch) {
+    int numRows = batch.getRowCount();
+    if (numRows == 0) {
+      return;
+    }
+
+    if (spec.isUnpartitioned()) {
+      writer.write(ArrowBatch.of(batch), spec, null);
+      return;
+    }
+
+    row.wrap(batch);
+    int numPartitions = assignPartitions(numRows);
+    if (numPartitions == 1) {
+      writer.write(ArrowBatch.of(batch), spec, partition(0));
+      return;
+    }
+
+    // sort the row ids by partition, keeping the order of rows within a partition
+    int[] offsets = new int[numPartitions + 1];
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      offsets[rowPartitions[rowId] + 1] += 1;
+    }
+
+    for (int id = 0; id < numPartitions; id += 1) {
+      offsets[id + 1] += offsets[id];
+    }
+
+    int[] starts = Arrays.copyOf(offsets, numPartitions);
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      int id = rowPartitions[rowId];
+      sortedRows[offsets[id]] = rowId;
+      offsets[id] += 1;
+    }
+
+    for (int id = 0; id < numPartitions; id += 1) {
+      writer.write(
+          ArrowBatch.of(batch, sortedRows, starts[id], offsets[id] - starts[id]),
+          spec,
+          partition(id));
+    }
+  }
+
+  /**
+   * Computes the partition of each row of the current batch, one partition field at a time.
+   *
+   * @return the number of partitions in the batch, whose ids are stored in {@link #rowPartitions}
+   */
+  private int assignPartitions(int numRows) {
+    if (rowPartitions.length < numRows) {
+      this.rowPartitions = new int[numRows];
+      this.firstRows = new int[numRows];
+      this.sortedRows = new int[numRows];
+    }
+
+    Arrays.fill(rowPartitions, 0, numRows, 0);
+    int numPartitions = 1;
+    for (int pos = 0; pos < transforms.length; pos += 1) {
+      Accessor<StructLike> accessor = accessors[pos];
+      Function<Object, Object> transform = transforms[pos];
+
+      // combine the partition id so far with the id of the transformed value of this field
+      valueIds.clear();
+      partitionIds.clear();
+      for (int rowId = 0; rowId < numRows; rowId += 1) {
+        Object value = transform.apply(accessor.get(row.setRowId(rowId)));
+        Integer valueId = valueIds.get(value);
+        if (valueId == null) {
+          valueId = valueIds.size();
+          valueIds.put(value, valueId);
+        }
+
+        long key = ((long) rowPartitions[rowId] << 32) | valueId;
+        Integer id = partitionIds.get(key);
+        if (id == null) {
+          id = partitionIds.size();
+          partitionIds.put(key, id);
+          firstRows[id] = rowId;
+        }
+
+        rowPartitions[rowId] = id;
+      }
+
+      numPartitions = partitionIds.size();
+    }
+
+    return numPartitions;
+  }
+
+  /** Returns the key of a partition of the current batch from its first row. */
+  private PartitionKey partition(int id) {
+    partitionKey.partition(row.setRowId(firstRows[id]));
+    return partitionKey.copy();
+  }
+
+  public R result() {
+    return writer.result();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.writer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.types.Types.MinorType;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * A row of an Arrow batch that exposes values in Iceberg's internal representation.
+ *
+ * <p>A row is a cursor that is reused for all rows of a batch: {@link #wrap(VectorSchemaRoot)}
+ * binds it to the vectors of a batch and {@link #setRowId(int)} moves it to a row. Vectors are
+ * matched to fields by name and must have the types produced by {@link
+ * ArrowSchemaUtil#convert(org.apache.iceberg.Schema)}.
+ */
+public class ArrowRow implements StructLike {
+  private final List<Types.NestedField> fields;
+  private final Type[] types;
+  private final FieldVector[] vectors;
+  private final ArrowRow[] structs;
+  private int rowId = 0;
+
+  public ArrowRow(Types.StructType struct) {
+    this.fields = struct.fields();
+    this.types = fields.stream().map(Types.NestedField::type).toArray(Type[]::new);
+    this.vectors = new FieldVector[fields.size()];
+    this.structs = new ArrowRow[fields.size()];
+    for (int pos = 0; pos < types.length; pos += 1) {
+      if (types[pos].isStructType()) {
+        structs[pos] = new ArrowRow(types[pos].asStructType());
+      }
+    }
+  }
+
+  /** Binds this row to the vectors of a batch. */
+  public ArrowRow wrap(VectorSchemaRoot root) {
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      bind(pos, root.getVector(fields.get(pos).name()));
+    }
+
+    return this;
+  }
+
+  private void wrap(StructVector struct) {
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      bind(pos, struct.getChild(fields.get(pos).name()));
+    }
+  }
+
+  private void bind(int pos, FieldVector vector) {
+    Types.NestedField field = fields.get(pos);
+    Preconditions.checkArgument(vector != null, "Cannot find vector for field: %s", field.name());
+    MinorType expected =
+        org.apache.arrow.vector.types.Types.getMinorTypeForArrowType(
+            ArrowSchemaUtil.convert(field).getType());
+    Preconditions.checkArgument(
+        vector.getMinorType() == expected,
+        "Invalid vector for field %s: expected %s but was %s",
+        field.name(),
+        expected,
+        vector.getMinorType());
+
+    vectors[pos] = vector;
+    if (structs[pos] != null) {
+      structs[pos].wrap((StructVector) vector);
+    }
+  }
+
+  /** Moves this row to a row of the batch. */
+  public ArrowRow setRowId(int newRowId) {
+    this.rowId = newRowId;
+    return this;
+  }
+
+  public int rowId() {
+    return rowId;
+  }
+
+  FieldVector vector(int pos) {
+    return vectors[pos];
+  }
+
+  @Override
+  public int size() {
+    return vectors.length;
+  }
+
+  @Override
+  public <T> T get(int pos, Class<T> javaClass) {
+    return javaClass.cast(get(pos));
+  }
+
+  private Object get(int pos) {
+    FieldVector vector = vectors[pos];
+    if (vector.isNull(rowId)) {
+      return null;
+    }
+
+    switch (types[pos].typeId()) {
+      case BOOLEAN:
+        return ((BitVector) vector).get(rowId) == 1;
+      case INTEGER:
+        return ((IntVector) vector).get(rowId);
+      case DATE:
+        return ((DateDayVector) vector).get(rowId);
+      case LONG:
+        return ((BigIntVector) vector).get(rowId);
+      case TIME:
+        return ((TimeMicroVector) vector).get(rowId);
+      case TIMESTAMP:
+        return ((TimeStampVector) vector).get(rowId);
+      case FLOAT:
+        return ((Float4Vector) vector).get(rowId);
+      case DOUBLE:
+        return ((Float8Vector) vector).get(rowId);
+      case STRING:
+        return new String(((VarCharVector) vector).get(rowId), StandardCharsets.UTF_8);
+      case BINARY:
+        return ByteBuffer.wrap(((VarBinaryVector) vector).get(rowId));
+      case FIXED:
+        return ByteBuffer.wrap(((FixedSizeBinaryVector) vector).get(rowId));
+      case UUID:
+        return UUIDUtil.convert(((FixedSizeBinaryVector) vector).get(rowId));
+      case DECIMAL:
+        return ((DecimalVector) vector).getObject(rowId);
+      case STRUCT:
+        return structs[pos].setRowId(rowId);
+      default:
+        throw new UnsupportedOperationException(
+            "Cannot return values of type as StructLike field: " + types[pos]);
+    }
+  }
+
+  @Override
+  public <T> void set(int pos, T value) {
+    throw new UnsupportedOperationException("ArrowRow is read-only");
+  }
+}
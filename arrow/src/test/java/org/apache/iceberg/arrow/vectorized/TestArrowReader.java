@@ -35,6 +35,7 @@ import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -55,6 +56,9 @@ import org.apache.arrow.vector.TimeStampMicroVector;
 import org.apache.arrow.vector.VarBinaryVector;
 import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
 import org.apache.arrow.vector.types.Types.MinorType;
 import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
@@ -69,21 +73,37 @@ import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
+import org.apache.iceberg.arrow.ArrowAllocation;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.orc.GenericOrcWriter;
 import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.deletes.PositionDelete;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
+import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.UUIDUtil;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -262,10 +282,1026 @@ public class TestArrowReader {
         scan, NUM_ROWS_PER_MONTH, 12 * NUM_ROWS_PER_MONTH, ImmutableList.of("timestamp"));
   }
 
+  /**
+   * Read selected columns with late materialization. Rows that do not match the residual filter are
+   * removed before the other columns are decoded. The test asserts that only matching rows are
+   * returned and that the lazily read columns stay aligned with the filter column.
+   */
+  @Test
+  public void testReadWithLateMaterialization() throws Exception {
+    writeTableWithIncrementalRecords();
+    Table table = tables.load(tableLocation);
+    TableScan scan =
+        table
+            .newScan()
+            .select("int", "long", "string", "bytes_nullable")
+            .filter(Expressions.in("int", 3, 17));
+    int totalRows = 0;
+    try (VectorizedTableScanIterable itr = new VectorizedTableScanIterable(scan, 5, false, true)) {
+      for (ColumnarBatch batch : itr) {
+        assertThat(batch.numRows()).isGreaterThan(0);
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          int value = batch.column(0).getInt(rowId);
+          assertThat(value).isIn(3, 17);
+          assertThat(batch.column(1).getLong(rowId)).isEqualTo(value * 2L);
+          assertThat(batch.column(2).getString(rowId)).isEqualTo("String-" + value);
+          assertThat(batch.column(3).getBinary(rowId))
+              .isEqualTo(("Bytes-" + value).getBytes(StandardCharsets.UTF_8));
+        }
+
+        totalRows += batch.numRows();
+      }
+    }
+
+    assertThat(totalRows).isEqualTo(24);
+  }
+
+  @Test
+  public void testReadWithLateMaterializationColumnAndRowFilters() throws Exception {
+    writeTableWithIncrementalRecords();
+    Table table = tables.load(tableLocation);
+    // the string filter is evaluated on the dictionary and the filter on int and long per row
+    TableScan scan =
+        table
+            .newScan()
+            .select("int", "long", "string", "bytes_nullable")
+            .filter(
+                Expressions.and(
+                    Expressions.startsWith("string", "String-1"),
+                    Expressions.or(Expressions.equal("int", 12), Expressions.equal("long", 30L))));
+    int totalRows = 0;
+    try (VectorizedTableScanIterable itr = new VectorizedTableScanIterable(scan, 5, false, true)) {
+      for (ColumnarBatch batch : itr) {
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          int value = batch.column(0).getInt(rowId);
+          assertThat(value).isIn(12, 15);
+          assertThat(batch.column(1).getLong(rowId)).isEqualTo(value * 2L);
+          assertThat(batch.column(2).getString(rowId)).isEqualTo("String-" + value);
+          assertThat(batch.column(3).getBinary(rowId))
+              .isEqualTo(("Bytes-" + value).getBytes(StandardCharsets.UTF_8));
+        }
+
+        totalRows += batch.numRows();
+      }
+    }
+
+    assertThat(totalRows).isEqualTo(24);
+  }
+
+  /**
+   * Read a file using a filter on a dictionary-encoded column and check the rows that the other
+   * columns read. The filter column is decoded in full, but the other columns are given only the
+   * matching rows and skip the others without decoding them.
+   */
+  @Test
+  public void testLateMaterializationSkipsRows() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.required(2, "category", Types.StringType.get()),
+            Types.NestedField.optional(3, "value", Types.LongType.get()));
+
+    int numRows = 1000;
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < numRows; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      // runs of 50 rows, so that some pages of the other columns have no matching rows
+      record.setField("category", "category-" + (id / 50) % 4);
+      record.setField("value", id % 7 == 0 ? null : id * 3L);
+      records.add(record);
+    }
+
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+    FileAppender<GenericRecord> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::create)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "20")
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    Map<String, List<Long>> selectedRows = Maps.newHashMap();
+    Expression filter = Expressions.equal("category", "category-1");
+    List<Integer> actualIds = Lists.newArrayList();
+    try (CloseableIterable<ColumnarBatch> batches =
+        Parquet.read(localInput(parquetFile))
+            .project(schema)
+            .createBatchedReaderFunc(
+                fileSchema ->
+                    TypeWithSchemaVisitor.visit(
+                        schema.asStruct(),
+                        fileSchema,
+                        new SelectionRecordingReaderBuilder(
+                            schema, fileSchema, filter, selectedRows)))
+            .recordsPerBatch(64)
+            .build()) {
+      for (ColumnarBatch batch : batches) {
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          int id = batch.column(0).getInt(rowId);
+          actualIds.add(id);
+          assertThat(batch.column(1).getString(rowId)).isEqualTo("category-1");
+          if (id % 7 == 0) {
+            assertThat(batch.column(2).isNullAt(rowId)).isTrue();
+          } else {
+            assertThat(batch.column(2).getLong(rowId)).isEqualTo(id * 3L);
+          }
+        }
+      }
+    }
+
+    List<Long> expectedRows = Lists.newArrayList();
+    for (int id = 0; id < numRows; id += 1) {
+      if ((id / 50) % 4 == 1) {
+        expectedRows.add((long) id);
+      }
+    }
+
+    assertThat(actualIds).hasSize(expectedRows.size());
+    // the filter column has no selection and the other columns read only the matching rows
+    assertThat(selectedRows).containsOnlyKeys("id", "value");
+    assertThat(selectedRows.get("id")).isEqualTo(expectedRows);
+    assertThat(selectedRows.get("value")).isEqualTo(expectedRows);
+  }
+
+  /**
+   * Builds readers that record the rows that each column is given to read when rows are selected.
+   */
+  private static class SelectionRecordingReaderBuilder extends VectorizedReaderBuilder {
+    private final Schema expectedSchema;
+    private final MessageType fileSchema;
+    private final Map<String, List<Long>> selectedRows;
+
+    private SelectionRecordingReaderBuilder(
+        Schema expectedSchema,
+        MessageType fileSchema,
+        Expression filter,
+        Map<String, List<Long>> selectedRows) {
+      super(
+          expectedSchema,
+          fileSchema,
+          true,
+          ImmutableMap.of(),
+          readers -> new ArrowBatchReader(readers, expectedSchema, filter, true, null));
+      this.expectedSchema = expectedSchema;
+      this.fileSchema = fileSchema;
+      this.selectedRows = selectedRows;
+    }
+
+    @Override
+    public VectorizedReader<?> primitive(
+        org.apache.iceberg.types.Type.PrimitiveType expected, PrimitiveType primitive) {
+      ColumnDescriptor desc = fileSchema.getColumnDescription(currentPath());
+      Types.NestedField field = expectedSchema.findField(primitive.getId().intValue());
+      return new VectorizedArrowReader(desc, field, ArrowAllocation.rootAllocator(), true) {
+        @Override
+        void setRowSelection(PrimitiveIterator.OfLong rowIndexes) {
+          List<Long> rows = Lists.newArrayList();
+          selectedRows.put(field.name(), rows);
+          super.setRowSelection(
+              new PrimitiveIterator.OfLong() {
+                @Override
+                public boolean hasNext() {
+                  return rowIndexes.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                  long rowIndex = rowIndexes.nextLong();
+                  rows.add(rowIndex);
+                  return rowIndex;
+                }
+              });
+        }
+      };
+    }
+  }
+
+  /**
+   * Read a file with small pages using a filter that selects a few pages of the id column. The
+   * other columns have different page boundaries, so the rows before and after the selected ranges
+   * are skipped within their pages. Dictionary encoded, plain and nullable columns are covered
+   * because each one is skipped differently.
+   */
+  @Test
+  public void testReadWithPageFiltering() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.required(2, "category", Types.StringType.get()),
+            Types.NestedField.optional(3, "value", Types.LongType.get()),
+            Types.NestedField.optional(4, "name", Types.StringType.get()),
+            Types.NestedField.required(5, "flag", Types.BooleanType.get()));
+    tables = new HadoopTables();
+    Table table = tables.create(schema, PartitionSpec.unpartitioned(), tableLocation);
+
+    int numRows = 1000;
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < numRows; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      record.setField("category", "category-" + id % 4);
+      record.setField("value", id % 7 == 0 ? null : id * 3L);
+      record.setField("name", id % 5 == 0 ? null : "name-" + id);
+      record.setField("flag", id % 3 == 0);
+      records.add(record);
+    }
+
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+    // category stays dictionary encoded while value and name fall back to plain encoding, and
+    // checking the page size after every row gives each column its own page boundaries
+    FileAppender<GenericRecord> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::create)
+            .set(TableProperties.PARQUET_PAGE_SIZE_BYTES, "256")
+            .set(TableProperties.PARQUET_DICT_SIZE_BYTES, "128")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "1")
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    table
+        .newAppend()
+        .appendFile(
+            DataFiles.builder(table.spec())
+                .withInputFile(localInput(parquetFile))
+                .withMetrics(appender.metrics())
+                .withFormat(FileFormat.PARQUET)
+                .build())
+        .commit();
+
+    TableScan scan =
+        table
+            .newScan()
+            .filter(
+                Expressions.or(
+                    Expressions.and(
+                        Expressions.greaterThanOrEqual("id", 300), Expressions.lessThan("id", 320)),
+                    Expressions.and(
+                        Expressions.greaterThanOrEqual("id", 700),
+                        Expressions.lessThan("id", 705))));
+
+    List<Integer> actualIds = Lists.newArrayList();
+    try (VectorizedTableScanIterable itr = new VectorizedTableScanIterable(scan, 16, false)) {
+      for (ColumnarBatch batch : itr) {
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          int id = batch.column(0).getInt(rowId);
+          actualIds.add(id);
+          assertThat(batch.column(1).getString(rowId)).isEqualTo("category-" + id % 4);
+          if (id % 7 == 0) {
+            assertThat(batch.column(2).isNullAt(rowId)).isTrue();
+          } else {
+            assertThat(batch.column(2).getLong(rowId)).isEqualTo(id * 3L);
+          }
+
+          if (id % 5 == 0) {
+            assertThat(batch.column(3).isNullAt(rowId)).isTrue();
+          } else {
+            assertThat(batch.column(3).getString(rowId)).isEqualTo("name-" + id);
+          }
+
+          assertThat(batch.column(4).getBoolean(rowId)).isEqualTo(id % 3 == 0);
+        }
+      }
+    }
+
+    // only the pages of id that may contain matching rows are read, in file order
+    assertThat(actualIds).isSorted().doesNotHaveDuplicates().hasSizeLessThan(numRows / 2);
+    for (int id = 300; id < 320; id += 1) {
+      assertThat(actualIds).contains(id);
+    }
+
+    for (int id = 700; id < 705; id += 1) {
+      assertThat(actualIds).contains(id);
+    }
+  }
+
+  @Test
+  public void testReadNestedTypes() throws Exception {
+    readNestedTypes(20, ImmutableMap.of(), 3);
+  }
+
+  @Test
+  public void testReadNestedTypesAcrossPages() throws Exception {
+    // small pages so that batches of rows span several pages of each leaf column
+    readNestedTypes(1000, ImmutableMap.of(TableProperties.PARQUET_PAGE_ROW_LIMIT, "10"), 64);
+  }
+
+  private void readNestedTypes(int numRecords, Map<String, String> properties, int batchSize)
+      throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.optional(
+                2,
+                "struct",
+                Types.StructType.of(
+                    Types.NestedField.optional(3, "a", Types.IntegerType.get()),
+                    Types.NestedField.optional(4, "b", Types.StringType.get()))),
+            Types.NestedField.optional(
+                5, "list", Types.ListType.ofOptional(6, Types.LongType.get())),
+            Types.NestedField.optional(
+                7,
+                "map",
+                Types.MapType.ofOptional(8, 9, Types.StringType.get(), Types.IntegerType.get())));
+    tables = new HadoopTables();
+    Table table = tables.create(schema, PartitionSpec.unpartitioned(), tableLocation);
+
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < numRecords; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      if (id % 4 != 0) {
+        GenericRecord struct = GenericRecord.create(schema.findType("struct").asStructType());
+        struct.setField("a", id);
+        struct.setField("b", id % 3 == 0 ? null : "b-" + id);
+        record.setField("struct", struct);
+      }
+
+      record.setField("list", expectedList(id));
+      record.setField("map", expectedMap(id));
+      records.add(record);
+    }
+
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+    FileAppender<GenericRecord> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(schema)
+            .setAll(properties)
+            .createWriterFunc(GenericParquetWriter::create)
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    table
+        .newAppend()
+        .appendFile(
+            DataFiles.builder(table.spec())
+                .withInputFile(localInput(parquetFile))
+                .withMetrics(appender.metrics())
+                .withFormat(FileFormat.PARQUET)
+                .build())
+        .commit();
+
+    int totalRows = 0;
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan(), batchSize, true)) {
+      for (ColumnarBatch batch : itr) {
+        StructVector structVector = (StructVector) batch.column(1).getFieldVector();
+        ListVector listVector = (ListVector) batch.column(2).getFieldVector();
+        MapVector mapVector = (MapVector) batch.column(3).getFieldVector();
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          int id = batch.column(0).getInt(rowId);
+          if (id % 4 == 0) {
+            assertThat(batch.column(1).isNullAt(rowId)).isTrue();
+          } else {
+            assertThat(batch.column(1).isNullAt(rowId)).isFalse();
+            assertThat(((IntVector) structVector.getChild("a")).get(rowId)).isEqualTo(id);
+            VarCharVector strings = (VarCharVector) structVector.getChild("b");
+            if (id % 3 == 0) {
+              assertThat(strings.isNull(rowId)).isTrue();
+            } else {
+              assertThat(strings.getObject(rowId).toString()).isEqualTo("b-" + id);
+            }
+          }
+
+          assertThat(listVector.getObject(rowId)).isEqualTo(expectedList(id));
+
+          Map<String, Integer> map = null;
+          if (!mapVector.isNull(rowId)) {
+            map = Maps.newHashMap();
+            for (Object entry : mapVector.getObject(rowId)) {
+              Map<?, ?> keyValue = (Map<?, ?>) entry;
+              map.put(
+                  keyValue.get(MapVector.KEY_NAME).toString(),
+                  (Integer) keyValue.get(MapVector.VALUE_NAME));
+            }
+          }
+
+          assertThat(map).isEqualTo(expectedMap(id));
+        }
+
+        totalRows += batch.numRows();
+      }
+    }
+
+    assertThat(totalRows).isEqualTo(numRecords);
+  }
+
+  /** Returns null, empty and non-empty lists, some with null elements. */
+  private static List<Long> expectedList(int id) {
+    if (id % 5 == 0) {
+      return null;
+    }
+
+    List<Long> list = Lists.newArrayList();
+    for (int pos = 0; pos < id % 5 - 1; pos += 1) {
+      list.add(id % 5 == 4 && pos == 1 ? null : id * 10L + pos);
+    }
+
+    return list;
+  }
+
+  /** Returns null, empty and non-empty maps, some with null values. */
+  private static Map<String, Integer> expectedMap(int id) {
+    if (id % 3 == 0) {
+      return null;
+    }
+
+    Map<String, Integer> map = Maps.newHashMap();
+    if (id % 3 == 2) {
+      map.put("key-" + id, id);
+      map.put("null-" + id, null);
+    }
+
+    return map;
+  }
+
   /**
    * The test asserts that {@link CloseableIterator#hasNext()} returned by the {@link ArrowReader}
    * is idempotent.
    */
+  @Test
+  public void testReadWithDeletes() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.optional(2, "data", Types.StringType.get()));
+    tables = new HadoopTables();
+    Table table = tables.create(schema, PartitionSpec.unpartitioned(), tableLocation);
+
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < 20; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      record.setField("data", "data-" + id);
+      records.add(record);
+    }
+
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+    FileAppender<GenericRecord> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::create)
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    DataFile dataFile =
+        DataFiles.builder(table.spec())
+            .withInputFile(localInput(parquetFile))
+            .withMetrics(appender.metrics())
+            .withFormat(FileFormat.PARQUET)
+            .build();
+    table.newAppend().appendFile(dataFile).commit();
+
+    File posDeleteFile = File.createTempFile("junit", null, tempDir);
+    assertThat(posDeleteFile.delete()).isTrue();
+    PositionDeleteWriter<Record> posDeleteWriter =
+        Parquet.writeDeletes(Files.localOutput(posDeleteFile))
+            .createWriterFunc(GenericParquetWriter::create)
+            .withSpec(table.spec())
+            .buildPositionWriter();
+    PositionDelete<Record> positionDelete = PositionDelete.create();
+    try (PositionDeleteWriter<Record> writer = posDeleteWriter) {
+      for (long pos : new long[] {1L, 3L, 5L}) {
+        writer.write(positionDelete.set(dataFile.location(), pos, null));
+      }
+    }
+
+    Schema deleteSchema = table.schema().select("id");
+    File eqDeleteFile = File.createTempFile("junit", null, tempDir);
+    assertThat(eqDeleteFile.delete()).isTrue();
+    EqualityDeleteWriter<Record> eqDeleteWriter =
+        Parquet.writeDeletes(Files.localOutput(eqDeleteFile))
+            .createWriterFunc(GenericParquetWriter::create)
+            .rowSchema(deleteSchema)
+            .withSpec(table.spec())
+            .equalityFieldIds(1)
+            .buildEqualityWriter();
+    try (EqualityDeleteWriter<Record> writer = eqDeleteWriter) {
+      for (int id : new int[] {10, 11}) {
+        GenericRecord delete = GenericRecord.create(deleteSchema);
+        delete.setField("id", id);
+        writer.write(delete);
+      }
+    }
+
+    table
+        .newRowDelta()
+        .addDeletes(posDeleteWriter.toDeleteFile())
+        .addDeletes(eqDeleteWriter.toDeleteFile())
+        .commit();
+
+    // id is read to apply the equality deletes but is not returned
+    List<String> expected = Lists.newArrayList();
+    for (int id = 0; id < 20; id += 1) {
+      if (id != 1 && id != 3 && id != 5 && id != 10 && id != 11) {
+        expected.add("data-" + id);
+      }
+    }
+
+    List<String> actual = Lists.newArrayList();
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan().select("data"), 4, false)) {
+      for (ColumnarBatch batch : itr) {
+        assertThat(batch.numCols()).isEqualTo(1);
+        assertThat(batch.numRows()).isGreaterThan(0);
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          actual.add(batch.column(0).getString(rowId));
+        }
+      }
+    }
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void testReadWithEqualityDeleteSets() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.optional(2, "category", Types.StringType.get()));
+    tables = new HadoopTables();
+    Table table = tables.create(schema, PartitionSpec.unpartitioned(), tableLocation);
+
+    // category is dictionary encoded and deleted rows are probed by dictionary entry
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < 100; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      record.setField("category", id % 10 == 9 ? null : "category-" + (id % 5));
+      records.add(record);
+    }
+
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+    FileAppender<GenericRecord> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::create)
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    DataFile dataFile =
+        DataFiles.builder(table.spec())
+            .withInputFile(localInput(parquetFile))
+            .withMetrics(appender.metrics())
+            .withFormat(FileFormat.PARQUET)
+            .build();
+    table.newAppend().appendFile(dataFile).commit();
+
+    Schema categorySchema = table.schema().select("category");
+    File categoryDeleteFile = File.createTempFile("junit", null, tempDir);
+    assertThat(categoryDeleteFile.delete()).isTrue();
+    EqualityDeleteWriter<Record> categoryDeleteWriter =
+        Parquet.writeDeletes(Files.localOutput(categoryDeleteFile))
+            .createWriterFunc(GenericParquetWriter::create)
+            .rowSchema(categorySchema)
+            .withSpec(table.spec())
+            .equalityFieldIds(2)
+            .buildEqualityWriter();
+    try (EqualityDeleteWriter<Record> writer = categoryDeleteWriter) {
+      for (String category : new String[] {"category-1", null}) {
+        GenericRecord delete = GenericRecord.create(categorySchema);
+        delete.setField("category", category);
+        writer.write(delete);
+      }
+    }
+
+    Schema idSchema = table.schema().select("id");
+    File idDeleteFile = File.createTempFile("junit", null, tempDir);
+    assertThat(idDeleteFile.delete()).isTrue();
+    EqualityDeleteWriter<Record> idDeleteWriter =
+        Parquet.writeDeletes(Files.localOutput(idDeleteFile))
+            .createWriterFunc(GenericParquetWriter::create)
+            .rowSchema(idSchema)
+            .withSpec(table.spec())
+            .equalityFieldIds(1)
+            .buildEqualityWriter();
+    try (EqualityDeleteWriter<Record> writer = idDeleteWriter) {
+      for (int id : new int[] {0, 1, 42, 50}) {
+        GenericRecord delete = GenericRecord.create(idSchema);
+        delete.setField("id", id);
+        writer.write(delete);
+      }
+    }
+
+    table
+        .newRowDelta()
+        .addDeletes(categoryDeleteWriter.toDeleteFile())
+        .addDeletes(idDeleteWriter.toDeleteFile())
+        .commit();
+
+    List<Integer> expected = Lists.newArrayList();
+    for (int id = 0; id < 100; id += 1) {
+      boolean categoryDeleted = id % 10 == 9 || id % 5 == 1;
+      boolean idDeleted = id == 0 || id == 1 || id == 42 || id == 50;
+      if (!categoryDeleted && !idDeleted) {
+        expected.add(id);
+      }
+    }
+
+    List<Integer> actual = Lists.newArrayList();
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan().select("id"), 16, false)) {
+      for (ColumnarBatch batch : itr) {
+        assertThat(batch.numCols()).isEqualTo(1);
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          actual.add(batch.column(0).getInt(rowId));
+        }
+      }
+    }
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void testReadOrcWithDeletes() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.optional(2, "data", Types.StringType.get()),
+            Types.NestedField.optional(
+                3, "values", Types.ListType.ofOptional(4, Types.LongType.get())));
+    tables = new HadoopTables();
+    Table table = tables.create(schema, PartitionSpec.unpartitioned(), tableLocation);
+
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < 20; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      record.setField("data", id % 4 == 0 ? null : "data-" + id);
+      record.setField("values", id % 5 == 0 ? null : ImmutableList.of((long) id, id * 10L));
+      records.add(record);
+    }
+
+    File orcFile = File.createTempFile("junit", null, tempDir);
+    assertThat(orcFile.delete()).isTrue();
+    FileAppender<GenericRecord> appender =
+        ORC.write(Files.localOutput(orcFile))
+            .schema(schema)
+            .createWriterFunc(GenericOrcWriter::buildWriter)
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    DataFile dataFile =
+        DataFiles.builder(table.spec())
+            .withInputFile(localInput(orcFile))
+            .withMetrics(appender.metrics())
+            .withFormat(FileFormat.ORC)
+            .build();
+    table.newAppend().appendFile(dataFile).commit();
+
+    File posDeleteFile = File.createTempFile("junit", null, tempDir);
+    assertThat(posDeleteFile.delete()).isTrue();
+    PositionDeleteWriter<Record> posDeleteWriter =
+        Parquet.writeDeletes(Files.localOutput(posDeleteFile))
+            .createWriterFunc(GenericParquetWriter::create)
+            .withSpec(table.spec())
+            .buildPositionWriter();
+    PositionDelete<Record> positionDelete = PositionDelete.create();
+    try (PositionDeleteWriter<Record> writer = posDeleteWriter) {
+      for (long pos : new long[] {1L, 3L, 5L, 6L}) {
+        writer.write(positionDelete.set(dataFile.location(), pos, null));
+      }
+    }
+
+    table.newRowDelta().addDeletes(posDeleteWriter.toDeleteFile()).commit();
+
+    List<Integer> expectedIds = Lists.newArrayList();
+    for (int id = 0; id < 20; id += 1) {
+      if (id != 1 && id != 3 && id != 5 && id != 6) {
+        expectedIds.add(id);
+      }
+    }
+
+    List<Integer> actualIds = Lists.newArrayList();
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan(), 4, true)) {
+      for (ColumnarBatch batch : itr) {
+        assertThat(batch.numCols()).isEqualTo(3);
+        assertThat(batch.numRows()).isGreaterThan(0);
+        ListVector values = (ListVector) batch.column(2).getFieldVector();
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          int id = batch.column(0).getInt(rowId);
+          actualIds.add(id);
+          if (id % 4 == 0) {
+            assertThat(batch.column(1).isNullAt(rowId)).isTrue();
+          } else {
+            assertThat(batch.column(1).getString(rowId)).isEqualTo("data-" + id);
+          }
+
+          if (id % 5 == 0) {
+            assertThat(batch.column(2).isNullAt(rowId)).isTrue();
+          } else {
+            assertThat(values.getObject(rowId)).containsExactly((long) id, id * 10L);
+          }
+        }
+      }
+    }
+
+    assertThat(actualIds).isEqualTo(expectedIds);
+  }
+
+  /**
+   * The residual filter is pushed down to ORC as a search argument. ORC skips row groups whose
+   * statistics do not match, but rows of the row groups that are read are not filtered.
+   */
+  @Test
+  public void testReadOrcWithFilterPushdown() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.optional(2, "data", Types.StringType.get()));
+    tables = new HadoopTables();
+    Table table = tables.create(schema, PartitionSpec.unpartitioned(), tableLocation);
+
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < 3000; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      record.setField("data", "data-" + id);
+      records.add(record);
+    }
+
+    appendOrcFile(table, records, ImmutableMap.of("orc.row.index.stride", "1000"));
+
+    List<Integer> actualIds = Lists.newArrayList();
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(
+            table.newScan().filter(Expressions.greaterThanOrEqual("id", 2500)), 256, false)) {
+      for (ColumnarBatch batch : itr) {
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          int id = batch.column(0).getInt(rowId);
+          actualIds.add(id);
+          assertThat(batch.column(1).getString(rowId)).isEqualTo("data-" + id);
+        }
+      }
+    }
+
+    // only the last row group of 1000 rows may contain matching rows
+    List<Integer> expectedIds = Lists.newArrayList();
+    for (int id = 2000; id < 3000; id += 1) {
+      expectedIds.add(id);
+    }
+
+    assertThat(actualIds).isEqualTo(expectedIds);
+  }
+
+  /**
+   * Read a subset of the ORC columns with and without reusing containers. Only the projected
+   * columns are returned, and the batch vectors are reused only when containers are reused.
+   */
+  @Test
+  public void testReadOrcProjection() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.optional(2, "data", Types.StringType.get()),
+            Types.NestedField.optional(3, "value", Types.LongType.get()));
+    tables = new HadoopTables();
+    Table table = tables.create(schema, PartitionSpec.unpartitioned(), tableLocation);
+
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < 20; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      record.setField("data", "data-" + id);
+      record.setField("value", id % 3 == 0 ? null : id * 10L);
+      records.add(record);
+    }
+
+    appendOrcFile(table, records, ImmutableMap.of());
+
+    for (boolean reuseContainers : new boolean[] {true, false}) {
+      List<Integer> actualIds = Lists.newArrayList();
+      Set<FieldVector> vectors = Sets.newIdentityHashSet();
+      int numBatches = 0;
+      try (VectorizedTableScanIterable itr =
+          new VectorizedTableScanIterable(
+              table.newScan().select("value", "id"), 6, reuseContainers)) {
+        for (ColumnarBatch batch : itr) {
+          numBatches += 1;
+          assertThat(batch.numCols()).isEqualTo(2);
+          vectors.add(batch.column(0).getFieldVector());
+          for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+            // columns are returned in table schema order
+            int id = batch.column(0).getInt(rowId);
+            actualIds.add(id);
+            if (id % 3 == 0) {
+              assertThat(batch.column(1).isNullAt(rowId)).isTrue();
+            } else {
+              assertThat(batch.column(1).getLong(rowId)).isEqualTo(id * 10L);
+            }
+          }
+        }
+      }
+
+      assertThat(actualIds).hasSize(20).isSorted();
+      assertThat(numBatches).isEqualTo(4);
+      assertThat(vectors).hasSize(reuseContainers ? 1 : numBatches);
+    }
+  }
+
+  /** Read ORC columns that are converted to struct, map, timestamp, decimal and fixed vectors. */
+  @Test
+  public void testReadOrcConvertedTypes() throws Exception {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.optional(2, "ts_tz", Types.TimestampType.withZone()),
+            Types.NestedField.optional(3, "ts", Types.TimestampType.withoutZone()),
+            Types.NestedField.optional(4, "small_decimal", Types.DecimalType.of(9, 2)),
+            Types.NestedField.optional(5, "big_decimal", Types.DecimalType.of(38, 10)),
+            Types.NestedField.optional(
+                6,
+                "struct",
+                Types.StructType.of(
+                    Types.NestedField.required(7, "a", Types.IntegerType.get()),
+                    Types.NestedField.optional(8, "fixed", Types.FixedType.ofLength(4)))),
+            Types.NestedField.optional(
+                9,
+                "map",
+                Types.MapType.ofOptional(10, 11, Types.StringType.get(), Types.LongType.get())),
+            Types.NestedField.optional(12, "uuid", Types.UUIDType.get()));
+    tables = new HadoopTables();
+    Table table = tables.create(schema, PartitionSpec.unpartitioned(), tableLocation);
+
+    List<GenericRecord> records = Lists.newArrayList();
+    for (int id = 0; id < 10; id += 1) {
+      GenericRecord record = GenericRecord.create(schema);
+      record.setField("id", id);
+      if (id % 4 != 0) {
+        record.setField("ts_tz", orcTimestamp(id).atOffset(ZoneOffset.UTC));
+        record.setField("ts", orcTimestamp(id));
+        record.setField("small_decimal", orcSmallDecimal(id));
+        record.setField("big_decimal", orcBigDecimal(id));
+        GenericRecord struct = GenericRecord.create(schema.findType("struct").asStructType());
+        struct.setField("a", id);
+        struct.setField("fixed", id % 3 == 0 ? null : orcFixed(id));
+        record.setField("struct", struct);
+        record.setField("uuid", orcUuid(id));
+      }
+
+      record.setField("map", orcMap(id));
+      records.add(record);
+    }
+
+    appendOrcFile(table, records, ImmutableMap.of());
+
+    int totalRows = 0;
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan(), 4, true)) {
+      for (ColumnarBatch batch : itr) {
+        StructVector structs = (StructVector) batch.column(5).getFieldVector();
+        MapVector maps = (MapVector) batch.column(6).getFieldVector();
+        for (int rowId = 0; rowId < batch.numRows(); rowId += 1) {
+          int id = batch.column(0).getInt(rowId);
+          if (id % 4 == 0) {
+            for (int col = 1; col < 8; col += 1) {
+              if (col != 6) {
+                assertThat(batch.column(col).isNullAt(rowId)).isTrue();
+              }
+            }
+          } else {
+            long micros = timestampToMicros(orcTimestamp(id));
+            assertThat(((TimeStampMicroTZVector) batch.column(1).getFieldVector()).get(rowId))
+                .isEqualTo(micros);
+            assertThat(((TimeStampMicroVector) batch.column(2).getFieldVector()).get(rowId))
+                .isEqualTo(micros);
+            assertThat(batch.column(3).getDecimal(rowId, 9, 2)).isEqualTo(orcSmallDecimal(id));
+            assertThat(((DecimalVector) batch.column(4).getFieldVector()).getObject(rowId))
+                .isEqualTo(orcBigDecimal(id));
+            assertThat(((IntVector) structs.getChild("a")).get(rowId)).isEqualTo(id);
+            FixedSizeBinaryVector fixed = (FixedSizeBinaryVector) structs.getChild("fixed");
+            if (id % 3 == 0) {
+              assertThat(fixed.isNull(rowId)).isTrue();
+            } else {
+              assertThat(fixed.get(rowId)).isEqualTo(orcFixed(id));
+            }
+
+            assertThat(batch.column(7).getBinary(rowId))
+                .isEqualTo(UUIDUtil.convert(orcUuid(id)));
+          }
+
+          Map<String, Long> map = null;
+          if (!maps.isNull(rowId)) {
+            map = Maps.newHashMap();
+            for (Object entry : maps.getObject(rowId)) {
+              Map<?, ?> keyValue = (Map<?, ?>) entry;
+              map.put(
+                  keyValue.get(MapVector.KEY_NAME).toString(),
+                  (Long) keyValue.get(MapVector.VALUE_NAME));
+            }
+          }
+
+          assertThat(map).isEqualTo(orcMap(id));
+        }
+
+        totalRows += batch.numRows();
+      }
+    }
+
+    assertThat(totalRows).isEqualTo(10);
+  }
+
+  /** Returns timestamps before and after the epoch, with microseconds. */
+  private static LocalDateTime orcTimestamp(int id) {
+    LocalDateTime base =
+        id % 2 == 0
+            ? LocalDateTime.of(2024, 1, 1, 12, 30, 15, 123_456_000)
+            : LocalDateTime.of(1969, 12, 31, 23, 59, 59, 500_001_000);
+    return base.plusSeconds(id);
+  }
+
+  private static BigDecimal orcSmallDecimal(int id) {
+    return BigDecimal.valueOf(id % 2 == 0 ? id * 101L : -id * 101L, 2);
+  }
+
+  private static BigDecimal orcBigDecimal(int id) {
+    BigDecimal value =
+        new BigDecimal("1234567890123456789.0123456789").add(BigDecimal.valueOf(id));
+    return id % 2 == 0 ? value : value.negate();
+  }
+
+  private static byte[] orcFixed(int id) {
+    return new byte[] {(byte) id, 1, 2, (byte) -id};
+  }
+
+  private static UUID orcUuid(int id) {
+    return new UUID(id, -id);
+  }
+
+  /** Returns null, empty and non-empty maps, some with null values. */
+  private static Map<String, Long> orcMap(int id) {
+    if (id % 5 == 0) {
+      return null;
+    }
+
+    Map<String, Long> map = Maps.newHashMap();
+    if (id % 2 == 1) {
+      map.put("key-" + id, id * 10L);
+      map.put("null-" + id, null);
+    }
+
+    return map;
+  }
+
+  private void appendOrcFile(
+      Table table, List<GenericRecord> records, Map<String, String> properties)
+      throws IOException {
+    File orcFile = File.createTempFile("junit", null, tempDir);
+    assertThat(orcFile.delete()).isTrue();
+    FileAppender<GenericRecord> appender =
+        ORC.write(Files.localOutput(orcFile))
+            .schema(table.schema())
+            .setAll(properties)
+            .createWriterFunc(GenericOrcWriter::buildWriter)
+            .build();
+    try {
+      appender.addAll(records);
+    } finally {
+      appender.close();
+    }
+
+    table
+        .newAppend()
+        .appendFile(
+            DataFiles.builder(table.spec())
+                .withInputFile(localInput(orcFile))
+                .withMetrics(appender.metrics())
+                .withFormat(FileFormat.ORC)
+                .build())
+        .commit();
+  }
+
   @Test
   public void testHasNextIsIdempotent() throws Exception {
     writeTableWithIncrementalRecords();
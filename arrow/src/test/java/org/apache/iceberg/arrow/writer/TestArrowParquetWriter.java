@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.MapVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.IcebergGenerics;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriteResult;
+import org.apache.iceberg.io.FanoutDataWriter;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.DateTimeUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestArrowParquetWriter {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()),
+          Types.NestedField.optional(3, "value", Types.DoubleType.get()),
+          Types.NestedField.optional(4, "amount", Types.DecimalType.of(9, 2)),
+          Types.NestedField.optional(5, "big", Types.DecimalType.of(38, 10)),
+          Types.NestedField.optional(6, "ts", Types.TimestampType.withZone()),
+          Types.NestedField.optional(
+              7,
+              "point",
+              Types.StructType.of(
+                  Types.NestedField.required(8, "x", Types.IntegerType.get()),
+                  Types.NestedField.optional(9, "y", Types.LongType.get()))),
+          Types.NestedField.optional(
+              10, "tags", Types.ListType.ofOptional(11, Types.StringType.get())),
+          Types.NestedField.optional(
+              12,
+              "attrs",
+              Types.MapType.ofOptional(13, 14, Types.StringType.get(), Types.IntegerType.get())));
+
+  private static final BigDecimal BIG = new BigDecimal("1234567890123456789.0123456789");
+
+  @TempDir private File tempDir;
+
+  @Test
+  public void testWriteBatches() throws IOException {
+    File file = File.createTempFile("junit", null, tempDir);
+    assertThat(file.delete()).isTrue();
+
+    FileAppender<VectorSchemaRoot> appender =
+        new ArrowFileAppender(
+            Parquet.write(Files.localOutput(file))
+                .schema(SCHEMA)
+                .createWriterFunc(ArrowParquetWriter::buildWriter)
+                .build());
+
+    // the second batch reuses the vectors of the first
+    try (VectorSchemaRoot root =
+            VectorSchemaRoot.create(
+                ArrowSchemaUtil.convert(SCHEMA), ArrowAllocation.rootAllocator());
+        FileAppender<VectorSchemaRoot> toClose = appender) {
+      fill(root, 0, 50);
+      toClose.add(root);
+      root.clear();
+      fill(root, 50, 50);
+      toClose.add(root);
+    }
+
+    List<Record> expected = Lists.newArrayList();
+    for (int id = 0; id < 100; id += 1) {
+      expected.add(expectedRecord(id));
+    }
+
+    List<Record> actual;
+    try (CloseableIterable<Record> reader =
+        Parquet.read(Files.localInput(file))
+            .project(SCHEMA)
+            .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(SCHEMA, fileSchema))
+            .build()) {
+      actual = Lists.newArrayList(reader);
+    }
+
+    assertThat(actual).isEqualTo(expected);
+
+    Metrics metrics = appender.metrics();
+    assertThat(metrics.recordCount()).isEqualTo(100L);
+    assertThat(metrics.nullValueCounts().get(2))
+        .isEqualTo(expected.stream().filter(r -> r.getField("data") == null).count());
+    assertThat(metrics.nullValueCounts().get(3))
+        .isEqualTo(expected.stream().filter(r -> r.getField("value") == null).count());
+    assertThat(metrics.nanValueCounts().get(3))
+        .isEqualTo(
+            expected.stream()
+                .filter(r -> r.getField("value") != null)
+                .filter(r -> ((Double) r.getField("value")).isNaN())
+                .count());
+  }
+
+  @Test
+  public void testWriteBatchAcrossRowGroups() throws IOException {
+    File file = File.createTempFile("junit", null, tempDir);
+    assertThat(file.delete()).isTrue();
+
+    FileAppender<VectorSchemaRoot> appender =
+        new ArrowFileAppender(
+            Parquet.write(Files.localOutput(file))
+                .schema(SCHEMA)
+                .set(TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES, "1")
+                .createWriterFunc(ArrowParquetWriter::buildWriter)
+                .build());
+
+    try (VectorSchemaRoot root =
+            VectorSchemaRoot.create(
+                ArrowSchemaUtil.convert(SCHEMA), ArrowAllocation.rootAllocator());
+        FileAppender<VectorSchemaRoot> toClose = appender) {
+      fill(root, 0, 1000);
+      toClose.add(root);
+    }
+
+    assertThat(appender.splitOffsets())
+        .as("Should flush row groups within a batch")
+        .hasSizeGreaterThan(1);
+    assertThat(appender.metrics().recordCount()).isEqualTo(1000L);
+
+    List<Record> actual;
+    try (CloseableIterable<Record> reader =
+        Parquet.read(Files.localInput(file))
+            .project(SCHEMA)
+            .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(SCHEMA, fileSchema))
+            .build()) {
+      actual = Lists.newArrayList(reader);
+    }
+
+    assertThat(actual).hasSize(1000);
+    for (int id = 0; id < 1000; id += 1) {
+      assertThat(actual.get(id)).isEqualTo(expectedRecord(id));
+    }
+  }
+
+  @Test
+  public void testWriterFactoryRejectsOtherFormats() {
+    Table table =
+        new HadoopTables()
+            .create(
+                SCHEMA,
+                PartitionSpec.unpartitioned(),
+                ImmutableMap.of(TableProperties.DEFAULT_FILE_FORMAT, "orc"),
+                tempDir.toURI().toString());
+
+    assertThatThrownBy(() -> ArrowFileWriterFactory.builderFor(table).build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot write Arrow batches to ORC data files, only Parquet is supported");
+
+    assertThatThrownBy(
+            () ->
+                ArrowFileWriterFactory.builderFor(table)
+                    .dataFileFormat(FileFormat.PARQUET)
+                    .deleteFileFormat(FileFormat.AVRO)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot write Arrow batches to AVRO delete files, only Parquet is supported");
+
+    assertThat(
+            ArrowFileWriterFactory.builderFor(table)
+                .dataFileFormat(FileFormat.PARQUET)
+                .deleteFileFormat(FileFormat.PARQUET)
+                .build())
+        .isNotNull();
+  }
+
+  @Test
+  public void testPartitionedWrite() throws IOException {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.IntegerType.get()),
+            Types.NestedField.optional(2, "data", Types.StringType.get()));
+    PartitionSpec spec = PartitionSpec.builderFor(schema).identity("data").build();
+    Table table = new HadoopTables().create(schema, spec, tempDir.toURI().toString());
+
+    ArrowFileWriterFactory writerFactory = ArrowFileWriterFactory.builderFor(table).build();
+    OutputFileFactory fileFactory =
+        OutputFileFactory.builderFor(table, 1, 1).format(FileFormat.PARQUET).build();
+    ArrowPartitioningWriter<DataWriteResult> writer =
+        new ArrowPartitioningWriter<>(
+            new FanoutDataWriter<>(writerFactory, fileFactory, table.io(), Long.MAX_VALUE),
+            schema,
+            spec);
+
+    try (VectorSchemaRoot root =
+            VectorSchemaRoot.create(
+                ArrowSchemaUtil.convert(schema), ArrowAllocation.rootAllocator());
+        ArrowPartitioningWriter<DataWriteResult> toClose = writer) {
+      for (int batch = 0; batch < 2; batch += 1) {
+        root.allocateNew();
+        IntVector ids = (IntVector) root.getVector("id");
+        VarCharVector data = (VarCharVector) root.getVector("data");
+        for (int rowId = 0; rowId < 30; rowId += 1) {
+          int id = batch * 30 + rowId;
+          ids.setSafe(rowId, id);
+          data.setSafe(rowId, ("part-" + id % 3).getBytes(StandardCharsets.UTF_8));
+        }
+
+        root.setRowCount(30);
+        toClose.write(root);
+      }
+    }
+
+    List<DataFile> dataFiles = writer.result().dataFiles();
+    assertThat(dataFiles).hasSize(3);
+    assertThat(dataFiles).allSatisfy(file -> assertThat(file.recordCount()).isEqualTo(20L));
+
+    table.newAppend().appendFile(dataFiles.get(0)).commit();
+    table.newAppend().appendFile(dataFiles.get(1)).appendFile(dataFiles.get(2)).commit();
+
+    List<Record> records;
+    try (CloseableIterable<Record> reader = IcebergGenerics.read(table).build()) {
+      records = Lists.newArrayList(reader);
+    }
+
+    assertThat(records).hasSize(60);
+    assertThat(records)
+        .allSatisfy(
+            record ->
+                assertThat(record.getField("data"))
+                    .isEqualTo("part-" + ((Integer) record.getField("id")) % 3));
+  }
+
+  private static void fill(VectorSchemaRoot root, int firstId, int numRows) {
+    root.allocateNew();
+    IntVector ids = (IntVector) root.getVector("id");
+    VarCharVector data = (VarCharVector) root.getVector("data");
+    Float8Vector values = (Float8Vector) root.getVector("value");
+    DecimalVector amounts = (DecimalVector) root.getVector("amount");
+    DecimalVector bigs = (DecimalVector) root.getVector("big");
+    TimeStampMicroTZVector timestamps = (TimeStampMicroTZVector) root.getVector("ts");
+    StructVector points = (StructVector) root.getVector("point");
+    IntVector xs = (IntVector) points.getChild("x");
+    BigIntVector ys = (BigIntVector) points.getChild("y");
+    ListVector tags = (ListVector) root.getVector("tags");
+    VarCharVector tagValues = (VarCharVector) tags.getDataVector();
+    MapVector attrs = (MapVector) root.getVector("attrs");
+    StructVector entries = (StructVector) attrs.getDataVector();
+    VarCharVector keys = (VarCharVector) entries.getChild("key");
+    IntVector attrValues = (IntVector) entries.getChild("value");
+
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      Record record = expectedRecord(firstId + rowId);
+      ids.setSafe(rowId, (Integer) record.getField("id"));
+      setString(data, rowId, (String) record.getField("data"));
+
+      Double value = (Double) record.getField("value");
+      if (value != null) {
+        values.setSafe(rowId, value);
+      } else {
+        values.setNull(rowId);
+      }
+
+      setDecimal(amounts, rowId, (BigDecimal) record.getField("amount"));
+      setDecimal(bigs, rowId, (BigDecimal) record.getField("big"));
+      timestamps.setSafe(rowId, micros(firstId + rowId));
+
+      Record point = (Record) record.getField("point");
+      if (point != null) {
+        points.setIndexDefined(rowId);
+        xs.setSafe(rowId, (Integer) point.getField("x"));
+        Long y = (Long) point.getField("y");
+        if (y != null) {
+          ys.setSafe(rowId, y);
+        } else {
+          ys.setNull(rowId);
+        }
+      } else {
+        points.setNull(rowId);
+      }
+
+      @SuppressWarnings("unchecked")
+      List<String> tagList = (List<String>) record.getField("tags");
+      if (tagList != null) {
+        int offset = tags.startNewValue(rowId);
+        for (int i = 0; i < tagList.size(); i += 1) {
+          setString(tagValues, offset + i, tagList.get(i));
+        }
+
+        tags.endValue(rowId, tagList.size());
+      } else {
+        tags.setNull(rowId);
+      }
+
+      @SuppressWarnings("unchecked")
+      Map<String, Integer> attrMap = (Map<String, Integer>) record.getField("attrs");
+      if (attrMap != null) {
+        int offset = attrs.startNewValue(rowId);
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : attrMap.entrySet()) {
+          entries.setIndexDefined(offset + i);
+          setString(keys, offset + i, entry.getKey());
+          if (entry.getValue() != null) {
+            attrValues.setSafe(offset + i, entry.getValue());
+          } else {
+            attrValues.setNull(offset + i);
+          }
+
+          i += 1;
+        }
+
+        attrs.endValue(rowId, attrMap.size());
+      } else {
+        attrs.setNull(rowId);
+      }
+    }
+
+    root.setRowCount(numRows);
+  }
+
+  private static void setString(VarCharVector vector, int index, String value) {
+    if (value != null) {
+      vector.setSafe(index, value.getBytes(StandardCharsets.UTF_8));
+    } else {
+      vector.setNull(index);
+    }
+  }
+
+  private static void setDecimal(DecimalVector vector, int index, BigDecimal value) {
+    if (value != null) {
+      vector.setSafe(index, value);
+    } else {
+      vector.setNull(index);
+    }
+  }
+
+  private static long micros(int id) {
+    return 1_600_000_000_000_000L + id * 1_000_003L;
+  }
+
+  private static Record expectedRecord(int id) {
+    GenericRecord record = GenericRecord.create(SCHEMA);
+    record.setField("id", id);
+    record.setField("data", id % 7 == 0 ? null : "data-" + id);
+    if (id % 10 == 0) {
+      record.setField("value", Double.NaN);
+    } else if (id % 9 != 0) {
+      record.setField("value", id * 1.5);
+    }
+
+    if (id % 6 != 0) {
+      record.setField("amount", BigDecimal.valueOf(id % 2 == 0 ? id * 101L : -id * 101L, 2));
+      record.setField("big", id % 2 == 0 ? BIG.multiply(BigDecimal.valueOf(id)) : BIG.negate());
+    }
+
+    record.setField("ts", DateTimeUtil.timestamptzFromMicros(micros(id)));
+
+    if (id % 5 != 0) {
+      GenericRecord point = GenericRecord.create(SCHEMA.findType("point").asStructType());
+      point.setField("x", id);
+      point.setField("y", id % 3 == 0 ? null : id * 10L);
+      record.setField("point", point);
+    }
+
+    if (id % 11 != 0) {
+      record.setField(
+          "tags",
+          id % 4 == 0 ? Lists.newArrayList() : Arrays.asList("a" + id, null, "b" + id));
+    }
+
+    if (id % 13 != 0) {
+      Map<String, Integer> attrs = Maps.newLinkedHashMap();
+      attrs.put("k" + id, id);
+      attrs.put("n", id % 2 == 0 ? null : id);
+      record.setField("attrs", attrs);
+    }
+
+    return record;
+  }
+}
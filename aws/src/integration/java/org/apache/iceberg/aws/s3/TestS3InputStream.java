@@ -27,6 +27,7 @@ import java.util.Random;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.MinIOContainer;
@@ -190,6 +191,46 @@ public class TestS3InputStream {
     }
   }
 
+  @Test
+  public void testReadAhead() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/read-ahead.dat");
+    int dataSize = 1024 * 1024 * 10;
+    byte[] data = randomData(dataSize);
+
+    writeS3Data(uri, data);
+
+    S3FileIOProperties properties = new S3FileIOProperties();
+    properties.setReadAheadEnabled(true);
+    properties.setReadAheadRangeSize(256 * 1024);
+    properties.setReadAheadNumRanges(3);
+
+    try (SeekableInputStream in =
+        new S3InputStream(s3, uri, properties, MetricsContext.nullMetrics())) {
+      // sequential reads start read-ahead after the first range
+      int readSize = 100 * 1024;
+      for (int position = 0; position < dataSize / 2; position += readSize) {
+        readAndCheck(in, position, readSize, data, true);
+      }
+
+      // single byte reads from ranges read ahead
+      readAndCheck(in, in.getPos(), 1024, data, false);
+
+      // forward seek within the ranges read ahead
+      readAndCheck(in, in.getPos() + 300 * 1024, readSize, data, true);
+
+      // random seeks cancel read-ahead
+      readAndCheck(in, 1024, readSize, data, true);
+      readAndCheck(in, dataSize - readSize, readSize, data, false);
+
+      // sequential reads until the end of the object
+      in.seek(dataSize / 2);
+      byte[] actual = new byte[dataSize / 2];
+      IOUtil.readFully(in, actual, 0, actual.length);
+      assertThat(actual).isEqualTo(Arrays.copyOfRange(data, dataSize / 2, dataSize));
+      assertThat(in.read()).isEqualTo(-1);
+    }
+  }
+
   private byte[] randomData(int size) {
     byte[] data = new byte[size];
     random.nextBytes(data);
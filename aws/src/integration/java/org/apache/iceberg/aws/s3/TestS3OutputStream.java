@@ -182,6 +182,27 @@ public class TestS3OutputStream {
     writeTest();
   }
 
+  @Test
+  public void testWriteWithInMemoryBuffer() {
+    properties.setWriteInMemoryBufferEnabled(true);
+    writeTest();
+  }
+
+  @Test
+  public void testWriteWithInMemoryBufferAndChecksumEnabled() {
+    properties.setWriteInMemoryBufferEnabled(true);
+    properties.setChecksumEnabled(true);
+    writeTest();
+  }
+
+  @Test
+  public void testWriteWithInMemoryBufferSpilledToStagingFiles() {
+    properties.setWriteInMemoryBufferEnabled(true);
+    // a single part fills the pool so the following parts are spilled to staging files
+    properties.setWriteInMemoryBufferMaxBytes(properties.multiPartSize());
+    writeTest();
+  }
+
   @Test
   public void testDoubleClose() throws IOException {
     IllegalStateException mockException =
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+
+/**
+ * A pool of direct buffers used by {@link S3OutputStream} to hold parts in memory.
+ *
+ * <p>The pool limits the total size of the buffers it allocates. Released buffers are kept and
+ * reused for parts of the same or smaller size; free buffers that are too small are dropped when
+ * a larger buffer is needed and the limit has been reached. The pool never blocks: callers fall
+ * back to staging files when it is exhausted.
+ */
+class S3BufferPool {
+  private static final Map<Long, S3BufferPool> SHARED = Maps.newConcurrentMap();
+
+  private final long maxBytes;
+  private final Deque<ByteBuffer> freeBuffers = Queues.newArrayDeque();
+  private long allocatedBytes = 0;
+
+  S3BufferPool(long maxBytes) {
+    Preconditions.checkArgument(maxBytes > 0, "Invalid max bytes: %s (must be > 0)", maxBytes);
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Returns the pool shared by all output streams configured with the given limit.
+   *
+   * @param maxBytes the maximum number of bytes allocated by the pool
+   * @return a shared pool
+   */
+  static S3BufferPool shared(long maxBytes) {
+    return SHARED.computeIfAbsent(maxBytes, S3BufferPool::new);
+  }
+
+  /**
+   * Returns a buffer of the given size if one is free or can be allocated within the limit.
+   *
+   * @param size the size of the buffer
+   * @return a buffer with the given limit, or null if the pool is exhausted or the size is larger
+   *     than the limit
+   */
+  synchronized ByteBuffer tryAcquire(int size) {
+    if (size > maxBytes) {
+      return null;
+    }
+
+    Iterator<ByteBuffer> iterator = freeBuffers.iterator();
+    while (iterator.hasNext()) {
+      ByteBuffer buffer = iterator.next();
+      if (buffer.capacity() >= size) {
+        iterator.remove();
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+      }
+    }
+
+    // drop free buffers that are too small until the new buffer fits within the limit
+    while (allocatedBytes + size > maxBytes && !freeBuffers.isEmpty()) {
+      allocatedBytes -= freeBuffers.removeFirst().capacity();
+    }
+
+    if (allocatedBytes + size <= maxBytes) {
+      allocatedBytes += size;
+      return ByteBuffer.allocateDirect(size);
+    }
+
+    return null;
+  }
+
+  synchronized void release(ByteBuffer buffer) {
+    freeBuffers.addLast(buffer);
+  }
+
+  @VisibleForTesting
+  synchronized long allocatedBytes() {
+    return allocatedBytes;
+  }
+}
@@ -32,6 +32,9 @@ import org.apache.iceberg.aws.glue.GlueCatalog;
 import org.apache.iceberg.aws.s3.signer.S3V4RestSignerClient;
 import org.apache.iceberg.common.DynMethods;
 import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.HedgedRangeReader;
+import org.apache.iceberg.io.ReadAheadBufferPool;
+import org.apache.iceberg.io.VectoredReadUtil;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -205,12 +208,101 @@ public class S3FileIOProperties implements Serializable {
 
   public static final double MULTIPART_THRESHOLD_FACTOR_DEFAULT = 1.5;
 
+  /**
+   * The maximum gap in bytes between two ranges of a vectored read for them to be read in a single
+   * GET request (default: 128KB).
+   */
+  public static final String VECTORED_READ_MERGE_GAP = "s3.vectored-read.merge-gap-bytes";
+
+  public static final int VECTORED_READ_MERGE_GAP_DEFAULT = VectoredReadUtil.MERGE_GAP_DEFAULT;
+
+  /**
+   * The maximum size in bytes of a single GET request that combines multiple ranges of a vectored
+   * read (default: 2MB).
+   */
+  public static final String VECTORED_READ_MAX_MERGED_SIZE =
+      "s3.vectored-read.max-merged-size-bytes";
+
+  public static final int VECTORED_READ_MAX_MERGED_SIZE_DEFAULT =
+      VectoredReadUtil.MAX_MERGED_SIZE_DEFAULT;
+
+  /**
+   * Controls whether input streams read ahead once sequential access is detected (default: false).
+   * When enabled, after a full read-ahead range has been read sequentially, the following ranges
+   * are fetched in parallel using ranged GET requests and reads are served from them until the next
+   * random seek.
+   */
+  public static final String READ_AHEAD_ENABLED = "s3.read-ahead.enabled";
+
+  public static final boolean READ_AHEAD_ENABLED_DEFAULT = false;
+
+  /** The size in bytes of each range fetched by read-ahead (default: 8MB). */
+  public static final String READ_AHEAD_RANGE_SIZE = "s3.read-ahead.range-size-bytes";
+
+  public static final int READ_AHEAD_RANGE_SIZE_DEFAULT = 8 * 1024 * 1024;
+
+  /**
+   * The number of ranges fetched ahead of the current position of a stream (default: 4), which
+   * bounds the memory used by read-ahead to this number of ranges per stream.
+   */
+  public static final String READ_AHEAD_NUM_RANGES = "s3.read-ahead.num-ranges";
+
+  public static final int READ_AHEAD_NUM_RANGES_DEFAULT = 4;
+
+  /**
+   * The maximum size in bytes of the ranges read ahead by all S3 input streams in the JVM that use
+   * the same limit (default: 256MB). Streams read fewer ranges ahead when the limit is reached.
+   */
+  public static final String READ_AHEAD_MAX_TOTAL_BYTES = "s3.read-ahead.max-total-bytes";
+
+  public static final long READ_AHEAD_MAX_TOTAL_BYTES_DEFAULT =
+      ReadAheadBufferPool.MAX_TOTAL_BYTES_DEFAULT;
+
+  /**
+   * Controls whether range reads send a hedged request when the first request is slow (default:
+   * false). A second ranged GET is sent when the first request has not completed after {@link
+   * #READ_HEDGING_PERCENTILE} of recent request latencies and the result of the request that
+   * completes first is used.
+   */
+  public static final String READ_HEDGING_ENABLED = "s3.read.hedging.enabled";
+
+  public static final boolean READ_HEDGING_ENABLED_DEFAULT = false;
+
+  /** The latency percentile after which a range read is hedged (default: 95). */
+  public static final String READ_HEDGING_PERCENTILE = "s3.read.hedging.percentile";
+
+  public static final double READ_HEDGING_PERCENTILE_DEFAULT = HedgedRangeReader.PERCENTILE_DEFAULT;
+
+  /** The maximum fraction of range reads that send a hedged request (default: 0.05). */
+  public static final String READ_HEDGING_BUDGET = "s3.read.hedging.budget";
+
+  public static final double READ_HEDGING_BUDGET_DEFAULT = HedgedRangeReader.BUDGET_DEFAULT;
+
   /**
    * Location to put staging files for upload to S3, default to temp directory set in
    * java.io.tmpdir.
    */
   public static final String STAGING_DIRECTORY = "s3.staging-dir";
 
+  /**
+   * Controls whether output streams buffer parts in direct memory instead of staging files
+   * (default: false). Buffers grow as parts are written and are pooled by output streams with the
+   * same buffer limit, and parts are uploaded directly from memory.
+   */
+  public static final String WRITE_IN_MEMORY_BUFFER_ENABLED = "s3.write.in-memory-buffer.enabled";
+
+  public static final boolean WRITE_IN_MEMORY_BUFFER_ENABLED_DEFAULT = false;
+
+  /**
+   * The maximum number of bytes of direct memory used to buffer parts across all output streams
+   * configured with the same limit (default: 256MB). Must be at least the multipart size. Once this
+   * limit is reached, parts are spilled to staging files instead of waiting for memory.
+   */
+  public static final String WRITE_IN_MEMORY_BUFFER_MAX_BYTES =
+      "s3.write.in-memory-buffer.max-bytes";
+
+  public static final long WRITE_IN_MEMORY_BUFFER_MAX_BYTES_DEFAULT = 256L * 1024 * 1024;
+
   /**
    * Used to configure canned access control list (ACL) for S3 client to use during write. If not
    * set, ACL will not be set for requests.
@@ -506,7 +598,18 @@ public class S3FileIOProperties implements Serializable {
   private int multiPartSize;
   private int deleteBatchSize;
   private double multipartThresholdFactor;
+  private int vectoredReadMergeGap;
+  private int vectoredReadMaxMergedSize;
+  private boolean isReadAheadEnabled;
+  private int readAheadRangeSize;
+  private int readAheadNumRanges;
+  private long readAheadMaxTotalBytes;
+  private boolean isReadHedgingEnabled;
+  private double readHedgingPercentile;
+  private double readHedgingBudget;
   private String stagingDirectory;
+  private boolean isWriteInMemoryBufferEnabled;
+  private long writeInMemoryBufferMaxBytes;
   private ObjectCannedACL acl;
   private boolean isChecksumEnabled;
   private final Set<Tag> writeTags;
@@ -548,8 +651,19 @@ public class S3FileIOProperties implements Serializable {
     this.multipartUploadThreads = Runtime.getRuntime().availableProcessors();
     this.multiPartSize = MULTIPART_SIZE_DEFAULT;
     this.multipartThresholdFactor = MULTIPART_THRESHOLD_FACTOR_DEFAULT;
+    this.vectoredReadMergeGap = VECTORED_READ_MERGE_GAP_DEFAULT;
+    this.vectoredReadMaxMergedSize = VECTORED_READ_MAX_MERGED_SIZE_DEFAULT;
+    this.isReadAheadEnabled = READ_AHEAD_ENABLED_DEFAULT;
+    this.readAheadRangeSize = READ_AHEAD_RANGE_SIZE_DEFAULT;
+    this.readAheadNumRanges = READ_AHEAD_NUM_RANGES_DEFAULT;
+    this.readAheadMaxTotalBytes = READ_AHEAD_MAX_TOTAL_BYTES_DEFAULT;
+    this.isReadHedgingEnabled = READ_HEDGING_ENABLED_DEFAULT;
+    this.readHedgingPercentile = READ_HEDGING_PERCENTILE_DEFAULT;
+    this.readHedgingBudget = READ_HEDGING_BUDGET_DEFAULT;
     this.deleteBatchSize = DELETE_BATCH_SIZE_DEFAULT;
     this.stagingDirectory = System.getProperty("java.io.tmpdir");
+    this.isWriteInMemoryBufferEnabled = WRITE_IN_MEMORY_BUFFER_ENABLED_DEFAULT;
+    this.writeInMemoryBufferMaxBytes = WRITE_IN_MEMORY_BUFFER_MAX_BYTES_DEFAULT;
     this.isChecksumEnabled = CHECKSUM_ENABLED_DEFAULT;
     this.writeTags = Sets.newHashSet();
     this.isWriteTableTagEnabled = WRITE_TABLE_TAG_ENABLED_DEFAULT;
@@ -631,9 +745,73 @@ public class S3FileIOProperties implements Serializable {
     Preconditions.checkArgument(
         multiPartSize >= MULTIPART_SIZE_MIN,
         "Minimum multipart upload object size must be larger than 5 MB.");
+    this.vectoredReadMergeGap =
+        PropertyUtil.propertyAsInt(
+            properties, VECTORED_READ_MERGE_GAP, VECTORED_READ_MERGE_GAP_DEFAULT);
+    Preconditions.checkArgument(
+        vectoredReadMergeGap >= 0,
+        "Invalid vectored read merge gap: %s (must be >= 0)",
+        vectoredReadMergeGap);
+    this.vectoredReadMaxMergedSize =
+        PropertyUtil.propertyAsInt(
+            properties, VECTORED_READ_MAX_MERGED_SIZE, VECTORED_READ_MAX_MERGED_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        vectoredReadMaxMergedSize > 0,
+        "Invalid vectored read max merged size: %s (must be > 0)",
+        vectoredReadMaxMergedSize);
+    this.isReadAheadEnabled =
+        PropertyUtil.propertyAsBoolean(properties, READ_AHEAD_ENABLED, READ_AHEAD_ENABLED_DEFAULT);
+    this.readAheadRangeSize =
+        PropertyUtil.propertyAsInt(
+            properties, READ_AHEAD_RANGE_SIZE, READ_AHEAD_RANGE_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadRangeSize > 0,
+        "Invalid read-ahead range size: %s (must be > 0)",
+        readAheadRangeSize);
+    this.readAheadNumRanges =
+        PropertyUtil.propertyAsInt(
+            properties, READ_AHEAD_NUM_RANGES, READ_AHEAD_NUM_RANGES_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadNumRanges > 0,
+        "Invalid read-ahead number of ranges: %s (must be > 0)",
+        readAheadNumRanges);
+    this.readAheadMaxTotalBytes =
+        PropertyUtil.propertyAsLong(
+            properties, READ_AHEAD_MAX_TOTAL_BYTES, READ_AHEAD_MAX_TOTAL_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadMaxTotalBytes > 0,
+        "Invalid read-ahead max total bytes: %s (must be > 0)",
+        readAheadMaxTotalBytes);
+    this.isReadHedgingEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, READ_HEDGING_ENABLED, READ_HEDGING_ENABLED_DEFAULT);
+    this.readHedgingPercentile =
+        PropertyUtil.propertyAsDouble(
+            properties, READ_HEDGING_PERCENTILE, READ_HEDGING_PERCENTILE_DEFAULT);
+    Preconditions.checkArgument(
+        readHedgingPercentile > 0 && readHedgingPercentile < 100,
+        "Invalid read hedging percentile: %s (must be between 0 and 100)",
+        readHedgingPercentile);
+    this.readHedgingBudget =
+        PropertyUtil.propertyAsDouble(properties, READ_HEDGING_BUDGET, READ_HEDGING_BUDGET_DEFAULT);
+    Preconditions.checkArgument(
+        readHedgingBudget >= 0 && readHedgingBudget <= 1,
+        "Invalid read hedging budget: %s (must be between 0 and 1)",
+        readHedgingBudget);
     this.stagingDirectory =
         PropertyUtil.propertyAsString(
             properties, STAGING_DIRECTORY, System.getProperty("java.io.tmpdir"));
+    this.isWriteInMemoryBufferEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, WRITE_IN_MEMORY_BUFFER_ENABLED, WRITE_IN_MEMORY_BUFFER_ENABLED_DEFAULT);
+    this.writeInMemoryBufferMaxBytes =
+        PropertyUtil.propertyAsLong(
+            properties, WRITE_IN_MEMORY_BUFFER_MAX_BYTES, WRITE_IN_MEMORY_BUFFER_MAX_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        !isWriteInMemoryBufferEnabled || writeInMemoryBufferMaxBytes >= multiPartSize,
+        "Invalid in-memory buffer max bytes: %s (must be >= multipart size %s)",
+        writeInMemoryBufferMaxBytes,
+        multiPartSize);
     String aclType = properties.get(ACL);
     this.acl = ObjectCannedACL.fromValue(aclType);
     Preconditions.checkArgument(
@@ -760,6 +938,78 @@ public class S3FileIOProperties implements Serializable {
     this.multipartThresholdFactor = factor;
   }
 
+  public int vectoredReadMergeGap() {
+    return vectoredReadMergeGap;
+  }
+
+  public void setVectoredReadMergeGap(int mergeGap) {
+    this.vectoredReadMergeGap = mergeGap;
+  }
+
+  public int vectoredReadMaxMergedSize() {
+    return vectoredReadMaxMergedSize;
+  }
+
+  public void setVectoredReadMaxMergedSize(int maxMergedSize) {
+    this.vectoredReadMaxMergedSize = maxMergedSize;
+  }
+
+  public boolean isReadAheadEnabled() {
+    return isReadAheadEnabled;
+  }
+
+  public void setReadAheadEnabled(boolean readAheadEnabled) {
+    this.isReadAheadEnabled = readAheadEnabled;
+  }
+
+  public int readAheadRangeSize() {
+    return readAheadRangeSize;
+  }
+
+  public void setReadAheadRangeSize(int rangeSize) {
+    this.readAheadRangeSize = rangeSize;
+  }
+
+  public int readAheadNumRanges() {
+    return readAheadNumRanges;
+  }
+
+  public void setReadAheadNumRanges(int numRanges) {
+    this.readAheadNumRanges = numRanges;
+  }
+
+  public long readAheadMaxTotalBytes() {
+    return readAheadMaxTotalBytes;
+  }
+
+  public void setReadAheadMaxTotalBytes(long maxTotalBytes) {
+    this.readAheadMaxTotalBytes = maxTotalBytes;
+  }
+
+  public boolean isReadHedgingEnabled() {
+    return isReadHedgingEnabled;
+  }
+
+  public void setReadHedgingEnabled(boolean readHedgingEnabled) {
+    this.isReadHedgingEnabled = readHedgingEnabled;
+  }
+
+  public double readHedgingPercentile() {
+    return readHedgingPercentile;
+  }
+
+  public void setReadHedgingPercentile(double percentile) {
+    this.readHedgingPercentile = percentile;
+  }
+
+  public double readHedgingBudget() {
+    return readHedgingBudget;
+  }
+
+  public void setReadHedgingBudget(double budget) {
+    this.readHedgingBudget = budget;
+  }
+
   public String stagingDirectory() {
     return stagingDirectory;
   }
@@ -896,6 +1146,22 @@ public class S3FileIOProperties implements Serializable {
     return writeStorageClass;
   }
 
+  public boolean isWriteInMemoryBufferEnabled() {
+    return isWriteInMemoryBufferEnabled;
+  }
+
+  public void setWriteInMemoryBufferEnabled(boolean writeInMemoryBufferEnabled) {
+    this.isWriteInMemoryBufferEnabled = writeInMemoryBufferEnabled;
+  }
+
+  public long writeInMemoryBufferMaxBytes() {
+    return writeInMemoryBufferMaxBytes;
+  }
+
+  public void setWriteInMemoryBufferMaxBytes(long maxBytes) {
+    this.writeInMemoryBufferMaxBytes = maxBytes;
+  }
+
   private Set<Tag> toS3Tags(Map<String, String> properties, String prefix) {
     return PropertyUtil.propertiesWithPrefix(properties, prefix).entrySet().stream()
         .map(e -> Tag.builder().key(e.getKey()).value(e.getValue()).build())
@@ -25,14 +25,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntFunction;
 import javax.net.ssl.SSLException;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.HedgedRangeReader;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.ReadAhead;
+import org.apache.iceberg.io.ReadAheadBufferPool;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReadUtil;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
@@ -41,12 +48,15 @@ import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 class S3InputStream extends SeekableInputStream implements RangeReadable {
@@ -65,8 +75,15 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   private long next = 0;
   private boolean closed = false;
 
+  private final ReadAhead readAhead;
+  private long sequentialBytes = 0;
+  private Long objectLength = null;
+
   private final Counter readBytes;
   private final Counter readOperations;
+  private final Counter hedgedRequests;
+  private final Counter hedgedWins;
+  private final HedgedRangeReader hedgedReader;
 
   private int skipSize = 1024 * 1024;
   private RetryPolicy<Object> retryPolicy =
@@ -98,6 +115,24 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
+    this.hedgedRequests = metrics.counter(FileIOMetricsContext.READ_HEDGED_REQUESTS);
+    this.hedgedWins = metrics.counter(FileIOMetricsContext.READ_HEDGED_WINS);
+    this.hedgedReader =
+        s3FileIOProperties.isReadHedgingEnabled()
+            ? HedgedRangeReader.shared(
+                "s3",
+                s3FileIOProperties.readHedgingPercentile(),
+                s3FileIOProperties.readHedgingBudget())
+            : null;
+
+    this.readAhead =
+        new ReadAhead(
+            location.toString(),
+            this::readRangeFully,
+            s3FileIOProperties.readAheadRangeSize(),
+            s3FileIOProperties.readAheadNumRanges(),
+            ThreadPools.getReadWorkerPool(),
+            ReadAheadBufferPool.shared("s3", s3FileIOProperties.readAheadMaxTotalBytes()));
 
     this.createStack = Thread.currentThread().getStackTrace();
   }
@@ -119,11 +154,30 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read() throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (readAhead.isEndOfFile(next)) {
+      return -1;
+    }
+
+    if (startReadAhead()) {
+      int value = readAhead.read(next);
+      if (value >= 0) {
+        next += 1;
+        readBytes.increment();
+        readOperations.increment();
+
+        return value;
+      }
+
+      // read-ahead was cancelled
+      this.sequentialBytes = 0;
+    }
+
     positionStream();
     try {
       int bytesRead = Failsafe.with(retryPolicy).get(() -> stream.read());
       pos += 1;
       next += 1;
+      sequentialBytes += 1;
       readBytes.increment();
       readOperations.increment();
 
@@ -140,12 +194,31 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read(byte[] b, int off, int len) throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (readAhead.isEndOfFile(next)) {
+      return -1;
+    }
+
+    if (startReadAhead()) {
+      int bytesRead = readAhead.read(next, b, off, len);
+      if (bytesRead >= 0) {
+        next += bytesRead;
+        readBytes.increment(bytesRead);
+        readOperations.increment();
+
+        return bytesRead;
+      }
+
+      // read-ahead was cancelled
+      this.sequentialBytes = 0;
+    }
+
     positionStream();
 
     try {
       int bytesRead = Failsafe.with(retryPolicy).get(() -> stream.read(b, off, len));
       pos += bytesRead;
       next += bytesRead;
+      sequentialBytes += bytesRead;
       readBytes.increment(bytesRead);
       readOperations.increment();
 
@@ -163,9 +236,26 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
     Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
 
+    if (hedgedReader != null) {
+      hedgedReader.readFully(
+          (bytes, off, len) -> readRangeFully(position, bytes, off, len),
+          buffer,
+          offset,
+          length,
+          hedgedRequests,
+          hedgedWins);
+    } else {
+      readRangeFully(position, buffer, offset, length);
+    }
+  }
+
+  private void readRangeFully(long position, byte[] buffer, int offset, int length)
+      throws IOException {
     String range = String.format("bytes=%s-%s", position, position + length - 1);
 
-    IOUtil.readFully(readRange(range), buffer, offset, length);
+    try (InputStream in = readRange(range)) {
+      IOUtil.readFully(in, buffer, offset, length);
+    }
   }
 
   @Override
@@ -177,6 +267,18 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     return IOUtil.readRemaining(readRange(range), buffer, offset, length);
   }
 
+  @Override
+  public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    VectoredReadUtil.readVectored(
+        this,
+        ranges,
+        allocate,
+        ThreadPools.getReadWorkerPool(),
+        s3FileIOProperties.vectoredReadMergeGap(),
+        s3FileIOProperties.vectoredReadMaxMergedSize());
+  }
+
   private InputStream readRange(String range) {
     GetObjectRequest.Builder requestBuilder =
         GetObjectRequest.builder().bucket(location.bucket()).key(location.key()).range(range);
@@ -186,10 +288,41 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     return s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
   }
 
+  /**
+   * Starts reading ahead when sequential access is detected.
+   *
+   * @return true if reads should be served by read-ahead
+   */
+  private boolean startReadAhead() throws IOException {
+    if (!s3FileIOProperties.isReadAheadEnabled()) {
+      return false;
+    }
+
+    if (!readAhead.isActive() && shouldStartReadAhead()) {
+      // sequential access detected, read the following ranges in parallel and close the stream
+      readAhead.start(next, objectLength);
+      if (readAhead.isActive()) {
+        closeStream(true);
+      } else {
+        // no read-ahead buffers are available, keep using the stream
+        this.sequentialBytes = 0;
+      }
+    }
+
+    return readAhead.isActive();
+  }
+
+  private boolean shouldStartReadAhead() {
+    return sequentialBytes >= s3FileIOProperties.readAheadRangeSize()
+        && objectLength != null
+        && next < objectLength;
+  }
+
   @Override
   public void close() throws IOException {
     super.close();
     closed = true;
+    readAhead.cancel();
     closeStream(false);
   }
 
@@ -217,6 +350,10 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
     // close the stream and open at desired position
     LOG.debug("Seek with new stream for {} to offset {}", location, next);
+    if (stream != null) {
+      sequentialBytes = 0;
+    }
+
     pos = next;
     openStream();
   }
@@ -237,7 +374,14 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     closeStream(closeQuietly);
 
     try {
-      stream = s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+      ResponseInputStream<GetObjectResponse> response =
+          s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+      Long remainingLength = response.response().contentLength();
+      if (remainingLength != null) {
+        objectLength = pos + remainingLength;
+      }
+
+      stream = response;
     } catch (NoSuchKeyException e) {
       throw new NotFoundException(e, "Location does not exist: %s", location);
     }
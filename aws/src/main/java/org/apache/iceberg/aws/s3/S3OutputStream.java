@@ -27,6 +27,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
@@ -41,7 +44,9 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import org.apache.iceberg.io.ByteBufferInputStream;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.metrics.Counter;
@@ -85,13 +90,15 @@ class S3OutputStream extends PositionOutputStream {
   private final S3URI location;
   private final S3FileIOProperties s3FileIOProperties;
   private final Set<Tag> writeTags;
+  private final S3BufferPool bufferPool;
 
   private CountingOutputStream stream;
-  private final List<FileAndDigest> stagingFiles = Lists.newArrayList();
+  private final List<StagingPart> stagingParts = Lists.newArrayList();
   private final File stagingDirectory;
-  private File currentStagingFile;
+  private StagingPart currentPart;
   private String multipartUploadId;
-  private final Map<File, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
+  private final Map<StagingPart, CompletableFuture<CompletedPart>> multiPartMap =
+      Maps.newHashMap();
   private final int multiPartSize;
   private final int multiPartThresholdSize;
   private final boolean isChecksumEnabled;
@@ -128,6 +135,10 @@ class S3OutputStream extends PositionOutputStream {
     this.location = location;
     this.s3FileIOProperties = s3FileIOProperties;
     this.writeTags = s3FileIOProperties.writeTags();
+    this.bufferPool =
+        s3FileIOProperties.isWriteInMemoryBufferEnabled()
+            ? S3BufferPool.shared(s3FileIOProperties.writeInMemoryBufferMaxBytes())
+            : null;
 
     this.createStack = Thread.currentThread().getStackTrace();
 
@@ -163,8 +174,7 @@ class S3OutputStream extends PositionOutputStream {
   @Override
   public void write(int b) throws IOException {
     if (stream.getCount() >= multiPartSize) {
-      newStream();
-      uploadParts();
+      nextPart();
     }
 
     stream.write(b);
@@ -194,8 +204,7 @@ class S3OutputStream extends PositionOutputStream {
       remaining -= writeSize;
       relativeOffset += writeSize;
 
-      newStream();
-      uploadParts();
+      nextPart();
     }
 
     stream.write(b, relativeOffset, remaining);
@@ -210,14 +219,14 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private void newStream() throws IOException {
-    if (stream != null) {
-      stream.close();
-    }
+  private void nextPart() throws IOException {
+    stream.close();
+    this.currentPart = null;
+    newStream();
+    uploadParts();
+  }
 
-    createStagingDirectoryIfNotExists();
-    currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
-    currentStagingFile.deleteOnExit();
+  private void newStream() throws IOException {
     try {
       currentPartMessageDigest =
           isChecksumEnabled ? MessageDigest.getInstance(DIGEST_ALGORITHM) : null;
@@ -226,31 +235,41 @@ class S3OutputStream extends PositionOutputStream {
           "Failed to create message digest needed for s3 checksum checks.", e);
     }
 
-    stagingFiles.add(new FileAndDigest(currentStagingFile, currentPartMessageDigest));
-    OutputStream outputStream = Files.newOutputStream(currentStagingFile.toPath());
+    if (bufferPool != null) {
+      currentPart = new BufferPart(currentPartMessageDigest);
+    } else {
+      currentPart = new FilePart(newStagingFile(), currentPartMessageDigest);
+    }
+
+    stagingParts.add(currentPart);
+    OutputStream outputStream = currentPart.newOutputStream();
 
     if (isChecksumEnabled) {
       DigestOutputStream digestOutputStream;
 
       // if switched over to multipart threshold already, no need to update complete message digest
       if (multipartUploadId != null) {
-        digestOutputStream =
-            new DigestOutputStream(
-                new BufferedOutputStream(outputStream), currentPartMessageDigest);
+        digestOutputStream = new DigestOutputStream(outputStream, currentPartMessageDigest);
       } else {
         digestOutputStream =
             new DigestOutputStream(
-                new DigestOutputStream(
-                    new BufferedOutputStream(outputStream), currentPartMessageDigest),
+                new DigestOutputStream(outputStream, currentPartMessageDigest),
                 completeMessageDigest);
       }
 
       stream = new CountingOutputStream(digestOutputStream);
     } else {
-      stream = new CountingOutputStream(new BufferedOutputStream(outputStream));
+      stream = new CountingOutputStream(outputStream);
     }
   }
 
+  private File newStagingFile() throws IOException {
+    createStagingDirectoryIfNotExists();
+    File stagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
+    stagingFile.deleteOnExit();
+    return stagingFile;
+  }
+
   @Override
   public void close() throws IOException {
     close(true);
@@ -297,24 +316,23 @@ class S3OutputStream extends PositionOutputStream {
       return;
     }
 
-    stagingFiles.stream()
-        // do not upload the file currently being written
-        .filter(f -> closed || !f.file().equals(currentStagingFile))
-        // do not upload any files that have already been processed
-        .filter(Predicates.not(f -> multiPartMap.containsKey(f.file())))
+    stagingParts.stream()
+        // do not upload the part currently being written
+        .filter(part -> closed || part != currentPart)
+        // do not upload any parts that have already been processed
+        .filter(Predicates.not(multiPartMap::containsKey))
         .forEach(
-            fileAndDigest -> {
-              File f = fileAndDigest.file();
+            part -> {
               UploadPartRequest.Builder requestBuilder =
                   UploadPartRequest.builder()
                       .bucket(location.bucket())
                       .key(location.key())
                       .uploadId(multipartUploadId)
-                      .partNumber(stagingFiles.indexOf(fileAndDigest) + 1)
-                      .contentLength(f.length());
+                      .partNumber(stagingParts.indexOf(part) + 1)
+                      .contentLength(part.length());
 
-              if (fileAndDigest.hasDigest()) {
-                requestBuilder.contentMD5(BinaryUtils.toBase64(fileAndDigest.digest()));
+              if (part.hasDigest()) {
+                requestBuilder.contentMD5(BinaryUtils.toBase64(part.digest()));
               }
 
               S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
@@ -325,7 +343,7 @@ class S3OutputStream extends PositionOutputStream {
                   CompletableFuture.supplyAsync(
                           () -> {
                             UploadPartResponse response =
-                                s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
+                                s3.uploadPart(uploadRequest, part.requestBody());
                             return CompletedPart.builder()
                                 .eTag(response.eTag())
                                 .partNumber(uploadRequest.partNumber())
@@ -334,11 +352,7 @@ class S3OutputStream extends PositionOutputStream {
                           executorService)
                       .whenComplete(
                           (result, thrown) -> {
-                            try {
-                              Files.deleteIfExists(f.toPath());
-                            } catch (IOException e) {
-                              LOG.warn("Failed to delete staging file: {}", f, e);
-                            }
+                            part.release();
 
                             if (thrown != null) {
                               // Exception observed here will be thrown as part of
@@ -348,7 +362,7 @@ class S3OutputStream extends PositionOutputStream {
                             }
                           });
 
-              multiPartMap.put(f, future);
+              multiPartMap.put(part, future);
             });
   }
 
@@ -404,22 +418,17 @@ class S3OutputStream extends PositionOutputStream {
   }
 
   private void cleanUpStagingFiles() {
-    Tasks.foreach(stagingFiles.stream().map(FileAndDigest::file))
-        .suppressFailureWhenFinished()
-        .onFailure((file, thrown) -> LOG.warn("Failed to delete staging file: {}", file, thrown))
-        .run(File::delete);
+    stagingParts.forEach(StagingPart::release);
   }
 
   private void completeUploads() {
     if (multipartUploadId == null) {
-      long contentLength =
-          stagingFiles.stream().map(FileAndDigest::file).mapToLong(File::length).sum();
+      long contentLength = stagingParts.stream().mapToLong(StagingPart::length).sum();
       ContentStreamProvider contentProvider =
           () ->
               new BufferedInputStream(
-                  stagingFiles.stream()
-                      .map(FileAndDigest::file)
-                      .map(S3OutputStream::uncheckedInputStream)
+                  stagingParts.stream()
+                      .map(StagingPart::newInputStream)
                       .reduce(SequenceInputStream::new)
                       .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
 
@@ -451,14 +460,6 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static InputStream uncheckedInputStream(File file) {
-    try {
-      return Files.newInputStream(file.toPath());
-    } catch (IOException e) {
-      throw new UncheckedIOException(e);
-    }
-  }
-
   private void createStagingDirectoryIfNotExists() throws IOException, SecurityException {
     if (!stagingDirectory.exists()) {
       LOG.info(
@@ -492,25 +493,223 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static class FileAndDigest {
-    private final File file;
+  /** A part of the object that is staged before it is uploaded. */
+  private abstract static class StagingPart {
     private final MessageDigest digest;
 
-    FileAndDigest(File file, MessageDigest digest) {
-      this.file = file;
+    StagingPart(MessageDigest digest) {
       this.digest = digest;
     }
 
-    File file() {
-      return file;
-    }
+    abstract OutputStream newOutputStream() throws IOException;
+
+    abstract long length();
+
+    abstract InputStream newInputStream();
+
+    abstract RequestBody requestBody();
+
+    /** Releases the resources held by this part, may be called more than once. */
+    abstract void release();
 
     byte[] digest() {
       return digest.digest();
     }
 
-    public boolean hasDigest() {
+    boolean hasDigest() {
       return digest != null;
     }
   }
+
+  private static class FilePart extends StagingPart {
+    private final File file;
+
+    FilePart(File file, MessageDigest digest) {
+      super(digest);
+      this.file = file;
+    }
+
+    @Override
+    OutputStream newOutputStream() throws IOException {
+      return new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+    }
+
+    @Override
+    long length() {
+      return file.length();
+    }
+
+    @Override
+    InputStream newInputStream() {
+      try {
+        return Files.newInputStream(file.toPath());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromFile(file);
+    }
+
+    @Override
+    void release() {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOG.warn("Failed to delete staging file: {}", file, e);
+      }
+    }
+  }
+
+  /**
+   * A part that is buffered in memory from the pool, growing as it is written up to the part size.
+   *
+   * <p>If the pool is exhausted, the buffered data is spilled to a staging file and the rest of the
+   * part is written to that file.
+   */
+  private class BufferPart extends StagingPart {
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final AtomicBoolean released = new AtomicBoolean(false);
+    private ByteBuffer buffer = null;
+    private File file = null;
+    private OutputStream fileStream = null;
+
+    BufferPart(MessageDigest digest) {
+      super(digest);
+    }
+
+    @Override
+    OutputStream newOutputStream() {
+      return new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+          ensureCapacity(1);
+          if (fileStream != null) {
+            fileStream.write(b);
+          } else {
+            buffer.put((byte) b);
+          }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          ensureCapacity(len);
+          if (fileStream != null) {
+            fileStream.write(b, off, len);
+          } else {
+            buffer.put(b, off, len);
+          }
+        }
+
+        @Override
+        public void flush() throws IOException {
+          if (fileStream != null) {
+            fileStream.flush();
+          }
+        }
+
+        @Override
+        public void close() throws IOException {
+          if (fileStream != null) {
+            fileStream.close();
+          }
+        }
+      };
+    }
+
+    private void ensureCapacity(int len) throws IOException {
+      if (fileStream != null || (buffer != null && buffer.remaining() >= len)) {
+        return;
+      }
+
+      int length = buffer != null ? buffer.position() : 0;
+      int size = buffer != null ? buffer.limit() : INITIAL_BUFFER_SIZE;
+      while (size < length + len && size < multiPartSize) {
+        size = (int) Math.min((long) size * 2, multiPartSize);
+      }
+
+      ByteBuffer newBuffer = bufferPool.tryAcquire(Math.max(size, length + len));
+      if (newBuffer == null) {
+        spill();
+      } else if (buffer != null) {
+        buffer.flip();
+        newBuffer.put(buffer);
+        bufferPool.release(buffer);
+        this.buffer = newBuffer;
+      } else {
+        this.buffer = newBuffer;
+      }
+    }
+
+    private void spill() throws IOException {
+      this.file = newStagingFile();
+      this.fileStream = new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+      if (buffer != null) {
+        buffer.flip();
+        WritableByteChannel channel = Channels.newChannel(fileStream);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+
+        bufferPool.release(buffer);
+        this.buffer = null;
+      }
+    }
+
+    @Override
+    long length() {
+      if (file != null) {
+        return file.length();
+      }
+
+      return buffer != null ? buffer.position() : 0;
+    }
+
+    @Override
+    InputStream newInputStream() {
+      if (file != null) {
+        try {
+          return Files.newInputStream(file.toPath());
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      } else if (buffer == null) {
+        return new ByteArrayInputStream(new byte[0]);
+      }
+
+      ByteBuffer data = buffer.duplicate();
+      data.flip();
+      return ByteBufferInputStream.wrap(data);
+    }
+
+    @Override
+    RequestBody requestBody() {
+      if (file != null) {
+        return RequestBody.fromFile(file);
+      }
+
+      return RequestBody.fromContentProvider(
+          this::newInputStream, length(), Mimetype.MIMETYPE_OCTET_STREAM);
+    }
+
+    @Override
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        if (buffer != null) {
+          bufferPool.release(buffer);
+        }
+
+        if (file != null) {
+          try {
+            Files.deleteIfExists(file.toPath());
+          } catch (IOException e) {
+            LOG.warn("Failed to delete staging file: {}", file, e);
+          }
+        }
+      }
+    }
+  }
 }
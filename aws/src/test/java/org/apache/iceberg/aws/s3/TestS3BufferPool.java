@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+public class TestS3BufferPool {
+
+  @Test
+  public void testReleasedBuffersAreReused() {
+    S3BufferPool pool = new S3BufferPool(100);
+    ByteBuffer buffer = pool.tryAcquire(40);
+    assertThat(buffer.isDirect()).isTrue();
+    assertThat(buffer.remaining()).isEqualTo(40);
+
+    buffer.put(new byte[10]);
+    pool.release(buffer);
+
+    ByteBuffer reused = pool.tryAcquire(30);
+    assertThat(reused).isSameAs(buffer);
+    assertThat(reused.position()).isEqualTo(0);
+    assertThat(reused.limit()).isEqualTo(30);
+    assertThat(pool.allocatedBytes()).isEqualTo(40);
+  }
+
+  @Test
+  public void testLimit() {
+    S3BufferPool pool = new S3BufferPool(100);
+    ByteBuffer first = pool.tryAcquire(50);
+    assertThat(pool.tryAcquire(50)).isNotNull();
+    assertThat(pool.tryAcquire(1)).as("Should not allocate beyond the limit").isNull();
+
+    pool.release(first);
+    assertThat(pool.tryAcquire(50)).isSameAs(first);
+    assertThat(pool.allocatedBytes()).isEqualTo(100);
+  }
+
+  @Test
+  public void testDropSmallFreeBuffers() {
+    S3BufferPool pool = new S3BufferPool(100);
+    ByteBuffer small = pool.tryAcquire(40);
+    ByteBuffer large = pool.tryAcquire(60);
+    pool.release(small);
+
+    ByteBuffer buffer = pool.tryAcquire(80);
+    assertThat(buffer).as("Should not allocate while a large buffer is in use").isNull();
+
+    pool.release(large);
+    buffer = pool.tryAcquire(80);
+    assertThat(buffer).isNotNull().isNotSameAs(small).isNotSameAs(large);
+    assertThat(buffer.capacity()).isEqualTo(80);
+    assertThat(pool.allocatedBytes()).isEqualTo(80);
+  }
+
+  @Test
+  public void testSharedPoolPerLimit() {
+    assertThat(S3BufferPool.shared(1000)).isSameAs(S3BufferPool.shared(1000));
+    assertThat(S3BufferPool.shared(1000)).isNotSameAs(S3BufferPool.shared(2000));
+  }
+
+  @Test
+  public void testInvalidSize() {
+    assertThatThrownBy(() -> new S3BufferPool(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max bytes: 0 (must be > 0)");
+
+  }
+
+  @Test
+  public void testOversizeBuffer() {
+    S3BufferPool pool = new S3BufferPool(100);
+    assertThat(pool.tryAcquire(101)).as("Should not allocate beyond the limit").isNull();
+    assertThat(pool.allocatedBytes()).isEqualTo(0);
+  }
+}
@@ -30,6 +30,7 @@ import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
 
 public class TestADLSInputStream extends AzuriteTestBase {
@@ -81,6 +82,42 @@ public class TestADLSInputStream extends AzuriteTestBase {
     }
   }
 
+  @Test
+  public void testReadAhead() throws Exception {
+    int dataSize = 1024 * 1024 * 10 + 17;
+    byte[] data = randomData(dataSize);
+
+    setupData(data);
+
+    AzureProperties properties =
+        new AzureProperties(
+            ImmutableMap.of(
+                AzureProperties.ADLS_READ_AHEAD_ENABLED, "true",
+                AzureProperties.ADLS_READ_AHEAD_RANGE_SIZE, String.valueOf(1024 * 1024),
+                AzureProperties.ADLS_READ_AHEAD_NUM_RANGES, "2"));
+
+    try (SeekableInputStream in =
+        new ADLSInputStream(fileClient(), null, properties, MetricsContext.nullMetrics())) {
+      // sequential reads switch to read-ahead after the first range
+      int readSize = 300 * 1024;
+      while (in.getPos() + readSize <= 4 * 1024 * 1024) {
+        readAndCheck(in, in.getPos(), readSize, data, true);
+      }
+
+      readAndCheck(in, in.getPos(), 1024, data, false);
+
+      // seek within the ranges read ahead
+      readAndCheck(in, in.getPos() + 1024, readSize, data, true);
+
+      // seek outside of the ranges read ahead and read to the end
+      readAndCheck(in, 8 * 1024 * 1024, dataSize - 8 * 1024 * 1024, data, true);
+      assertThat(in.read()).isEqualTo(-1);
+
+      // backseek and read
+      readAndCheck(in, 0, readSize, data, false);
+    }
+  }
+
   @Test
   public void testReadSingle() throws Exception {
     int i0 = 1;
@@ -151,6 +188,29 @@ public class TestADLSInputStream extends AzuriteTestBase {
     }
   }
 
+  @Test
+  public void testParallelRangeRead() throws Exception {
+    int dataSize = 1024 * 1024 * 10;
+    byte[] expected = randomData(dataSize);
+    byte[] actual = new byte[dataSize];
+
+    setupData(expected);
+
+    AzureProperties properties =
+        new AzureProperties(
+            ImmutableMap.of(AzureProperties.ADLS_READ_PARALLEL_RANGE_SIZE, "100000"));
+
+    try (RangeReadable in =
+        new ADLSInputStream(fileClient(), null, properties, MetricsContext.nullMetrics())) {
+      // whole file
+      readAndCheckRanges(in, expected, 0, actual, 0, dataSize);
+
+      // middle 3MB, not aligned to the range size
+      int offset = dataSize / 2 - 1024 * 1024 - 7;
+      readAndCheckRanges(in, expected, offset, actual, offset, 3 * 1024 * 1024);
+    }
+  }
+
   private void readAndCheckRanges(
       RangeReadable in, byte[] original, long position, byte[] buffer, int offset, int length)
       throws IOException {
@@ -29,6 +29,7 @@ import java.util.UUID;
 import org.apache.iceberg.azure.AzureProperties;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -42,10 +43,30 @@ public class TestADLSOutputStream extends AzuriteTestBase {
   @ValueSource(booleans = {true, false})
   public void testWrite(boolean arrayWrite) {
     // Test small file write
-    writeAndVerify(randomData(1024), arrayWrite);
+    writeAndVerify(azureProperties, randomData(1024), arrayWrite);
 
     // Test large file
-    writeAndVerify(randomData(10 * 1024 * 1024), arrayWrite);
+    writeAndVerify(azureProperties, randomData(10 * 1024 * 1024), arrayWrite);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void testParallelUpload(boolean arrayWrite) {
+    AzureProperties properties =
+        new AzureProperties(
+            ImmutableMap.of(
+                AzureProperties.ADLS_WRITE_PARALLEL_UPLOAD_ENABLED, "true",
+                AzureProperties.ADLS_WRITE_BLOCK_SIZE, String.valueOf(1024 * 1024),
+                AzureProperties.ADLS_WRITE_MAX_PENDING_BLOCKS, "2"));
+
+    // Test empty file
+    writeAndVerify(properties, new byte[0], arrayWrite);
+
+    // Test small file write
+    writeAndVerify(properties, randomData(1024), arrayWrite);
+
+    // Test large file, with a partial last block
+    writeAndVerify(properties, randomData(10 * 1024 * 1024 + 17), arrayWrite);
   }
 
   @Test
@@ -57,12 +78,12 @@ public class TestADLSOutputStream extends AzuriteTestBase {
     stream.close();
   }
 
-  private void writeAndVerify(byte[] data, boolean arrayWrite) {
+  private void writeAndVerify(AzureProperties properties, byte[] data, boolean arrayWrite) {
     String path = randomPath();
     DataLakeFileClient fileClient = AZURITE_CONTAINER.fileClient(path);
 
     try (ADLSOutputStream stream =
-        new ADLSOutputStream(fileClient, azureProperties, MetricsContext.nullMetrics())) {
+        new ADLSOutputStream(fileClient, properties, MetricsContext.nullMetrics())) {
       if (arrayWrite) {
         stream.write(data);
         assertThat(stream.getPos()).isEqualTo(data.length);
@@ -85,6 +106,7 @@ public class TestADLSOutputStream extends AzuriteTestBase {
     }
 
     assertThat(actual).isEqualTo(data);
+    assertThat(fileClient.getProperties().getFileSize()).isEqualTo(data.length);
   }
 
   private String randomPath() {
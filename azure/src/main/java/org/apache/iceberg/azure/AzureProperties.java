@@ -27,6 +27,9 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.azure.adlsv2.VendedAdlsCredentialProvider;
+import org.apache.iceberg.io.HedgedRangeReader;
+import org.apache.iceberg.io.ReadAheadBufferPool;
+import org.apache.iceberg.io.VectoredReadUtil;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -43,6 +46,92 @@ public class AzureProperties implements Serializable {
   public static final String ADLS_SHARED_KEY_ACCOUNT_NAME = "adls.auth.shared-key.account.name";
   public static final String ADLS_SHARED_KEY_ACCOUNT_KEY = "adls.auth.shared-key.account.key";
 
+  /**
+   * The maximum gap in bytes between two ranges of a vectored read for them to be read using a
+   * single request (default: 128KB).
+   */
+  public static final String ADLS_VECTORED_READ_MERGE_GAP = "adls.vectored-read.merge-gap-bytes";
+
+  /**
+   * The maximum size in bytes of a single request that combines multiple ranges of a vectored read
+   * (default: 2MB).
+   */
+  public static final String ADLS_VECTORED_READ_MAX_MERGED_SIZE =
+      "adls.vectored-read.max-merged-size-bytes";
+
+  /**
+   * Controls whether output streams stage blocks concurrently using parallel append requests and
+   * flush them on close (default: false).
+   */
+  public static final String ADLS_WRITE_PARALLEL_UPLOAD_ENABLED =
+      "adls.write.parallel-upload.enabled";
+
+  /** The size in bytes of the blocks staged by parallel uploads (default: 8MB). */
+  public static final long ADLS_WRITE_BLOCK_SIZE_DEFAULT = 8 * 1024 * 1024;
+
+  /**
+   * The maximum number of blocks of a single output stream that are buffered in memory while they
+   * are staged by parallel uploads (default: 4).
+   */
+  public static final String ADLS_WRITE_MAX_PENDING_BLOCKS = "adls.write.max-pending-blocks";
+
+  public static final int ADLS_WRITE_MAX_PENDING_BLOCKS_DEFAULT = 4;
+
+  /**
+   * Number of threads to use for staging blocks (shared pool across all output streams), default
+   * to {@link Runtime#availableProcessors()}
+   */
+  public static final String ADLS_WRITE_UPLOAD_THREADS = "adls.write.upload-threads";
+
+  /**
+   * The size in bytes of the ranges that {@code readFully} requests larger than this size are split
+   * into and read in parallel (default: 8MB).
+   */
+  public static final String ADLS_READ_PARALLEL_RANGE_SIZE = "adls.read.parallel-range-size-bytes";
+
+  public static final int ADLS_READ_PARALLEL_RANGE_SIZE_DEFAULT = 8 * 1024 * 1024;
+
+  /**
+   * Controls whether input streams read ahead once sequential access is detected (default: false).
+   * When enabled, after a full read-ahead range has been read sequentially, the following ranges
+   * are read in parallel and reads are served from them until the next random seek.
+   */
+  public static final String ADLS_READ_AHEAD_ENABLED = "adls.read-ahead.enabled";
+
+  /** The size in bytes of each range read by read-ahead (default: 8MB). */
+  public static final String ADLS_READ_AHEAD_RANGE_SIZE = "adls.read-ahead.range-size-bytes";
+
+  public static final int ADLS_READ_AHEAD_RANGE_SIZE_DEFAULT = 8 * 1024 * 1024;
+
+  /**
+   * The number of ranges read ahead of the current position of a stream (default: 4), which bounds
+   * the memory used by read-ahead to this number of ranges per stream.
+   */
+  public static final String ADLS_READ_AHEAD_NUM_RANGES = "adls.read-ahead.num-ranges";
+
+  public static final int ADLS_READ_AHEAD_NUM_RANGES_DEFAULT = 4;
+
+  /**
+   * The maximum size in bytes of the ranges read ahead by all ADLS input streams in the JVM that
+   * use the same limit (default: 256MB). Streams read fewer ranges ahead when the limit is reached.
+   */
+  public static final String ADLS_READ_AHEAD_MAX_TOTAL_BYTES = "adls.read-ahead.max-total-bytes";
+
+  public static final long ADLS_READ_AHEAD_MAX_TOTAL_BYTES_DEFAULT =
+      ReadAheadBufferPool.MAX_TOTAL_BYTES_DEFAULT;
+
+  /**
+   * Controls whether range reads send a hedged request when the first request is slow (default:
+   * false).
+   */
+  public static final String ADLS_READ_HEDGING_ENABLED = "adls.read.hedging.enabled";
+
+  /** The latency percentile after which a range read is hedged (default: 95). */
+  public static final String ADLS_READ_HEDGING_PERCENTILE = "adls.read.hedging.percentile";
+
+  /** The maximum fraction of range reads that send a hedged request (default: 0.05). */
+  public static final String ADLS_READ_HEDGING_BUDGET = "adls.read.hedging.budget";
+
   /**
    * When set, the {@link VendedAdlsCredentialProvider} will be used to fetch and refresh vended
    * credentials from this endpoint.
@@ -58,6 +147,19 @@ public class AzureProperties implements Serializable {
   private Map.Entry<String, String> namedKeyCreds;
   private Integer adlsReadBlockSize;
   private Long adlsWriteBlockSize;
+  private int adlsVectoredReadMergeGap = VectoredReadUtil.MERGE_GAP_DEFAULT;
+  private int adlsVectoredReadMaxMergedSize = VectoredReadUtil.MAX_MERGED_SIZE_DEFAULT;
+  private boolean adlsWriteParallelUploadEnabled = false;
+  private int adlsWriteMaxPendingBlocks = ADLS_WRITE_MAX_PENDING_BLOCKS_DEFAULT;
+  private int adlsWriteUploadThreads = Runtime.getRuntime().availableProcessors();
+  private int adlsReadParallelRangeSize = ADLS_READ_PARALLEL_RANGE_SIZE_DEFAULT;
+  private boolean adlsReadAheadEnabled = false;
+  private int adlsReadAheadRangeSize = ADLS_READ_AHEAD_RANGE_SIZE_DEFAULT;
+  private int adlsReadAheadNumRanges = ADLS_READ_AHEAD_NUM_RANGES_DEFAULT;
+  private long adlsReadAheadMaxTotalBytes = ADLS_READ_AHEAD_MAX_TOTAL_BYTES_DEFAULT;
+  private boolean adlsReadHedgingEnabled = false;
+  private double adlsReadHedgingPercentile = HedgedRangeReader.PERCENTILE_DEFAULT;
+  private double adlsReadHedgingBudget = HedgedRangeReader.BUDGET_DEFAULT;
   private String adlsRefreshCredentialsEndpoint;
   private boolean adlsRefreshCredentialsEnabled;
   private Map<String, String> allProperties;
@@ -86,6 +188,72 @@ public class AzureProperties implements Serializable {
     if (properties.containsKey(ADLS_WRITE_BLOCK_SIZE)) {
       this.adlsWriteBlockSize = Long.parseLong(properties.get(ADLS_WRITE_BLOCK_SIZE));
     }
+    this.adlsVectoredReadMergeGap =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_VECTORED_READ_MERGE_GAP, VectoredReadUtil.MERGE_GAP_DEFAULT);
+    this.adlsVectoredReadMaxMergedSize =
+        PropertyUtil.propertyAsInt(
+            properties,
+            ADLS_VECTORED_READ_MAX_MERGED_SIZE,
+            VectoredReadUtil.MAX_MERGED_SIZE_DEFAULT);
+    this.adlsWriteParallelUploadEnabled =
+        PropertyUtil.propertyAsBoolean(properties, ADLS_WRITE_PARALLEL_UPLOAD_ENABLED, false);
+    this.adlsWriteMaxPendingBlocks =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_WRITE_MAX_PENDING_BLOCKS, ADLS_WRITE_MAX_PENDING_BLOCKS_DEFAULT);
+    Preconditions.checkArgument(
+        adlsWriteMaxPendingBlocks > 0,
+        "Invalid max pending blocks: %s (must be > 0)",
+        adlsWriteMaxPendingBlocks);
+    this.adlsWriteUploadThreads =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_WRITE_UPLOAD_THREADS, Runtime.getRuntime().availableProcessors());
+    this.adlsReadParallelRangeSize =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_READ_PARALLEL_RANGE_SIZE, ADLS_READ_PARALLEL_RANGE_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        adlsReadParallelRangeSize > 0,
+        "Invalid parallel range size: %s (must be > 0)",
+        adlsReadParallelRangeSize);
+    this.adlsReadAheadEnabled =
+        PropertyUtil.propertyAsBoolean(properties, ADLS_READ_AHEAD_ENABLED, false);
+    this.adlsReadAheadRangeSize =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_READ_AHEAD_RANGE_SIZE, ADLS_READ_AHEAD_RANGE_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        adlsReadAheadRangeSize > 0,
+        "Invalid read-ahead range size: %s (must be > 0)",
+        adlsReadAheadRangeSize);
+    this.adlsReadAheadNumRanges =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_READ_AHEAD_NUM_RANGES, ADLS_READ_AHEAD_NUM_RANGES_DEFAULT);
+    Preconditions.checkArgument(
+        adlsReadAheadNumRanges > 0,
+        "Invalid read-ahead number of ranges: %s (must be > 0)",
+        adlsReadAheadNumRanges);
+    this.adlsReadAheadMaxTotalBytes =
+        PropertyUtil.propertyAsLong(
+            properties, ADLS_READ_AHEAD_MAX_TOTAL_BYTES, ADLS_READ_AHEAD_MAX_TOTAL_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        adlsReadAheadMaxTotalBytes > 0,
+        "Invalid read-ahead max total bytes: %s (must be > 0)",
+        adlsReadAheadMaxTotalBytes);
+    this.adlsReadHedgingEnabled =
+        PropertyUtil.propertyAsBoolean(properties, ADLS_READ_HEDGING_ENABLED, false);
+    this.adlsReadHedgingPercentile =
+        PropertyUtil.propertyAsDouble(
+            properties, ADLS_READ_HEDGING_PERCENTILE, HedgedRangeReader.PERCENTILE_DEFAULT);
+    Preconditions.checkArgument(
+        adlsReadHedgingPercentile > 0 && adlsReadHedgingPercentile < 100,
+        "Invalid read hedging percentile: %s (must be between 0 and 100)",
+        adlsReadHedgingPercentile);
+    this.adlsReadHedgingBudget =
+        PropertyUtil.propertyAsDouble(
+            properties, ADLS_READ_HEDGING_BUDGET, HedgedRangeReader.BUDGET_DEFAULT);
+    Preconditions.checkArgument(
+        adlsReadHedgingBudget >= 0 && adlsReadHedgingBudget <= 1,
+        "Invalid read hedging budget: %s (must be between 0 and 1)",
+        adlsReadHedgingBudget);
     this.adlsRefreshCredentialsEndpoint =
         RESTUtil.resolveEndpoint(
             properties.get(CatalogProperties.URI),
@@ -103,6 +271,58 @@ public class AzureProperties implements Serializable {
     return Optional.ofNullable(adlsWriteBlockSize);
   }
 
+  public int adlsVectoredReadMergeGap() {
+    return adlsVectoredReadMergeGap;
+  }
+
+  public int adlsVectoredReadMaxMergedSize() {
+    return adlsVectoredReadMaxMergedSize;
+  }
+
+  public boolean adlsWriteParallelUploadEnabled() {
+    return adlsWriteParallelUploadEnabled;
+  }
+
+  public int adlsWriteMaxPendingBlocks() {
+    return adlsWriteMaxPendingBlocks;
+  }
+
+  public int adlsWriteUploadThreads() {
+    return adlsWriteUploadThreads;
+  }
+
+  public int adlsReadParallelRangeSize() {
+    return adlsReadParallelRangeSize;
+  }
+
+  public boolean adlsReadAheadEnabled() {
+    return adlsReadAheadEnabled;
+  }
+
+  public int adlsReadAheadRangeSize() {
+    return adlsReadAheadRangeSize;
+  }
+
+  public int adlsReadAheadNumRanges() {
+    return adlsReadAheadNumRanges;
+  }
+
+  public long adlsReadAheadMaxTotalBytes() {
+    return adlsReadAheadMaxTotalBytes;
+  }
+
+  public boolean adlsReadHedgingEnabled() {
+    return adlsReadHedgingEnabled;
+  }
+
+  public double adlsReadHedgingPercentile() {
+    return adlsReadHedgingPercentile;
+  }
+
+  public double adlsReadHedgingBudget() {
+    return adlsReadHedgingBudget;
+  }
+
   public Optional<VendedAdlsCredentialProvider> vendedAdlsCredentialProvider() {
     if (adlsRefreshCredentialsEnabled && !Strings.isNullOrEmpty(adlsRefreshCredentialsEndpoint)) {
       Map<String, String> credentialProviderProperties = Maps.newHashMap(allProperties);
@@ -24,18 +24,32 @@ import com.azure.storage.file.datalake.models.FileRange;
 import com.azure.storage.file.datalake.options.DataLakeFileInputStreamOptions;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
 import org.apache.iceberg.azure.AzureProperties;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.HedgedRangeReader;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.ReadAhead;
+import org.apache.iceberg.io.ReadAheadBufferPool;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReadUtil;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,8 +69,14 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   private long next;
   private boolean closed;
 
+  private final ReadAhead readAhead;
+  private long sequentialBytes;
+
   private final Counter readBytes;
   private final Counter readOperations;
+  private final Counter hedgedRequests;
+  private final Counter hedgedWins;
+  private final HedgedRangeReader hedgedReader;
 
   ADLSInputStream(
       DataLakeFileClient fileClient,
@@ -69,6 +89,23 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
 
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
+    this.hedgedRequests = metrics.counter(FileIOMetricsContext.READ_HEDGED_REQUESTS);
+    this.hedgedWins = metrics.counter(FileIOMetricsContext.READ_HEDGED_WINS);
+    this.hedgedReader =
+        azureProperties.adlsReadHedgingEnabled()
+            ? HedgedRangeReader.shared(
+                "adls",
+                azureProperties.adlsReadHedgingPercentile(),
+                azureProperties.adlsReadHedgingBudget())
+            : null;
+    this.readAhead =
+        new ReadAhead(
+            fileClient.getFilePath(),
+            this::readRangeFully,
+            azureProperties.adlsReadAheadRangeSize(),
+            azureProperties.adlsReadAheadNumRanges(),
+            ThreadPools.getReadWorkerPool(),
+            ReadAheadBufferPool.shared("adls", azureProperties.adlsReadAheadMaxTotalBytes()));
 
     this.createStack = Thread.currentThread().getStackTrace();
 
@@ -106,10 +143,29 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read() throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (readAhead.isEndOfFile(next)) {
+      return -1;
+    }
+
+    if (startReadAhead()) {
+      int value = readAhead.read(next);
+      if (value >= 0) {
+        next += 1;
+        readBytes.increment();
+        readOperations.increment();
+
+        return value;
+      }
+
+      // read-ahead was cancelled
+      this.sequentialBytes = 0;
+    }
+
     positionStream();
 
     pos += 1;
     next += 1;
+    sequentialBytes += 1;
     readBytes.increment();
     readOperations.increment();
 
@@ -119,11 +175,30 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read(byte[] b, int off, int len) throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (readAhead.isEndOfFile(next)) {
+      return -1;
+    }
+
+    if (startReadAhead()) {
+      int bytesRead = readAhead.read(next, b, off, len);
+      if (bytesRead >= 0) {
+        next += bytesRead;
+        readBytes.increment(bytesRead);
+        readOperations.increment();
+
+        return bytesRead;
+      }
+
+      // read-ahead was cancelled
+      this.sequentialBytes = 0;
+    }
+
     positionStream();
 
     int bytesRead = stream.read(b, off, len);
     pos += bytesRead;
     next += bytesRead;
+    sequentialBytes += bytesRead;
     readBytes.increment(bytesRead);
     readOperations.increment();
 
@@ -152,17 +227,115 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
     }
 
     // close the stream and open at desired position
+    if (stream != null) {
+      this.sequentialBytes = 0;
+      stream.close();
+    }
+
     this.pos = next;
     openStream();
   }
 
+  /**
+   * Starts reading ahead when sequential access is detected.
+   *
+   * @return true if reads should be served by read-ahead
+   */
+  private boolean startReadAhead() throws IOException {
+    if (!azureProperties.adlsReadAheadEnabled()) {
+      return false;
+    }
+
+    if (!readAhead.isActive() && shouldStartReadAhead()) {
+      // sequential access detected, read the following ranges in parallel and close the stream
+      readAhead.start(next, fileSize);
+      if (readAhead.isActive()) {
+        stream.close();
+        this.stream = null;
+      } else {
+        // no read-ahead buffers are available, keep using the stream
+        this.sequentialBytes = 0;
+      }
+    }
+
+    return readAhead.isActive();
+  }
+
+  private boolean shouldStartReadAhead() {
+    return stream != null
+        && sequentialBytes >= azureProperties.adlsReadAheadRangeSize()
+        && fileSize != null
+        && next == pos
+        && next < fileSize;
+  }
+
   @Override
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
     Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
 
-    FileRange range = new FileRange(position, position + length);
+    int rangeSize = azureProperties.adlsReadParallelRangeSize();
+    if (length <= rangeSize || ThreadPools.isReadWorkerThread()) {
+      // tasks in the read pool must not wait on other tasks in the pool, so read in this thread
+      readRange(position, buffer, offset, length);
+      return;
+    }
+
+    // split large reads into ranges that are read in parallel, a failed range skips the ranges
+    // that have not started
+    AtomicBoolean failed = new AtomicBoolean(false);
+    List<Future<?>> futures = Lists.newArrayList();
+    for (int rangeOffset = 0; rangeOffset < length; rangeOffset += rangeSize) {
+      int start = rangeOffset;
+      int rangeLength = Math.min(rangeSize, length - rangeOffset);
+      futures.add(
+          ThreadPools.getReadWorkerPool()
+              .submit(
+                  () -> {
+                    if (failed.get()) {
+                      return;
+                    }
+
+                    try {
+                      readRange(position + start, buffer, offset + start, rangeLength);
+                    } catch (IOException e) {
+                      failed.set(true);
+                      throw new UncheckedIOException(e);
+                    } catch (RuntimeException e) {
+                      failed.set(true);
+                      throw e;
+                    }
+                  }));
+    }
+
+    // wait for every range to finish, even after a failure, so that no range is written to the
+    // buffer after this returns
+    Throwable failure = null;
+    boolean interrupted = false;
+    for (Future<?> future : futures) {
+      while (true) {
+        try {
+          future.get();
+          break;
+        } catch (ExecutionException e) {
+          failure = failure != null ? failure : e.getCause();
+          break;
+        } catch (InterruptedException e) {
+          failed.set(true);
+          interrupted = true;
+        }
+      }
+    }
 
-    IOUtil.readFully(openRange(range), buffer, offset, length);
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while reading " + fileClient.getFilePath());
+    } else if (failure instanceof UncheckedIOException) {
+      throw ((UncheckedIOException) failure).getCause();
+    } else if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    } else if (failure != null) {
+      throw new IOException("Failed to read range of " + fileClient.getFilePath(), failure);
+    }
   }
 
   @Override
@@ -177,6 +350,40 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
     return IOUtil.readRemaining(openRange(new FileRange(readStart)), buffer, offset, length);
   }
 
+  @Override
+  public void readVectored(
+      List<org.apache.iceberg.io.FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    VectoredReadUtil.readVectored(
+        this,
+        ranges,
+        allocate,
+        ThreadPools.getReadWorkerPool(),
+        azureProperties.adlsVectoredReadMergeGap(),
+        azureProperties.adlsVectoredReadMaxMergedSize());
+  }
+
+  private void readRange(long position, byte[] buffer, int offset, int length) throws IOException {
+    if (hedgedReader != null) {
+      hedgedReader.readFully(
+          (bytes, off, len) -> readRangeFully(position, bytes, off, len),
+          buffer,
+          offset,
+          length,
+          hedgedRequests,
+          hedgedWins);
+    } else {
+      readRangeFully(position, buffer, offset, length);
+    }
+  }
+
+  private void readRangeFully(long position, byte[] buffer, int offset, int length)
+      throws IOException {
+    try (InputStream in = openRange(new FileRange(position, length))) {
+      IOUtil.readFully(in, buffer, offset, length);
+    }
+  }
+
   private InputStream openRange(FileRange range) {
     return fileClient.openInputStream(getInputOptions(range)).getInputStream();
   }
@@ -185,6 +392,7 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   public void close() throws IOException {
     super.close();
     this.closed = true;
+    readAhead.cancel();
     if (stream != null) {
       stream.close();
     }
@@ -91,9 +91,15 @@ class ADLSOutputStream extends PositionOutputStream {
   }
 
   private void openStream() {
+    if (azureProperties.adlsWriteParallelUploadEnabled()) {
+      this.stream = new ADLSParallelOutputStream(fileClient, azureProperties);
+      return;
+    }
+
     DataLakeFileOutputStreamOptions options = new DataLakeFileOutputStreamOptions();
     ParallelTransferOptions transferOptions = new ParallelTransferOptions();
     azureProperties.adlsWriteBlockSize().ifPresent(transferOptions::setBlockSizeLong);
+    options.setParallelTransferOptions(transferOptions);
     this.stream = new BufferedOutputStream(fileClient.getOutputStream(options));
   }
 
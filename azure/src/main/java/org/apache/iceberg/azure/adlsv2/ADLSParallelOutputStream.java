@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.azure.adlsv2;
+
+import com.azure.storage.file.datalake.DataLakeFileClient;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.apache.iceberg.azure.AzureProperties;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An output stream that stages fixed-size blocks of a file concurrently using append requests at
+ * their offsets, and flushes (commits) the file when closed.
+ *
+ * <p>The number of blocks buffered in memory by a stream is bounded and block buffers are reused
+ * once they are staged. If staging a block fails, the file is deleted when the stream is closed.
+ */
+class ADLSParallelOutputStream extends OutputStream {
+  private static final Logger LOG = LoggerFactory.getLogger(ADLSParallelOutputStream.class);
+
+  private static volatile ExecutorService executorService;
+
+  private final DataLakeFileClient fileClient;
+  private final int blockSize;
+  private final int maxPendingBlocks;
+  private final Deque<PendingBlock> pendingBlocks = Queues.newArrayDeque();
+  private final Deque<byte[]> freeBuffers = Queues.newArrayDeque();
+
+  private byte[] buffer;
+  private int bufferPos = 0;
+  private long stagedBytes = 0;
+  private boolean created = false;
+  private boolean failed = false;
+  private boolean closed = false;
+  // set when the upload is aborted so that blocks that have not started are skipped
+  private volatile boolean aborted = false;
+
+  ADLSParallelOutputStream(DataLakeFileClient fileClient, AzureProperties azureProperties) {
+    if (executorService == null) {
+      synchronized (ADLSParallelOutputStream.class) {
+        if (executorService == null) {
+          executorService =
+              MoreExecutors.getExitingExecutorService(
+                  (ThreadPoolExecutor)
+                      Executors.newFixedThreadPool(
+                          azureProperties.adlsWriteUploadThreads(),
+                          new ThreadFactoryBuilder()
+                              .setDaemon(true)
+                              .setNameFormat("iceberg-adlsfileio-upload-%d")
+                              .build()));
+        }
+      }
+    }
+
+    this.fileClient = fileClient;
+    this.blockSize =
+        Math.toIntExact(
+            azureProperties
+                .adlsWriteBlockSize()
+                .orElse(AzureProperties.ADLS_WRITE_BLOCK_SIZE_DEFAULT));
+    this.maxPendingBlocks = azureProperties.adlsWriteMaxPendingBlocks();
+    this.buffer = new byte[blockSize];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (bufferPos == blockSize) {
+      stageBlock();
+    }
+
+    buffer[bufferPos] = (byte) b;
+    bufferPos += 1;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    int remaining = len;
+    int offset = off;
+    while (remaining > 0) {
+      if (bufferPos == blockSize) {
+        stageBlock();
+      }
+
+      int writeSize = Math.min(remaining, blockSize - bufferPos);
+      System.arraycopy(b, offset, buffer, bufferPos, writeSize);
+      bufferPos += writeSize;
+      offset += writeSize;
+      remaining -= writeSize;
+    }
+  }
+
+  private void stageBlock() throws IOException {
+    try {
+      // bound the memory used by this stream by waiting for the oldest block
+      while (pendingBlocks.size() >= maxPendingBlocks) {
+        freeBuffers.addLast(pendingBlocks.removeFirst().await());
+      }
+
+      if (!created) {
+        fileClient.create(true /* overwrite */);
+        this.created = true;
+      }
+    } catch (IOException | RuntimeException e) {
+      this.failed = true;
+      throw e;
+    }
+
+    byte[] data = buffer;
+    int length = bufferPos;
+    long fileOffset = stagedBytes;
+    CompletableFuture<Void> future =
+        CompletableFuture.runAsync(
+            () -> {
+              if (!aborted) {
+                fileClient.append(new ByteArrayInputStream(data, 0, length), fileOffset, length);
+              }
+            },
+            executorService);
+    pendingBlocks.addLast(new PendingBlock(data, future));
+
+    this.stagedBytes += length;
+    this.buffer = freeBuffers.isEmpty() ? new byte[blockSize] : freeBuffers.removeFirst();
+    this.bufferPos = 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    this.closed = true;
+
+    try {
+      if (failed) {
+        // staging a block failed while writing, so the file must not be reported as written
+        throw new IOException(
+            "Cannot complete upload of " + fileClient.getFilePath() + ": staging a block failed");
+      }
+
+      if (bufferPos > 0) {
+        stageBlock();
+      } else if (!created) {
+        fileClient.create(true /* overwrite */);
+        this.created = true;
+      }
+
+      while (!pendingBlocks.isEmpty()) {
+        pendingBlocks.removeFirst().await();
+      }
+
+      fileClient.flush(stagedBytes, true /* overwrite */);
+    } catch (IOException | RuntimeException e) {
+      abort();
+      throw e;
+    } finally {
+      this.buffer = null;
+      freeBuffers.clear();
+    }
+  }
+
+  private void abort() {
+    this.aborted = true;
+
+    // cancelling does not stop an append that is running, so wait for every append to finish
+    // before the file is deleted
+    for (PendingBlock pending : pendingBlocks) {
+      pending.future.handle((ignored, failure) -> null).join();
+    }
+
+    pendingBlocks.clear();
+
+    if (created) {
+      try {
+        fileClient.delete();
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to delete partially written file: {}", fileClient.getFilePath(), e);
+      }
+    }
+  }
+
+  private static class PendingBlock {
+    private final byte[] buffer;
+    private final CompletableFuture<Void> future;
+
+    private PendingBlock(byte[] buffer, CompletableFuture<Void> future) {
+      this.buffer = buffer;
+      this.future = future;
+    }
+
+    private byte[] await() throws IOException {
+      try {
+        future.get();
+        return buffer;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while staging block");
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+
+        throw new IOException("Failed to stage block", e.getCause());
+      }
+    }
+  }
+}
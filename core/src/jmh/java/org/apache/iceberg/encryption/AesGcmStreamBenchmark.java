@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.encryption;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares reading and writing AES GCM streams with plaintext streams.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=AesGcmStreamBenchmark
+ *       -PjmhOutputPath=benchmark/aes-gcm-stream-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 5, timeUnit = TimeUnit.MINUTES)
+public class AesGcmStreamBenchmark {
+
+  private static final int FILE_SIZE = 256 * 1024 * 1024;
+  private static final int WRITE_CHUNK_SIZE = 64 * 1024;
+  // similar to the size of a Parquet column chunk
+  private static final int RANGE_SIZE = 8 * 1024 * 1024;
+
+  private final byte[] data = new byte[FILE_SIZE];
+  private final byte[] readBuffer = new byte[FILE_SIZE];
+  private File dir;
+  private byte[] key;
+  private byte[] aadPrefix;
+  private InputFile plainFile;
+  private InputFile encryptedFile;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    Random random = new Random(42);
+    random.nextBytes(data);
+    this.key = new byte[16];
+    random.nextBytes(key);
+    this.aadPrefix = new byte[16];
+    random.nextBytes(aadPrefix);
+
+    this.dir = Files.createTempDirectory("aes-gcm-stream-benchmark").toFile();
+    OutputFile plainOutput = org.apache.iceberg.Files.localOutput(new File(dir, "plain"));
+    write(plainOutput);
+    this.plainFile = plainOutput.toInputFile();
+
+    OutputFile encryptedOutput = org.apache.iceberg.Files.localOutput(new File(dir, "encrypted"));
+    write(new AesGcmOutputFile(encryptedOutput, key, aadPrefix));
+    this.encryptedFile = new AesGcmInputFile(encryptedOutput.toInputFile(), key, aadPrefix);
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    for (File file : dir.listFiles()) {
+      file.delete();
+    }
+
+    dir.delete();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void writePlaintext() throws IOException {
+    write(org.apache.iceberg.Files.localOutput(new File(dir, "plain-write")));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void writeEncrypted() throws IOException {
+    OutputFile output = org.apache.iceberg.Files.localOutput(new File(dir, "encrypted-write"));
+    write(new AesGcmOutputFile(output, key, aadPrefix));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readPlaintext(Blackhole blackhole) throws IOException {
+    readFully(plainFile, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readEncrypted(Blackhole blackhole) throws IOException {
+    readFully(encryptedFile, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readEncryptedRanges(Blackhole blackhole) throws IOException {
+    try (SeekableInputStream stream = encryptedFile.newStream()) {
+      RangeReadable ranges = (RangeReadable) stream;
+      for (int pos = 0; pos < FILE_SIZE; pos += RANGE_SIZE) {
+        ranges.readFully(pos, readBuffer, pos, Math.min(RANGE_SIZE, FILE_SIZE - pos));
+      }
+    }
+
+    blackhole.consume(readBuffer);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readEncryptedSmallReads(Blackhole blackhole) throws IOException {
+    try (SeekableInputStream stream = encryptedFile.newStream()) {
+      for (int pos = 0; pos < FILE_SIZE; pos += WRITE_CHUNK_SIZE) {
+        IOUtil.readFully(stream, readBuffer, pos, WRITE_CHUNK_SIZE);
+      }
+    }
+
+    blackhole.consume(readBuffer);
+  }
+
+  private void write(OutputFile file) throws IOException {
+    try (PositionOutputStream out = file.createOrOverwrite()) {
+      for (int pos = 0; pos < FILE_SIZE; pos += WRITE_CHUNK_SIZE) {
+        out.write(data, pos, WRITE_CHUNK_SIZE);
+      }
+    }
+  }
+
+  private void readFully(InputFile file, Blackhole blackhole) throws IOException {
+    try (SeekableInputStream stream = file.newStream()) {
+      IOUtil.readFully(stream, readBuffer, 0, FILE_SIZE);
+    }
+
+    blackhole.consume(readBuffer);
+  }
+}
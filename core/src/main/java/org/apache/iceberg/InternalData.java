@@ -154,7 +154,12 @@ public class InternalData {
     /** Read only the split that is {@code length} bytes starting at {@code start}. */
     ReadBuilder split(long newStart, long newLength);
 
-    /** Reuse container classes, like structs, lists, and maps. */
+    /**
+     * Reuse container classes, like structs, lists, and maps.
+     *
+     * <p>When enabled, a record returned by the reader and any nested struct, list, or map are
+     * only valid until the next record is read. Callers that hold on to a record must copy it.
+     */
     ReadBuilder reuseContainers();
 
     /** Set a custom class for in-memory objects at the schema root. */
@@ -31,7 +31,6 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.expressions.Literal;
 import org.apache.iceberg.io.CloseableIterable;
@@ -408,21 +407,36 @@ public class PartitionStatsHandler {
 
   private static PartitionMap<PartitionStats> computeStatsDiff(
       Table table, Snapshot fromSnapshot, Snapshot toSnapshot) {
-    Iterable<Snapshot> snapshots =
-        SnapshotUtil.ancestorsBetween(
-            toSnapshot.snapshotId(), fromSnapshot.snapshotId(), table::snapshot);
+    List<Snapshot> snapshots =
+        Lists.newArrayList(
+            SnapshotUtil.ancestorsBetween(
+                toSnapshot.snapshotId(), fromSnapshot.snapshotId(), table::snapshot));
     // DELETED manifest entries are not carried over to subsequent snapshots.
     // So, for incremental computation, gather the manifests added by each snapshot
     // instead of relying solely on those from the latest snapshot.
-    List<ManifestFile> manifests =
-        StreamSupport.stream(snapshots.spliterator(), false)
-            .flatMap(
-                snapshot ->
-                    snapshot.allManifests(table.io()).stream()
-                        .filter(file -> file.snapshotId().equals(snapshot.snapshotId())))
-            .collect(Collectors.toList());
-
-    return computeStats(table, manifests, true /* incremental */);
+    Queue<ManifestFile> manifests = Queues.newConcurrentLinkedQueue();
+    Tasks.foreach(snapshots)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(ThreadPools.getWorkerPool())
+        .run(
+            snapshot ->
+                snapshot.allManifests(table.io()).stream()
+                    .filter(manifest -> hasChangesFrom(manifest, snapshot))
+                    .forEach(manifests::add));
+
+    return computeStats(table, Lists.newArrayList(manifests), true /* incremental */);
+  }
+
+  /**
+   * Returns whether the manifest was written by the snapshot and contains entries that were added
+   * or deleted by it. Manifests that only carry over existing entries, like the ones written when
+   * rewriting manifests, do not change the stats and are skipped.
+   */
+  private static boolean hasChangesFrom(ManifestFile manifest, Snapshot snapshot) {
+    return manifest.snapshotId() != null
+        && manifest.snapshotId() == snapshot.snapshotId()
+        && (manifest.hasAddedFiles() || manifest.hasDeletedFiles());
   }
 
   private static PartitionMap<PartitionStats> computeStats(
@@ -26,7 +26,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.deletes.PositionDelete;
 import org.apache.iceberg.deletes.PositionDeleteWriter;
@@ -313,11 +312,12 @@ public class RewriteTablePathUtil {
             ManifestFiles.write(format, spec, outputFile, manifestFile.snapshotId());
         ManifestReader<DataFile> reader =
             ManifestFiles.read(manifestFile, io, specsById).select(Arrays.asList("*"))) {
-      return StreamSupport.stream(reader.entries().spliterator(), false)
-          .map(
-              entry ->
-                  writeDataFileEntry(entry, Set.of(), spec, sourcePrefix, targetPrefix, writer))
-          .reduce(new RewriteResult<>(), RewriteResult::append);
+      RewriteResult<DataFile> result = new RewriteResult<>();
+      for (ManifestEntry<DataFile> entry : reader.entries()) {
+        writeDataFileEntry(entry, Set.of(), spec, sourcePrefix, targetPrefix, writer, result);
+      }
+
+      return result;
     }
   }
 
@@ -349,11 +349,12 @@ public class RewriteTablePathUtil {
             ManifestFiles.write(format, spec, outputFile, manifestFile.snapshotId());
         ManifestReader<DataFile> reader =
             ManifestFiles.read(manifestFile, io, specsById).select(Arrays.asList("*"))) {
-      return StreamSupport.stream(reader.entries().spliterator(), false)
-          .map(
-              entry ->
-                  writeDataFileEntry(entry, snapshotIds, spec, sourcePrefix, targetPrefix, writer))
-          .reduce(new RewriteResult<>(), RewriteResult::append);
+      RewriteResult<DataFile> result = new RewriteResult<>();
+      for (ManifestEntry<DataFile> entry : reader.entries()) {
+        writeDataFileEntry(entry, snapshotIds, spec, sourcePrefix, targetPrefix, writer, result);
+      }
+
+      return result;
     }
   }
 
@@ -389,12 +390,13 @@ public class RewriteTablePathUtil {
         ManifestReader<DeleteFile> reader =
             ManifestFiles.readDeleteManifest(manifestFile, io, specsById)
                 .select(Arrays.asList("*"))) {
-      return StreamSupport.stream(reader.entries().spliterator(), false)
-          .map(
-              entry ->
-                  writeDeleteFileEntry(
-                      entry, Set.of(), spec, sourcePrefix, targetPrefix, stagingLocation, writer))
-          .reduce(new RewriteResult<>(), RewriteResult::append);
+      RewriteResult<DeleteFile> result = new RewriteResult<>();
+      for (ManifestEntry<DeleteFile> entry : reader.entries()) {
+        writeDeleteFileEntry(
+            entry, Set.of(), spec, sourcePrefix, targetPrefix, stagingLocation, writer, result);
+      }
+
+      return result;
     }
   }
 
@@ -430,29 +432,24 @@ public class RewriteTablePathUtil {
         ManifestReader<DeleteFile> reader =
             ManifestFiles.readDeleteManifest(manifestFile, io, specsById)
                 .select(Arrays.asList("*"))) {
-      return StreamSupport.stream(reader.entries().spliterator(), false)
-          .map(
-              entry ->
-                  writeDeleteFileEntry(
-                      entry,
-                      snapshotIds,
-                      spec,
-                      sourcePrefix,
-                      targetPrefix,
-                      stagingLocation,
-                      writer))
-          .reduce(new RewriteResult<>(), RewriteResult::append);
+      RewriteResult<DeleteFile> result = new RewriteResult<>();
+      for (ManifestEntry<DeleteFile> entry : reader.entries()) {
+        writeDeleteFileEntry(
+            entry, snapshotIds, spec, sourcePrefix, targetPrefix, stagingLocation, writer, result);
+      }
+
+      return result;
     }
   }
 
-  private static RewriteResult<DataFile> writeDataFileEntry(
+  private static void writeDataFileEntry(
       ManifestEntry<DataFile> entry,
       Set<Long> snapshotIds,
       PartitionSpec spec,
       String sourcePrefix,
       String targetPrefix,
-      ManifestWriter<DataFile> writer) {
-    RewriteResult<DataFile> result = new RewriteResult<>();
+      ManifestWriter<DataFile> writer,
+      RewriteResult<DataFile> result) {
     DataFile dataFile = entry.file();
     String sourceDataFilePath = dataFile.location();
     Preconditions.checkArgument(
@@ -470,20 +467,19 @@ public class RewriteTablePathUtil {
     if (entry.isLive() && snapshotIds.contains(entry.snapshotId())) {
       result.copyPlan().add(Pair.of(sourceDataFilePath, newDataFile.location()));
     }
-    return result;
   }
 
-  private static RewriteResult<DeleteFile> writeDeleteFileEntry(
+  private static void writeDeleteFileEntry(
       ManifestEntry<DeleteFile> entry,
       Set<Long> snapshotIds,
       PartitionSpec spec,
       String sourcePrefix,
       String targetPrefix,
       String stagingLocation,
-      ManifestWriter<DeleteFile> writer) {
+      ManifestWriter<DeleteFile> writer,
+      RewriteResult<DeleteFile> result) {
 
     DeleteFile file = entry.file();
-    RewriteResult<DeleteFile> result = new RewriteResult<>();
 
     switch (file.content()) {
       case POSITION_DELETES:
@@ -505,8 +501,9 @@ public class RewriteTablePathUtil {
               .copyPlan()
               .add(Pair.of(stagingPath(file.location(), stagingLocation), movedFile.location()));
         }
-        result.toRewrite().add(file);
-        return result;
+        // manifest readers reuse entries, so keep a copy of the file to rewrite
+        result.toRewrite().add(file.copyWithoutStats());
+        break;
       case EQUALITY_DELETES:
         DeleteFile eqDeleteFile = newEqualityDeleteEntry(file, spec, sourcePrefix, targetPrefix);
         appendEntryWithFile(entry, writer, eqDeleteFile);
@@ -517,7 +514,7 @@ public class RewriteTablePathUtil {
           // No need to rewrite equality delete files as they do not contain absolute file paths.
           result.copyPlan().add(Pair.of(file.location(), eqDeleteFile.location()));
         }
-        return result;
+        break;
 
       default:
         throw new UnsupportedOperationException("Unsupported delete file type: " + file.content());
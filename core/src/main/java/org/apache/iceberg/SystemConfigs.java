@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +54,17 @@ public class SystemConfigs {
           Math.max(2, 4 * Runtime.getRuntime().availableProcessors()),
           Integer::parseUnsignedInt);
 
+  /**
+   * Sets the size of the read worker pool. This limits the number of threads used by file IO
+   * streams to read ranges of files concurrently within a single JVM.
+   */
+  public static final ConfigEntry<Integer> READ_WORKER_THREAD_POOL_SIZE =
+      new ConfigEntry<>(
+          "iceberg.worker.read-num-threads",
+          "ICEBERG_WORKER_READ_NUM_THREADS",
+          Math.max(2, 4 * Runtime.getRuntime().availableProcessors()),
+          Integer::parseUnsignedInt);
+
   /** Whether to use the shared worker pool when planning table scans. */
   public static final ConfigEntry<Boolean> SCAN_THREAD_POOL_ENABLED =
       new ConfigEntry<>(
@@ -72,6 +84,45 @@ public class SystemConfigs {
           8,
           Integer::parseUnsignedInt);
 
+  /**
+   * Whether parsed Parquet footers are cached and shared by all readers of the same file within a
+   * single JVM.
+   */
+  public static final ConfigEntry<Boolean> PARQUET_FOOTER_CACHE_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.parquet.footer-cache.enabled",
+          "ICEBERG_PARQUET_FOOTER_CACHE_ENABLED",
+          false,
+          Boolean::parseBoolean);
+
+  /** Maximum estimated size in bytes of the Parquet footers cached within a single JVM. */
+  public static final ConfigEntry<Long> PARQUET_FOOTER_CACHE_MAX_TOTAL_BYTES =
+      new ConfigEntry<>(
+          "iceberg.parquet.footer-cache.max-total-bytes",
+          "ICEBERG_PARQUET_FOOTER_CACHE_MAX_TOTAL_BYTES",
+          64L * 1024 * 1024,
+          Long::parseUnsignedLong);
+
+  /**
+   * Maximum number of unwrapped data encryption keys cached within a single JVM, which avoids a KMS
+   * call for each file encrypted with the same key (default: 0, which disables the cache). Cached
+   * keys are only returned to the KMS client instance that unwrapped them.
+   */
+  public static final ConfigEntry<Integer> ENCRYPTION_KEY_CACHE_MAX_ENTRIES =
+      new ConfigEntry<>(
+          "iceberg.encryption.key-cache.max-entries",
+          "ICEBERG_ENCRYPTION_KEY_CACHE_MAX_ENTRIES",
+          0,
+          Integer::parseUnsignedInt);
+
+  /** Time in milliseconds an unwrapped encryption key is cached after it was unwrapped by KMS. */
+  public static final ConfigEntry<Long> ENCRYPTION_KEY_CACHE_TTL_MS =
+      new ConfigEntry<>(
+          "iceberg.encryption.key-cache.ttl-ms",
+          "ICEBERG_ENCRYPTION_KEY_CACHE_TTL_MS",
+          TimeUnit.MINUTES.toMillis(5),
+          Long::parseUnsignedLong);
+
   /**
    * @deprecated will be removed in 2.0.0; use name mapping instead
    */
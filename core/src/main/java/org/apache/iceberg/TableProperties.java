@@ -177,6 +177,18 @@ public class TableProperties {
   public static final String PARQUET_COLUMN_STATS_ENABLED_PREFIX =
       "write.parquet.stats-enabled.column.";
 
+  public static final String PARQUET_VARIANT_SHREDDING_ENABLED =
+      "write.parquet.variant.shredding.enabled";
+  public static final boolean PARQUET_VARIANT_SHREDDING_ENABLED_DEFAULT = false;
+
+  public static final String PARQUET_VARIANT_SHREDDING_BUFFER_ROWS =
+      "write.parquet.variant.shredding.buffer-rows";
+  public static final int PARQUET_VARIANT_SHREDDING_BUFFER_ROWS_DEFAULT = 1000;
+
+  public static final String PARQUET_VARIANT_SHREDDING_MAX_FIELDS =
+      "write.parquet.variant.shredding.max-fields";
+  public static final int PARQUET_VARIANT_SHREDDING_MAX_FIELDS_DEFAULT = 50;
+
   public static final String AVRO_COMPRESSION = "write.avro.compression-codec";
   public static final String DELETE_AVRO_COMPRESSION = "write.delete.avro.compression-codec";
   public static final String AVRO_COMPRESSION_DEFAULT = "gzip";
@@ -25,10 +25,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -752,6 +751,8 @@ public class ValueReaders {
 
   private static class UnionReader implements ValueReader<Object> {
     private final ValueReader[] readers;
+    // the container replaced by the last null value, reused when the next value is not null
+    private Object lastContainer = null;
 
     private UnionReader(List<ValueReader<?>> readers) {
       this.readers = new ValueReader[readers.size()];
@@ -763,7 +764,10 @@ public class ValueReaders {
     @Override
     public Object read(Decoder decoder, Object reuse) throws IOException {
       int index = decoder.readIndex();
-      return readers[index].read(decoder, reuse);
+      Object container = reuse != null ? reuse : lastContainer;
+      Object value = readers[index].read(decoder, container);
+      this.lastContainer = value == null ? container : null;
+      return value;
     }
 
     @Override
@@ -797,7 +801,7 @@ public class ValueReaders {
 
   private static class ArrayReader<T> implements ValueReader<Collection<T>> {
     private final ValueReader<T> elementReader;
-    private Deque<?> lastList = null;
+    private List<?> lastList = null;
 
     private ArrayReader(ValueReader<T> elementReader) {
       this.elementReader = elementReader;
@@ -806,16 +810,17 @@ public class ValueReaders {
     @Override
     @SuppressWarnings("unchecked")
     public Collection<T> read(Decoder decoder, Object reused) throws IOException {
-      Deque<T> resultList;
+      // an array list keeps its capacity when cleared, so reused lists do not allocate per element
+      List<T> resultList;
       if (lastList != null) {
         lastList.clear();
-        resultList = (LinkedList<T>) lastList;
+        resultList = (List<T>) lastList;
       } else {
-        resultList = Lists.newLinkedList();
+        resultList = Lists.newArrayList();
       }
 
-      if (reused instanceof LinkedList) {
-        this.lastList = (LinkedList<?>) reused;
+      if (reused instanceof ArrayList) {
+        this.lastList = (ArrayList<?>) reused;
       } else {
         this.lastList = null;
       }
@@ -826,7 +831,7 @@ public class ValueReaders {
       while (chunkLength > 0) {
         for (long i = 0; i < chunkLength; i += 1) {
           Object lastValue = elIter.hasNext() ? elIter.next() : null;
-          resultList.addLast(elementReader.read(decoder, lastValue));
+          resultList.add(elementReader.read(decoder, lastValue));
         }
 
         chunkLength = decoder.arrayNext();
@@ -859,12 +864,8 @@ public class ValueReaders {
     @Override
     @SuppressWarnings("unchecked")
     public Map<K, V> read(Decoder decoder, Object reuse) throws IOException {
-      if (reuse instanceof Map) {
-        this.lastMap = (Map<?, ?>) reuse;
-      } else {
-        this.lastMap = null;
-      }
-
+      // fill the map returned by the previous call so that the entries of the reused map can be
+      // recycled while reading keys and values
       Map<K, V> resultMap;
       if (lastMap != null) {
         lastMap.clear();
@@ -873,6 +874,12 @@ public class ValueReaders {
         resultMap = Maps.newLinkedHashMap();
       }
 
+      if (reuse instanceof Map && reuse != resultMap) {
+        this.lastMap = (Map<?, ?>) reuse;
+      } else {
+        this.lastMap = null;
+      }
+
       long chunkLength = decoder.readArrayStart();
       Iterator<Map.Entry<?, ?>> kvIter =
           lastMap != null ? lastMap.entrySet().iterator() : emptyIterator();
@@ -923,12 +930,8 @@ public class ValueReaders {
     @Override
     @SuppressWarnings("unchecked")
     public Map<K, V> read(Decoder decoder, Object reuse) throws IOException {
-      if (reuse instanceof Map) {
-        this.lastMap = (Map<?, ?>) reuse;
-      } else {
-        this.lastMap = null;
-      }
-
+      // fill the map returned by the previous call so that the entries of the reused map can be
+      // recycled while reading keys and values
       Map<K, V> resultMap;
       if (lastMap != null) {
         lastMap.clear();
@@ -937,6 +940,12 @@ public class ValueReaders {
         resultMap = Maps.newLinkedHashMap();
       }
 
+      if (reuse instanceof Map && reuse != resultMap) {
+        this.lastMap = (Map<?, ?>) reuse;
+      } else {
+        this.lastMap = null;
+      }
+
       long chunkLength = decoder.readMapStart();
       Iterator<Map.Entry<?, ?>> kvIter =
           lastMap != null ? lastMap.entrySet().iterator() : emptyIterator();
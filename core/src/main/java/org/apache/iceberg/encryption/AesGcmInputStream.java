@@ -20,16 +20,44 @@ package org.apache.iceberg.encryption;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.util.ThreadPools;
+
+/**
+ * A stream that decrypts an AES GCM stream.
+ *
+ * <p>Reads that span at least {@link #PARALLEL_DECRYPT_MIN_BLOCKS} blocks read the ciphertext of
+ * the blocks with a single request to the source stream and decrypt the blocks in parallel,
+ * directly into the caller's buffer. Partially read blocks at the start and end of a range are
+ * kept, so that reads of adjacent ranges don't decrypt their shared block twice.
+ */
+public class AesGcmInputStream extends SeekableInputStream implements RangeReadable {
+  /** Reads of at least this number of blocks are decrypted in parallel. */
+  static final int PARALLEL_DECRYPT_MIN_BLOCKS = 4;
+
+  // bounds the size of the ciphertext buffer used by a range read
+  private static final int MAX_BLOCKS_PER_READ = 16;
 
-public class AesGcmInputStream extends SeekableInputStream {
   private final SeekableInputStream sourceStream;
+  private final byte[] aesKey;
   private final byte[] fileAADPrefix;
   private final Ciphers.AesGcmDecryptor decryptor;
+  private final Queue<Ciphers.AesGcmDecryptor> rangeDecryptors = Queues.newConcurrentLinkedQueue();
+  private final Queue<byte[]> cipherBuffers = Queues.newConcurrentLinkedQueue();
+  private final PlainBlock[] boundaryBlocks = {new PlainBlock(), new PlainBlock()};
+  private int nextBoundaryBlock = 0;
+  private volatile boolean isHeaderValidated = false;
   private final byte[] cipherBlockBuffer;
   private final byte[] currentPlainBlock;
   private final long numBlocks;
@@ -44,6 +72,7 @@ public class AesGcmInputStream extends SeekableInputStream {
   AesGcmInputStream(
       SeekableInputStream sourceStream, long sourceLength, byte[] aesKey, byte[] fileAADPrefix) {
     this.sourceStream = sourceStream;
+    this.aesKey = aesKey;
     this.fileAADPrefix = fileAADPrefix;
     this.decryptor = new Ciphers.AesGcmDecryptor(aesKey);
     this.cipherBlockBuffer = new byte[Ciphers.CIPHER_BLOCK_SIZE];
@@ -71,7 +100,10 @@ public class AesGcmInputStream extends SeekableInputStream {
   private void validateHeader() throws IOException {
     byte[] headerBytes = new byte[Ciphers.GCM_STREAM_HEADER_LENGTH];
     IOUtil.readFully(sourceStream, headerBytes, 0, headerBytes.length);
+    validateHeader(headerBytes);
+  }
 
+  private void validateHeader(byte[] headerBytes) {
     Preconditions.checkState(
         Ciphers.GCM_STREAM_MAGIC.equals(ByteBuffer.wrap(headerBytes, 0, 4)),
         "Invalid GCM stream: magic does not match AGS1");
@@ -82,6 +114,7 @@ public class AesGcmInputStream extends SeekableInputStream {
         "Invalid GCM stream: block size %d != %d",
         plainBlockSize,
         Ciphers.PLAIN_BLOCK_SIZE);
+    this.isHeaderValidated = true;
   }
 
   @Override
@@ -107,6 +140,14 @@ public class AesGcmInputStream extends SeekableInputStream {
   public int read(byte[] b, int off, int len) throws IOException {
     Preconditions.checkArgument(len >= 0, "Invalid read length: " + len);
 
+    int readLength = (int) Math.min(len, plainStreamSize - plainStreamPosition);
+    if (readLength >= PARALLEL_DECRYPT_MIN_BLOCKS * Ciphers.PLAIN_BLOCK_SIZE) {
+      // large reads are decrypted in parallel directly into the result buffer
+      readFully(plainStreamPosition, b, off, readLength);
+      this.plainStreamPosition += readLength;
+      return readLength;
+    }
+
     if (currentPlainBlockIndex < 0) {
       decryptBlock(0);
     }
@@ -195,6 +236,252 @@ public class AesGcmInputStream extends SeekableInputStream {
     sourceStream.close();
   }
 
+  @Override
+  public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+    if (position < 0) {
+      throw new IOException("Invalid position: " + position);
+    } else if (position + length > plainStreamSize) {
+      throw new EOFException(
+          String.format(
+              "Cannot read %s bytes at position %s: stream length is %s",
+              length, position, plainStreamSize));
+    } else if (length == 0) {
+      return;
+    }
+
+    if (!isHeaderValidated) {
+      byte[] headerBytes = new byte[Ciphers.GCM_STREAM_HEADER_LENGTH];
+      readSource(0, headerBytes, 0, headerBytes.length);
+      validateHeader(headerBytes);
+    }
+
+    long lastBlock = blockIndex(position + length - 1);
+    for (long block = blockIndex(position); block <= lastBlock; block += MAX_BLOCKS_PER_READ) {
+      long endBlock = Math.min(lastBlock, block + MAX_BLOCKS_PER_READ - 1);
+      readBlocks(block, endBlock, position, buffer, offset, length);
+    }
+  }
+
+  @Override
+  public int readTail(byte[] buffer, int offset, int length) throws IOException {
+    int tailLength = (int) Math.min(length, plainStreamSize);
+    readFully(plainStreamSize - tailLength, buffer, offset, tailLength);
+    return tailLength;
+  }
+
+  /** Reads and decrypts the part of blocks firstBlock to lastBlock that is in the read range. */
+  private void readBlocks(
+      long firstBlock, long lastBlock, long position, byte[] buffer, int offset, int length)
+      throws IOException {
+    long readFirst = firstBlock;
+    long readLast = lastBlock;
+
+    // partial blocks at the boundaries of the range may have been decrypted by a previous read
+    if (copyBoundaryBlock(readFirst, position, buffer, offset, length)) {
+      readFirst += 1;
+    }
+
+    if (readLast >= readFirst && copyBoundaryBlock(readLast, position, buffer, offset, length)) {
+      readLast -= 1;
+    }
+
+    if (readLast < readFirst) {
+      return;
+    }
+
+    long cipherStart = blockOffset(readFirst);
+    int cipherLength = Math.toIntExact(blockOffset(readLast) - cipherStart) + cipherSize(readLast);
+    byte[] cipherBuffer = borrowCipherBuffer(cipherLength);
+    try {
+      readSource(cipherStart, cipherBuffer, 0, cipherLength);
+
+      long first = readFirst;
+      int numBlocks = Math.toIntExact(readLast - readFirst + 1);
+      decryptBlocks(
+          numBlocks,
+          (index, blockDecryptor) -> {
+            long block = first + index;
+            int cipherOffset = index * Ciphers.CIPHER_BLOCK_SIZE;
+            long blockStart = block * Ciphers.PLAIN_BLOCK_SIZE;
+            int plainSize = plainSize(block);
+            if (blockStart >= position && blockStart + plainSize <= position + length) {
+              // the whole block is read, decrypt directly into the result buffer
+              int bufferOffset = offset + Math.toIntExact(blockStart - position);
+              byte[] aad = Ciphers.streamBlockAAD(fileAADPrefix, Math.toIntExact(block));
+              blockDecryptor.decrypt(
+                  cipherBuffer, cipherOffset, cipherSize(block), buffer, bufferOffset, aad);
+            } else {
+              decryptBoundaryBlock(
+                  blockDecryptor,
+                  block,
+                  cipherBuffer,
+                  cipherOffset,
+                  position,
+                  buffer,
+                  offset,
+                  length);
+            }
+          });
+
+    } finally {
+      cipherBuffers.offer(cipherBuffer);
+    }
+  }
+
+  private interface BlockDecryption {
+    void decrypt(int index, Ciphers.AesGcmDecryptor blockDecryptor);
+  }
+
+  /**
+   * Decrypts a number of blocks, in parallel if there are enough blocks.
+   *
+   * <p>The calling thread also decrypts blocks and tasks that start after all blocks are decrypted
+   * exit immediately, so this never waits for a task that has not started.
+   */
+  private void decryptBlocks(int numBlocks, BlockDecryption decryption) throws IOException {
+    AtomicInteger nextBlock = new AtomicInteger(0);
+    CountDownLatch decrypted = new CountDownLatch(numBlocks);
+    AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    Runnable worker =
+        () -> {
+          Ciphers.AesGcmDecryptor blockDecryptor = borrowDecryptor();
+          try {
+            for (int index = nextBlock.getAndIncrement();
+                index < numBlocks;
+                index = nextBlock.getAndIncrement()) {
+              try {
+                if (failure.get() == null) {
+                  decryption.decrypt(index, blockDecryptor);
+                }
+              } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+              } finally {
+                decrypted.countDown();
+              }
+            }
+          } finally {
+            rangeDecryptors.offer(blockDecryptor);
+          }
+        };
+
+    if (numBlocks >= PARALLEL_DECRYPT_MIN_BLOCKS) {
+      int numTasks = Math.min(numBlocks, ThreadPools.WORKER_THREAD_POOL_SIZE) - 1;
+      for (int task = 0; task < numTasks; task += 1) {
+        ThreadPools.getWorkerPool().submit(worker);
+      }
+    }
+
+    worker.run();
+
+    try {
+      decrypted.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while decrypting blocks");
+    }
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+  /** Copies the read part of a boundary block if it was already decrypted. */
+  private boolean copyBoundaryBlock(
+      long block, long position, byte[] buffer, int offset, int length) {
+    synchronized (boundaryBlocks) {
+      for (PlainBlock plainBlock : boundaryBlocks) {
+        if (plainBlock.index == block) {
+          plainBlock.copyTo(position, buffer, offset, length);
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /** Decrypts a partially read block and keeps it for reads of adjacent ranges. */
+  private void decryptBoundaryBlock(
+      Ciphers.AesGcmDecryptor blockDecryptor,
+      long block,
+      byte[] cipherBuffer,
+      int cipherOffset,
+      long position,
+      byte[] buffer,
+      int offset,
+      int length) {
+    synchronized (boundaryBlocks) {
+      PlainBlock plainBlock = boundaryBlocks[nextBoundaryBlock];
+      this.nextBoundaryBlock = (nextBoundaryBlock + 1) % boundaryBlocks.length;
+      plainBlock.index = -1;
+      if (plainBlock.bytes == null) {
+        plainBlock.bytes = new byte[Ciphers.PLAIN_BLOCK_SIZE];
+      }
+
+      byte[] aad = Ciphers.streamBlockAAD(fileAADPrefix, Math.toIntExact(block));
+      plainBlock.size =
+          blockDecryptor.decrypt(
+              cipherBuffer, cipherOffset, cipherSize(block), plainBlock.bytes, 0, aad);
+      plainBlock.index = block;
+      plainBlock.copyTo(position, buffer, offset, length);
+    }
+  }
+
+  private void readSource(long position, byte[] buffer, int offset, int length) throws IOException {
+    if (sourceStream instanceof RangeReadable) {
+      ((RangeReadable) sourceStream).readFully(position, buffer, offset, length);
+    } else {
+      synchronized (sourceStream) {
+        // sequential reads seek to the next block if the source stream position has changed
+        sourceStream.seek(position);
+        IOUtil.readFully(sourceStream, buffer, offset, length);
+      }
+    }
+  }
+
+  private Ciphers.AesGcmDecryptor borrowDecryptor() {
+    Ciphers.AesGcmDecryptor rangeDecryptor = rangeDecryptors.poll();
+    return rangeDecryptor != null ? rangeDecryptor : new Ciphers.AesGcmDecryptor(aesKey);
+  }
+
+  private byte[] borrowCipherBuffer(int length) {
+    byte[] cipherBuffer = cipherBuffers.poll();
+    if (cipherBuffer != null && cipherBuffer.length >= length) {
+      return cipherBuffer;
+    }
+
+    return new byte[length];
+  }
+
+  private int cipherSize(long blockIndex) {
+    return blockIndex == numBlocks - 1 ? lastCipherBlockSize : Ciphers.CIPHER_BLOCK_SIZE;
+  }
+
+  private int plainSize(long blockIndex) {
+    return cipherSize(blockIndex) - Ciphers.NONCE_LENGTH - Ciphers.GCM_TAG_LENGTH;
+  }
+
+  /** A decrypted block. */
+  private static class PlainBlock {
+    private long index = -1;
+    private byte[] bytes = null;
+    private int size = 0;
+
+    /** Copies the part of this block that overlaps the read range into the result buffer. */
+    private void copyTo(long position, byte[] buffer, int offset, int length) {
+      long blockStart = index * Ciphers.PLAIN_BLOCK_SIZE;
+      long copyStart = Math.max(position, blockStart);
+      long copyEnd = Math.min(position + length, blockStart + size);
+      System.arraycopy(
+          bytes,
+          Math.toIntExact(copyStart - blockStart),
+          buffer,
+          offset + Math.toIntExact(copyStart - position),
+          Math.toIntExact(copyEnd - copyStart));
+    }
+  }
+
   private void decryptBlock(long blockIndex) throws IOException {
     if (blockIndex == currentPlainBlockIndex) {
       return;
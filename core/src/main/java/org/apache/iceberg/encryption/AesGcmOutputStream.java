@@ -19,12 +19,28 @@
 package org.apache.iceberg.encryption;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+/**
+ * A stream that encrypts data as an AES GCM stream.
+ *
+ * <p>Full blocks are encrypted and written to the target stream in the background while the next
+ * block is filled, so that encryption is pipelined with the upload of the target stream.
+ */
 public class AesGcmOutputStream extends PositionOutputStream {
+  private static volatile ExecutorService executorService;
 
   private static final byte[] HEADER_BYTES =
       ByteBuffer.allocate(Ciphers.GCM_STREAM_HEADER_LENGTH)
@@ -37,9 +53,11 @@ public class AesGcmOutputStream extends PositionOutputStream {
   private final PositionOutputStream targetStream;
   private final byte[] fileAadPrefix;
   private final byte[] singleByte;
-  private final byte[] plainBlock;
   private final byte[] cipherBlock;
 
+  private byte[] plainBlock;
+  private byte[] spareBlock;
+  private Future<?> pendingBlock;
   private int positionInPlainBlock;
   private int currentBlockIndex;
   private boolean isHeaderWritten;
@@ -54,6 +72,8 @@ public class AesGcmOutputStream extends PositionOutputStream {
     this.singleByte = new byte[1];
     this.plainBlock = new byte[Ciphers.PLAIN_BLOCK_SIZE];
     this.cipherBlock = new byte[Ciphers.CIPHER_BLOCK_SIZE];
+    this.spareBlock = null;
+    this.pendingBlock = null;
     this.positionInPlainBlock = 0;
     this.currentBlockIndex = 0;
     this.isHeaderWritten = false;
@@ -96,7 +116,7 @@ public class AesGcmOutputStream extends PositionOutputStream {
       remaining -= toWrite;
 
       if (positionInPlainBlock == plainBlock.length) {
-        encryptAndWriteBlock();
+        encryptAndWriteBlockAsync();
       }
     }
   }
@@ -112,6 +132,7 @@ public class AesGcmOutputStream extends PositionOutputStream {
 
   @Override
   public void flush() throws IOException {
+    waitForPendingBlock();
     targetStream.flush();
   }
 
@@ -124,13 +145,18 @@ public class AesGcmOutputStream extends PositionOutputStream {
     finalPosition = getPos();
     isClosed = true;
 
-    encryptAndWriteBlock();
-
-    targetStream.close();
+    try {
+      waitForPendingBlock();
+      encryptAndWriteBlock();
+    } finally {
+      // close the target even if a pending block failed so that it is not leaked
+      targetStream.close();
+    }
   }
 
   @Override
   public long storedLength() throws IOException {
+    waitForPendingBlock();
     return targetStream.storedLength();
   }
 
@@ -139,14 +165,38 @@ public class AesGcmOutputStream extends PositionOutputStream {
     isHeaderWritten = true;
   }
 
-  private void encryptAndWriteBlock() throws IOException {
-    Preconditions.checkState(
-        !lastBlockWritten, "Cannot encrypt block: a partial block has already been written");
+  /** Encrypts and writes the full current block in the background while the next is filled. */
+  private void encryptAndWriteBlockAsync() throws IOException {
+    checkNextBlock();
 
-    if (currentBlockIndex == Integer.MAX_VALUE) {
-      throw new IOException("Cannot write block: exceeded Integer.MAX_VALUE blocks");
+    // the spare block can be reused once the previous block was written
+    waitForPendingBlock();
+    if (spareBlock == null) {
+      this.spareBlock = new byte[Ciphers.PLAIN_BLOCK_SIZE];
     }
 
+    byte[] fullBlock = plainBlock;
+    int blockIndex = currentBlockIndex;
+    this.plainBlock = spareBlock;
+    this.spareBlock = fullBlock;
+    this.pendingBlock =
+        executor()
+            .submit(
+                () -> {
+                  try {
+                    encryptAndWrite(fullBlock, fullBlock.length, blockIndex);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+
+    positionInPlainBlock = 0;
+    currentBlockIndex++;
+  }
+
+  private void encryptAndWriteBlock() throws IOException {
+    checkNextBlock();
+
     if (positionInPlainBlock == 0 && currentBlockIndex != 0) {
       return;
     }
@@ -156,11 +206,64 @@ public class AesGcmOutputStream extends PositionOutputStream {
       this.lastBlockWritten = true;
     }
 
-    byte[] aad = Ciphers.streamBlockAAD(fileAadPrefix, currentBlockIndex);
-    int ciphertextLength =
-        gcmEncryptor.encrypt(plainBlock, 0, positionInPlainBlock, cipherBlock, 0, aad);
-    targetStream.write(cipherBlock, 0, ciphertextLength);
+    encryptAndWrite(plainBlock, positionInPlainBlock, currentBlockIndex);
     positionInPlainBlock = 0;
     currentBlockIndex++;
   }
+
+  private void checkNextBlock() throws IOException {
+    Preconditions.checkState(
+        !lastBlockWritten, "Cannot encrypt block: a partial block has already been written");
+
+    if (currentBlockIndex == Integer.MAX_VALUE) {
+      throw new IOException("Cannot write block: exceeded Integer.MAX_VALUE blocks");
+    }
+  }
+
+  private void encryptAndWrite(byte[] block, int blockLength, int blockIndex) throws IOException {
+    byte[] aad = Ciphers.streamBlockAAD(fileAadPrefix, blockIndex);
+    int ciphertextLength = gcmEncryptor.encrypt(block, 0, blockLength, cipherBlock, 0, aad);
+    targetStream.write(cipherBlock, 0, ciphertextLength);
+  }
+
+  private void waitForPendingBlock() throws IOException {
+    if (pendingBlock == null) {
+      return;
+    }
+
+    try {
+      pendingBlock.get();
+      this.pendingBlock = null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while encrypting block");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      } else if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw new IOException("Failed to encrypt block", e.getCause());
+    }
+  }
+
+  private static ExecutorService executor() {
+    if (executorService == null) {
+      synchronized (AesGcmOutputStream.class) {
+        if (executorService == null) {
+          executorService =
+              MoreExecutors.getExitingExecutorService(
+                  (ThreadPoolExecutor)
+                      Executors.newCachedThreadPool(
+                          new ThreadFactoryBuilder()
+                              .setDaemon(true)
+                              .setNameFormat("iceberg-aes-gcm-encrypt-%d")
+                              .build()));
+        }
+      }
+    }
+
+    return executorService;
+  }
 }
@@ -20,6 +20,7 @@ package org.apache.iceberg.encryption;
 
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
+import java.util.List;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
@@ -90,13 +91,37 @@ public class StandardEncryptionManager implements EncryptionManager {
     return kmsClient.wrapKey(secretKey, tableKeyId);
   }
 
+  /**
+   * Unwraps a key using the KMS client, or returns the key from the cache of unwrapped keys that is
+   * shared within the JVM.
+   *
+   * @param wrappedSecretKey wrapped key material
+   * @return the unwrapped key
+   */
   public ByteBuffer unwrapKey(ByteBuffer wrappedSecretKey) {
     if (kmsClient == null) {
       throw new IllegalStateException(
           "Cannot wrap key after called after serialization (missing KMS client)");
     }
 
-    return kmsClient.unwrapKey(wrappedSecretKey, tableKeyId);
+    return UnwrappedKeyCache.shared().unwrap(kmsClient, wrappedSecretKey, tableKeyId);
+  }
+
+  /**
+   * Unwraps a batch of keys, calling the KMS concurrently for keys that are not cached.
+   *
+   * <p>This can be used during planning to unwrap all keys of a scan before tasks are created.
+   *
+   * @param wrappedSecretKeys wrapped key material
+   * @return the unwrapped keys, in the order of the wrapped keys
+   */
+  public List<ByteBuffer> unwrapKeys(List<ByteBuffer> wrappedSecretKeys) {
+    if (kmsClient == null) {
+      throw new IllegalStateException(
+          "Cannot wrap key after called after serialization (missing KMS client)");
+    }
+
+    return UnwrappedKeyCache.shared().unwrapAll(kmsClient, wrappedSecretKeys, tableKeyId);
   }
 
   private class StandardEncryptedOutputFile implements NativeEncryptionOutputFile {
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.encryption;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.ByteBuffers;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+
+/**
+ * A cache of data encryption keys unwrapped by a KMS, keyed by the KMS client, the wrapped key
+ * bytes and the ID of the wrapping key.
+ *
+ * <p>Clients are compared by identity, so a cached key is only returned to the client instance that
+ * was authorized by the KMS to unwrap it. Another client must unwrap the key itself.
+ *
+ * <p>Keys expire after a fixed time since they were unwrapped, so that revoking a wrapping key in
+ * the KMS takes effect within that time. The cached copy of a key is zeroed when it is evicted, and
+ * callers always receive their own copy.
+ */
+class UnwrappedKeyCache {
+  private static volatile UnwrappedKeyCache sharedCache = null;
+
+  private final Cache<CacheKey, CachedKey> cache;
+
+  UnwrappedKeyCache(int maxEntries, Duration ttl) {
+    Preconditions.checkArgument(
+        maxEntries >= 0, "Invalid max entries: %s (must be >= 0)", maxEntries);
+    if (maxEntries > 0) {
+      this.cache =
+          Caffeine.newBuilder()
+              .maximumSize(maxEntries)
+              .expireAfterWrite(ttl)
+              .removalListener(
+                  (CacheKey key, CachedKey cached, RemovalCause cause) -> cached.destroy())
+              .recordStats()
+              .build();
+    } else {
+      this.cache = null;
+    }
+  }
+
+  /** Returns the cache shared by all encryption managers in the JVM. */
+  static UnwrappedKeyCache shared() {
+    if (sharedCache == null) {
+      synchronized (UnwrappedKeyCache.class) {
+        if (sharedCache == null) {
+          sharedCache =
+              new UnwrappedKeyCache(
+                  SystemConfigs.ENCRYPTION_KEY_CACHE_MAX_ENTRIES.value(),
+                  Duration.ofMillis(SystemConfigs.ENCRYPTION_KEY_CACHE_TTL_MS.value()));
+        }
+      }
+    }
+
+    return sharedCache;
+  }
+
+  CacheStats stats() {
+    return cache != null ? cache.stats() : CacheStats.empty();
+  }
+
+  /**
+   * Returns an unwrapped key, calling the KMS only if the key is not cached.
+   *
+   * @param kmsClient a KMS client to unwrap the key
+   * @param wrappedKey wrapped key material
+   * @param wrappingKeyId the ID of the wrapping key in the KMS
+   * @return a copy of the unwrapped key
+   */
+  ByteBuffer unwrap(KeyManagementClient kmsClient, ByteBuffer wrappedKey, String wrappingKeyId) {
+    if (cache == null) {
+      return kmsClient.unwrapKey(wrappedKey, wrappingKeyId);
+    }
+
+    CacheKey key = new CacheKey(kmsClient, wrappingKeyId, wrappedKey);
+    CachedKey cached = cache.get(key, k -> unwrapToCache(kmsClient, k));
+    return copyOrUnwrap(kmsClient, key, cached);
+  }
+
+  /**
+   * Returns unwrapped keys, calling the KMS concurrently for the keys that are not cached.
+   *
+   * @param kmsClient a KMS client to unwrap keys
+   * @param wrappedKeys wrapped key material
+   * @param wrappingKeyId the ID of the wrapping key in the KMS
+   * @return copies of the unwrapped keys, in the order of the wrapped keys
+   */
+  List<ByteBuffer> unwrapAll(
+      KeyManagementClient kmsClient, List<ByteBuffer> wrappedKeys, String wrappingKeyId) {
+    List<CacheKey> keys =
+        wrappedKeys.stream()
+            .map(wrappedKey -> new CacheKey(kmsClient, wrappingKeyId, wrappedKey))
+            .collect(Collectors.toList());
+
+    Map<CacheKey, CachedKey> cachedKeys;
+    if (cache != null) {
+      cachedKeys = cache.getAll(keys, missing -> unwrapAllToCache(kmsClient, missing));
+    } else {
+      cachedKeys = unwrapAllToCache(kmsClient, Sets.newHashSet(keys));
+    }
+
+    List<ByteBuffer> unwrapped = Lists.newArrayListWithCapacity(keys.size());
+    for (CacheKey key : keys) {
+      unwrapped.add(copyOrUnwrap(kmsClient, key, cachedKeys.get(key)));
+    }
+
+    return unwrapped;
+  }
+
+  private static Map<CacheKey, CachedKey> unwrapAllToCache(
+      KeyManagementClient kmsClient, Iterable<? extends CacheKey> keys) {
+    Map<CacheKey, CachedKey> unwrapped = Maps.newConcurrentMap();
+    Tasks.foreach(keys)
+        .executeWith(ThreadPools.getWorkerPool())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(key -> unwrapped.put(key, unwrapToCache(kmsClient, key)));
+    return unwrapped;
+  }
+
+  private static CachedKey unwrapToCache(KeyManagementClient kmsClient, CacheKey key) {
+    ByteBuffer unwrapped = kmsClient.unwrapKey(ByteBuffer.wrap(key.wrappedKey), key.wrappingKeyId);
+    return new CachedKey(ByteBuffers.toByteArray(unwrapped));
+  }
+
+  private static ByteBuffer copyOrUnwrap(
+      KeyManagementClient kmsClient, CacheKey key, CachedKey cached) {
+    byte[] copy = cached.copy();
+    if (copy != null) {
+      return ByteBuffer.wrap(copy);
+    }
+
+    // the key was evicted and zeroed after it was returned by the cache
+    return kmsClient.unwrapKey(ByteBuffer.wrap(key.wrappedKey), key.wrappingKeyId);
+  }
+
+  private static class CacheKey {
+    private final KeyManagementClient kmsClient;
+    private final String wrappingKeyId;
+    private final byte[] wrappedKey;
+
+    private CacheKey(KeyManagementClient kmsClient, String wrappingKeyId, ByteBuffer wrappedKey) {
+      this.kmsClient = kmsClient;
+      this.wrappingKeyId = wrappingKeyId;
+      this.wrappedKey = ByteBuffers.toByteArray(wrappedKey);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      CacheKey that = (CacheKey) other;
+      return kmsClient == that.kmsClient
+          && wrappingKeyId.equals(that.wrappingKeyId)
+          && Arrays.equals(wrappedKey, that.wrappedKey);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = System.identityHashCode(kmsClient);
+      hash = 31 * hash + wrappingKeyId.hashCode();
+      return 31 * hash + Arrays.hashCode(wrappedKey);
+    }
+  }
+
+  /** An unwrapped key that is zeroed when it is removed from the cache. */
+  private static class CachedKey {
+    private final byte[] key;
+    private boolean destroyed = false;
+
+    private CachedKey(byte[] key) {
+      this.key = key;
+    }
+
+    /** Returns a copy of the key, or null if the key was destroyed. */
+    private synchronized byte[] copy() {
+      return destroyed ? null : Arrays.copyOf(key, key.length);
+    }
+
+    private synchronized void destroy() {
+      Arrays.fill(key, (byte) 0);
+      this.destroyed = true;
+    }
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.hadoop.HadoopConfigurable;
+import org.apache.iceberg.hadoop.SerializableConfiguration;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.SerializableMap;
+import org.apache.iceberg.util.SerializableSupplier;
+
+/**
+ * FileIO implementation that caches fixed-size blocks of data and delete files on local disk and
+ * delegates all other operations to another FileIO.
+ *
+ * <p>Data and delete files are never overwritten, so cached blocks are identified by the file
+ * location and length and are never invalidated. Blocks are evicted in LRU order once the total
+ * size of the cache reaches {@link #MAX_TOTAL_BYTES}. The cache for a directory is shared by all
+ * instances in the JVM, and concurrent reads of a block that is not cached load it only once.
+ *
+ * <p>Streams of cached files implement {@link RangeReadable}, so that range reads, such as reads of
+ * Parquet column chunks, are served from the cache.
+ */
+public class BlockCacheFileIO implements HadoopConfigurable, DelegateFileIO {
+  /** The FileIO implementation to delegate to, defaults to {@link ResolvingFileIO}. */
+  public static final String DELEGATE_IMPL = "block-cache.delegate-impl";
+
+  /**
+   * The local directory used to store cached blocks, defaults to java.io.tmpdir.
+   *
+   * <p>Blocks are stored under an iceberg-block-cache directory, which is cleaned up when the JVM
+   * exits or when the next process creates a cache in the same directory. All instances in a JVM
+   * that use the same directory must use the same block size and max total bytes.
+   */
+  public static final String DIRECTORY = "block-cache.dir";
+
+  /** The size in bytes of cached blocks (default: 4MB). */
+  public static final String BLOCK_SIZE = "block-cache.block-size-bytes";
+
+  public static final int BLOCK_SIZE_DEFAULT = 4 * 1024 * 1024;
+
+  /** The maximum total size in bytes of cached blocks in a directory (default: 10GB). */
+  public static final String MAX_TOTAL_BYTES = "block-cache.max-total-bytes";
+
+  public static final long MAX_TOTAL_BYTES_DEFAULT = 10L * 1024 * 1024 * 1024;
+
+  private static final Set<FileFormat> CACHED_FORMATS =
+      ImmutableSet.of(FileFormat.PARQUET, FileFormat.ORC, FileFormat.PUFFIN);
+
+  private FileIO delegate;
+  private SerializableMap<String, String> properties;
+  private SerializableSupplier<Configuration> hadoopConf;
+  private transient volatile LocalBlockCache cache;
+
+  /**
+   * No-arg constructor to load the FileIO dynamically.
+   *
+   * <p>All fields are initialized by calling {@link BlockCacheFileIO#initialize(Map)} later.
+   */
+  public BlockCacheFileIO() {}
+
+  @VisibleForTesting
+  BlockCacheFileIO(FileIO delegate, LocalBlockCache cache) {
+    this.delegate = delegate;
+    this.properties = SerializableMap.copyOf(delegate.properties());
+    this.cache = cache;
+  }
+
+  @Override
+  public InputFile newInputFile(String location) {
+    InputFile file = delegate.newInputFile(location);
+    return isCached(location) ? new BlockCacheInputFile(cache(), file, null) : file;
+  }
+
+  @Override
+  public InputFile newInputFile(String location, long length) {
+    InputFile file = delegate.newInputFile(location, length);
+    return isCached(location) ? new BlockCacheInputFile(cache(), file, length) : file;
+  }
+
+  @Override
+  public OutputFile newOutputFile(String location) {
+    return delegate.newOutputFile(location);
+  }
+
+  @Override
+  public void deleteFile(String location) {
+    delegate.deleteFile(location);
+  }
+
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    if (delegate instanceof SupportsBulkOperations) {
+      ((SupportsBulkOperations) delegate).deleteFiles(pathsToDelete);
+    } else {
+      pathsToDelete.forEach(delegate::deleteFile);
+    }
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    return prefixOperations().listPrefix(prefix);
+  }
+
+  @Override
+  public void deletePrefix(String prefix) {
+    prefixOperations().deletePrefix(prefix);
+  }
+
+  private SupportsPrefixOperations prefixOperations() {
+    if (delegate instanceof SupportsPrefixOperations) {
+      return (SupportsPrefixOperations) delegate;
+    }
+
+    throw new UnsupportedOperationException(
+        String.format(
+            "Cannot use prefix operations: %s does not support them",
+            delegate.getClass().getName()));
+  }
+
+  @Override
+  public Map<String, String> properties() {
+    return properties.immutableMap();
+  }
+
+  @Override
+  public void initialize(Map<String, String> newProperties) {
+    close();
+    this.properties = SerializableMap.copyOf(newProperties);
+    String impl =
+        PropertyUtil.propertyAsString(
+            newProperties, DELEGATE_IMPL, ResolvingFileIO.class.getName());
+    this.delegate = CatalogUtil.loadFileIO(impl, newProperties, getConf());
+    this.cache = null;
+  }
+
+  @Override
+  public void close() {
+    if (delegate != null) {
+      delegate.close();
+    }
+  }
+
+  /** Returns the hit and miss statistics of the block cache used by this FileIO. */
+  public CacheStats cacheStats() {
+    return cache().stats();
+  }
+
+  @Override
+  public void serializeConfWith(
+      Function<Configuration, SerializableSupplier<Configuration>> confSerializer) {
+    this.hadoopConf = confSerializer.apply(getConf());
+    if (delegate instanceof HadoopConfigurable) {
+      ((HadoopConfigurable) delegate).serializeConfWith(confSerializer);
+    }
+  }
+
+  @Override
+  public void setConf(Configuration conf) {
+    this.hadoopConf = new SerializableConfiguration(conf)::get;
+    if (delegate instanceof HadoopConfigurable) {
+      ((HadoopConfigurable) delegate).setConf(conf);
+    }
+  }
+
+  @Override
+  public Configuration getConf() {
+    return Optional.ofNullable(hadoopConf).map(Supplier::get).orElse(null);
+  }
+
+  private LocalBlockCache cache() {
+    if (cache == null) {
+      // the cache is not serialized and is shared by all instances using the same directory
+      this.cache =
+          LocalBlockCache.shared(
+              Paths.get(
+                  PropertyUtil.propertyAsString(
+                      properties, DIRECTORY, System.getProperty("java.io.tmpdir"))),
+              PropertyUtil.propertyAsInt(properties, BLOCK_SIZE, BLOCK_SIZE_DEFAULT),
+              PropertyUtil.propertyAsLong(properties, MAX_TOTAL_BYTES, MAX_TOTAL_BYTES_DEFAULT));
+    }
+
+    return cache;
+  }
+
+  private static boolean isCached(String location) {
+    FileFormat format = FileFormat.fromFileName(location);
+    return format != null && CACHED_FORMATS.contains(format);
+  }
+
+  private static class BlockCacheInputFile implements InputFile {
+    private final LocalBlockCache cache;
+    private final InputFile file;
+    private Long length;
+
+    private BlockCacheInputFile(LocalBlockCache cache, InputFile file, Long length) {
+      this.cache = cache;
+      this.file = file;
+      this.length = length;
+    }
+
+    @Override
+    public long getLength() {
+      if (length == null) {
+        this.length = file.getLength();
+      }
+
+      return length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new BlockCacheInputStream(cache, file, getLength());
+    }
+
+    @Override
+    public String location() {
+      return file.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return file.exists();
+    }
+  }
+}
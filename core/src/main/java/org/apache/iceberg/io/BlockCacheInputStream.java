@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/** A stream that reads a file through a {@link LocalBlockCache}. */
+class BlockCacheInputStream extends SeekableInputStream implements RangeReadable {
+  private final LocalBlockCache cache;
+  private final InputFile file;
+  private final long length;
+  private final int blockSize;
+
+  // the channel of the last block read by the stream, kept open for sequential reads
+  private long currentBlock = -1;
+  private FileChannel currentChannel = null;
+
+  private long pos = 0;
+  private boolean closed = false;
+
+  BlockCacheInputStream(LocalBlockCache cache, InputFile file, long length) {
+    this.cache = cache;
+    this.file = file;
+    this.length = length;
+    this.blockSize = cache.blockSize();
+  }
+
+  @Override
+  public long getPos() {
+    return pos;
+  }
+
+  @Override
+  public void seek(long newPos) {
+    Preconditions.checkState(!closed, "Cannot seek: already closed");
+    Preconditions.checkArgument(newPos >= 0, "Cannot seek: position %s is negative", newPos);
+
+    // this allows a seek beyond the end of the stream but the next read will fail
+    this.pos = newPos;
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] single = new byte[1];
+    int bytesRead = read(single, 0, 1);
+    return bytesRead < 0 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    Preconditions.checkPositionIndexes(off, off + len, b.length);
+    if (len == 0) {
+      return 0;
+    } else if (pos >= length) {
+      return -1;
+    }
+
+    // read at most to the end of the current block
+    long blockEnd = (pos / blockSize + 1) * blockSize;
+    int bytesRead = (int) Math.min(len, Math.min(length, blockEnd) - pos);
+    readBlocks(pos, b, off, bytesRead);
+    this.pos += bytesRead;
+
+    return bytesRead;
+  }
+
+  @Override
+  public void readFully(long position, byte[] buffer, int offset, int len) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    Preconditions.checkPositionIndexes(offset, offset + len, buffer.length);
+    if (position + len > length) {
+      throw new EOFException(
+          String.format(
+              "Cannot read %s bytes at position %s: file length is %s", len, position, length));
+    }
+
+    readBlocks(position, buffer, offset, len);
+  }
+
+  @Override
+  public int readTail(byte[] buffer, int offset, int len) throws IOException {
+    int tailLength = (int) Math.min(len, length);
+    readFully(length - tailLength, buffer, offset, tailLength);
+    return tailLength;
+  }
+
+  private void readBlocks(long position, byte[] buffer, int offset, int len) throws IOException {
+    long readPos = position;
+    int bufferPos = offset;
+    int remaining = len;
+    while (remaining > 0) {
+      long block = readPos / blockSize;
+      int blockOffset = (int) (readPos % blockSize);
+      int bytesToRead = Math.min(remaining, blockSize - blockOffset);
+
+      readBlock(block, blockOffset, ByteBuffer.wrap(buffer, bufferPos, bytesToRead));
+
+      readPos += bytesToRead;
+      bufferPos += bytesToRead;
+      remaining -= bytesToRead;
+    }
+  }
+
+  private void readBlock(long block, int blockOffset, ByteBuffer buffer) throws IOException {
+    FileChannel channel = channel(block);
+    long channelPos = blockOffset;
+    while (buffer.hasRemaining()) {
+      int bytesRead = channel.read(buffer, channelPos);
+      if (bytesRead < 0) {
+        throw new EOFException(
+            String.format("Reached the end of cached block %s of %s", block, file.location()));
+      }
+
+      channelPos += bytesRead;
+    }
+  }
+
+  private FileChannel channel(long block) throws IOException {
+    if (block != currentBlock) {
+      closeChannel();
+
+      Path path = cache.block(file, length, block);
+      FileChannel channel;
+      try {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+      } catch (NoSuchFileException e) {
+        // the block was evicted after it was returned, load it again
+        cache.invalidate(file, length, block);
+        channel = FileChannel.open(cache.block(file, length, block), StandardOpenOption.READ);
+      }
+
+      this.currentChannel = channel;
+      this.currentBlock = block;
+    }
+
+    return currentChannel;
+  }
+
+  private void closeChannel() throws IOException {
+    if (currentChannel != null) {
+      currentChannel.close();
+      this.currentChannel = null;
+      this.currentBlock = -1;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    super.close();
+    this.closed = true;
+    closeChannel();
+  }
+}
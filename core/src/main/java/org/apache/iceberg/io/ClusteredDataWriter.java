@@ -19,6 +19,7 @@
 package org.apache.iceberg.io;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
@@ -34,6 +35,8 @@ public class ClusteredDataWriter<T> extends ClusteredWriter<T, DataWriteResult>
   private final OutputFileFactory fileFactory;
   private final FileIO io;
   private final long targetFileSizeInBytes;
+  private final ExecutorService closeExecutor;
+  private final int maxPendingCloses;
   private final List<DataFile> dataFiles;
 
   public ClusteredDataWriter(
@@ -41,17 +44,43 @@ public class ClusteredDataWriter<T> extends ClusteredWriter<T, DataWriteResult>
       OutputFileFactory fileFactory,
       FileIO io,
       long targetFileSizeInBytes) {
+    this(writerFactory, fileFactory, io, targetFileSizeInBytes, null, 0);
+  }
+
+  /**
+   * Creates a clustered data writer that closes completed files on the given executor while
+   * writing continues into the next file.
+   *
+   * @param closeExecutor an executor to close completed files
+   * @param maxPendingCloses the maximum number of files being closed at the same time
+   */
+  public ClusteredDataWriter(
+      FileWriterFactory<T> writerFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      ExecutorService closeExecutor,
+      int maxPendingCloses) {
     this.writerFactory = writerFactory;
     this.fileFactory = fileFactory;
     this.io = io;
     this.targetFileSizeInBytes = targetFileSizeInBytes;
+    this.closeExecutor = closeExecutor;
+    this.maxPendingCloses = maxPendingCloses;
     this.dataFiles = Lists.newArrayList();
   }
 
   @Override
   protected FileWriter<T, DataWriteResult> newWriter(PartitionSpec spec, StructLike partition) {
     return new RollingDataWriter<>(
-        writerFactory, fileFactory, io, targetFileSizeInBytes, spec, partition);
+        writerFactory,
+        fileFactory,
+        io,
+        targetFileSizeInBytes,
+        spec,
+        partition,
+        closeExecutor,
+        maxPendingCloses);
   }
 
   @Override
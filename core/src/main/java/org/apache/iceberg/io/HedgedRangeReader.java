@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Reads ranges of objects using hedged requests to reduce tail latency.
+ *
+ * <p>A range read is sent as a single request. If the request has not completed after the
+ * configured percentile of recent request latencies, a second identical request is sent and the
+ * result of the request that completes first is used. The other request is cancelled.
+ *
+ * <p>The number of hedged requests is limited to a fraction of all requests, so that a slow store
+ * does not receive twice the load. Requests are not hedged until enough latencies have been
+ * recorded to estimate the percentile.
+ */
+public class HedgedRangeReader {
+  /** Default latency percentile after which a request is hedged. */
+  public static final double PERCENTILE_DEFAULT = 95.0;
+
+  /** Default maximum fraction of requests that are hedged. */
+  public static final double BUDGET_DEFAULT = 0.05;
+
+  /** Reads larger than this are not hedged because their latency is dominated by transfer time. */
+  public static final int MAX_HEDGED_READ_SIZE = 8 * 1024 * 1024;
+
+  private static final int NUM_SAMPLES = 1024;
+  private static final int MIN_SAMPLES = 100;
+  private static final int RECOMPUTE_INTERVAL = 64;
+  private static final long MIN_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+  private static final Map<String, HedgedRangeReader> SHARED = Maps.newConcurrentMap();
+
+  private static volatile ExecutorService executorService;
+
+  private final double percentile;
+  private final double budget;
+  private final long[] latencies = new long[NUM_SAMPLES];
+  private final AtomicLong requests = new AtomicLong(0);
+  private final AtomicLong hedges = new AtomicLong(0);
+  private long recorded = 0;
+  private volatile long delayNanos = -1;
+
+  /** A read of a range into a buffer, which must be safe to call concurrently. */
+  @FunctionalInterface
+  public interface RangeRead {
+    void readFully(byte[] buffer, int offset, int length) throws IOException;
+  }
+
+  @VisibleForTesting
+  HedgedRangeReader(double percentile, double budget) {
+    Preconditions.checkArgument(
+        percentile > 0 && percentile < 100,
+        "Invalid hedging percentile: %s (must be between 0 and 100)",
+        percentile);
+    Preconditions.checkArgument(
+        budget >= 0 && budget <= 1, "Invalid hedging budget: %s (must be between 0 and 1)", budget);
+    this.percentile = percentile;
+    this.budget = budget;
+  }
+
+  /**
+   * Returns a reader that is shared by all streams of a store in the JVM.
+   *
+   * <p>Request latencies depend on the store rather than on a stream, so streams share the latency
+   * distribution that is used to decide when to hedge.
+   *
+   * @param store a name that identifies the store, such as the FileIO scheme
+   * @param percentile the latency percentile after which a request is hedged
+   * @param budget the maximum fraction of requests that are hedged
+   * @return a shared reader
+   */
+  public static HedgedRangeReader shared(String store, double percentile, double budget) {
+    return SHARED.computeIfAbsent(
+        String.format("%s:%s:%s", store, percentile, budget),
+        key -> new HedgedRangeReader(percentile, budget));
+  }
+
+  /**
+   * Reads a range into the buffer, sending a hedged request if the first request is slow.
+   *
+   * @param read a function that reads the range
+   * @param buffer a buffer to read into
+   * @param offset the offset in the buffer to start reading into
+   * @param length the number of bytes to read
+   * @param hedgedRequests a counter of hedged requests
+   * @param hedgedWins a counter of hedged requests that completed before the first request
+   * @throws IOException if both requests fail
+   */
+  public void readFully(
+      RangeRead read,
+      byte[] buffer,
+      int offset,
+      int length,
+      Counter hedgedRequests,
+      Counter hedgedWins)
+      throws IOException {
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+    requests.incrementAndGet();
+
+    long delay = delayNanos;
+    if (delay < 0 || length > MAX_HEDGED_READ_SIZE) {
+      // not enough samples to hedge or the read is too large, read in the calling thread
+      timed(read, buffer, offset, length, length <= MAX_HEDGED_READ_SIZE);
+      return;
+    }
+
+    // each request reads into its own buffer so that a cancelled request can't modify the result
+    CompletionService<byte[]> completion = new ExecutorCompletionService<>(executor());
+    Future<byte[]> primary = completion.submit(() -> readCopy(read, length));
+    Future<byte[]> hedge = null;
+    try {
+      byte[] result;
+      try {
+        result = primary.get(delay, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        if (tryAcquireHedge()) {
+          hedgedRequests.increment();
+          hedge = completion.submit(() -> readCopy(read, length));
+          Future<byte[]> first = completion.take();
+          Future<byte[]> second = first == primary ? hedge : primary;
+          Future<byte[]> used = first;
+          try {
+            result = first.get();
+          } catch (ExecutionException failed) {
+            // the request that completed first failed, use the other request
+            used = second;
+            result = second.get();
+          }
+
+          if (used == hedge) {
+            hedgedWins.increment();
+          }
+        } else {
+          result = primary.get();
+        }
+      }
+
+      System.arraycopy(result, 0, buffer, offset, length);
+
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while reading range");
+    } finally {
+      primary.cancel(true);
+      if (hedge != null) {
+        hedge.cancel(true);
+      }
+    }
+  }
+
+  private boolean tryAcquireHedge() {
+    while (true) {
+      long current = hedges.get();
+      if (current + 1 > requests.get() * budget) {
+        return false;
+      }
+
+      if (hedges.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private byte[] readCopy(RangeRead read, int length) throws IOException {
+    byte[] bytes = new byte[length];
+    timed(read, bytes, 0, length, true);
+    return bytes;
+  }
+
+  private void timed(RangeRead read, byte[] buffer, int offset, int length, boolean record)
+      throws IOException {
+    long start = System.nanoTime();
+    read.readFully(buffer, offset, length);
+    if (record) {
+      record(System.nanoTime() - start);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void record(long latencyNanos) {
+    latencies[(int) (recorded % NUM_SAMPLES)] = latencyNanos;
+    this.recorded += 1;
+    if (recorded >= MIN_SAMPLES && recorded % RECOMPUTE_INTERVAL == 0) {
+      int numSamples = (int) Math.min(recorded, NUM_SAMPLES);
+      long[] sorted = Arrays.copyOf(latencies, numSamples);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(percentile / 100 * numSamples) - 1;
+      this.delayNanos = Math.max(MIN_DELAY_NANOS, sorted[Math.max(0, index)]);
+    }
+  }
+
+  @VisibleForTesting
+  long delayNanos() {
+    return delayNanos;
+  }
+
+  private static IOException unwrap(ExecutionException e) {
+    Throwable cause = e.getCause();
+    if (cause instanceof IOException) {
+      return (IOException) cause;
+    } else if (cause instanceof UncheckedIOException) {
+      return ((UncheckedIOException) cause).getCause();
+    } else if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    }
+
+    return new IOException("Failed to read range", cause);
+  }
+
+  private static ExecutorService executor() {
+    if (executorService == null) {
+      synchronized (HedgedRangeReader.class) {
+        if (executorService == null) {
+          // requests block on the store, so threads are not bounded by the number of cores
+          executorService =
+              MoreExecutors.getExitingExecutorService(
+                  (ThreadPoolExecutor)
+                      Executors.newCachedThreadPool(
+                          new ThreadFactoryBuilder()
+                              .setDaemon(true)
+                              .setNameFormat("iceberg-hedged-read-%d")
+                              .build()));
+        }
+      }
+    }
+
+    return executorService;
+  }
+}
@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of fixed-size blocks of files that is stored on local disk.
+ *
+ * <p>Blocks are identified by the location and length of a file, which is safe because Iceberg
+ * never overwrites files. Blocks are evicted in LRU order once the total size of the cached blocks
+ * reaches the configured maximum, and concurrent requests for a block that is being loaded wait
+ * for the same load.
+ *
+ * <p>Each cache stores its blocks in its own directory under an {@code iceberg-block-cache}
+ * directory of the configured parent, and holds a lock on a lock file next to it while the process
+ * is running. The directory is removed when the JVM exits. Directories left behind by processes
+ * that exited without removing them, for example after a crash, are removed when a cache is created
+ * in the same parent.
+ */
+class LocalBlockCache {
+  private static final Logger LOG = LoggerFactory.getLogger(LocalBlockCache.class);
+  private static final Map<Path, LocalBlockCache> SHARED_CACHES = Maps.newConcurrentMap();
+  private static final String ROOT_DIRECTORY = "iceberg-block-cache";
+  private static final String LOCK_SUFFIX = ".lock";
+
+  private final Path directory;
+  private final Path lockFile;
+  // held open so that the lock is held until the process exits
+  private final FileChannel lockChannel;
+  private final int blockSize;
+  private final long maxTotalBytes;
+  private final AsyncCache<BlockKey, Block> cache;
+
+  LocalBlockCache(Path parentDirectory, int blockSize, long maxTotalBytes) {
+    Preconditions.checkArgument(blockSize > 0, "Invalid block size: %s (must be > 0)", blockSize);
+    Preconditions.checkArgument(
+        maxTotalBytes >= blockSize,
+        "Invalid max total bytes: %s (must be >= block size %s)",
+        maxTotalBytes,
+        blockSize);
+
+    Path root = parentDirectory.resolve(ROOT_DIRECTORY);
+    String cacheId = UUID.randomUUID().toString();
+    try {
+      Files.createDirectories(root);
+      removeStaleDirectories(root);
+
+      this.lockFile = root.resolve(cacheId + LOCK_SUFFIX);
+      this.lockChannel =
+          FileChannel.open(lockFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+      lockChannel.lock();
+      this.directory = Files.createDirectory(root.resolve(cacheId));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create block cache directory", e);
+    }
+
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(this::deleteDirectory, "iceberg-block-cache-cleanup"));
+
+    this.blockSize = blockSize;
+    this.maxTotalBytes = maxTotalBytes;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxTotalBytes)
+            .weigher((Weigher<BlockKey, Block>) (key, block) -> block.length)
+            .removalListener(
+                (BlockKey key, Block block, RemovalCause cause) -> {
+                  if (block != null) {
+                    block.delete();
+                  }
+                })
+            .recordStats()
+            .buildAsync();
+  }
+
+  /**
+   * Returns the cache that stores blocks in the given directory, creating it if needed.
+   *
+   * <p>Caches are shared by all FileIO instances in the JVM that use the same directory, which must
+   * use the same block size and size limit.
+   *
+   * @throws IllegalArgumentException if the cache for the directory uses different settings
+   */
+  static LocalBlockCache shared(Path parentDirectory, int blockSize, long maxTotalBytes) {
+    Path normalized = parentDirectory.toAbsolutePath().normalize();
+    LocalBlockCache cache =
+        SHARED_CACHES.computeIfAbsent(
+            normalized, dir -> new LocalBlockCache(dir, blockSize, maxTotalBytes));
+    Preconditions.checkArgument(
+        cache.blockSize == blockSize && cache.maxTotalBytes == maxTotalBytes,
+        "Cannot use block cache in %s with block size %s and max total bytes %s: "
+            + "already used with block size %s and max total bytes %s",
+        normalized,
+        blockSize,
+        maxTotalBytes,
+        cache.blockSize,
+        cache.maxTotalBytes);
+    return cache;
+  }
+
+  Path directory() {
+    return directory;
+  }
+
+  int blockSize() {
+    return blockSize;
+  }
+
+  long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  CacheStats stats() {
+    return cache.synchronous().stats();
+  }
+
+  /**
+   * Returns the local path of a block of a file, loading the block from the file if it is not
+   * cached.
+   *
+   * @param file the file to read the block from
+   * @param fileLength the length of the file
+   * @param index the index of the block
+   * @return the local path of the block
+   * @throws IOException if the block could not be loaded
+   */
+  Path block(InputFile file, long fileLength, long index) throws IOException {
+    BlockKey key = new BlockKey(file.location(), fileLength, index);
+    CompletableFuture<Block> newLoad = new CompletableFuture<>();
+    CompletableFuture<Block> future = cache.get(key, (blockKey, executor) -> newLoad);
+    if (future == newLoad) {
+      // load in the calling thread, concurrent requests for the block wait for this load
+      try {
+        newLoad.complete(load(file, key));
+      } catch (RuntimeException e) {
+        // failed loads are removed from the cache
+        newLoad.completeExceptionally(e);
+      }
+    }
+
+    try {
+      return future.get().path;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while loading block of " + file.location());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      } else if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw new IOException("Failed to load block of " + file.location(), e.getCause());
+    }
+  }
+
+  /** Removes a block that was deleted from local disk, so that it is loaded again. */
+  void invalidate(InputFile file, long fileLength, long index) {
+    cache.synchronous().invalidate(new BlockKey(file.location(), fileLength, index));
+  }
+
+  private Block load(InputFile file, BlockKey key) {
+    long offset = key.index * blockSize;
+    int length = (int) Math.min(blockSize, key.fileLength - offset);
+    byte[] bytes = new byte[length];
+
+    try (SeekableInputStream stream = file.newStream()) {
+      if (stream instanceof RangeReadable) {
+        ((RangeReadable) stream).readFully(offset, bytes, 0, length);
+      } else {
+        stream.seek(offset);
+        IOUtil.readFully(stream, bytes, 0, length);
+      }
+
+      Path path = Files.createTempFile(directory, "block-", ".bin");
+      Files.write(path, bytes);
+      return new Block(path, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Removes the cached blocks and the directory of this cache. */
+  private void deleteDirectory() {
+    try {
+      deleteDirectory(directory);
+      lockChannel.close();
+      Files.deleteIfExists(lockFile);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete block cache directory: {}", directory, e);
+    }
+  }
+
+  /**
+   * Removes the directories of caches in other processes that exited without removing them, which
+   * no longer hold the lock on their lock file.
+   */
+  private static void removeStaleDirectories(Path root) throws IOException {
+    try (DirectoryStream<Path> lockFiles = Files.newDirectoryStream(root, "*" + LOCK_SUFFIX)) {
+      for (Path staleLockFile : lockFiles) {
+        String name = staleLockFile.getFileName().toString();
+        Path staleDirectory = root.resolve(name.substring(0, name.length() - LOCK_SUFFIX.length()));
+        try (FileChannel channel = FileChannel.open(staleLockFile, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock()) {
+          if (lock != null) {
+            LOG.info("Removing stale block cache directory: {}", staleDirectory);
+            deleteDirectory(staleDirectory);
+            Files.deleteIfExists(staleLockFile);
+          }
+        } catch (OverlappingFileLockException e) {
+          // the lock is held by a cache in this process
+        } catch (IOException e) {
+          LOG.warn("Failed to remove stale block cache directory: {}", staleDirectory, e);
+        }
+      }
+    }
+  }
+
+  private static void deleteDirectory(Path dir) throws IOException {
+    if (!Files.exists(dir)) {
+      return;
+    }
+
+    // blocks are stored directly in the directory
+    try (DirectoryStream<Path> blocks = Files.newDirectoryStream(dir)) {
+      for (Path block : blocks) {
+        Files.deleteIfExists(block);
+      }
+    }
+
+    Files.deleteIfExists(dir);
+  }
+
+  private static class Block {
+    private final Path path;
+    private final int length;
+
+    private Block(Path path, int length) {
+      this.path = path;
+      this.length = length;
+    }
+
+    private void delete() {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        LOG.warn("Failed to delete cached block: {}", path, e);
+      }
+    }
+  }
+
+  private static class BlockKey {
+    private final String location;
+    private final long fileLength;
+    private final long index;
+
+    private BlockKey(String location, long fileLength, long index) {
+      this.location = location;
+      this.fileLength = fileLength;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      BlockKey that = (BlockKey) other;
+      return fileLength == that.fileLength && index == that.index && location.equals(that.location);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(location, fileLength, index);
+    }
+  }
+}
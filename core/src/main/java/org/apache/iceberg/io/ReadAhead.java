@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the ranges that follow a sequential read of a file in the background.
+ *
+ * <p>Once a stream detects sequential access, it calls {@link #start(long, long)} and serves reads
+ * from this class instead of its own stream. Up to a fixed number of ranges are read in parallel.
+ * When the first range is consumed, it is released and the next range is read. A read outside of
+ * the ranges, or a failed range read, cancels read-ahead and the stream must read the position
+ * itself.
+ *
+ * <p>Range buffers are acquired from a {@link ReadAheadBufferPool} that may be shared by many
+ * streams. Fewer ranges are read ahead when the pool is full, and read-ahead does not start if no
+ * buffer is available. Buffers are returned to the pool when ranges are consumed or cancelled.
+ *
+ * <p>This class is not thread-safe and is used by a single stream.
+ */
+public class ReadAhead {
+  private static final Logger LOG = LoggerFactory.getLogger(ReadAhead.class);
+
+  /** A read of a range of a file into a buffer, which must be safe to call concurrently. */
+  @FunctionalInterface
+  public interface RangeRead {
+    void readFully(long position, byte[] buffer, int offset, int length) throws IOException;
+  }
+
+  private final String location;
+  private final RangeRead reader;
+  private final int rangeSize;
+  private final int numRanges;
+  private final ExecutorService executor;
+  private final ReadAheadBufferPool bufferPool;
+
+  // ranges are ordered by offset and cover [first range start, end)
+  private final Deque<Range> ranges = Queues.newArrayDeque();
+  private long end = 0L;
+  private long length = 0L;
+
+  /**
+   * Creates read-ahead state for a stream that uses its own buffers.
+   *
+   * @param location the location of the file, used in log messages
+   * @param reader a function that reads a range of the file
+   * @param rangeSize the size of each range that is read ahead
+   * @param numRanges the number of ranges that are read ahead in parallel
+   * @param executor an executor for range reads, which must not wait on other tasks
+   */
+  public ReadAhead(
+      String location, RangeRead reader, int rangeSize, int numRanges, ExecutorService executor) {
+    this(
+        location,
+        reader,
+        rangeSize,
+        numRanges,
+        executor,
+        new ReadAheadBufferPool((long) rangeSize * numRanges));
+  }
+
+  /**
+   * Creates read-ahead state for a stream.
+   *
+   * @param location the location of the file, used in log messages
+   * @param reader a function that reads a range of the file
+   * @param rangeSize the size of each range that is read ahead
+   * @param numRanges the number of ranges that are read ahead in parallel
+   * @param executor an executor for range reads, which must not wait on other tasks
+   * @param bufferPool a pool of range buffers, which bounds the memory used by read-ahead
+   */
+  public ReadAhead(
+      String location,
+      RangeRead reader,
+      int rangeSize,
+      int numRanges,
+      ExecutorService executor,
+      ReadAheadBufferPool bufferPool) {
+    Preconditions.checkArgument(rangeSize > 0, "Invalid read-ahead range size: %s", rangeSize);
+    Preconditions.checkArgument(numRanges > 0, "Invalid read-ahead num ranges: %s", numRanges);
+    this.location = location;
+    this.reader = reader;
+    this.rangeSize = rangeSize;
+    this.numRanges = numRanges;
+    this.executor = executor;
+    this.bufferPool = bufferPool;
+  }
+
+  /** Returns true if ranges are being read ahead. */
+  public boolean isActive() {
+    return !ranges.isEmpty();
+  }
+
+  /**
+   * Returns true if read-ahead is active and the position is at or past the end of the file.
+   *
+   * <p>Streams close their own connection while reading ahead, so they must use this to detect the
+   * end of the file.
+   */
+  public boolean isEndOfFile(long position) {
+    return isActive() && position >= length;
+  }
+
+  /**
+   * Starts reading the ranges after a position.
+   *
+   * <p>Read-ahead is not active after this call if no buffer is available.
+   *
+   * @param position the position of the next read
+   * @param fileLength the length of the file
+   */
+  public void start(long position, long fileLength) {
+    Preconditions.checkState(!isActive(), "Read-ahead is already active");
+    this.end = position;
+    this.length = fileLength;
+    fill();
+  }
+
+  /**
+   * Reads the byte at a position.
+   *
+   * @param position a position in the file
+   * @return the byte as an int from 0 to 255, or -1 if the position is not read ahead
+   * @throws IOException if the thread is interrupted while waiting for a range
+   */
+  public int read(long position) throws IOException {
+    Range range = range(position);
+    if (range == null) {
+      return -1;
+    }
+
+    return range.data[(int) (position - range.offset)] & 0xFF;
+  }
+
+  /**
+   * Reads bytes at a position into a buffer, up to the end of the range that contains the position.
+   *
+   * @param position a position in the file
+   * @param buffer a buffer to read into
+   * @param offset an offset in the buffer
+   * @param len the maximum number of bytes to read
+   * @return the number of bytes read, or -1 if the position is not read ahead
+   * @throws IOException if the thread is interrupted while waiting for a range
+   */
+  public int read(long position, byte[] buffer, int offset, int len) throws IOException {
+    Range range = range(position);
+    if (range == null) {
+      return -1;
+    }
+
+    int rangePos = (int) (position - range.offset);
+    int bytesRead = Math.min(len, range.length - rangePos);
+    System.arraycopy(range.data, rangePos, buffer, offset, bytesRead);
+    return bytesRead;
+  }
+
+  /** Cancels all ranges that are read ahead. */
+  public void cancel() {
+    ranges.forEach(Range::release);
+    ranges.clear();
+  }
+
+  /** Returns the range that contains a position with its data loaded, or null. */
+  private Range range(long position) throws IOException {
+    while (!ranges.isEmpty()) {
+      Range range = ranges.peekFirst();
+      if (position >= range.offset && position < range.end()) {
+        return range.load() ? range : null;
+      } else if (position >= range.end() && position < end) {
+        // the first range was consumed, release it and read the next range
+        ranges.removeFirst().release();
+        fill();
+      } else {
+        // random seek outside of the ranges read ahead
+        LOG.debug("Cancel read-ahead for {} after seek to offset {}", location, position);
+        cancel();
+      }
+    }
+
+    return null;
+  }
+
+  private void fill() {
+    while (ranges.size() < numRanges && end < length) {
+      // all buffers are the range size so that buffers can be reused for the last range
+      byte[] buffer = bufferPool.acquire(rangeSize);
+      if (buffer == null) {
+        LOG.debug(
+            "Read-ahead buffer pool is full, reading {} ranges ahead for {}",
+            ranges.size(),
+            location);
+        break;
+      }
+
+      int rangeLength = (int) Math.min(rangeSize, length - end);
+      ranges.addLast(new Range(end, rangeLength, buffer));
+      this.end += rangeLength;
+    }
+  }
+
+  /** A range of the file that is read in the background. */
+  private class Range {
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int FINISHED = 2;
+    private static final int RELEASED = 3;
+
+    private final long offset;
+    private final int length;
+    private final byte[] buffer;
+    // the buffer is returned to the pool by the read task if the range is released while running
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private final Future<byte[]> future;
+    private byte[] data = null;
+
+    private Range(long offset, int length, byte[] buffer) {
+      this.offset = offset;
+      this.length = length;
+      this.buffer = buffer;
+      this.future = executor.submit(this::readRange);
+    }
+
+    private byte[] readRange() throws IOException {
+      if (!state.compareAndSet(PENDING, RUNNING)) {
+        return null;
+      }
+
+      try {
+        reader.readFully(offset, buffer, 0, length);
+        return buffer;
+      } finally {
+        if (!state.compareAndSet(RUNNING, FINISHED)) {
+          bufferPool.release(buffer);
+        }
+      }
+    }
+
+    private long end() {
+      return offset + length;
+    }
+
+    /** Waits for the data of this range, cancelling read-ahead and returning false on failure. */
+    private boolean load() throws IOException {
+      if (data == null) {
+        try {
+          this.data = future.get();
+        } catch (ExecutionException e) {
+          LOG.warn("Failed to read ahead {} at offset {}, using stream", location, offset, e);
+          ReadAhead.this.cancel();
+          return false;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while reading ahead " + location);
+        }
+      }
+
+      return true;
+    }
+
+    /** Cancels the read of this range and returns its buffer to the pool. */
+    private void release() {
+      int previous = state.getAndSet(RELEASED);
+      if (previous == PENDING || previous == FINISHED) {
+        bufferPool.release(buffer);
+      }
+
+      future.cancel(true);
+    }
+  }
+}
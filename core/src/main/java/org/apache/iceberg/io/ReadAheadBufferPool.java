@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+
+/**
+ * A bounded pool of buffers for ranges that are read ahead.
+ *
+ * <p>The pool is shared by the streams of a store, so the memory used by read-ahead is bounded
+ * across all open streams rather than per stream. Released buffers are kept for reuse and are
+ * dropped when a buffer of a different size is needed and the pool is full.
+ *
+ * <p>This class is thread-safe.
+ */
+public class ReadAheadBufferPool {
+  /** The default maximum size in bytes of the buffers in a pool (256MB). */
+  public static final long MAX_TOTAL_BYTES_DEFAULT = 256L * 1024 * 1024;
+
+  private static final Map<String, ReadAheadBufferPool> SHARED = Maps.newConcurrentMap();
+
+  private final long maxTotalBytes;
+  private final Map<Integer, Deque<byte[]>> freeBuffers = Maps.newHashMap();
+  private long allocatedBytes = 0L;
+  private long freeBytes = 0L;
+
+  @VisibleForTesting
+  ReadAheadBufferPool(long maxTotalBytes) {
+    Preconditions.checkArgument(
+        maxTotalBytes > 0, "Invalid read-ahead max total bytes: %s (must be > 0)", maxTotalBytes);
+    this.maxTotalBytes = maxTotalBytes;
+  }
+
+  /**
+   * Returns a pool that is shared by all streams of a store in the JVM.
+   *
+   * @param store a name that identifies the store, such as the FileIO scheme
+   * @param maxTotalBytes the maximum size in bytes of all buffers in the pool
+   * @return a shared pool
+   */
+  public static ReadAheadBufferPool shared(String store, long maxTotalBytes) {
+    return SHARED.computeIfAbsent(
+        String.format("%s:%s", store, maxTotalBytes),
+        key -> new ReadAheadBufferPool(maxTotalBytes));
+  }
+
+  /**
+   * Returns a buffer of the given size, or null if the pool is full.
+   *
+   * @param size the size of the buffer
+   * @return a buffer that must be passed to {@link #release(byte[])} when it is no longer used, or
+   *     null if the buffer would exceed the maximum size of the pool
+   */
+  public synchronized byte[] acquire(int size) {
+    Deque<byte[]> free = freeBuffers.get(size);
+    if (free != null && !free.isEmpty()) {
+      this.freeBytes -= size;
+      return free.removeFirst();
+    }
+
+    if (allocatedBytes + size > maxTotalBytes) {
+      evict(allocatedBytes + size - maxTotalBytes);
+    }
+
+    if (allocatedBytes + size > maxTotalBytes) {
+      return null;
+    }
+
+    this.allocatedBytes += size;
+    return new byte[size];
+  }
+
+  /**
+   * Returns a buffer to the pool for reuse.
+   *
+   * @param buffer a buffer returned by {@link #acquire(int)}
+   */
+  public synchronized void release(byte[] buffer) {
+    freeBuffers.computeIfAbsent(buffer.length, size -> Queues.newArrayDeque()).addLast(buffer);
+    this.freeBytes += buffer.length;
+  }
+
+  /** Returns the size in bytes of the buffers that are allocated, including free buffers. */
+  public synchronized long allocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /** Returns the size in bytes of the buffers that are free for reuse. */
+  public synchronized long freeBytes() {
+    return freeBytes;
+  }
+
+  /** Drops free buffers until at least the given number of bytes is dropped or none are left. */
+  private void evict(long bytes) {
+    long evicted = 0L;
+    Iterator<Deque<byte[]>> lists = freeBuffers.values().iterator();
+    while (evicted < bytes && lists.hasNext()) {
+      Deque<byte[]> free = lists.next();
+      while (evicted < bytes && !free.isEmpty()) {
+        evicted += free.removeFirst().length;
+      }
+
+      if (free.isEmpty()) {
+        lists.remove();
+      }
+    }
+
+    this.allocatedBytes -= evicted;
+    this.freeBytes -= evicted;
+  }
+}
@@ -19,6 +19,7 @@
 package org.apache.iceberg.io;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
@@ -41,7 +42,26 @@ public class RollingDataWriter<T> extends RollingFileWriter<T, DataWriter<T>, Da
       long targetFileSizeInBytes,
       PartitionSpec spec,
       StructLike partition) {
-    super(fileFactory, io, targetFileSizeInBytes, spec, partition);
+    this(writerFactory, fileFactory, io, targetFileSizeInBytes, spec, partition, null, 0);
+  }
+
+  /**
+   * Creates a rolling data writer that closes completed files on the given executor while writing
+   * continues into the next file.
+   *
+   * @param closeExecutor an executor to close completed files
+   * @param maxPendingCloses the maximum number of files being closed at the same time
+   */
+  public RollingDataWriter(
+      FileWriterFactory<T> writerFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      PartitionSpec spec,
+      StructLike partition,
+      ExecutorService closeExecutor,
+      int maxPendingCloses) {
+    super(fileFactory, io, targetFileSizeInBytes, spec, partition, closeExecutor, maxPendingCloses);
     this.writerFactory = writerFactory;
     this.dataFiles = Lists.newArrayList();
     openCurrentWriter();
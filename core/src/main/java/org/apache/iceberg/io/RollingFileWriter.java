@@ -20,10 +20,15 @@ package org.apache.iceberg.io;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
 import org.apache.iceberg.util.Tasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +36,12 @@ import org.slf4j.LoggerFactory;
 /**
  * A rolling writer capable of splitting incoming data or deletes into multiple files within one
  * spec/partition based on the target file size.
+ *
+ * <p>If a close executor is provided, files that reach the target size are closed on that executor
+ * while writing continues into the next file. At most the configured number of closes can be in
+ * flight; once the limit is reached, the writer waits for the oldest one to complete. Results are
+ * collected in the order the files were written and any failure to close a file is rethrown by the
+ * writer.
  */
 abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements FileWriter<T, R> {
   private static final Logger LOG = LoggerFactory.getLogger(RollingFileWriter.class);
@@ -41,12 +52,16 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
   private final long targetFileSizeInBytes;
   private final PartitionSpec spec;
   private final StructLike partition;
+  private final ExecutorService closeExecutor;
+  private final int maxPendingCloses;
+  private final Deque<Future<R>> pendingCloses;
 
   private EncryptedOutputFile currentFile = null;
   private long currentFileRows = 0;
   private W currentWriter = null;
 
   private boolean closed = false;
+  private boolean failed = false;
 
   protected RollingFileWriter(
       OutputFileFactory fileFactory,
@@ -54,11 +69,29 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
       long targetFileSizeInBytes,
       PartitionSpec spec,
       StructLike partition) {
+    this(fileFactory, io, targetFileSizeInBytes, spec, partition, null, 0);
+  }
+
+  protected RollingFileWriter(
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      PartitionSpec spec,
+      StructLike partition,
+      ExecutorService closeExecutor,
+      int maxPendingCloses) {
+    Preconditions.checkArgument(
+        closeExecutor == null || maxPendingCloses > 0,
+        "Invalid max pending closes: %s (must be positive)",
+        maxPendingCloses);
     this.fileFactory = fileFactory;
     this.io = io;
     this.targetFileSizeInBytes = targetFileSizeInBytes;
     this.spec = spec;
     this.partition = partition;
+    this.closeExecutor = closeExecutor;
+    this.maxPendingCloses = maxPendingCloses;
+    this.pendingCloses = Queues.newArrayDeque();
   }
 
   protected abstract W newWriter(EncryptedOutputFile file);
@@ -95,7 +128,12 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
     currentFileRows++;
 
     if (shouldRollToNewFile()) {
-      closeCurrentWriter();
+      if (closeExecutor != null) {
+        closeCurrentWriterAsync();
+      } else {
+        closeCurrentWriter();
+      }
+
       openCurrentWriter();
     }
   }
@@ -150,9 +188,83 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
     }
   }
 
+  private void closeCurrentWriterAsync() {
+    // wait for the oldest close if the limit of closes in flight has been reached
+    completePendingCloses(maxPendingCloses - 1);
+
+    W writer = currentWriter;
+    pendingCloses.addLast(
+        closeExecutor.submit(
+            () -> {
+              writer.close();
+              return writer.result();
+            }));
+
+    this.currentFile = null;
+    this.currentFileRows = 0;
+    this.currentWriter = null;
+  }
+
+  private void completePendingCloses(int maxRemaining) {
+    RuntimeException failure = null;
+
+    // once a close fails, wait for all remaining closes so that none is left running
+    while (pendingCloses.size() > maxRemaining || (failure != null && !pendingCloses.isEmpty())) {
+      try {
+        addResult(closeResult(pendingCloses.removeFirst()));
+      } catch (RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+
+    if (failure != null) {
+      this.failed = true;
+      throw failure;
+    }
+  }
+
+  private R closeResult(Future<R> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw new UncheckedIOException("Failed to close writer", (IOException) cause);
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else {
+        throw new RuntimeException("Failed to close writer", cause);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while closing writer", e);
+    }
+  }
+
   @Override
   public void close() throws IOException {
     if (!closed) {
+      try {
+        if (closeExecutor != null && currentFileRows > 0) {
+          closeCurrentWriterAsync();
+        }
+
+        completePendingCloses(0);
+      } catch (RuntimeException e) {
+        // still close the current writer so that no file is left open
+        try {
+          closeCurrentWriter();
+        } catch (RuntimeException closeFailure) {
+          e.addSuppressed(closeFailure);
+        }
+
+        throw e;
+      }
+
       closeCurrentWriter();
       this.closed = true;
     }
@@ -161,6 +273,7 @@ abstract class RollingFileWriter<T, W extends FileWriter<T, R>, R> implements Fi
   @Override
   public final R result() {
     Preconditions.checkState(closed, "Cannot get result from unclosed writer");
+    Preconditions.checkState(!failed, "Cannot get result from failed writer");
     return aggregatedResult();
   }
 }
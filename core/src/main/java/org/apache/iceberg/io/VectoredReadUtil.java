@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+/**
+ * Helpers to implement {@link RangeReadable#readVectored(List, IntFunction)} in streams that can
+ * read ranges of a file concurrently.
+ *
+ * <p>Ranges are sorted by offset and ranges separated by a gap of at most the merge gap are read
+ * using a single request, as long as the merged range doesn't exceed the max merged size. Each
+ * merged range is read by a separate task using {@link RangeReadable#readFully(long, byte[], int,
+ * int)}, which must be safe to call concurrently. A single range that is larger than the max merged
+ * size is split into parts that are read concurrently.
+ *
+ * <p>A range that is not merged is read directly into its buffer when the buffer is backed by an
+ * array. Merged ranges are read into a temporary array and copied into the buffer of each range.
+ */
+public class VectoredReadUtil {
+  /** Default maximum gap between two ranges read in a single request (128 KB). */
+  public static final int MERGE_GAP_DEFAULT = 128 * 1024;
+
+  /** Default maximum size of a request that combines multiple ranges (2 MB). */
+  public static final int MAX_MERGED_SIZE_DEFAULT = 2 * 1024 * 1024;
+
+  private VectoredReadUtil() {}
+
+  /**
+   * Reads the given ranges concurrently using the given executor service.
+   *
+   * <p>This method returns once all reads are submitted, the futures of the ranges are completed
+   * by the tasks reading them.
+   *
+   * @param stream a stream to read ranges from
+   * @param ranges the ranges to read, which must not overlap
+   * @param allocate a function to allocate a buffer for a given length
+   * @param executorService an executor service to read merged ranges
+   * @param mergeGap the maximum number of bytes between two ranges to read them in one request
+   * @param maxMergedSize the maximum size of a request that combines multiple ranges
+   */
+  public static void readVectored(
+      RangeReadable stream,
+      List<FileRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      ExecutorService executorService,
+      int mergeGap,
+      int maxMergedSize) {
+    for (MergedRange merged : mergeRanges(ranges, mergeGap, maxMergedSize)) {
+      if (merged.ranges().size() > 1) {
+        merged.submit(executorService, () -> merged.readMerged(stream, allocate));
+      } else {
+        merged.readSingle(stream, allocate, executorService, maxMergedSize);
+      }
+    }
+  }
+
+  static List<MergedRange> mergeRanges(List<FileRange> ranges, int mergeGap, int maxMergedSize) {
+    Preconditions.checkArgument(mergeGap >= 0, "Invalid merge gap: %s (must be >= 0)", mergeGap);
+    Preconditions.checkArgument(
+        maxMergedSize > 0, "Invalid max merged size: %s (must be > 0)", maxMergedSize);
+
+    List<FileRange> sortedRanges = Lists.newArrayList(ranges);
+    sortedRanges.sort(Comparator.comparingLong(FileRange::offset));
+
+    List<MergedRange> mergedRanges = Lists.newArrayList();
+    MergedRange current = null;
+    for (FileRange range : sortedRanges) {
+      if (current != null) {
+        Preconditions.checkArgument(
+            range.offset() >= current.end(), "Invalid ranges: %s overlaps %s", range, current);
+      }
+
+      if (current != null && current.canMerge(range, mergeGap, maxMergedSize)) {
+        current.add(range);
+      } else {
+        current = new MergedRange(range);
+        mergedRanges.add(current);
+      }
+    }
+
+    return mergedRanges;
+  }
+
+  static class MergedRange {
+    private final long offset;
+    private final List<FileRange> ranges = Lists.newArrayList();
+    private long end;
+
+    private MergedRange(FileRange range) {
+      this.offset = range.offset();
+      this.end = range.end();
+      ranges.add(range);
+    }
+
+    long offset() {
+      return offset;
+    }
+
+    long end() {
+      return end;
+    }
+
+    List<FileRange> ranges() {
+      return ranges;
+    }
+
+    private boolean canMerge(FileRange range, int mergeGap, int maxMergedSize) {
+      return range.offset() - end <= mergeGap && range.end() - offset <= maxMergedSize;
+    }
+
+    private void add(FileRange range) {
+      ranges.add(range);
+      this.end = range.end();
+    }
+
+    private void submit(ExecutorService executorService, Runnable task) {
+      try {
+        executorService.submit(task);
+      } catch (RejectedExecutionException e) {
+        fail(e);
+      }
+    }
+
+    private void readMerged(RangeReadable stream, IntFunction<ByteBuffer> allocate) {
+      try {
+        byte[] bytes = new byte[Math.toIntExact(end - offset)];
+        stream.readFully(offset, bytes, 0, bytes.length);
+
+        for (FileRange range : ranges) {
+          ByteBuffer buffer = allocate.apply(range.length());
+          buffer.put(bytes, Math.toIntExact(range.offset() - offset), range.length());
+          buffer.flip();
+          range.byteBuffer().complete(buffer);
+        }
+      } catch (IOException | RuntimeException e) {
+        fail(e);
+      }
+    }
+
+    /**
+     * Reads a single range into its buffer, in parts of at most the max part size that are read
+     * concurrently.
+     */
+    private void readSingle(
+        RangeReadable stream,
+        IntFunction<ByteBuffer> allocate,
+        ExecutorService executorService,
+        int maxPartSize) {
+      FileRange range = ranges.get(0);
+      int length = range.length();
+
+      ByteBuffer buffer;
+      try {
+        buffer = allocate.apply(length);
+      } catch (RuntimeException e) {
+        fail(e);
+        return;
+      }
+
+      // read directly into the buffer's array if it has one
+      byte[] bytes = buffer.hasArray() ? buffer.array() : new byte[length];
+      int bytesOffset = buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : 0;
+
+      int numParts = Math.max(1, (int) ((length + (long) maxPartSize - 1) / maxPartSize));
+      AtomicInteger remainingParts = new AtomicInteger(numParts);
+      for (int part = 0; part < numParts; part += 1) {
+        int partOffset = part * maxPartSize;
+        int partLength = Math.min(maxPartSize, length - partOffset);
+        submit(
+            executorService,
+            () -> {
+              try {
+                stream.readFully(offset + partOffset, bytes, bytesOffset + partOffset, partLength);
+                if (remainingParts.decrementAndGet() == 0) {
+                  if (buffer.hasArray()) {
+                    buffer.position(buffer.position() + length);
+                  } else {
+                    buffer.put(bytes, 0, length);
+                  }
+
+                  buffer.flip();
+                  range.byteBuffer().complete(buffer);
+                }
+              } catch (IOException | RuntimeException e) {
+                fail(e);
+              }
+            });
+      }
+    }
+
+    private void fail(Throwable cause) {
+      ranges.forEach(range -> range.byteBuffer().completeExceptionally(cause));
+    }
+
+    @Override
+    public String toString() {
+      return String.format("[%s, %s)", offset, end);
+    }
+  }
+}
@@ -51,6 +51,14 @@ public class ThreadPools {
   private static final ExecutorService DELETE_WORKER_POOL =
       newExitingWorkerPool("iceberg-delete-worker-pool", DELETE_WORKER_THREAD_POOL_SIZE);
 
+  public static final int READ_WORKER_THREAD_POOL_SIZE =
+      SystemConfigs.READ_WORKER_THREAD_POOL_SIZE.value();
+
+  private static final String READ_WORKER_POOL_NAME = "iceberg-read-worker-pool";
+
+  private static final ExecutorService READ_WORKER_POOL =
+      newExitingWorkerPool(READ_WORKER_POOL_NAME, READ_WORKER_THREAD_POOL_SIZE);
+
   /**
    * Return an {@link ExecutorService} that uses the "worker" thread-pool.
    *
@@ -82,6 +90,34 @@ public class ThreadPools {
     return DELETE_WORKER_POOL;
   }
 
+  /**
+   * Return an {@link ExecutorService} that uses the "read worker" thread-pool.
+   *
+   * <p>The size of this worker pool limits the number of ranges of files concurrently read by file
+   * IO streams within a single JVM. Tasks submitted to this pool must only perform IO and must not
+   * wait on other tasks in the pool.
+   *
+   * <p>The size of this thread-pool is controlled by the Java system property {@code
+   * iceberg.worker.read-num-threads}.
+   *
+   * @return an {@link ExecutorService} that uses the read worker pool
+   */
+  public static ExecutorService getReadWorkerPool() {
+    return READ_WORKER_POOL;
+  }
+
+  /**
+   * Returns true if the current thread belongs to the "read worker" thread-pool.
+   *
+   * <p>Tasks in the read worker pool must not wait on other tasks in the pool, so reads that may
+   * run in the pool use this to read ranges inline instead of submitting them to the pool.
+   *
+   * @return true if called from a read worker thread
+   */
+  public static boolean isReadWorkerThread() {
+    return Thread.currentThread().getName().startsWith(READ_WORKER_POOL_NAME + "-");
+  }
+
   /**
    * Creates a fixed-size thread pool that uses daemon threads. The pool is wrapped with {@link
    * MoreExecutors#getExitingExecutorService(ThreadPoolExecutor)}, which registers a shutdown hook
@@ -718,6 +718,68 @@ public abstract class PartitionStatsHandlerTestBase {
     }
   }
 
+  @Test
+  public void testIncrementalComputeMatchesFullCompute() throws Exception {
+    Table testTable =
+        TestTables.create(
+            tempDir("incremental_compute"),
+            "incremental_compute",
+            SCHEMA,
+            SPEC,
+            2,
+            fileFormatProperty);
+    DataFile dataFile1 =
+        FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of("foo", "A"));
+    DataFile dataFile2 =
+        FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of("bar", "B"));
+    testTable.newFastAppend().appendFile(dataFile1).commit();
+    testTable.newFastAppend().appendFile(dataFile2).commit();
+
+    PartitionStatisticsFile previousStatsFile =
+        PartitionStatsHandler.computeAndWriteStatsFile(testTable);
+    testTable.updatePartitionStatistics().setPartitionStatistics(previousStatsFile).commit();
+
+    // rewritten manifests only carry over existing entries and must not be counted again
+    testTable.rewriteManifests().clusterBy(file -> "all").commit();
+    testTable
+        .newFastAppend()
+        .appendFile(FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of("foo", "A")))
+        .commit();
+    testTable.newDelete().deleteFile(dataFile2).commit();
+
+    PartitionStatisticsFile incrementalStatsFile =
+        PartitionStatsHandler.computeAndWriteStatsFile(testTable);
+
+    testTable
+        .updatePartitionStatistics()
+        .removePartitionStatistics(previousStatsFile.snapshotId())
+        .commit();
+    PartitionStatisticsFile fullStatsFile =
+        PartitionStatsHandler.computeAndWriteStatsFile(testTable);
+
+    Types.StructType partitionType = Partitioning.partitionType(testTable);
+    Schema schema = PartitionStatsHandler.schema(partitionType, 2);
+    List<PartitionStats> incrementalStats;
+    try (CloseableIterable<PartitionStats> recordIterator =
+        PartitionStatsHandler.readPartitionStatsFile(
+            schema, testTable.io().newInputFile(incrementalStatsFile.path()))) {
+      incrementalStats = Lists.newArrayList(recordIterator);
+    }
+
+    List<PartitionStats> fullStats;
+    try (CloseableIterable<PartitionStats> recordIterator =
+        PartitionStatsHandler.readPartitionStatsFile(
+            schema, testTable.io().newInputFile(fullStatsFile.path()))) {
+      fullStats = Lists.newArrayList(recordIterator);
+    }
+
+    assertThat(incrementalStats).hasSameSizeAs(fullStats);
+    Comparator<StructLike> comparator = Comparators.forType(partitionType);
+    for (int i = 0; i < fullStats.size(); i++) {
+      assertThat(isEqual(comparator, incrementalStats.get(i), fullStats.get(i))).isTrue();
+    }
+  }
+
   private static StructLike partitionRecord(
       Types.StructType partitionType, String val1, String val2) {
     GenericRecord record = GenericRecord.create(partitionType);
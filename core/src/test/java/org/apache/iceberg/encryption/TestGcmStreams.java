@@ -21,6 +21,7 @@ package org.apache.iceberg.encryption;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -29,9 +30,11 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.crypto.AEADBadTagException;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -407,4 +410,139 @@ public class TestGcmStreams {
       decryptedStream.close();
     }
   }
+
+  @Test
+  public void testRangeReads() throws IOException {
+    Random random = new Random();
+    byte[] key = new byte[16];
+    random.nextBytes(key);
+    byte[] aadPrefix = new byte[16];
+    random.nextBytes(aadPrefix);
+    int testFileSize = 9 * Ciphers.PLAIN_BLOCK_SIZE + 17;
+    byte[] testFileContents = new byte[testFileSize];
+    random.nextBytes(testFileContents);
+
+    File testFile = File.createTempFile("test", null, temp.toFile());
+    AesGcmOutputFile encryptedFile =
+        new AesGcmOutputFile(Files.localOutput(testFile), key, aadPrefix);
+    try (PositionOutputStream encryptedStream = encryptedFile.createOrOverwrite()) {
+      encryptedStream.write(testFileContents);
+      assertThat(encryptedStream.getPos()).isEqualTo(testFileSize);
+    }
+
+    AesGcmInputFile decryptedFile = new AesGcmInputFile(Files.localInput(testFile), key, aadPrefix);
+    try (SeekableInputStream decryptedStream = decryptedFile.newStream()) {
+      assertThat(decryptedStream).isInstanceOf(RangeReadable.class);
+      RangeReadable ranges = (RangeReadable) decryptedStream;
+
+      // adjacent ranges that share a partial block
+      int split = 2 * Ciphers.PLAIN_BLOCK_SIZE + 100;
+      byte[] buffer = new byte[testFileSize];
+      ranges.readFully(0, buffer, 0, split);
+      ranges.readFully(split, buffer, split, testFileSize - split);
+      assertThat(buffer).isEqualTo(testFileContents);
+
+      for (int n = 0; n < 20; n++) {
+        int pos = random.nextInt(testFileSize);
+        int len = random.nextInt(testFileSize - pos + 1);
+        byte[] chunk = new byte[len];
+        ranges.readFully(pos, chunk, 0, len);
+        assertThat(ByteBuffer.wrap(chunk)).isEqualTo(ByteBuffer.wrap(testFileContents, pos, len));
+      }
+
+      byte[] tail = new byte[100];
+      assertThat(ranges.readTail(tail, 0, tail.length)).isEqualTo(tail.length);
+      assertThat(ByteBuffer.wrap(tail))
+          .isEqualTo(ByteBuffer.wrap(testFileContents, testFileSize - 100, 100));
+
+      assertThatThrownBy(() -> ranges.readFully(testFileSize - 10, new byte[20], 0, 20))
+          .isInstanceOf(EOFException.class);
+
+      // a large read is decrypted in parallel and moves the stream position
+      decryptedStream.seek(10);
+      byte[] large = new byte[testFileSize - 10];
+      assertThat(decryptedStream.read(large)).isEqualTo(large.length);
+      assertThat(decryptedStream.getPos()).isEqualTo(testFileSize);
+      assertThat(ByteBuffer.wrap(large))
+          .isEqualTo(ByteBuffer.wrap(testFileContents, 10, large.length));
+    }
+  }
+
+  @Test
+  public void testRangeReadValidation() throws IOException {
+    Random random = new Random();
+    byte[] key = new byte[16];
+    random.nextBytes(key);
+    byte[] aadPrefix = new byte[16];
+    random.nextBytes(aadPrefix);
+    byte[] content = new byte[5 * Ciphers.PLAIN_BLOCK_SIZE];
+    random.nextBytes(content);
+
+    File testFile = File.createTempFile("test", null, temp.toFile());
+    AesGcmOutputFile encryptedFile =
+        new AesGcmOutputFile(Files.localOutput(testFile), key, aadPrefix);
+    try (PositionOutputStream encryptedStream = encryptedFile.createOrOverwrite()) {
+      encryptedStream.write(content);
+    }
+
+    byte[] badAAD = Arrays.copyOf(aadPrefix, aadPrefix.length);
+    badAAD[1] -= 1; // modify the AAD slightly
+    AesGcmInputFile badAADFile = new AesGcmInputFile(Files.localInput(testFile), key, badAAD);
+    try (SeekableInputStream decryptedStream = badAADFile.newStream()) {
+      byte[] readContent = new byte[content.length];
+      assertThatThrownBy(() -> ((RangeReadable) decryptedStream).readFully(0, readContent))
+          .isInstanceOf(RuntimeException.class)
+          .hasCauseInstanceOf(AEADBadTagException.class)
+          .hasMessageContaining("GCM tag check failed");
+    }
+  }
+
+  @Test
+  public void testCloseClosesTargetAfterFailedBlock() throws IOException {
+    Random random = new Random();
+    byte[] key = new byte[16];
+    random.nextBytes(key);
+    byte[] aadPrefix = new byte[16];
+    random.nextBytes(aadPrefix);
+
+    AtomicBoolean targetClosed = new AtomicBoolean(false);
+    PositionOutputStream target =
+        new PositionOutputStream() {
+          private long pos = 0;
+
+          @Override
+          public long getPos() {
+            return pos;
+          }
+
+          @Override
+          public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+          }
+
+          @Override
+          public void write(byte[] bytes, int off, int len) throws IOException {
+            if (pos > 0) {
+              // fail block writes after the header
+              throw new IOException("Injected write failure");
+            }
+
+            pos += len;
+          }
+
+          @Override
+          public void close() {
+            targetClosed.set(true);
+          }
+        };
+
+    AesGcmOutputStream encryptedStream = new AesGcmOutputStream(target, key, aadPrefix);
+    // fills the first block, which is written in the background
+    encryptedStream.write(new byte[Ciphers.PLAIN_BLOCK_SIZE + 1]);
+
+    assertThatThrownBy(encryptedStream::close)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Injected write failure");
+    assertThat(targetClosed).isTrue();
+  }
 }
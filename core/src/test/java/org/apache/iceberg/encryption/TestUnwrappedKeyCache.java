@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.encryption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestUnwrappedKeyCache {
+  private static final ByteBuffer KEY1 = bytes("abcdefghijklmnop");
+  private static final ByteBuffer KEY2 = bytes("ponmlkjihgfedcba");
+
+  private CountingKMS kms;
+
+  @BeforeEach
+  public void before() {
+    this.kms = new CountingKMS();
+    kms.initialize(ImmutableMap.of());
+  }
+
+  @Test
+  public void testUnwrapIsCached() {
+    UnwrappedKeyCache cache = new UnwrappedKeyCache(10, Duration.ofMinutes(5));
+    ByteBuffer wrapped = kms.wrapKey(KEY1, UnitestKMS.MASTER_KEY_NAME1);
+
+    assertThat(cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1)).isEqualTo(KEY1);
+    assertThat(cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1)).isEqualTo(KEY1);
+    assertThat(kms.unwrapCalls).hasValue(1);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testCallersReceiveCopies() {
+    UnwrappedKeyCache cache = new UnwrappedKeyCache(10, Duration.ofMinutes(5));
+    ByteBuffer wrapped = kms.wrapKey(KEY1, UnitestKMS.MASTER_KEY_NAME1);
+
+    ByteBuffer first = cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1);
+    first.put(0, (byte) 0);
+
+    assertThat(cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1)).isEqualTo(KEY1);
+    assertThat(kms.unwrapCalls).hasValue(1);
+  }
+
+  @Test
+  public void testCacheKeyIncludesWrappingKeyId() {
+    UnwrappedKeyCache cache = new UnwrappedKeyCache(10, Duration.ofMinutes(5));
+    ByteBuffer wrapped = kms.wrapKey(KEY1, UnitestKMS.MASTER_KEY_NAME1);
+    cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1);
+
+    // the same wrapped key with a different wrapping key ID is unwrapped by the KMS, which fails
+    assertThatThrownBy(() -> cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME2))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("GCM tag check failed");
+    assertThat(kms.unwrapCalls).hasValue(2);
+  }
+
+  @Test
+  public void testCacheKeyIncludesClient() {
+    UnwrappedKeyCache cache = new UnwrappedKeyCache(10, Duration.ofMinutes(5));
+    ByteBuffer wrapped = kms.wrapKey(KEY1, UnitestKMS.MASTER_KEY_NAME1);
+    cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1);
+
+    // another client must unwrap the key with the KMS rather than receive the cached key
+    CountingKMS otherKms = new CountingKMS();
+    otherKms.initialize(ImmutableMap.of());
+    assertThat(cache.unwrap(otherKms, wrapped, UnitestKMS.MASTER_KEY_NAME1)).isEqualTo(KEY1);
+    assertThat(cache.unwrapAll(otherKms, ImmutableList.of(wrapped), UnitestKMS.MASTER_KEY_NAME1))
+        .containsExactly(KEY1);
+    assertThat(otherKms.unwrapCalls).hasValue(1);
+    assertThat(kms.unwrapCalls).hasValue(1);
+  }
+
+  @Test
+  public void testDisabledCache() {
+    UnwrappedKeyCache cache = new UnwrappedKeyCache(0, Duration.ofMinutes(5));
+    ByteBuffer wrapped = kms.wrapKey(KEY1, UnitestKMS.MASTER_KEY_NAME1);
+
+    assertThat(cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1)).isEqualTo(KEY1);
+    assertThat(cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1)).isEqualTo(KEY1);
+    assertThat(kms.unwrapCalls).hasValue(2);
+  }
+
+  @Test
+  public void testExpiredKeysAreUnwrappedAgain() throws InterruptedException {
+    UnwrappedKeyCache cache = new UnwrappedKeyCache(10, Duration.ofMillis(1));
+    ByteBuffer wrapped = kms.wrapKey(KEY1, UnitestKMS.MASTER_KEY_NAME1);
+
+    assertThat(cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1)).isEqualTo(KEY1);
+    Thread.sleep(10);
+    assertThat(cache.unwrap(kms, wrapped, UnitestKMS.MASTER_KEY_NAME1)).isEqualTo(KEY1);
+    assertThat(kms.unwrapCalls).hasValue(2);
+  }
+
+  @Test
+  public void testUnwrapAll() {
+    UnwrappedKeyCache cache = new UnwrappedKeyCache(10, Duration.ofMinutes(5));
+    ByteBuffer wrapped1 = kms.wrapKey(KEY1, UnitestKMS.MASTER_KEY_NAME1);
+    ByteBuffer wrapped2 = kms.wrapKey(KEY2, UnitestKMS.MASTER_KEY_NAME1);
+    cache.unwrap(kms, wrapped1, UnitestKMS.MASTER_KEY_NAME1);
+
+    List<ByteBuffer> unwrapped =
+        cache.unwrapAll(
+            kms, ImmutableList.of(wrapped2, wrapped1, wrapped2), UnitestKMS.MASTER_KEY_NAME1);
+
+    assertThat(unwrapped).containsExactly(KEY2, KEY1, KEY2);
+    assertThat(kms.unwrapCalls).hasValue(2);
+  }
+
+  private static ByteBuffer bytes(String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class CountingKMS extends UnitestKMS {
+    private final AtomicInteger unwrapCalls = new AtomicInteger(0);
+
+    @Override
+    public ByteBuffer unwrapKey(ByteBuffer wrappedKey, String wrappingKeyId) {
+      unwrapCalls.incrementAndGet();
+      return super.unwrapKey(wrappedKey, wrappingKeyId);
+    }
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+import org.apache.iceberg.inmemory.InMemoryFileIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestBlockCacheFileIO {
+  private static final int BLOCK_SIZE = 1024;
+
+  @TempDir private Path temp;
+
+  private final byte[] data = new byte[10 * BLOCK_SIZE + 17];
+  private InMemoryFileIO delegate;
+  private String location;
+  private BlockCacheFileIO io;
+
+  @BeforeEach
+  public void before() {
+    new Random(42).nextBytes(data);
+    this.delegate = new InMemoryFileIO();
+    this.location = "mem://bucket/data/" + UUID.randomUUID() + ".parquet";
+    delegate.addFile(location, data);
+    this.io = new BlockCacheFileIO(delegate, new LocalBlockCache(temp, BLOCK_SIZE, 1024 * 1024));
+  }
+
+  @Test
+  public void testSequentialRead() throws IOException {
+    InputFile file = io.newInputFile(location);
+    assertThat(file.getLength()).isEqualTo(data.length);
+
+    byte[] actual = new byte[data.length];
+    try (SeekableInputStream stream = file.newStream()) {
+      IOUtil.readFully(stream, actual, 0, actual.length);
+      assertThat(stream.getPos()).isEqualTo(data.length);
+      assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    assertThat(actual).isEqualTo(data);
+  }
+
+  @Test
+  public void testSeekAndRead() throws IOException {
+    try (SeekableInputStream stream = io.newInputFile(location).newStream()) {
+      stream.seek(3 * BLOCK_SIZE - 1);
+      assertThat(stream.read()).isEqualTo(data[3 * BLOCK_SIZE - 1] & 0xFF);
+      assertThat(stream.read()).isEqualTo(data[3 * BLOCK_SIZE] & 0xFF);
+      assertThat(stream.getPos()).isEqualTo(3 * BLOCK_SIZE + 1);
+    }
+  }
+
+  @Test
+  public void testRangeReads() throws IOException {
+    try (SeekableInputStream stream = io.newInputFile(location).newStream()) {
+      assertThat(stream).isInstanceOf(RangeReadable.class);
+      RangeReadable ranges = (RangeReadable) stream;
+
+      byte[] buffer = new byte[3 * BLOCK_SIZE];
+      ranges.readFully(BLOCK_SIZE / 2, buffer, 0, buffer.length);
+      assertThat(buffer)
+          .isEqualTo(Arrays.copyOfRange(data, BLOCK_SIZE / 2, BLOCK_SIZE / 2 + buffer.length));
+
+      byte[] tail = new byte[100];
+      assertThat(ranges.readTail(tail, 0, tail.length)).isEqualTo(tail.length);
+      assertThat(tail).isEqualTo(Arrays.copyOfRange(data, data.length - 100, data.length));
+
+      assertThatThrownBy(() -> ranges.readFully(data.length - 10, new byte[20], 0, 20))
+          .isInstanceOf(EOFException.class);
+    }
+  }
+
+  @Test
+  public void testCachedBlocksAreReused() throws IOException {
+    byte[] first = readAll(io.newInputFile(location));
+    long misses = io.cacheStats().missCount();
+    assertThat(misses).isEqualTo(11);
+
+    byte[] second = readAll(io.newInputFile(location, data.length));
+
+    assertThat(second).isEqualTo(first).isEqualTo(data);
+    assertThat(io.cacheStats().missCount()).isEqualTo(misses);
+    assertThat(io.cacheStats().hitCount()).isGreaterThanOrEqualTo(11);
+  }
+
+  @Test
+  public void testNonDataFilesAreNotCached() {
+    String metadataLocation = "mem://bucket/metadata/" + UUID.randomUUID() + ".metadata.json";
+    delegate.addFile(metadataLocation, data);
+
+    assertThat(io.newInputFile(metadataLocation).newStream())
+        .isNotInstanceOf(BlockCacheInputStream.class);
+    assertThat(io.newInputFile(location).newStream())
+        .isInstanceOf(BlockCacheInputStream.class);
+  }
+
+  @Test
+  public void testStaleCacheDirectoriesAreRemoved() throws IOException {
+    Path root = temp.resolve("iceberg-block-cache");
+    Path staleDirectory = Files.createDirectory(root.resolve("stale"));
+    Files.write(staleDirectory.resolve("block-1.bin"), data);
+    Files.createFile(root.resolve("stale.lock"));
+
+    byte[] expected = readAll(io.newInputFile(location));
+    LocalBlockCache cache = new LocalBlockCache(temp, BLOCK_SIZE, 1024 * 1024);
+
+    assertThat(staleDirectory).doesNotExist();
+    assertThat(root.resolve("stale.lock")).doesNotExist();
+    assertThat(cache.directory()).exists().hasParent(root);
+
+    // the cache used by this process is not removed
+    assertThat(readAll(io.newInputFile(location))).isEqualTo(expected);
+    assertThat(io.cacheStats().missCount()).isEqualTo(11);
+  }
+
+  @Test
+  public void testSharedCacheRejectsConflictingSettings() {
+    Path dir = temp.resolve("shared");
+    LocalBlockCache cache = LocalBlockCache.shared(dir, BLOCK_SIZE, 1024 * 1024);
+    assertThat(LocalBlockCache.shared(dir, BLOCK_SIZE, 1024 * 1024)).isSameAs(cache);
+
+    assertThatThrownBy(() -> LocalBlockCache.shared(dir, 2 * BLOCK_SIZE, 1024 * 1024))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("already used with block size 1024 and max total bytes 1048576");
+  }
+
+  private static byte[] readAll(InputFile file) throws IOException {
+    byte[] bytes = new byte[(int) file.getLength()];
+    try (SeekableInputStream stream = file.newStream()) {
+      IOUtil.readFully(stream, bytes, 0, bytes.length);
+    }
+
+    return bytes;
+  }
+}
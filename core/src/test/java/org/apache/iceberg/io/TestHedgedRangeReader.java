@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.MetricsContext.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestHedgedRangeReader {
+  private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private Counter hedgedRequests;
+  private Counter hedgedWins;
+
+  @BeforeEach
+  public void before() {
+    MetricsContext metrics = new DefaultMetricsContext();
+    this.hedgedRequests = metrics.counter(FileIOMetricsContext.READ_HEDGED_REQUESTS, Unit.COUNT);
+    this.hedgedWins = metrics.counter(FileIOMetricsContext.READ_HEDGED_WINS, Unit.COUNT);
+  }
+
+  @Test
+  public void testNoHedgingBeforeEnoughSamples() throws IOException {
+    HedgedRangeReader reader = new HedgedRangeReader(95.0, 1.0);
+    AtomicInteger calls = new AtomicInteger(0);
+
+    byte[] buffer = new byte[10];
+    reader.readFully(fill(calls, 50), buffer, 0, buffer.length, hedgedRequests, hedgedWins);
+
+    assertThat(buffer).containsOnly((byte) 1);
+    assertThat(calls).hasValue(1);
+    assertThat(reader.delayNanos()).isEqualTo(-1);
+    assertThat(hedgedRequests.value()).isEqualTo(0);
+  }
+
+  @Test
+  public void testDelayFromPercentile() {
+    HedgedRangeReader reader = new HedgedRangeReader(90.0, 1.0);
+    for (int i = 1; i <= 128; i += 1) {
+      reader.record(TimeUnit.MILLISECONDS.toNanos(i));
+    }
+
+    // 90% of 128 samples is the 116th sample
+    assertThat(reader.delayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(116));
+  }
+
+  @Test
+  public void testSlowRequestIsHedged() throws IOException {
+    HedgedRangeReader reader = warmedUp(1.0);
+    AtomicInteger calls = new AtomicInteger(0);
+
+    byte[] buffer = new byte[20];
+    long start = System.nanoTime();
+    reader.readFully(slowFirst(calls), buffer, 5, 10, hedgedRequests, hedgedWins);
+    long elapsed = System.nanoTime() - start;
+
+    byte[] expected = new byte[20];
+    Arrays.fill(expected, 5, 15, (byte) 2);
+    assertThat(buffer).isEqualTo(expected);
+    assertThat(calls).hasValue(2);
+    assertThat(hedgedRequests.value()).isEqualTo(1);
+    assertThat(hedgedWins.value()).isEqualTo(1);
+    assertThat(elapsed).isLessThan(TimeUnit.SECONDS.toNanos(5));
+  }
+
+  @Test
+  public void testHedgingBudget() throws IOException {
+    HedgedRangeReader reader = warmedUp(0.0);
+    AtomicInteger calls = new AtomicInteger(0);
+
+    byte[] buffer = new byte[10];
+    reader.readFully(fill(calls, 100), buffer, 0, buffer.length, hedgedRequests, hedgedWins);
+
+    assertThat(buffer).containsOnly((byte) 1);
+    assertThat(calls).hasValue(1);
+    assertThat(hedgedRequests.value()).isEqualTo(0);
+  }
+
+  @Test
+  public void testFailedRequestUsesHedge() throws IOException {
+    HedgedRangeReader reader = warmedUp(1.0);
+    AtomicInteger calls = new AtomicInteger(0);
+    HedgedRangeReader.RangeRead read =
+        (bytes, off, len) -> {
+          if (calls.incrementAndGet() == 1) {
+            sleep(100);
+            throw new IOException("Failed request");
+          }
+
+          sleep(200);
+          Arrays.fill(bytes, off, off + len, (byte) 2);
+        };
+
+    byte[] buffer = new byte[10];
+    reader.readFully(read, buffer, 0, buffer.length, hedgedRequests, hedgedWins);
+
+    assertThat(buffer).containsOnly((byte) 2);
+    assertThat(hedgedRequests.value()).isEqualTo(1);
+    assertThat(hedgedWins.value()).isEqualTo(1);
+  }
+
+  @Test
+  public void testFailure() {
+    HedgedRangeReader reader = warmedUp(1.0);
+    HedgedRangeReader.RangeRead read =
+        (bytes, off, len) -> {
+          throw new IOException("Failed request");
+        };
+
+    assertThatThrownBy(
+            () -> reader.readFully(read, new byte[10], 0, 10, hedgedRequests, hedgedWins))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Failed request");
+  }
+
+  @Test
+  public void testInvalidConfig() {
+    assertThatThrownBy(() -> new HedgedRangeReader(100.0, 0.05))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid hedging percentile: 100.0");
+    assertThatThrownBy(() -> new HedgedRangeReader(95.0, 2.0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid hedging budget: 2.0");
+  }
+
+  private static HedgedRangeReader warmedUp(double budget) {
+    HedgedRangeReader reader = new HedgedRangeReader(95.0, budget);
+    for (int i = 0; i < 128; i += 1) {
+      reader.record(FAST_NANOS);
+    }
+
+    return reader;
+  }
+
+  private static HedgedRangeReader.RangeRead fill(AtomicInteger calls, long sleepMillis) {
+    return (bytes, off, len) -> {
+      calls.incrementAndGet();
+      sleep(sleepMillis);
+      Arrays.fill(bytes, off, off + len, (byte) 1);
+    };
+  }
+
+  /** Returns a read that is slow the first time it is called and fast after that. */
+  private static HedgedRangeReader.RangeRead slowFirst(AtomicInteger calls) {
+    return (bytes, off, len) -> {
+      if (calls.incrementAndGet() == 1) {
+        sleep(TimeUnit.SECONDS.toMillis(30));
+        Arrays.fill(bytes, off, off + len, (byte) 1);
+      } else {
+        Arrays.fill(bytes, off, off + len, (byte) 2);
+      }
+    };
+  }
+
+  private static void sleep(long millis) throws IOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted", e);
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestReadAhead {
+  private static final int LENGTH = 100;
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void before() {
+    this.executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testSequentialReads() throws IOException {
+    AtomicInteger calls = new AtomicInteger(0);
+    ReadAhead readAhead = new ReadAhead("file", counting(calls), 16, 2, executor);
+    assertThat(readAhead.isActive()).isFalse();
+    assertThat(readAhead.read(10)).isEqualTo(-1);
+
+    readAhead.start(10, LENGTH);
+    assertThat(readAhead.isActive()).isTrue();
+    assertThat(readAhead.read(10)).isEqualTo(10);
+
+    byte[] buffer = new byte[LENGTH];
+    long pos = 11;
+    while (!readAhead.isEndOfFile(pos)) {
+      int bytesRead = readAhead.read(pos, buffer, (int) pos, LENGTH);
+      assertThat(bytesRead).isGreaterThan(0);
+      pos += bytesRead;
+    }
+
+    assertThat(pos).isEqualTo(LENGTH);
+    for (int i = 11; i < LENGTH; i += 1) {
+      assertThat(buffer[i]).isEqualTo((byte) i);
+    }
+
+    // ranges are 10-26, 26-42, 42-58, 58-74, 74-90 and 90-100
+    assertThat(calls).hasValue(6);
+  }
+
+  @Test
+  public void testReadStopsAtRangeEnd() throws IOException {
+    ReadAhead readAhead = new ReadAhead("file", counting(new AtomicInteger()), 16, 2, executor);
+    readAhead.start(0, LENGTH);
+
+    byte[] buffer = new byte[LENGTH];
+    assertThat(readAhead.read(10, buffer, 0, LENGTH)).isEqualTo(6);
+    assertThat(buffer[0]).isEqualTo((byte) 10);
+    assertThat(buffer[5]).isEqualTo((byte) 15);
+  }
+
+  @Test
+  public void testSeekCancelsReadAhead() throws IOException {
+    ReadAhead readAhead = new ReadAhead("file", counting(new AtomicInteger()), 16, 2, executor);
+    readAhead.start(16, LENGTH);
+    assertThat(readAhead.read(16)).isEqualTo(16);
+
+    // backward seek
+    assertThat(readAhead.read(0)).isEqualTo(-1);
+    assertThat(readAhead.isActive()).isFalse();
+
+    readAhead.start(0, LENGTH);
+    // forward seek past the ranges that are read ahead
+    assertThat(readAhead.read(80)).isEqualTo(-1);
+    assertThat(readAhead.isActive()).isFalse();
+  }
+
+  @Test
+  public void testFailedRangeCancelsReadAhead() throws IOException {
+    ReadAhead.RangeRead failing =
+        (position, buffer, offset, length) -> {
+          if (position >= 16) {
+            throw new IOException("Injected failure");
+          }
+
+          fill(position, buffer, offset, length);
+        };
+
+    ReadAhead readAhead = new ReadAhead("file", failing, 16, 2, executor);
+    readAhead.start(0, LENGTH);
+    assertThat(readAhead.read(15)).isEqualTo(15);
+    assertThat(readAhead.read(16)).isEqualTo(-1);
+    assertThat(readAhead.isActive()).isFalse();
+  }
+
+  @Test
+  public void testEndOfFile() throws IOException {
+    ReadAhead readAhead = new ReadAhead("file", counting(new AtomicInteger()), 16, 2, executor);
+    assertThat(readAhead.isEndOfFile(LENGTH)).isFalse();
+
+    readAhead.start(90, LENGTH);
+    assertThat(readAhead.isEndOfFile(99)).isFalse();
+    assertThat(readAhead.isEndOfFile(LENGTH)).isTrue();
+
+    assertThatThrownBy(() -> readAhead.start(0, LENGTH))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Read-ahead is already active");
+
+    readAhead.cancel();
+    assertThat(readAhead.isEndOfFile(LENGTH)).isFalse();
+  }
+
+  @Test
+  public void testBuffersAreReusedAcrossRanges() throws IOException {
+    ReadAheadBufferPool pool = new ReadAheadBufferPool(32);
+    ReadAhead readAhead =
+        new ReadAhead("file", counting(new AtomicInteger()), 16, 2, executor, pool);
+    readAhead.start(0, LENGTH);
+
+    byte[] buffer = new byte[LENGTH];
+    long pos = 0;
+    while (!readAhead.isEndOfFile(pos)) {
+      pos += readAhead.read(pos, buffer, (int) pos, LENGTH);
+    }
+
+    assertThat(buffer[LENGTH - 1]).isEqualTo((byte) (LENGTH - 1));
+    assertThat(pool.allocatedBytes()).isEqualTo(32);
+
+    readAhead.cancel();
+    assertThat(pool.freeBytes()).isEqualTo(32);
+  }
+
+  @Test
+  public void testPoolBoundsRangesAcrossStreams() throws IOException, InterruptedException {
+    ReadAheadBufferPool pool = new ReadAheadBufferPool(48);
+    ReadAhead first = new ReadAhead("first", counting(new AtomicInteger()), 16, 2, executor, pool);
+    ReadAhead second =
+        new ReadAhead("second", counting(new AtomicInteger()), 16, 2, executor, pool);
+    ReadAhead third = new ReadAhead("third", counting(new AtomicInteger()), 16, 2, executor, pool);
+
+    first.start(0, LENGTH);
+    second.start(0, LENGTH);
+    assertThat(pool.allocatedBytes()).isEqualTo(48);
+
+    // the second stream only reads one range ahead
+    byte[] buffer = new byte[LENGTH];
+    assertThat(second.read(0, buffer, 0, LENGTH)).isEqualTo(16);
+    assertThat(second.read(16)).isEqualTo(-1);
+    assertThat(second.isActive()).isFalse();
+
+    // the buffer of the cancelled stream is reused by the third stream
+    third.start(0, LENGTH);
+    assertThat(third.isActive()).isTrue();
+    assertThat(third.read(15)).isEqualTo(15);
+    assertThat(pool.allocatedBytes()).isEqualTo(48);
+
+    first.cancel();
+    third.cancel();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(pool.freeBytes()).isEqualTo(48);
+  }
+
+  @Test
+  public void testReadAheadDoesNotStartWhenPoolIsFull() throws IOException {
+    ReadAheadBufferPool pool = new ReadAheadBufferPool(16);
+    byte[] held = pool.acquire(16);
+
+    ReadAhead readAhead =
+        new ReadAhead("file", counting(new AtomicInteger()), 16, 2, executor, pool);
+    readAhead.start(0, LENGTH);
+    assertThat(readAhead.isActive()).isFalse();
+    assertThat(readAhead.read(0)).isEqualTo(-1);
+
+    pool.release(held);
+    readAhead.start(0, LENGTH);
+    assertThat(readAhead.isActive()).isTrue();
+    assertThat(readAhead.read(0)).isEqualTo(0);
+  }
+
+  @Test
+  public void testFailedRangeReleasesBuffers() throws IOException, InterruptedException {
+    ReadAhead.RangeRead failing =
+        (position, buffer, offset, length) -> {
+          if (position >= 16) {
+            throw new IOException("Injected failure");
+          }
+
+          fill(position, buffer, offset, length);
+        };
+
+    ReadAheadBufferPool pool = new ReadAheadBufferPool(32);
+    ReadAhead readAhead = new ReadAhead("file", failing, 16, 2, executor, pool);
+    readAhead.start(0, LENGTH);
+    assertThat(readAhead.read(15)).isEqualTo(15);
+    assertThat(readAhead.read(16)).isEqualTo(-1);
+    assertThat(readAhead.isActive()).isFalse();
+
+    // the failed range buffer is released by the cancelled range or its read task
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(pool.freeBytes()).isEqualTo(32);
+  }
+
+  private static ReadAhead.RangeRead counting(AtomicInteger calls) {
+    return (position, buffer, offset, length) -> {
+      calls.incrementAndGet();
+      fill(position, buffer, offset, length);
+    };
+  }
+
+  private static void fill(long position, byte[] buffer, int offset, int length) {
+    for (int i = 0; i < length; i += 1) {
+      buffer[offset + i] = (byte) (position + i);
+    }
+  }
+}
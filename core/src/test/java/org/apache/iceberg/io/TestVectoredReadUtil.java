@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestVectoredReadUtil {
+  private static final byte[] DATA = new byte[1024];
+  private static ExecutorService executorService;
+
+  static {
+    for (int i = 0; i < DATA.length; i += 1) {
+      DATA[i] = (byte) i;
+    }
+  }
+
+  @BeforeAll
+  public static void startExecutor() {
+    executorService = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterAll
+  public static void stopExecutor() {
+    executorService.shutdown();
+  }
+
+  @Test
+  public void testMergeRanges() {
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(500, 10),
+            new FileRange(0, 10),
+            new FileRange(15, 10),
+            new FileRange(100, 10));
+
+    List<VectoredReadUtil.MergedRange> merged = VectoredReadUtil.mergeRanges(ranges, 10, 1024);
+
+    assertThat(merged).hasSize(3);
+    assertThat(merged.get(0).offset()).isEqualTo(0);
+    assertThat(merged.get(0).end()).isEqualTo(25);
+    assertThat(merged.get(0).ranges()).containsExactly(ranges.get(1), ranges.get(2));
+    assertThat(merged.get(1).ranges()).containsExactly(ranges.get(3));
+    assertThat(merged.get(2).ranges()).containsExactly(ranges.get(0));
+  }
+
+  @Test
+  public void testMergeRangesMaxMergedSize() {
+    List<FileRange> ranges =
+        ImmutableList.of(new FileRange(0, 10), new FileRange(10, 10), new FileRange(20, 10));
+
+    List<VectoredReadUtil.MergedRange> merged = VectoredReadUtil.mergeRanges(ranges, 0, 20);
+
+    assertThat(merged).hasSize(2);
+    assertThat(merged.get(0).ranges()).containsExactly(ranges.get(0), ranges.get(1));
+    assertThat(merged.get(1).ranges()).containsExactly(ranges.get(2));
+  }
+
+  @Test
+  public void testMergeOverlappingRanges() {
+    List<FileRange> ranges = ImmutableList.of(new FileRange(0, 10), new FileRange(5, 10));
+
+    assertThatThrownBy(() -> VectoredReadUtil.mergeRanges(ranges, 0, 1024))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid ranges: FileRange{offset=5, length=10} overlaps");
+  }
+
+  @Test
+  public void testReadVectored() {
+    ByteArrayRangeReadable stream = new ByteArrayRangeReadable();
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(0, 10),
+            new FileRange(20, 10),
+            new FileRange(512, 100),
+            new FileRange(1000, 24));
+
+    VectoredReadUtil.readVectored(stream, ranges, ByteBuffer::allocate, executorService, 16, 1024);
+
+    for (FileRange range : ranges) {
+      assertRange(range);
+    }
+
+    assertThat(stream.reads()).as("Should merge the first two ranges").isEqualTo(3);
+  }
+
+  @Test
+  public void testReadVectoredSplitsLargeRange() {
+    ByteArrayRangeReadable stream = new ByteArrayRangeReadable();
+    FileRange heap = new FileRange(0, 600);
+    FileRange direct = new FileRange(700, 300);
+
+    VectoredReadUtil.readVectored(
+        stream, ImmutableList.of(heap), ByteBuffer::allocate, executorService, 0, 256);
+    VectoredReadUtil.readVectored(
+        stream, ImmutableList.of(direct), ByteBuffer::allocateDirect, executorService, 0, 256);
+
+    assertRange(heap);
+    assertRange(direct);
+    assertThat(stream.reads()).as("Should split ranges larger than the max size").isEqualTo(5);
+  }
+
+  @Test
+  public void testReadVectoredIntoBufferArray() {
+    ByteArrayRangeReadable stream = new ByteArrayRangeReadable();
+    FileRange range = new FileRange(100, 50);
+    byte[] array = new byte[60];
+
+    // allocate a slice of a larger array to validate the array offset is used
+    VectoredReadUtil.readVectored(
+        stream,
+        ImmutableList.of(range),
+        length -> ByteBuffer.wrap(array, 10, length).slice(),
+        executorService,
+        0,
+        1024);
+
+    assertRange(range);
+    assertThat(array[10]).as("Should read into the buffer's array").isEqualTo(DATA[100]);
+  }
+
+  @Test
+  public void testReadVectoredFailure() {
+    ByteArrayRangeReadable stream = new ByteArrayRangeReadable();
+    FileRange valid = new FileRange(0, 10);
+    FileRange pastEnd = new FileRange(1020, 10);
+
+    VectoredReadUtil.readVectored(
+        stream, ImmutableList.of(valid, pastEnd), ByteBuffer::allocate, executorService, 0, 1024);
+
+    assertRange(valid);
+    assertThatThrownBy(() -> pastEnd.byteBuffer().join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(EOFException.class);
+  }
+
+  @Test
+  public void testDefaultReadVectored() throws IOException {
+    ByteArrayRangeReadable stream = new ByteArrayRangeReadable();
+    List<FileRange> ranges = ImmutableList.of(new FileRange(100, 10), new FileRange(0, 20));
+
+    stream.readVectored(ranges, ByteBuffer::allocateDirect);
+
+    for (FileRange range : ranges) {
+      assertThat(range.byteBuffer()).isDone();
+      assertRange(range);
+    }
+  }
+
+  private static void assertRange(FileRange range) {
+    ByteBuffer buffer = range.byteBuffer().join();
+    assertThat(buffer.remaining()).isEqualTo(range.length());
+    for (int i = 0; i < range.length(); i += 1) {
+      assertThat(buffer.get(i)).isEqualTo(DATA[(int) range.offset() + i]);
+    }
+  }
+
+  private static class ByteArrayRangeReadable implements RangeReadable {
+    private final AtomicInteger reads = new AtomicInteger(0);
+
+    int reads() {
+      return reads.get();
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+      reads.incrementAndGet();
+      if (position + length > DATA.length) {
+        throw new EOFException("Cannot read past the end of the data");
+      }
+
+      System.arraycopy(DATA, (int) position, buffer, offset, length);
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int offset, int length) {
+      throw new UnsupportedOperationException("Not implemented");
+    }
+
+    @Override
+    public void close() {}
+  }
+}
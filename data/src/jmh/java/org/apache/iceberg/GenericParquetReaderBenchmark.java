@@ -26,8 +26,16 @@ import org.apache.iceberg.data.parquet.GenericParquetWriter;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.parquet.Parquet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Threads;
 
 public class GenericParquetReaderBenchmark extends ReaderBenchmark {
+  @Benchmark
+  @Threads(1)
+  public void readIcebergReuseContainers() throws IOException {
+    readIceberg(this::reuseContainersReader);
+  }
+
   @Override
   protected CloseableIterable<Record> reader(File file, Schema schema) {
     return Parquet.read(Files.localInput(file))
@@ -36,6 +44,14 @@ public class GenericParquetReaderBenchmark extends ReaderBenchmark {
         .build();
   }
 
+  private CloseableIterable<Record> reuseContainersReader(File file, Schema schema) {
+    return Parquet.read(Files.localInput(file))
+        .project(schema)
+        .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(schema, fileSchema))
+        .reuseContainers()
+        .build();
+  }
+
   @Override
   protected FileAppender<Record> writer(File file, Schema schema) throws IOException {
     return Parquet.write(Files.localOutput(file))
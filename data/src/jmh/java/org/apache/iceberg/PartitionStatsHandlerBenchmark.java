@@ -32,6 +32,7 @@ import org.apache.iceberg.types.Types;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Scope;
@@ -67,28 +68,43 @@ public class PartitionStatsHandlerBenchmark {
   // 20 data files per partition, which results in 2k data files per manifest
   private static final int DATA_FILES_PER_PARTITION_COUNT = 20;
 
+  // commits on top of the snapshot with a stats file, used for the incremental compute
+  private static final int INCREMENTAL_COMMIT_COUNT = 10;
+
   private static final HadoopTables TABLES = new HadoopTables();
 
   private static final String TABLE_IDENT = "tbl";
 
   private Table table;
+  private PartitionStatisticsFile previousStatsFile;
 
   @Setup
-  public void setupBenchmark() {
+  public void setupBenchmark() throws IOException {
     this.table = TABLES.create(SCHEMA, SPEC, TABLE_IDENT);
 
     for (int manifestCount = 0; manifestCount < MANIFEST_COUNTER; manifestCount++) {
-      AppendFiles appendFiles = table.newFastAppend();
+      appendManifest();
+    }
 
-      for (int partition = 0; partition < PARTITION_PER_MANIFEST; partition++) {
-        StructLike partitionData = TestHelpers.Row.of(partition);
-        for (int fileOrdinal = 0; fileOrdinal < DATA_FILES_PER_PARTITION_COUNT; fileOrdinal++) {
-          appendFiles.appendFile(FileGenerationUtil.generateDataFile(table, partitionData));
-        }
-      }
+    // stats file of an older snapshot, only registered while running the incremental benchmark
+    this.previousStatsFile = PartitionStatsHandler.computeAndWriteStatsFile(table);
+
+    for (int commitCount = 0; commitCount < INCREMENTAL_COMMIT_COUNT; commitCount++) {
+      appendManifest();
+    }
+  }
+
+  private void appendManifest() {
+    AppendFiles appendFiles = table.newFastAppend();
 
-      appendFiles.commit();
+    for (int partition = 0; partition < PARTITION_PER_MANIFEST; partition++) {
+      StructLike partitionData = TestHelpers.Row.of(partition);
+      for (int fileOrdinal = 0; fileOrdinal < DATA_FILES_PER_PARTITION_COUNT; fileOrdinal++) {
+        appendFiles.appendFile(FileGenerationUtil.generateDataFile(table, partitionData));
+      }
     }
+
+    appendFiles.commit();
   }
 
   @TearDown
@@ -99,8 +115,16 @@ public class PartitionStatsHandlerBenchmark {
   @Benchmark
   @Threads(1)
   public void benchmarkPartitionStats() throws IOException {
-    PartitionStatisticsFile statisticsFile = PartitionStatsHandler.computeAndWriteStatsFile(table);
+    validateStats(PartitionStatsHandler.computeAndWriteStatsFile(table));
+  }
 
+  @Benchmark
+  @Threads(1)
+  public void benchmarkIncrementalPartitionStats(IncrementalState state) throws IOException {
+    validateStats(PartitionStatsHandler.computeAndWriteStatsFile(table));
+  }
+
+  private void validateStats(PartitionStatisticsFile statisticsFile) throws IOException {
     List<PartitionStats> stats;
     try (CloseableIterable<PartitionStats> recordIterator =
         PartitionStatsHandler.readPartitionStatsFile(
@@ -111,4 +135,27 @@ public class PartitionStatsHandlerBenchmark {
 
     assertThat(stats).hasSize(PARTITION_PER_MANIFEST);
   }
+
+  /** Registers the stats file of the older snapshot, so that only newer commits are read. */
+  @State(Scope.Benchmark)
+  public static class IncrementalState {
+
+    @Setup(Level.Iteration)
+    public void registerPreviousStats(PartitionStatsHandlerBenchmark benchmark) {
+      benchmark
+          .table
+          .updatePartitionStatistics()
+          .setPartitionStatistics(benchmark.previousStatsFile)
+          .commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void removePreviousStats(PartitionStatsHandlerBenchmark benchmark) {
+      benchmark
+          .table
+          .updatePartitionStatistics()
+          .removePartitionStatistics(benchmark.previousStatsFile.snapshotId())
+          .commit();
+    }
+  }
 }
@@ -23,7 +23,9 @@ import static org.apache.iceberg.types.Types.NestedField.required;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
+import java.util.function.BiFunction;
 import org.apache.iceberg.data.RandomGenericData;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.io.CloseableIterable;
@@ -50,6 +52,8 @@ import org.slf4j.LoggerFactory;
 @BenchmarkMode(Mode.SingleShotTime)
 public abstract class ReaderBenchmark {
   private static final Logger LOG = LoggerFactory.getLogger(ReaderBenchmark.class);
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
 
   private static final Schema TEST_SCHEMA =
       new Schema(
@@ -85,14 +89,30 @@ public abstract class ReaderBenchmark {
   @Benchmark
   @Threads(1)
   public void readIceberg() throws IOException {
-    try (CloseableIterable<Record> reader = reader(testFile, TEST_SCHEMA)) {
+    readIceberg(this::reader);
+  }
+
+  /**
+   * Reads all rows of the test file with a reader from the given function and logs the number of
+   * bytes allocated per row by the benchmark thread.
+   */
+  protected void readIceberg(BiFunction<File, Schema, CloseableIterable<Record>> readerFunc)
+      throws IOException {
+    long threadId = Thread.currentThread().getId();
+    long startBytes = THREADS.getThreadAllocatedBytes(threadId);
+    long rows = 0;
+    try (CloseableIterable<Record> reader = readerFunc.apply(testFile, TEST_SCHEMA)) {
       long val = 0;
       for (Record record : reader) {
         // access something to ensure the compiler doesn't optimize this away
         val ^= (Long) record.get(0);
+        rows += 1;
       }
       LOG.info("XOR val: {}", val);
     }
+
+    long allocatedBytes = THREADS.getThreadAllocatedBytes(threadId) - startBytes;
+    LOG.info("Allocated {} bytes per row ({} bytes total)", allocatedBytes / rows, allocatedBytes);
   }
 
   protected abstract CloseableIterable<Record> reader(File file, Schema schema);
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.actions.RewriteTablePath;
+import org.apache.iceberg.data.GenericRewriteTablePath;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark that rewrites the paths of a table with many manifests.
+ *
+ * <p>To run this benchmark:
+ * <code>
+ *   ./gradlew :iceberg-data:jmh
+ *       -PjmhIncludeRegex=RewriteTablePathBenchmark
+ *       -PjmhOutputPath=benchmark/rewrite-table-path-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Timeout(time = 1000, timeUnit = TimeUnit.HOURS)
+@BenchmarkMode(Mode.SingleShotTime)
+public class RewriteTablePathBenchmark {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "c1", Types.IntegerType.get()),
+          optional(2, "c2", Types.StringType.get()),
+          optional(3, "c3", Types.StringType.get()));
+
+  private static final PartitionSpec SPEC = PartitionSpec.builderFor(SCHEMA).identity("c1").build();
+
+  // 100k manifests, appended by 10 commits
+  private static final int COMMIT_COUNT = 10;
+  private static final int MANIFESTS_PER_COMMIT = 10_000;
+
+  private static final int DATA_FILES_PER_MANIFEST = 10;
+
+  private static final HadoopTables TABLES = new HadoopTables();
+
+  private File tableDir;
+  private Table table;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    this.tableDir = Files.createTempDirectory("rewrite-table-path-benchmark").toFile();
+    this.table =
+        TABLES.create(
+            SCHEMA,
+            SPEC,
+            ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"),
+            tableDir.getAbsolutePath());
+
+    for (int commit = 0; commit < COMMIT_COUNT; commit++) {
+      AppendFiles append = table.newFastAppend();
+      for (int manifestCount = 0; manifestCount < MANIFESTS_PER_COMMIT; manifestCount++) {
+        append.appendManifest(writeManifest(manifestCount));
+      }
+
+      append.commit();
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    TABLES.dropTable(tableDir.getAbsolutePath());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void rewriteTablePath() {
+    RewriteTablePath.Result result =
+        new GenericRewriteTablePath(table)
+            .rewriteLocationPrefix(tableDir.getAbsolutePath(), "/tmp/replica")
+            .stagingLocation(tableDir.getAbsolutePath() + "/staging-" + UUID.randomUUID())
+            .execute();
+
+    assertThat(result.latestVersion()).isEqualTo("v" + (COMMIT_COUNT + 1) + ".metadata.json");
+  }
+
+  private ManifestFile writeManifest(int partition) throws IOException {
+    OutputFile outputFile =
+        table.io().newOutputFile(table.location() + "/metadata/" + UUID.randomUUID() + "-m0.avro");
+    ManifestWriter<DataFile> writer = ManifestFiles.write(SPEC, outputFile);
+    try (ManifestWriter<DataFile> closeableWriter = writer) {
+      StructLike partitionData = TestHelpers.Row.of(partition);
+      for (int fileOrdinal = 0; fileOrdinal < DATA_FILES_PER_MANIFEST; fileOrdinal++) {
+        closeableWriter.add(FileGenerationUtil.generateDataFile(table, partitionData));
+      }
+    }
+
+    return writer.toManifestFile();
+  }
+}
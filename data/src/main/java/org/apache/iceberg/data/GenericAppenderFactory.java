@@ -146,6 +146,7 @@ public class GenericAppenderFactory implements FileAppenderFactory<Record> {
           return Parquet.write(encryptedOutputFile)
               .schema(schema)
               .createWriterFunc(GenericParquetWriter::create)
+              .copyFunc(RecordCopy::deepCopy)
               .setAll(config)
               .metricsConfig(metricsConfig)
               .overwrite()
@@ -0,0 +1,465 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RowDelta;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TableUtil;
+import org.apache.iceberg.actions.ConvertEqualityDeleteFiles;
+import org.apache.iceberg.actions.ImmutableConvertEqualityDeleteFiles;
+import org.apache.iceberg.deletes.BaseDVFileWriter;
+import org.apache.iceberg.deletes.DeleteCounter;
+import org.apache.iceberg.deletes.DeleteGranularity;
+import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.PositionDelete;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DeleteWriteResult;
+import org.apache.iceberg.io.FanoutPositionOnlyDeleteWriter;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.DeleteFileSet;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ConvertEqualityDeleteFiles} implementation that runs in the current JVM without a query
+ * engine.
+ *
+ * <p>Equality delete files matching the filter are converted by scanning every live data file they
+ * apply to exactly once. Delete keys are loaded once per equality delete file into a hash set that
+ * is shared by all data file scans, up to {@link #maxCachedDeleteBytes(long)}, and every scanned
+ * row is probed against the sets of the equality deletes that apply to its data file. The positions
+ * of matching rows are written as deletion vectors for v3 tables and as position delete files for
+ * older versions, merged with the existing position deletes of the data file.
+ *
+ * <p>The conversion is committed as a {@link RowDelta} that removes the equality delete files. The
+ * commit validates that the referenced data files were not removed concurrently, as rows of
+ * compacted data files would otherwise no longer be deleted.
+ */
+public class GenericConvertEqualityDeleteFiles implements ConvertEqualityDeleteFiles {
+  private static final Logger LOG =
+      LoggerFactory.getLogger(GenericConvertEqualityDeleteFiles.class);
+  private static final Result EMPTY_RESULT =
+      ImmutableConvertEqualityDeleteFiles.Result.builder()
+          .convertedEqualityDeleteFilesCount(0)
+          .addedPositionDeleteFilesCount(0)
+          .build();
+
+  private final Table table;
+  private final Map<String, String> summary = Maps.newHashMap();
+  private Expression filter = Expressions.alwaysTrue();
+  private ExecutorService executorService = ThreadPools.getWorkerPool();
+  private long maxCachedDeleteBytes = Runtime.getRuntime().maxMemory() / 4;
+
+  public GenericConvertEqualityDeleteFiles(Table table) {
+    this.table = table;
+  }
+
+  @Override
+  public GenericConvertEqualityDeleteFiles snapshotProperty(String property, String value) {
+    summary.put(property, value);
+    return this;
+  }
+
+  @Override
+  public GenericConvertEqualityDeleteFiles filter(Expression expression) {
+    this.filter = Expressions.and(filter, expression);
+    return this;
+  }
+
+  /**
+   * Sets the executor used to scan data files concurrently.
+   *
+   * <p>Defaults to the shared worker pool.
+   *
+   * @param service an executor service
+   * @return this for method chaining
+   */
+  public GenericConvertEqualityDeleteFiles executeWith(ExecutorService service) {
+    this.executorService = service;
+    return this;
+  }
+
+  /**
+   * Sets the maximum estimated size of the equality delete keys that are kept in memory.
+   *
+   * <p>Keys of equality delete files that do not fit are read again for every data file they apply
+   * to. Defaults to 25% of the maximum JVM heap.
+   *
+   * @param maxBytes the maximum number of bytes of cached delete keys
+   * @return this for method chaining
+   */
+  public GenericConvertEqualityDeleteFiles maxCachedDeleteBytes(long maxBytes) {
+    Preconditions.checkArgument(
+        maxBytes > 0, "Invalid max cached delete bytes: %s (must be > 0)", maxBytes);
+    this.maxCachedDeleteBytes = maxBytes;
+    return this;
+  }
+
+  @Override
+  public Result execute() {
+    if (table.currentSnapshot() == null) {
+      return EMPTY_RESULT;
+    }
+
+    long startingSnapshotId = table.currentSnapshot().snapshotId();
+    DeleteFileSet equalityDeletes = equalityDeletesToConvert(startingSnapshotId);
+    if (equalityDeletes.isEmpty()) {
+      LOG.info("Nothing found to convert in {}", table.name());
+      return EMPTY_RESULT;
+    }
+
+    // an equality delete can only be removed once all data files it applies to are converted
+    List<DataFileDeletes> dataFileDeletes = affectedDataFiles(startingSnapshotId, equalityDeletes);
+    LOG.info(
+        "Converting {} equality delete files that apply to {} data files in {}",
+        equalityDeletes.size(),
+        dataFileDeletes.size(),
+        table.name());
+
+    CachingDeleteLoader equalityDeleteLoader = new CachingDeleteLoader();
+    Tasks.foreach(dataFileDeletes)
+        .executeWith(executorService)
+        .stopOnFailure()
+        .noRetry()
+        .throwFailureWhenFinished()
+        .run(deletes -> deletes.findDeletedPositions(equalityDeleteLoader));
+
+    DeleteWriteResult result = writePositionDeletes(dataFileDeletes);
+    commit(startingSnapshotId, equalityDeletes, result);
+
+    return ImmutableConvertEqualityDeleteFiles.Result.builder()
+        .convertedEqualityDeleteFilesCount(equalityDeletes.size())
+        .addedPositionDeleteFilesCount(result.deleteFiles().size())
+        .build();
+  }
+
+  private DeleteFileSet equalityDeletesToConvert(long snapshotId) {
+    DeleteFileSet equalityDeletes = DeleteFileSet.create();
+    try (CloseableIterable<FileScanTask> tasks =
+        table.newScan().useSnapshot(snapshotId).filter(filter).ignoreResiduals().planFiles()) {
+      for (FileScanTask task : tasks) {
+        for (DeleteFile delete : task.deletes()) {
+          if (delete.content() == FileContent.EQUALITY_DELETES) {
+            equalityDeletes.add(delete);
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close task iterable", e);
+    }
+
+    return equalityDeletes;
+  }
+
+  private List<DataFileDeletes> affectedDataFiles(
+      long snapshotId, DeleteFileSet equalityDeletes) {
+    List<DataFileDeletes> dataFileDeletes = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks =
+        table.newScan().useSnapshot(snapshotId).ignoreResiduals().planFiles()) {
+      for (FileScanTask task : tasks) {
+        List<DeleteFile> converted =
+            task.deletes().stream().filter(equalityDeletes::contains).collect(Collectors.toList());
+        if (!converted.isEmpty()) {
+          dataFileDeletes.add(new DataFileDeletes(task, converted));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close task iterable", e);
+    }
+
+    return dataFileDeletes;
+  }
+
+  private DeleteWriteResult writePositionDeletes(List<DataFileDeletes> dataFileDeletes) {
+    Map<String, DataFileDeletes> deletesByPath = Maps.newHashMap();
+    dataFileDeletes.forEach(deletes -> deletesByPath.put(deletes.path(), deletes));
+    BaseDeleteLoader positionDeleteLoader = new BaseDeleteLoader(this::loadInputFile);
+
+    try {
+      if (TableUtil.formatVersion(table) >= 3) {
+        OutputFileFactory fileFactory =
+            OutputFileFactory.builderFor(table, 1, 1).format(FileFormat.PUFFIN).build();
+        BaseDVFileWriter writer =
+            new BaseDVFileWriter(
+                fileFactory,
+                path -> previousDeletes(positionDeleteLoader, deletesByPath.get(path)));
+        try (BaseDVFileWriter closeableWriter = writer) {
+          for (DataFileDeletes deletes : dataFileDeletes) {
+            deletes
+                .deletedPositions()
+                .forEach(
+                    pos ->
+                        closeableWriter.delete(
+                            deletes.path(), pos, deletes.spec(), deletes.partition()));
+          }
+        }
+
+        return writer.result();
+      } else {
+        FileFormat format =
+            FileFormat.fromString(
+                table
+                    .properties()
+                    .getOrDefault(
+                        TableProperties.DELETE_DEFAULT_FILE_FORMAT,
+                        table
+                            .properties()
+                            .getOrDefault(
+                                TableProperties.DEFAULT_FILE_FORMAT,
+                                TableProperties.DEFAULT_FILE_FORMAT_DEFAULT)));
+        DeleteGranularity granularity =
+            DeleteGranularity.fromString(
+                PropertyUtil.propertyAsString(
+                    table.properties(),
+                    TableProperties.DELETE_GRANULARITY,
+                    TableProperties.DELETE_GRANULARITY_DEFAULT));
+        long targetFileSize =
+            PropertyUtil.propertyAsLong(
+                table.properties(),
+                TableProperties.DELETE_TARGET_FILE_SIZE_BYTES,
+                TableProperties.DELETE_TARGET_FILE_SIZE_BYTES_DEFAULT);
+        OutputFileFactory fileFactory =
+            OutputFileFactory.builderFor(table, 1, 1).format(format).build();
+        FanoutPositionOnlyDeleteWriter<Record> writer =
+            new FanoutPositionOnlyDeleteWriter<>(
+                GenericFileWriterFactory.builderFor(table).deleteFileFormat(format).build(),
+                fileFactory,
+                table.io(),
+                targetFileSize,
+                granularity,
+                path ->
+                    previousDeletes(positionDeleteLoader, deletesByPath.get(path.toString())));
+        try (FanoutPositionOnlyDeleteWriter<Record> closeableWriter = writer) {
+          PositionDelete<Record> positionDelete = PositionDelete.create();
+          for (DataFileDeletes deletes : dataFileDeletes) {
+            deletes
+                .deletedPositions()
+                .forEach(
+                    pos ->
+                        closeableWriter.write(
+                            positionDelete.set(deletes.path(), pos),
+                            deletes.spec(),
+                            deletes.partition()));
+          }
+        }
+
+        return writer.result();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write position deletes", e);
+    }
+  }
+
+  private PositionDeleteIndex previousDeletes(DeleteLoader loader, DataFileDeletes deletes) {
+    if (deletes == null || deletes.positionDeletes().isEmpty()) {
+      return null;
+    }
+
+    return loader.loadPositionDeletes(deletes.positionDeletes(), deletes.path());
+  }
+
+  private void commit(
+      long startingSnapshotId, DeleteFileSet equalityDeletes, DeleteWriteResult result) {
+    RowDelta rowDelta =
+        table
+            .newRowDelta()
+            .validateFromSnapshot(startingSnapshotId)
+            .validateDataFilesExist(result.referencedDataFiles())
+            .validateDeletedFiles();
+
+    equalityDeletes.forEach(rowDelta::removeDeletes);
+    result.rewrittenDeleteFiles().forEach(rowDelta::removeDeletes);
+    result.deleteFiles().forEach(rowDelta::addDeletes);
+    summary.forEach(rowDelta::set);
+
+    try {
+      rowDelta.commit();
+    } catch (RuntimeException e) {
+      LOG.error("Cannot commit conversion of equality deletes, cleaning up written files", e);
+      Tasks.foreach(result.deleteFiles())
+          .noRetry()
+          .suppressFailureWhenFinished()
+          .onFailure((file, exc) -> LOG.warn("Failed to delete: {}", file.location(), exc))
+          .run(file -> table.io().deleteFile(file.location()));
+      throw e;
+    }
+  }
+
+  private InputFile loadInputFile(DeleteFile deleteFile) {
+    return table.io().newInputFile(deleteFile);
+  }
+
+  /** The equality deletes to convert for a data file and the positions they delete. */
+  private class DataFileDeletes {
+    private final FileScanTask task;
+    private final List<DeleteFile> equalityDeletes;
+    private final List<DeleteFile> positionDeletes;
+    private PositionDeleteIndex deletedPositions = PositionDeleteIndex.empty();
+
+    private DataFileDeletes(FileScanTask task, List<DeleteFile> equalityDeletes) {
+      this.task = task;
+      this.equalityDeletes = equalityDeletes;
+      this.positionDeletes =
+          task.deletes().stream()
+              .filter(delete -> delete.content() == FileContent.POSITION_DELETES)
+              .collect(Collectors.toList());
+    }
+
+    private String path() {
+      return task.file().location();
+    }
+
+    private PartitionSpec spec() {
+      return table.specs().get(task.file().specId());
+    }
+
+    private StructLike partition() {
+      return task.file().partition();
+    }
+
+    private List<DeleteFile> positionDeletes() {
+      return positionDeletes;
+    }
+
+    private PositionDeleteIndex deletedPositions() {
+      return deletedPositions;
+    }
+
+    private void findDeletedPositions(DeleteLoader equalityDeleteLoader) {
+      EqualityDeleteProbe probe =
+          new EqualityDeleteProbe(task, equalityDeletes, equalityDeleteLoader);
+      GenericReader reader = new GenericReader(table.newScan(), true /* reuse containers */);
+      CloseableIterable<Record> records = reader.openFile(task, probe.requiredSchema());
+      this.deletedPositions =
+          Deletes.toPositionIndex(
+              CloseableIterable.transform(probe.findEqualityDeleteRows(records), probe::pos));
+      LOG.debug(
+          "Found {} deleted positions in {} for {} equality deletes",
+          deletedPositions.cardinality(),
+          path(),
+          equalityDeletes.size());
+    }
+  }
+
+  /** A delete filter which only applies the equality deletes being converted. */
+  private class EqualityDeleteProbe extends DeleteFilter<Record> {
+    private final InternalRecordWrapper asStructLike;
+    private final DeleteLoader deleteLoader;
+
+    private EqualityDeleteProbe(
+        FileScanTask task, List<DeleteFile> equalityDeletes, DeleteLoader deleteLoader) {
+      super(
+          task.file().location(),
+          equalityDeletes,
+          table.schema(),
+          new Schema(MetadataColumns.ROW_POSITION),
+          new DeleteCounter(),
+          true);
+      this.asStructLike = new InternalRecordWrapper(requiredSchema().asStruct());
+      this.deleteLoader = deleteLoader;
+    }
+
+    @Override
+    protected StructLike asStructLike(Record record) {
+      return asStructLike.wrap(record);
+    }
+
+    @Override
+    protected InputFile getInputFile(String location) {
+      return table.io().newInputFile(location);
+    }
+
+    @Override
+    protected DeleteLoader newDeleteLoader() {
+      return deleteLoader;
+    }
+  }
+
+  /**
+   * A delete loader which keeps the keys of loaded equality delete files, so that each file is read
+   * once no matter how many data files it applies to.
+   *
+   * <p>The estimated size of the cached keys is bounded by {@link #maxCachedDeleteBytes(long)}.
+   * Once the cache is full, files that are not cached are read for every data file. Concurrent
+   * loads may exceed the bound by the size of the files that are loaded at the same time.
+   */
+  private class CachingDeleteLoader extends BaseDeleteLoader {
+    private final ConcurrentMap<String, Object> cache = Maps.newConcurrentMap();
+    private final AtomicLong cachedBytes = new AtomicLong(0L);
+
+    private CachingDeleteLoader() {
+      super(GenericConvertEqualityDeleteFiles.this::loadInputFile);
+    }
+
+    @Override
+    protected boolean canCache(long size) {
+      return size <= maxCachedDeleteBytes;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <V> V getOrLoad(String key, Supplier<V> valueSupplier, long valueSize) {
+      Object cached = cache.get(key);
+      if (cached != null) {
+        return (V) cached;
+      }
+
+      if (cachedBytes.get() + valueSize > maxCachedDeleteBytes) {
+        LOG.debug("Delete cache is full, loading {} without caching", key);
+        return valueSupplier.get();
+      }
+
+      return (V)
+          cache.computeIfAbsent(
+              key,
+              ignored -> {
+                cachedBytes.addAndGet(valueSize);
+                return valueSupplier.get();
+              });
+    }
+  }
+}
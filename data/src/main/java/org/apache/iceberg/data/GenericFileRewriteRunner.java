@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.SortOrderComparators;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.actions.FileRewriteRunner;
+import org.apache.iceberg.actions.RewriteDataFiles.FileGroupInfo;
+import org.apache.iceberg.actions.RewriteFileGroup;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriteResult;
+import org.apache.iceberg.io.FanoutDataWriter;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.math.LongMath;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.util.DataFileSet;
+import org.apache.iceberg.util.PropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link FileRewriteRunner} which rewrites {@link RewriteFileGroup}s in the current JVM using the
+ * generic readers and writers.
+ *
+ * <p>Input files are read with {@link GenericReader}, so delete files are applied, and output files
+ * are written with {@link GenericFileWriterFactory}. If a {@link SortOrder} is given, the records
+ * of a group are sorted before they are written.
+ *
+ * <p>Concurrent rewrites through the same runner share a memory budget controlled by {@link
+ * #MAX_MEMORY_BYTES}. Input files are compressed, so memory is estimated from the record count of
+ * each task and the size of a record estimated by {@link TypeUtil#estimateSize}. A bin-pack rewrite
+ * streams records and reserves enough of the budget for one open row group. A sort rewrite buffers
+ * records and reserves the estimated size of the records of the group. When a group does not fit
+ * into the budget, it is sorted in runs of input files that do fit and every run is written to
+ * separate output files.
+ */
+public class GenericFileRewriteRunner
+    implements FileRewriteRunner<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> {
+  private static final Logger LOG = LoggerFactory.getLogger(GenericFileRewriteRunner.class);
+
+  /**
+   * The maximum number of bytes that concurrent group rewrites of this runner may reserve. A
+   * rewrite blocks until enough of the budget is released by other rewrites.
+   *
+   * <p>Defaults to 25% of the maximum JVM heap.
+   */
+  public static final String MAX_MEMORY_BYTES = "max-memory-bytes";
+
+  private final Table table;
+  private final SortOrder sortOrder;
+  private final AtomicLong taskIds = new AtomicLong(0L);
+  private MemoryBudget memoryBudget;
+
+  public GenericFileRewriteRunner(Table table) {
+    this(table, null);
+  }
+
+  public GenericFileRewriteRunner(Table table, SortOrder sortOrder) {
+    Preconditions.checkArgument(table != null, "Invalid table: null");
+    Preconditions.checkArgument(
+        sortOrder == null || sortOrder.isSorted(), "Cannot sort data using an unsorted order");
+    this.table = table;
+    this.sortOrder = sortOrder;
+    this.memoryBudget = new MemoryBudget(defaultMaxMemoryBytes());
+  }
+
+  @Override
+  public String description() {
+    return sortOrder != null ? "SORT" : "BIN-PACK";
+  }
+
+  @Override
+  public Set<String> validOptions() {
+    return ImmutableSet.of(MAX_MEMORY_BYTES);
+  }
+
+  @Override
+  public void init(Map<String, String> options) {
+    long maxMemoryBytes =
+        PropertyUtil.propertyAsLong(options, MAX_MEMORY_BYTES, defaultMaxMemoryBytes());
+    Preconditions.checkArgument(
+        maxMemoryBytes > 0, "'%s' is set to %s but must be > 0", MAX_MEMORY_BYTES, maxMemoryBytes);
+    this.memoryBudget = new MemoryBudget(maxMemoryBytes);
+  }
+
+  @Override
+  public Set<DataFile> rewrite(RewriteFileGroup group) {
+    long recordSize = estimateRecordSize(table.schema());
+    long reservation = memoryBudget.reserve(requiredMemory(group, recordSize));
+    try {
+      return sortOrder != null ? sortAndWrite(group, reservation, recordSize) : binPack(group);
+    } finally {
+      memoryBudget.release(reservation);
+    }
+  }
+
+  @VisibleForTesting
+  long maxMemoryBytes() {
+    return memoryBudget.capacity();
+  }
+
+  private long requiredMemory(RewriteFileGroup group, long recordSize) {
+    long recordsSize = 0L;
+    for (FileScanTask task : group.fileScanTasks()) {
+      recordsSize = LongMath.saturatedAdd(recordsSize, estimatedMemory(task, recordSize));
+    }
+
+    if (sortOrder != null) {
+      return recordsSize;
+    }
+
+    long rowGroupSize =
+        PropertyUtil.propertyAsLong(
+            table.properties(),
+            TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES,
+            TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES_DEFAULT);
+    return Math.min(rowGroupSize, recordsSize);
+  }
+
+  // estimates the memory required to buffer the records of a task (in bytes), ignoring deletes
+  private static long estimatedMemory(FileScanTask task, long recordSize) {
+    try {
+      return LongMath.checkedMultiply(Math.max(1L, task.estimatedRowsCount()), recordSize);
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private Set<DataFile> binPack(RewriteFileGroup group) {
+    GenericReader reader = new GenericReader(table.newScan(), true /* reuse containers */);
+    RecordWriter writer = new RecordWriter(group);
+    try {
+      for (FileScanTask task : group.fileScanTasks()) {
+        try (CloseableIterable<Record> records = reader.open(task)) {
+          records.forEach(writer::write);
+        }
+      }
+
+      return writer.complete();
+    } catch (IOException e) {
+      writer.abort();
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      writer.abort();
+      throw e;
+    }
+  }
+
+  private Set<DataFile> sortAndWrite(RewriteFileGroup group, long runSizeInBytes, long recordSize) {
+    GenericReader reader = new GenericReader(table.newScan(), false /* reuse containers */);
+    Comparator<Record> comparator = recordComparator(table.schema(), sortOrder);
+    DataFileSet writtenFiles = DataFileSet.create();
+    List<Record> buffer = Lists.newArrayList();
+    long bufferedBytes = 0L;
+    try {
+      for (FileScanTask task : group.fileScanTasks()) {
+        long taskBytes = estimatedMemory(task, recordSize);
+        if (!buffer.isEmpty() && LongMath.saturatedAdd(bufferedBytes, taskBytes) > runSizeInBytes) {
+          LOG.info(
+              "Group {} exceeds the memory budget of {} bytes, writing a sorted run of {} records",
+              group.info(),
+              runSizeInBytes,
+              buffer.size());
+          writtenFiles.addAll(writeSortedRun(group, buffer, comparator));
+          bufferedBytes = 0L;
+        }
+
+        try (CloseableIterable<Record> records = reader.open(task)) {
+          records.forEach(buffer::add);
+        }
+
+        bufferedBytes = LongMath.saturatedAdd(bufferedBytes, taskBytes);
+      }
+
+      writtenFiles.addAll(writeSortedRun(group, buffer, comparator));
+      return writtenFiles;
+    } catch (IOException e) {
+      deleteFiles(writtenFiles);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      deleteFiles(writtenFiles);
+      throw e;
+    }
+  }
+
+  private Set<DataFile> writeSortedRun(
+      RewriteFileGroup group, List<Record> buffer, Comparator<Record> comparator)
+      throws IOException {
+    buffer.sort(comparator);
+    RecordWriter writer = new RecordWriter(group);
+    try {
+      buffer.forEach(writer::write);
+      buffer.clear();
+      return writer.complete();
+    } catch (IOException e) {
+      writer.abort();
+      throw e;
+    } catch (RuntimeException e) {
+      writer.abort();
+      throw e;
+    }
+  }
+
+  private void deleteFiles(Iterable<DataFile> files) {
+    for (DataFile file : files) {
+      try {
+        table.io().deleteFile(file.location());
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to delete: {}", file.location(), e);
+      }
+    }
+  }
+
+  private static Comparator<Record> recordComparator(Schema schema, SortOrder sortOrder) {
+    Comparator<StructLike> comparator = SortOrderComparators.forSchema(schema, sortOrder);
+    InternalRecordWrapper left = new InternalRecordWrapper(schema.asStruct());
+    InternalRecordWrapper right = new InternalRecordWrapper(schema.asStruct());
+    return (record1, record2) -> comparator.compare(left.wrap(record1), right.wrap(record2));
+  }
+
+  @VisibleForTesting
+  static long estimateRecordSize(Schema schema) {
+    return schema.columns().stream().mapToInt(TypeUtil::estimateSize).sum();
+  }
+
+  private static long defaultMaxMemoryBytes() {
+    return Runtime.getRuntime().maxMemory() / 4;
+  }
+
+  /** Writes records of a group into the output spec, keeping track of the written files. */
+  private class RecordWriter {
+    private final PartitionSpec spec;
+    private final PartitionKey partitionKey;
+    private final InternalRecordWrapper wrapper;
+    private final FanoutDataWriter<Record> writer;
+
+    private RecordWriter(RewriteFileGroup group) {
+      this.spec = table.specs().get(group.outputSpecId());
+      this.partitionKey = new PartitionKey(spec, table.schema());
+      this.wrapper = new InternalRecordWrapper(table.schema().asStruct());
+
+      FileFormat format =
+          FileFormat.fromString(
+              table
+                  .properties()
+                  .getOrDefault(
+                      TableProperties.DEFAULT_FILE_FORMAT,
+                      TableProperties.DEFAULT_FILE_FORMAT_DEFAULT));
+      GenericFileWriterFactory writerFactory =
+          GenericFileWriterFactory.builderFor(table)
+              .dataFileFormat(format)
+              .dataSortOrder(sortOrder)
+              .build();
+      OutputFileFactory fileFactory =
+          OutputFileFactory.builderFor(
+                  table, group.info().globalIndex(), taskIds.incrementAndGet())
+              .defaultSpec(spec)
+              .format(format)
+              .build();
+      this.writer =
+          new FanoutDataWriter<>(
+              writerFactory, fileFactory, table.io(), group.maxOutputFileSize());
+    }
+
+    private void write(Record record) {
+      partitionKey.partition(wrapper.wrap(record));
+      writer.write(record, spec, partitionKey);
+    }
+
+    private Set<DataFile> complete() throws IOException {
+      writer.close();
+      DataWriteResult result = writer.result();
+      return DataFileSet.of(result.dataFiles());
+    }
+
+    private void abort() {
+      try {
+        writer.close();
+      } catch (IOException | RuntimeException e) {
+        LOG.warn("Failed to close writer while aborting rewrite", e);
+        return;
+      }
+
+      deleteFiles(writer.result().dataFiles());
+    }
+  }
+
+  /** A byte budget shared by concurrent rewrites of this runner. */
+  private static class MemoryBudget {
+    private final long capacity;
+    private long available;
+
+    private MemoryBudget(long capacity) {
+      this.capacity = capacity;
+      this.available = capacity;
+    }
+
+    private long capacity() {
+      return capacity;
+    }
+
+    /**
+     * Reserves the requested number of bytes, blocking until they are available. Requests larger
+     * than the capacity are reduced to the capacity.
+     *
+     * @return the number of reserved bytes which must be released after use
+     */
+    private synchronized long reserve(long requestedBytes) {
+      long bytes = Math.max(1L, Math.min(requestedBytes, capacity));
+      while (available < bytes) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException("Interrupted while waiting for the memory budget", e);
+        }
+      }
+
+      available -= bytes;
+      return bytes;
+    }
+
+    private synchronized void release(long bytes) {
+      available += bytes;
+      notifyAll();
+    }
+  }
+}
@@ -80,7 +80,7 @@ class GenericFileWriterFactory extends BaseFileWriterFactory<Record> {
 
   @Override
   protected void configureDataWrite(Parquet.DataWriteBuilder builder) {
-    builder.createWriterFunc(GenericParquetWriter::create);
+    builder.createWriterFunc(GenericParquetWriter::create).copyFunc(RecordCopy::deepCopy);
   }
 
   @Override
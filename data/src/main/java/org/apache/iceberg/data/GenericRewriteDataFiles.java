@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.BinPackRewriteFilePlanner;
+import org.apache.iceberg.actions.FileRewritePlan;
+import org.apache.iceberg.actions.ImmutableRewriteDataFiles;
+import org.apache.iceberg.actions.RewriteDataFiles;
+import org.apache.iceberg.actions.RewriteDataFilesCommitManager;
+import org.apache.iceberg.actions.RewriteFileGroup;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.math.IntMath;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RewriteDataFiles} implementation that runs in the current JVM without a query engine.
+ *
+ * <p>File groups are planned with the {@link BinPackRewriteFilePlanner}, rewritten concurrently on
+ * a local executor by a {@link GenericFileRewriteRunner} and committed through the {@link
+ * RewriteDataFilesCommitManager}, optionally with partial progress.
+ */
+public class GenericRewriteDataFiles implements RewriteDataFiles {
+  private static final Logger LOG = LoggerFactory.getLogger(GenericRewriteDataFiles.class);
+  private static final Set<String> VALID_OPTIONS =
+      ImmutableSet.of(
+          MAX_CONCURRENT_FILE_GROUP_REWRITES,
+          MAX_FILE_GROUP_SIZE_BYTES,
+          PARTIAL_PROGRESS_ENABLED,
+          PARTIAL_PROGRESS_MAX_COMMITS,
+          PARTIAL_PROGRESS_MAX_FAILED_COMMITS,
+          TARGET_FILE_SIZE_BYTES,
+          USE_STARTING_SEQUENCE_NUMBER,
+          REWRITE_JOB_ORDER,
+          OUTPUT_SPEC_ID,
+          BinPackRewriteFilePlanner.MAX_FILES_TO_REWRITE);
+
+  private static final Result EMPTY_RESULT =
+      ImmutableRewriteDataFiles.Result.builder().rewriteResults(ImmutableList.of()).build();
+
+  private final Table table;
+  private final Map<String, String> options = Maps.newHashMap();
+  private final Map<String, String> summary = Maps.newHashMap();
+
+  private Expression filter = Expressions.alwaysTrue();
+  private boolean caseSensitive = true;
+  private ExecutorService executorService = null;
+  private int maxConcurrentFileGroupRewrites;
+  private int maxCommits;
+  private int maxFailedCommits;
+  private boolean partialProgressEnabled;
+  private boolean useStartingSequenceNumber;
+  private BinPackRewriteFilePlanner planner = null;
+  private GenericFileRewriteRunner runner = null;
+
+  public GenericRewriteDataFiles(Table table) {
+    this.table = table;
+  }
+
+  @Override
+  public GenericRewriteDataFiles snapshotProperty(String property, String value) {
+    summary.put(property, value);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles option(String name, String value) {
+    options.put(name, value);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles options(Map<String, String> newOptions) {
+    options.putAll(newOptions);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles binPack() {
+    ensureRunnerNotSet();
+    this.runner = new GenericFileRewriteRunner(table);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles sort() {
+    return sort(table.sortOrder());
+  }
+
+  @Override
+  public GenericRewriteDataFiles sort(SortOrder sortOrder) {
+    ensureRunnerNotSet();
+    this.runner = new GenericFileRewriteRunner(table, sortOrder);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFiles filter(Expression expression) {
+    this.filter = Expressions.and(filter, expression);
+    return this;
+  }
+
+  public GenericRewriteDataFiles caseSensitive(boolean newCaseSensitive) {
+    this.caseSensitive = newCaseSensitive;
+    return this;
+  }
+
+  /**
+   * Sets the executor used to rewrite file groups concurrently.
+   *
+   * <p>If not set, a fixed thread pool sized by {@link #MAX_CONCURRENT_FILE_GROUP_REWRITES} is
+   * created for the duration of {@link #execute()}. A provided executor is not shut down by this
+   * action.
+   *
+   * @param service an executor service
+   * @return this for method chaining
+   */
+  public GenericRewriteDataFiles executeWith(ExecutorService service) {
+    this.executorService = service;
+    return this;
+  }
+
+  private void ensureRunnerNotSet() {
+    Preconditions.checkArgument(
+        runner == null,
+        "Cannot set rewrite mode, it has already been set to %s",
+        runner == null ? null : runner.description());
+  }
+
+  @Override
+  public Result execute() {
+    if (table.currentSnapshot() == null) {
+      return EMPTY_RESULT;
+    }
+
+    long startingSnapshotId = table.currentSnapshot().snapshotId();
+
+    init(startingSnapshotId);
+
+    FileRewritePlan<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> plan = planner.plan();
+
+    if (plan.totalGroupCount() == 0) {
+      LOG.info("Nothing found to rewrite in {}", table.name());
+      return EMPTY_RESULT;
+    }
+
+    RewriteDataFilesCommitManager commitManager =
+        new RewriteDataFilesCommitManager(
+            table, startingSnapshotId, useStartingSequenceNumber, ImmutableMap.copyOf(summary));
+
+    ExecutorService rewriteService = executorService != null ? executorService : rewriteService();
+    try {
+      return partialProgressEnabled
+          ? doExecuteWithPartialProgress(plan, commitManager, rewriteService)
+          : doExecute(plan, commitManager, rewriteService);
+    } finally {
+      if (executorService == null) {
+        rewriteService.shutdown();
+      }
+    }
+  }
+
+  private void init(long startingSnapshotId) {
+    this.planner = new BinPackRewriteFilePlanner(table, filter, startingSnapshotId, caseSensitive);
+
+    // Default to BinPack if no strategy selected
+    if (runner == null) {
+      this.runner = new GenericFileRewriteRunner(table);
+    }
+
+    validateAndInitOptions();
+  }
+
+  private RewriteFileGroup rewriteFiles(RewriteFileGroup fileGroup) {
+    Set<DataFile> addedFiles = runner.rewrite(fileGroup);
+    fileGroup.setOutputFiles(addedFiles);
+    LOG.info(
+        "Rewrite of {} files ({}, file group {}) in {} ready to be committed",
+        fileGroup.rewrittenFiles().size(),
+        runner.description(),
+        fileGroup.info().globalIndex(),
+        table.name());
+    return fileGroup;
+  }
+
+  private ExecutorService rewriteService() {
+    return MoreExecutors.getExitingExecutorService(
+        (ThreadPoolExecutor)
+            Executors.newFixedThreadPool(
+                maxConcurrentFileGroupRewrites,
+                new ThreadFactoryBuilder().setNameFormat("Rewrite-Service-%d").build()));
+  }
+
+  private Result doExecute(
+      FileRewritePlan<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> plan,
+      RewriteDataFilesCommitManager commitManager,
+      ExecutorService rewriteService) {
+    ConcurrentLinkedQueue<RewriteFileGroup> rewrittenGroups = Queues.newConcurrentLinkedQueue();
+
+    try {
+      Tasks.foreach(plan.groups())
+          .executeWith(rewriteService)
+          .stopOnFailure()
+          .noRetry()
+          .onFailure(
+              (fileGroup, exception) ->
+                  LOG.warn(
+                      "Failure during rewrite process for group {}", fileGroup.info(), exception))
+          .run(fileGroup -> rewrittenGroups.add(rewriteFiles(fileGroup)));
+    } catch (Exception e) {
+      // At least one rewrite group failed, clean up all completed rewrites
+      LOG.error(
+          "Cannot complete rewrite, {} is not enabled and one of the file set groups failed to "
+              + "be rewritten. Cleaning up {} groups which finished being written.",
+          PARTIAL_PROGRESS_ENABLED,
+          rewrittenGroups.size(),
+          e);
+
+      Tasks.foreach(rewrittenGroups)
+          .suppressFailureWhenFinished()
+          .run(commitManager::abortFileGroup);
+      throw e;
+    }
+
+    try {
+      commitManager.commitOrClean(Sets.newHashSet(rewrittenGroups));
+    } catch (ValidationException | CommitFailedException e) {
+      String errorMessage =
+          String.format(
+              "Cannot commit rewrite because of a ValidationException or CommitFailedException. "
+                  + "This usually means that this rewrite has conflicted with another concurrent "
+                  + "Iceberg operation. To reduce the likelihood of conflicts, set %s which will "
+                  + "break up the rewrite into multiple smaller commits controlled by %s.",
+              PARTIAL_PROGRESS_ENABLED, PARTIAL_PROGRESS_MAX_COMMITS);
+      throw new RuntimeException(errorMessage, e);
+    }
+
+    List<FileGroupRewriteResult> rewriteResults =
+        rewrittenGroups.stream().map(RewriteFileGroup::asResult).collect(Collectors.toList());
+    return ImmutableRewriteDataFiles.Result.builder().rewriteResults(rewriteResults).build();
+  }
+
+  private Result doExecuteWithPartialProgress(
+      FileRewritePlan<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> plan,
+      RewriteDataFilesCommitManager commitManager,
+      ExecutorService rewriteService) {
+    // start commit service
+    int groupsPerCommit = IntMath.divide(plan.totalGroupCount(), maxCommits, RoundingMode.CEILING);
+    RewriteDataFilesCommitManager.CommitService commitService =
+        commitManager.service(groupsPerCommit);
+    commitService.start();
+
+    Collection<FileGroupFailureResult> rewriteFailures = new ConcurrentLinkedQueue<>();
+    // start rewrite tasks
+    Tasks.foreach(plan.groups())
+        .suppressFailureWhenFinished()
+        .executeWith(rewriteService)
+        .noRetry()
+        .onFailure(
+            (fileGroup, exception) -> {
+              LOG.error("Failure during rewrite group {}", fileGroup.info(), exception);
+              rewriteFailures.add(
+                  ImmutableRewriteDataFiles.FileGroupFailureResult.builder()
+                      .info(fileGroup.info())
+                      .dataFilesCount(fileGroup.inputFileNum())
+                      .build());
+            })
+        .run(fileGroup -> commitService.offer(rewriteFiles(fileGroup)));
+
+    // stop commit service
+    commitService.close();
+
+    int totalCommits = Math.min(plan.totalGroupCount(), maxCommits);
+    int failedCommits = totalCommits - commitService.succeededCommits();
+    if (failedCommits > 0 && failedCommits <= maxFailedCommits) {
+      LOG.warn(
+          "{} is true but {} rewrite commits failed. Check the logs to determine why the "
+              + "individual commits failed. If this is persistent it may help to increase {} which "
+              + "will split the rewrite operation into smaller commits.",
+          PARTIAL_PROGRESS_ENABLED,
+          failedCommits,
+          PARTIAL_PROGRESS_MAX_COMMITS);
+    } else if (failedCommits > maxFailedCommits) {
+      String errorMessage =
+          String.format(
+              "%s is true but %d rewrite commits failed. This is more than the maximum allowed "
+                  + "failures of %d. Check the logs to determine why the individual commits "
+                  + "failed. If this is persistent it may help to increase %s which will split the "
+                  + "rewrite operation into smaller commits.",
+              PARTIAL_PROGRESS_ENABLED,
+              failedCommits,
+              maxFailedCommits,
+              PARTIAL_PROGRESS_MAX_COMMITS);
+      throw new RuntimeException(errorMessage);
+    }
+
+    List<FileGroupRewriteResult> rewriteResults =
+        commitService.results().stream()
+            .map(RewriteFileGroup::asResult)
+            .collect(Collectors.toList());
+    return ImmutableRewriteDataFiles.Result.builder()
+        .rewriteResults(rewriteResults)
+        .rewriteFailures(rewriteFailures)
+        .build();
+  }
+
+  private void validateAndInitOptions() {
+    Set<String> validOptions = Sets.newHashSet(runner.validOptions());
+    validOptions.addAll(VALID_OPTIONS);
+    validOptions.addAll(planner.validOptions());
+
+    Set<String> invalidKeys = Sets.newHashSet(options.keySet());
+    invalidKeys.removeAll(validOptions);
+
+    Preconditions.checkArgument(
+        invalidKeys.isEmpty(),
+        "Cannot use options %s, they are not supported by the action or the rewriter %s",
+        invalidKeys,
+        runner.description());
+
+    planner.init(options);
+    runner.init(options);
+
+    maxConcurrentFileGroupRewrites =
+        PropertyUtil.propertyAsInt(
+            options,
+            MAX_CONCURRENT_FILE_GROUP_REWRITES,
+            MAX_CONCURRENT_FILE_GROUP_REWRITES_DEFAULT);
+
+    maxCommits =
+        PropertyUtil.propertyAsInt(
+            options, PARTIAL_PROGRESS_MAX_COMMITS, PARTIAL_PROGRESS_MAX_COMMITS_DEFAULT);
+
+    maxFailedCommits =
+        PropertyUtil.propertyAsInt(options, PARTIAL_PROGRESS_MAX_FAILED_COMMITS, maxCommits);
+
+    partialProgressEnabled =
+        PropertyUtil.propertyAsBoolean(
+            options, PARTIAL_PROGRESS_ENABLED, PARTIAL_PROGRESS_ENABLED_DEFAULT);
+
+    useStartingSequenceNumber =
+        PropertyUtil.propertyAsBoolean(
+            options, USE_STARTING_SEQUENCE_NUMBER, USE_STARTING_SEQUENCE_NUMBER_DEFAULT);
+
+    Preconditions.checkArgument(
+        maxConcurrentFileGroupRewrites >= 1,
+        "Cannot set %s to %s, the value must be positive.",
+        MAX_CONCURRENT_FILE_GROUP_REWRITES,
+        maxConcurrentFileGroupRewrites);
+
+    Preconditions.checkArgument(
+        !partialProgressEnabled || maxCommits > 0,
+        "Cannot set %s to %s, the value must be positive when %s is true",
+        PARTIAL_PROGRESS_MAX_COMMITS,
+        maxCommits,
+        PARTIAL_PROGRESS_ENABLED);
+  }
+}
@@ -0,0 +1,648 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RewriteTablePathUtil;
+import org.apache.iceberg.RewriteTablePathUtil.PositionDeleteReaderWriter;
+import org.apache.iceberg.RewriteTablePathUtil.RewriteResult;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.StaticTableOperations;
+import org.apache.iceberg.StatisticsFile;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableMetadata.MetadataLogEntry;
+import org.apache.iceberg.TableMetadataParser;
+import org.apache.iceberg.actions.ImmutableRewriteTablePath;
+import org.apache.iceberg.actions.RewriteTablePath;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.data.avro.PlannedDataReader;
+import org.apache.iceberg.data.orc.GenericOrcReader;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.deletes.PositionDeleteWriter;
+import org.apache.iceberg.encryption.EncryptedFiles;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DeleteSchemaUtil;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.orc.ORC;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RewriteTablePath} implementation that runs in the current JVM without a query engine.
+ *
+ * <p>Version files, manifest lists, manifests and position delete files are each rewritten in
+ * parallel on an executor service. Manifests are rewritten entry by entry, so only the copy plan of
+ * a manifest is kept in memory while it is rewritten.
+ */
+public class GenericRewriteTablePath implements RewriteTablePath {
+
+  private static final Logger LOG = LoggerFactory.getLogger(GenericRewriteTablePath.class);
+  private static final String RESULT_LOCATION = "file-list";
+
+  private final Table table;
+  private String sourcePrefix;
+  private String targetPrefix;
+  private String startVersionName;
+  private String endVersionName;
+  private String stagingDir;
+  private ExecutorService executorService = ThreadPools.getWorkerPool();
+
+  public GenericRewriteTablePath(Table table) {
+    Preconditions.checkArgument(table != null, "Invalid table: null");
+    Preconditions.checkArgument(
+        table instanceof HasTableOperations,
+        "Cannot rewrite paths of table %s without table operations",
+        table.name());
+    this.table = table;
+  }
+
+  @Override
+  public GenericRewriteTablePath rewriteLocationPrefix(String sPrefix, String tPrefix) {
+    Preconditions.checkArgument(
+        sPrefix != null && !sPrefix.isEmpty(), "Source prefix('%s') cannot be empty.", sPrefix);
+    this.sourcePrefix = sPrefix;
+    this.targetPrefix = tPrefix;
+    return this;
+  }
+
+  @Override
+  public GenericRewriteTablePath startVersion(String sVersion) {
+    Preconditions.checkArgument(
+        sVersion != null && !sVersion.trim().isEmpty(),
+        "Start version('%s') cannot be empty.",
+        sVersion);
+    this.startVersionName = sVersion;
+    return this;
+  }
+
+  @Override
+  public GenericRewriteTablePath endVersion(String eVersion) {
+    Preconditions.checkArgument(
+        eVersion != null && !eVersion.trim().isEmpty(),
+        "End version('%s') cannot be empty.",
+        eVersion);
+    this.endVersionName = eVersion;
+    return this;
+  }
+
+  @Override
+  public GenericRewriteTablePath stagingLocation(String stagingLocation) {
+    Preconditions.checkArgument(
+        stagingLocation != null && !stagingLocation.isEmpty(),
+        "Staging location('%s') cannot be empty.",
+        stagingLocation);
+    this.stagingDir = stagingLocation;
+    return this;
+  }
+
+  /**
+   * Sets the executor used to read and rewrite metadata files concurrently.
+   *
+   * <p>Defaults to the shared worker pool.
+   *
+   * @param service an executor service
+   * @return this for method chaining
+   */
+  public GenericRewriteTablePath executeWith(ExecutorService service) {
+    Preconditions.checkArgument(service != null, "Invalid executor service: null");
+    this.executorService = service;
+    return this;
+  }
+
+  @Override
+  public Result execute() {
+    validateInputs();
+    LOG.info(
+        "Replacing path prefixes '{}' with '{}' in the metadata files of table {}, "
+            + "from version {} to {}",
+        sourcePrefix,
+        targetPrefix,
+        table.name(),
+        startVersionName,
+        endVersionName);
+
+    String resultLocation = rebuildMetadata();
+    return ImmutableRewriteTablePath.Result.builder()
+        .stagingLocation(stagingDir)
+        .fileListLocation(resultLocation)
+        .latestVersion(RewriteTablePathUtil.fileName(endVersionName))
+        .build();
+  }
+
+  private void validateInputs() {
+    Preconditions.checkArgument(
+        sourcePrefix != null && !sourcePrefix.isEmpty(),
+        "Source prefix('%s') cannot be empty.",
+        sourcePrefix);
+    Preconditions.checkArgument(
+        targetPrefix != null && !targetPrefix.isEmpty(),
+        "Target prefix('%s') cannot be empty.",
+        targetPrefix);
+    Preconditions.checkArgument(
+        !sourcePrefix.equals(targetPrefix),
+        "Source prefix cannot be the same as target prefix (%s)",
+        sourcePrefix);
+
+    TableMetadata tableMetadata = ((HasTableOperations) table).operations().current();
+    if (endVersionName == null) {
+      LOG.info("No end version specified. Will stage all files to the latest table version.");
+      Preconditions.checkNotNull(
+          tableMetadata.metadataFileLocation(), "Metadata file location should not be null");
+      this.endVersionName = tableMetadata.metadataFileLocation();
+    } else {
+      this.endVersionName = validateVersion(tableMetadata, endVersionName);
+    }
+
+    if (startVersionName != null) {
+      this.startVersionName = validateVersion(tableMetadata, startVersionName);
+    }
+
+    if (stagingDir == null) {
+      this.stagingDir =
+          metadataLocation(tableMetadata)
+              + "copy-table-staging-"
+              + UUID.randomUUID()
+              + RewriteTablePathUtil.FILE_SEPARATOR;
+    } else {
+      this.stagingDir = RewriteTablePathUtil.maybeAppendFileSeparator(stagingDir);
+    }
+  }
+
+  private String validateVersion(TableMetadata tableMetadata, String versionFileName) {
+    String versionFile = null;
+    if (versionInFilePath(tableMetadata.metadataFileLocation(), versionFileName)) {
+      versionFile = tableMetadata.metadataFileLocation();
+    }
+
+    for (MetadataLogEntry log : tableMetadata.previousFiles()) {
+      if (versionInFilePath(log.file(), versionFileName)) {
+        versionFile = log.file();
+      }
+    }
+
+    Preconditions.checkArgument(
+        versionFile != null,
+        "Cannot find provided version file %s in metadata log.",
+        versionFileName);
+    Preconditions.checkArgument(
+        fileExist(versionFile), "Version file %s does not exist.", versionFile);
+    return versionFile;
+  }
+
+  private boolean versionInFilePath(String path, String version) {
+    return RewriteTablePathUtil.fileName(path).equals(version);
+  }
+
+  /**
+   * Rebuild metadata in a staging location, with paths rewritten.
+   *
+   * <ul>
+   *   <li>Rebuild version files to staging
+   *   <li>Rebuild manifest list files to staging
+   *   <li>Rebuild manifest to staging
+   *   <li>Rebuild position delete files to staging
+   *   <li>Write the copy plan of all files needed to move
+   * </ul>
+   */
+  private String rebuildMetadata() {
+    TableMetadata startMetadata =
+        startVersionName != null
+            ? new StaticTableOperations(startVersionName, table.io()).current()
+            : null;
+    TableMetadata endMetadata = new StaticTableOperations(endVersionName, table.io()).current();
+
+    Preconditions.checkArgument(
+        endMetadata.partitionStatisticsFiles() == null
+            || endMetadata.partitionStatisticsFiles().isEmpty(),
+        "Partition statistics files are not supported yet.");
+
+    Set<Pair<String, String>> copyPlan = Sets.newConcurrentHashSet();
+
+    // rebuild version files
+    Set<Long> snapshotIds = rewriteVersionFiles(endMetadata, copyPlan);
+    Set<Long> startSnapshotIds = snapshotIds(startMetadata);
+    Set<Long> deltaSnapshotIds = Sets.newHashSet(Sets.difference(snapshotIds, startSnapshotIds));
+
+    // rebuild manifest-list files
+    Set<String> manifestsToRewrite =
+        manifestsToRewrite(endMetadata, startMetadata, deltaSnapshotIds);
+    List<Snapshot> validSnapshots =
+        endMetadata.snapshots().stream()
+            .filter(snapshot -> !startSnapshotIds.contains(snapshot.snapshotId()))
+            .collect(Collectors.toList());
+    Collection<ManifestFile> manifests =
+        rewriteManifestLists(validSnapshots, endMetadata, manifestsToRewrite, copyPlan);
+
+    // rebuild manifest files
+    Collection<DeleteFile> positionDeletes =
+        rewriteManifests(manifests, endMetadata, deltaSnapshotIds, copyPlan);
+
+    // rebuild position delete files
+    rewritePositionDeletes(positionDeletes);
+
+    return saveFileList(copyPlan);
+  }
+
+  private Set<Long> snapshotIds(TableMetadata metadata) {
+    if (metadata == null) {
+      return Sets.newHashSet();
+    }
+
+    return metadata.snapshots().stream().map(Snapshot::snapshotId).collect(Collectors.toSet());
+  }
+
+  private Set<Long> rewriteVersionFiles(
+      TableMetadata endMetadata, Set<Pair<String, String>> copyPlan) {
+    List<String> versionFiles = Lists.newArrayList();
+    List<MetadataLogEntry> versions = endMetadata.previousFiles();
+    for (int i = versions.size() - 1; i >= 0; i--) {
+      String versionFilePath = versions.get(i).file();
+      if (versionFilePath.equals(startVersionName)) {
+        break;
+      }
+
+      versionFiles.add(versionFilePath);
+    }
+
+    Set<Long> snapshotIds = Sets.newConcurrentHashSet(snapshotIds(endMetadata));
+    copyPlan.addAll(rewriteVersionFile(endMetadata, endVersionName));
+
+    Tasks.foreach(versionFiles)
+        .executeWith(executorService)
+        .stopOnFailure()
+        .noRetry()
+        .throwFailureWhenFinished()
+        .run(
+            versionFilePath -> {
+              Preconditions.checkArgument(
+                  fileExist(versionFilePath), "Version file %s doesn't exist", versionFilePath);
+              TableMetadata metadata =
+                  new StaticTableOperations(versionFilePath, table.io()).current();
+              snapshotIds.addAll(snapshotIds(metadata));
+              copyPlan.addAll(rewriteVersionFile(metadata, versionFilePath));
+            });
+
+    return snapshotIds;
+  }
+
+  private Set<Pair<String, String>> rewriteVersionFile(
+      TableMetadata metadata, String versionFilePath) {
+    Set<Pair<String, String>> result = Sets.newHashSet();
+    String stagingPath = RewriteTablePathUtil.stagingPath(versionFilePath, stagingDir);
+    TableMetadata newTableMetadata =
+        RewriteTablePathUtil.replacePaths(metadata, sourcePrefix, targetPrefix);
+    TableMetadataParser.overwrite(newTableMetadata, table.io().newOutputFile(stagingPath));
+    result.add(
+        Pair.of(
+            stagingPath,
+            RewriteTablePathUtil.newPath(versionFilePath, sourcePrefix, targetPrefix)));
+
+    // include statistics files in copy plan
+    result.addAll(
+        statsFileCopyPlan(metadata.statisticsFiles(), newTableMetadata.statisticsFiles()));
+    return result;
+  }
+
+  private Set<Pair<String, String>> statsFileCopyPlan(
+      List<StatisticsFile> beforeStats, List<StatisticsFile> afterStats) {
+    Set<Pair<String, String>> result = Sets.newHashSet();
+    if (beforeStats.isEmpty()) {
+      return result;
+    }
+
+    Preconditions.checkArgument(
+        beforeStats.size() == afterStats.size(),
+        "Before and after path rewrite, statistic files count should be same");
+    for (int i = 0; i < beforeStats.size(); i++) {
+      StatisticsFile before = beforeStats.get(i);
+      StatisticsFile after = afterStats.get(i);
+      Preconditions.checkArgument(
+          before.fileSizeInBytes() == after.fileSizeInBytes(),
+          "Before and after path rewrite, statistic file size should be same");
+      result.add(
+          Pair.of(RewriteTablePathUtil.stagingPath(before.path(), stagingDir), after.path()));
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the manifests of the end version that must be rewritten: all manifests without a start
+   * version, or otherwise the manifests added by snapshots after the start version.
+   */
+  private Set<String> manifestsToRewrite(
+      TableMetadata endMetadata, TableMetadata startMetadata, Set<Long> deltaSnapshotIds) {
+    Set<String> manifests = Sets.newConcurrentHashSet();
+    try {
+      Tasks.foreach(endMetadata.snapshots())
+          .executeWith(executorService)
+          .stopOnFailure()
+          .noRetry()
+          .throwFailureWhenFinished()
+          .run(
+              snapshot ->
+                  snapshot.allManifests(table.io()).stream()
+                      .filter(
+                          manifest ->
+                              startMetadata == null
+                                  || deltaSnapshotIds.contains(manifest.snapshotId()))
+                      .forEach(manifest -> manifests.add(manifest.path())));
+    } catch (RuntimeException e) {
+      throw new UnsupportedOperationException(
+          "Unable to read the manifest files. "
+              + "The end version in use may contain invalid snapshots. "
+              + "Please choose an earlier version without invalid snapshots.",
+          e);
+    }
+
+    return manifests;
+  }
+
+  /**
+   * Rewrites the manifest lists of the given snapshots.
+   *
+   * @return the manifests referenced by the manifest lists that must be rewritten
+   */
+  private Collection<ManifestFile> rewriteManifestLists(
+      List<Snapshot> snapshots,
+      TableMetadata tableMetadata,
+      Set<String> manifestsToRewrite,
+      Set<Pair<String, String>> copyPlan) {
+    // manifests are shared by manifest lists, keep one instance per path
+    ConcurrentMap<String, ManifestFile> manifests = Maps.newConcurrentMap();
+    Tasks.foreach(snapshots)
+        .executeWith(executorService)
+        .stopOnFailure()
+        .noRetry()
+        .throwFailureWhenFinished()
+        .run(
+            snapshot -> {
+              String path = snapshot.manifestListLocation();
+              String outputPath = RewriteTablePathUtil.stagingPath(path, stagingDir);
+              RewriteResult<ManifestFile> result =
+                  RewriteTablePathUtil.rewriteManifestList(
+                      snapshot,
+                      table.io(),
+                      tableMetadata,
+                      manifestsToRewrite,
+                      sourcePrefix,
+                      targetPrefix,
+                      stagingDir,
+                      outputPath);
+              result.toRewrite().forEach(file -> manifests.putIfAbsent(file.path(), file));
+              copyPlan.addAll(result.copyPlan());
+              // add the manifest list copy plan itself to the result
+              copyPlan.add(
+                  Pair.of(
+                      outputPath, RewriteTablePathUtil.newPath(path, sourcePrefix, targetPrefix)));
+            });
+
+    return manifests.values();
+  }
+
+  /**
+   * Rewrites the given manifests.
+   *
+   * @return the position delete files referenced by the manifests that must be rewritten
+   */
+  private Collection<DeleteFile> rewriteManifests(
+      Collection<ManifestFile> manifests,
+      TableMetadata tableMetadata,
+      Set<Long> deltaSnapshotIds,
+      Set<Pair<String, String>> copyPlan) {
+    // the same delete file can be referenced by several manifests, keep one instance per path
+    ConcurrentMap<String, DeleteFile> positionDeletes = Maps.newConcurrentMap();
+    try {
+      Tasks.foreach(manifests)
+          .executeWith(executorService)
+          .stopOnFailure()
+          .noRetry()
+          .throwFailureWhenFinished()
+          .run(
+              manifest ->
+                  rewriteManifest(
+                      manifest,
+                      tableMetadata.formatVersion(),
+                      deltaSnapshotIds,
+                      copyPlan,
+                      positionDeletes),
+              IOException.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to rewrite manifests", e);
+    }
+
+    return positionDeletes.values();
+  }
+
+  private void rewriteManifest(
+      ManifestFile manifest,
+      int formatVersion,
+      Set<Long> deltaSnapshotIds,
+      Set<Pair<String, String>> copyPlan,
+      ConcurrentMap<String, DeleteFile> positionDeletes)
+      throws IOException {
+    String stagingPath = RewriteTablePathUtil.stagingPath(manifest.path(), stagingDir);
+    OutputFile outputFile = table.io().newOutputFile(stagingPath);
+    switch (manifest.content()) {
+      case DATA:
+        RewriteResult<DataFile> dataResult =
+            RewriteTablePathUtil.rewriteDataManifest(
+                manifest,
+                deltaSnapshotIds,
+                outputFile,
+                table.io(),
+                formatVersion,
+                table.specs(),
+                sourcePrefix,
+                targetPrefix);
+        copyPlan.addAll(dataResult.copyPlan());
+        break;
+      case DELETES:
+        RewriteResult<DeleteFile> deleteResult =
+            RewriteTablePathUtil.rewriteDeleteManifest(
+                manifest,
+                deltaSnapshotIds,
+                outputFile,
+                table.io(),
+                formatVersion,
+                table.specs(),
+                sourcePrefix,
+                targetPrefix,
+                stagingDir);
+        copyPlan.addAll(deleteResult.copyPlan());
+        deleteResult
+            .toRewrite()
+            .forEach(deleteFile -> positionDeletes.putIfAbsent(deleteFile.location(), deleteFile));
+        break;
+      default:
+        throw new UnsupportedOperationException(
+            "Unsupported manifest type: " + manifest.content());
+    }
+  }
+
+  private void rewritePositionDeletes(Collection<DeleteFile> deleteFiles) {
+    PositionDeleteReaderWriter posDeleteReaderWriter = new GenericPositionDeleteReaderWriter(table);
+    try {
+      Tasks.foreach(deleteFiles)
+          .executeWith(executorService)
+          .stopOnFailure()
+          .noRetry()
+          .throwFailureWhenFinished()
+          .run(
+              deleteFile -> {
+                String stagingPath =
+                    RewriteTablePathUtil.stagingPath(deleteFile.location(), stagingDir);
+                RewriteTablePathUtil.rewritePositionDeleteFile(
+                    deleteFile,
+                    table.io().newOutputFile(stagingPath),
+                    table.io(),
+                    table.specs().get(deleteFile.specId()),
+                    sourcePrefix,
+                    targetPrefix,
+                    posDeleteReaderWriter);
+              },
+              IOException.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to rewrite position delete files", e);
+    }
+  }
+
+  private String saveFileList(Set<Pair<String, String>> filesToMove) {
+    String fileListPath = stagingDir + RESULT_LOCATION;
+    OutputFile fileList = table.io().newOutputFile(fileListPath);
+    try (BufferedWriter writer =
+        new BufferedWriter(
+            new OutputStreamWriter(fileList.createOrOverwrite(), StandardCharsets.UTF_8))) {
+      for (Pair<String, String> pair : filesToMove) {
+        writer.write(String.join(",", pair.first(), pair.second()));
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write file list " + fileListPath, e);
+    }
+
+    return fileListPath;
+  }
+
+  private boolean fileExist(String path) {
+    if (path == null || path.trim().isEmpty()) {
+      return false;
+    }
+
+    return table.io().newInputFile(path).exists();
+  }
+
+  private static String metadataLocation(TableMetadata metadata) {
+    String currentMetadataPath = metadata.metadataFileLocation();
+    int lastIndex = currentMetadataPath.lastIndexOf(RewriteTablePathUtil.FILE_SEPARATOR);
+    String metadataDir = "";
+    if (lastIndex != -1) {
+      metadataDir = currentMetadataPath.substring(0, lastIndex + 1);
+    }
+
+    Preconditions.checkArgument(
+        !metadataDir.isEmpty(), "Failed to get the metadata file root directory");
+    return metadataDir;
+  }
+
+  /** Reads and writes position delete files with the generic readers and writers. */
+  private static class GenericPositionDeleteReaderWriter implements PositionDeleteReaderWriter {
+    private final transient Table table;
+
+    private GenericPositionDeleteReaderWriter(Table table) {
+      this.table = table;
+    }
+
+    @Override
+    public CloseableIterable<Record> reader(
+        InputFile inputFile, FileFormat format, PartitionSpec spec) {
+      Schema deleteSchema = DeleteSchemaUtil.posDeleteReadSchema(spec.schema());
+      switch (format) {
+        case AVRO:
+          return Avro.read(inputFile)
+              .project(deleteSchema)
+              .reuseContainers()
+              .createResolvingReader(PlannedDataReader::create)
+              .build();
+
+        case PARQUET:
+          return Parquet.read(inputFile)
+              .project(deleteSchema)
+              .reuseContainers()
+              .createReaderFunc(
+                  fileSchema -> GenericParquetReaders.buildReader(deleteSchema, fileSchema))
+              .build();
+
+        case ORC:
+          return ORC.read(inputFile)
+              .project(deleteSchema)
+              .createReaderFunc(
+                  fileSchema -> GenericOrcReader.buildReader(deleteSchema, fileSchema))
+              .build();
+
+        default:
+          throw new UnsupportedOperationException("Unsupported file format: " + format);
+      }
+    }
+
+    @Override
+    public PositionDeleteWriter<Record> writer(
+        OutputFile outputFile,
+        FileFormat format,
+        PartitionSpec spec,
+        StructLike partition,
+        Schema rowSchema) {
+      return GenericFileWriterFactory.builderFor(table)
+          .deleteFileFormat(format)
+          .positionDeleteRowSchema(rowSchema)
+          .build()
+          .newPositionDeleteWriter(
+              EncryptedFiles.plainAsEncryptedOutput(outputFile), spec, partition);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.ByteBuffers;
+
+/**
+ * Deep copies generic records.
+ *
+ * <p>Unlike {@link Record#copy()}, lists, maps and byte arrays are copied as well, so a copy does
+ * not share state with a record that is reused by a reader.
+ */
+class RecordCopy {
+  private RecordCopy() {}
+
+  static Record deepCopy(Record record) {
+    if (record == null) {
+      return null;
+    }
+
+    Record copy = GenericRecord.create(record.struct());
+    for (int pos = 0; pos < record.size(); pos += 1) {
+      copy.set(pos, copyValue(record.get(pos)));
+    }
+
+    return copy;
+  }
+
+  private static Object copyValue(Object value) {
+    if (value instanceof Record) {
+      return deepCopy((Record) value);
+    } else if (value instanceof List) {
+      List<?> list = (List<?>) value;
+      List<Object> copy = Lists.newArrayListWithExpectedSize(list.size());
+      for (Object element : list) {
+        copy.add(copyValue(element));
+      }
+
+      return copy;
+    } else if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      Map<Object, Object> copy = Maps.newLinkedHashMapWithExpectedSize(map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+      }
+
+      return copy;
+    } else if (value instanceof ByteBuffer) {
+      return ByteBuffers.copy((ByteBuffer) value);
+    } else if (value instanceof byte[]) {
+      return ((byte[]) value).clone();
+    } else {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Parameter;
+import org.apache.iceberg.ParameterizedTestExtension;
+import org.apache.iceberg.Parameters;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.actions.ConvertEqualityDeleteFiles;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.DeleteFileSet;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(ParameterizedTestExtension.class)
+public class TestGenericConvertEqualityDeleteFiles {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).identity("data").build();
+
+  @Parameters(name = "formatVersion = {0}")
+  protected static List<Object> parameters() {
+    return ImmutableList.of(2, 3);
+  }
+
+  @Parameter private int formatVersion;
+
+  @TempDir private File tableDir;
+  @TempDir private Path temp;
+
+  private Table table;
+
+  @BeforeEach
+  public void before() {
+    this.table = TestTables.create(tableDir, "test", SCHEMA, SPEC, formatVersion);
+  }
+
+  @AfterEach
+  public void after() {
+    TestTables.clearTables();
+  }
+
+  @TestTemplate
+  public void testEmptyTable() {
+    ConvertEqualityDeleteFiles.Result result =
+        new GenericConvertEqualityDeleteFiles(table).execute();
+    assertThat(result.convertedEqualityDeleteFilesCount()).isEqualTo(0);
+    assertThat(result.addedPositionDeleteFilesCount()).isEqualTo(0);
+  }
+
+  @TestTemplate
+  public void testConvertEqualityDeletes() throws IOException {
+    List<Record> records = Lists.newArrayList();
+    records.addAll(appendFile(0, "a"));
+    records.addAll(appendFile(10, "a"));
+    records.addAll(appendFile(0, "b"));
+
+    commitEqualityDeletes("a", 1, 12);
+    commitEqualityDeletes("b", 3);
+    List<Record> expected = readRecords();
+    assertThat(expected).hasSize(records.size() - 3);
+
+    ConvertEqualityDeleteFiles.Result result =
+        new GenericConvertEqualityDeleteFiles(table).execute();
+
+    assertThat(result.convertedEqualityDeleteFilesCount()).isEqualTo(2);
+    assertThat(result.addedPositionDeleteFilesCount()).isGreaterThan(0);
+    assertThat(deleteFiles(FileContent.EQUALITY_DELETES)).isEmpty();
+    List<DeleteFile> positionDeletes = deleteFiles(FileContent.POSITION_DELETES);
+    assertThat(positionDeletes).isNotEmpty();
+    if (formatVersion >= 3) {
+      assertThat(positionDeletes).allMatch(file -> file.format() == FileFormat.PUFFIN);
+    }
+
+    assertThat(readRecords()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @TestTemplate
+  public void testConvertWithoutCachedDeletes() throws IOException {
+    appendFile(0, "a");
+    appendFile(10, "a");
+    commitEqualityDeletes("a", 1, 12);
+    List<Record> expected = readRecords();
+
+    // delete keys do not fit in the cache and are read for each data file
+    ConvertEqualityDeleteFiles.Result result =
+        new GenericConvertEqualityDeleteFiles(table).maxCachedDeleteBytes(1).execute();
+
+    assertThat(result.convertedEqualityDeleteFilesCount()).isEqualTo(1);
+    assertThat(deleteFiles(FileContent.EQUALITY_DELETES)).isEmpty();
+    assertThat(readRecords()).containsExactlyInAnyOrderElementsOf(expected);
+
+    assertThatThrownBy(() -> new GenericConvertEqualityDeleteFiles(table).maxCachedDeleteBytes(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max cached delete bytes: 0 (must be > 0)");
+  }
+
+  @TestTemplate
+  public void testMergeExistingPositionDeletes() throws IOException {
+    appendFile(0, "a");
+    DataFile dataFile = dataFiles().get(0);
+
+    Pair<DeleteFile, ?> positionDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            Files.localOutput(File.createTempFile("junit", null, temp.toFile())),
+            Row.of("a"),
+            ImmutableList.of(Pair.of(dataFile.location(), 0L)),
+            formatVersion);
+    table.newRowDelta().addDeletes(positionDeletes.first()).commit();
+    commitEqualityDeletes("a", 2);
+    List<Record> expected = readRecords();
+    assertThat(expected).hasSize(3);
+
+    new GenericConvertEqualityDeleteFiles(table).execute();
+
+    assertThat(deleteFiles(FileContent.EQUALITY_DELETES)).isEmpty();
+    if (formatVersion >= 3) {
+      // the previous deletion vector is replaced by the merged one
+      List<DeleteFile> dvs = deleteFiles(FileContent.POSITION_DELETES);
+      assertThat(dvs).hasSize(1);
+      assertThat(dvs.get(0).recordCount()).isEqualTo(2);
+    }
+
+    assertThat(readRecords()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @TestTemplate
+  public void testFilter() throws IOException {
+    appendFile(0, "a");
+    appendFile(0, "b");
+    commitEqualityDeletes("a", 1);
+    commitEqualityDeletes("b", 1);
+    List<Record> expected = readRecords();
+
+    ConvertEqualityDeleteFiles.Result result =
+        new GenericConvertEqualityDeleteFiles(table)
+            .filter(Expressions.equal("data", "a"))
+            .execute();
+
+    assertThat(result.convertedEqualityDeleteFilesCount()).isEqualTo(1);
+    List<DeleteFile> equalityDeletes = deleteFiles(FileContent.EQUALITY_DELETES);
+    assertThat(equalityDeletes).hasSize(1);
+    assertThat(equalityDeletes.get(0).partition().get(0, String.class)).isEqualTo("b");
+    assertThat(readRecords()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @TestTemplate
+  public void testSnapshotProperty() throws IOException {
+    appendFile(0, "a");
+    commitEqualityDeletes("a", 1);
+
+    new GenericConvertEqualityDeleteFiles(table).snapshotProperty("key", "value").execute();
+
+    table.refresh();
+    assertThat(table.currentSnapshot().summary()).containsEntry("key", "value");
+  }
+
+  private List<Record> appendFile(int startId, String data) throws IOException {
+    List<Record> records = Lists.newArrayList();
+    for (int id = startId; id < startId + 5; id += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", id);
+      record.setField("data", data);
+      records.add(record);
+    }
+
+    DataFile file =
+        FileHelpers.writeDataFile(
+            table,
+            Files.localOutput(File.createTempFile("junit", null, temp.toFile())),
+            Row.of(data),
+            records);
+    table.newAppend().appendFile(file).commit();
+    return records;
+  }
+
+  private void commitEqualityDeletes(String data, int... ids) throws IOException {
+    Schema deleteRowSchema = table.schema().select("id");
+    Record delete = GenericRecord.create(deleteRowSchema);
+    List<Record> deletes = Lists.newArrayList();
+    for (int id : ids) {
+      deletes.add(delete.copy("id", id));
+    }
+
+    DeleteFile eqDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            Files.localOutput(File.createTempFile("junit", null, temp.toFile())),
+            Row.of(data),
+            deletes,
+            deleteRowSchema);
+    table.newRowDelta().addDeletes(eqDeletes).commit();
+  }
+
+  private List<DataFile> dataFiles() {
+    table.refresh();
+    return Lists.newArrayList(
+        CloseableIterable.transform(table.newScan().planFiles(), FileScanTask::file));
+  }
+
+  private List<DeleteFile> deleteFiles(FileContent content) {
+    table.refresh();
+    DeleteFileSet deleteFiles = DeleteFileSet.create();
+    for (FileScanTask task : table.newScan().planFiles()) {
+      task.deletes().stream()
+          .filter(delete -> delete.content() == content)
+          .forEach(deleteFiles::add);
+    }
+
+    return Lists.newArrayList(deleteFiles);
+  }
+
+  private List<Record> readRecords() throws IOException {
+    table.refresh();
+    try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+      return Lists.newArrayList(records);
+    }
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.actions.RewriteDataFiles;
+import org.apache.iceberg.actions.SizeBasedFileRewritePlanner;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestGenericRewriteDataFiles {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).identity("data").build();
+
+  @TempDir private File tableDir;
+  @TempDir private Path temp;
+
+  private Table table;
+  private GenericAppenderHelper helper;
+
+  @BeforeEach
+  public void before() {
+    this.table = TestTables.create(tableDir, "test", SCHEMA, SPEC, 2);
+    this.helper = new GenericAppenderHelper(table, FileFormat.PARQUET, temp);
+  }
+
+  @AfterEach
+  public void after() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testEmptyTable() {
+    RewriteDataFiles.Result result = new GenericRewriteDataFiles(table).execute();
+    assertThat(result.rewriteResults()).isEmpty();
+  }
+
+  @Test
+  public void testBinPack() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    for (int fileIndex = 0; fileIndex < 4; fileIndex += 1) {
+      expected.addAll(appendFile(fileIndex * 10, "a"));
+    }
+
+    RewriteDataFiles.Result result =
+        new GenericRewriteDataFiles(table)
+            .binPack()
+            .option(SizeBasedFileRewritePlanner.MIN_INPUT_FILES, "2")
+            .execute();
+
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(4);
+    assertThat(result.addedDataFilesCount()).isEqualTo(1);
+    assertThat(dataFiles()).hasSize(1);
+    assertThat(readRecords()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void testSort() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    expected.addAll(appendFile(30, "a"));
+    expected.addAll(appendFile(10, "a"));
+    expected.addAll(appendFile(20, "a"));
+
+    SortOrder sortOrder = SortOrder.builderFor(SCHEMA).desc("id").build();
+    RewriteDataFiles.Result result =
+        new GenericRewriteDataFiles(table)
+            .sort(sortOrder)
+            .option(SizeBasedFileRewritePlanner.REWRITE_ALL, "true")
+            .execute();
+
+    assertThat(result.addedDataFilesCount()).isEqualTo(1);
+
+    List<Record> actual = readRecords();
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(Lists.transform(actual, record -> (Integer) record.getField("id")))
+        .isSortedAccordingTo((id1, id2) -> Integer.compare(id2, id1));
+  }
+
+  @Test
+  public void testSortWithinMemoryBudget() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    expected.addAll(appendFile(30, "a"));
+    expected.addAll(appendFile(10, "a"));
+    expected.addAll(appendFile(20, "a"));
+
+    SortOrder sortOrder = SortOrder.builderFor(SCHEMA).asc("id").build();
+    RewriteDataFiles.Result result =
+        new GenericRewriteDataFiles(table)
+            .sort(sortOrder)
+            .option(SizeBasedFileRewritePlanner.REWRITE_ALL, "true")
+            .option(GenericFileRewriteRunner.MAX_MEMORY_BYTES, "1")
+            .execute();
+
+    // every input file is sorted as a separate run
+    assertThat(result.addedDataFilesCount()).isEqualTo(3);
+    assertThat(readRecords()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void testSortWithDeletesWithinMemoryBudget() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    expected.addAll(appendFile(30, "a"));
+    expected.addAll(appendFile(10, "a"));
+    expected.addAll(appendFile(20, "a"));
+
+    Schema deleteSchema = SCHEMA.select("id");
+    Record delete = GenericRecord.create(deleteSchema);
+    DeleteFile eqDeletes =
+        FileHelpers.writeDeleteFile(
+            table,
+            Files.localOutput(temp.resolve("eq-deletes.parquet").toFile()),
+            Row.of("a"),
+            ImmutableList.of(delete.copy("id", 10), delete.copy("id", 21)),
+            deleteSchema);
+    table.newRowDelta().addDeletes(eqDeletes).commit();
+    expected.removeIf(record -> ImmutableList.of(10, 21).contains(record.getField("id")));
+
+    // the budget fits the decoded records of two input files, estimated from the schema
+    long recordSize = GenericFileRewriteRunner.estimateRecordSize(SCHEMA);
+    SortOrder sortOrder = SortOrder.builderFor(SCHEMA).asc("id").build();
+    RewriteDataFiles.Result result =
+        new GenericRewriteDataFiles(table)
+            .sort(sortOrder)
+            .option(SizeBasedFileRewritePlanner.REWRITE_ALL, "true")
+            .option(GenericFileRewriteRunner.MAX_MEMORY_BYTES, String.valueOf(10 * recordSize))
+            .execute();
+
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(3);
+    assertThat(result.addedDataFilesCount()).isEqualTo(2);
+    assertThat(readRecords()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void testPartialProgress() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    for (String partition : ImmutableList.of("a", "b", "c")) {
+      expected.addAll(appendFile(0, partition));
+      expected.addAll(appendFile(10, partition));
+    }
+
+    long snapshotsBefore = Iterables.size(table.snapshots());
+
+    RewriteDataFiles.Result result =
+        new GenericRewriteDataFiles(table)
+            .option(SizeBasedFileRewritePlanner.MIN_INPUT_FILES, "2")
+            .option(RewriteDataFiles.PARTIAL_PROGRESS_ENABLED, "true")
+            .option(RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS, "3")
+            .option(RewriteDataFiles.MAX_CONCURRENT_FILE_GROUP_REWRITES, "2")
+            .execute();
+
+    table.refresh();
+    assertThat(result.rewriteResults()).hasSize(3);
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(6);
+    assertThat(Iterables.size(table.snapshots())).isEqualTo(snapshotsBefore + 3);
+    assertThat(dataFiles()).hasSize(3);
+    assertThat(readRecords()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  public void testInvalidOptions() throws IOException {
+    appendFile(0, "a");
+
+    assertThatThrownBy(
+            () -> new GenericRewriteDataFiles(table).option("not-an-option", "true").execute())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Cannot use options [not-an-option]");
+
+    GenericFileRewriteRunner runner = new GenericFileRewriteRunner(table);
+    assertThatThrownBy(
+            () -> runner.init(ImmutableMap.of(GenericFileRewriteRunner.MAX_MEMORY_BYTES, "0")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("'max-memory-bytes' is set to 0 but must be > 0");
+  }
+
+  @Test
+  public void testRunnerCannotBeSetTwice() {
+    assertThatThrownBy(
+            () ->
+                new GenericRewriteDataFiles(table)
+                    .binPack()
+                    .sort(SortOrder.builderFor(SCHEMA).asc("id").build()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot set rewrite mode, it has already been set to BIN-PACK");
+  }
+
+  private List<Record> appendFile(int startId, String data) throws IOException {
+    List<Record> records = Lists.newArrayList();
+    for (int id = startId; id < startId + 5; id += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", id);
+      record.setField("data", data);
+      records.add(record);
+    }
+
+    DataFile file = helper.writeFile(Row.of(data), records);
+    helper.appendToTable(file);
+    table.refresh();
+    return records;
+  }
+
+  private List<DataFile> dataFiles() {
+    table.refresh();
+    return Lists.newArrayList(Iterables.transform(table.newScan().planFiles(), FileScanTask::file));
+  }
+
+  private List<Record> readRecords() throws IOException {
+    table.refresh();
+    try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+      return Lists.newArrayList(records);
+    }
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.UUID;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RewriteTablePathUtil;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.actions.RewriteTablePath;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestGenericRewriteTablePath {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+  private static final HadoopTables TABLES = new HadoopTables(new Configuration());
+
+  @TempDir private File sourceDir;
+  @TempDir private File targetDir;
+
+  private String sourceLocation;
+  private String targetLocation;
+  private Table table;
+
+  @BeforeEach
+  public void before() {
+    this.sourceLocation = sourceDir.getAbsolutePath();
+    this.targetLocation = targetDir.getAbsolutePath();
+    this.table =
+        TABLES.create(
+            SCHEMA,
+            PartitionSpec.unpartitioned(),
+            ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"),
+            sourceLocation);
+  }
+
+  @Test
+  public void testRewritePath() throws IOException {
+    appendFile(0);
+    appendFile(10);
+
+    RewriteTablePath.Result result =
+        new GenericRewriteTablePath(table)
+            .rewriteLocationPrefix(sourceLocation, targetLocation)
+            .execute();
+
+    assertThat(result.latestVersion()).isEqualTo("v3.metadata.json");
+    List<Pair<String, String>> copyPlan = copyPlan(result);
+    // 3 version files, 2 manifest lists, 2 manifests and 2 data files
+    assertThat(copyPlan).hasSize(9).allMatch(pair -> pair.second().startsWith(targetLocation));
+
+    copyTableFiles(copyPlan);
+    Table targetTable = TABLES.load(targetLocation);
+    assertThat(readRecords(targetTable)).containsExactlyInAnyOrderElementsOf(readRecords(table));
+  }
+
+  @Test
+  public void testStartVersion() throws IOException {
+    appendFile(0);
+    appendFile(10);
+
+    RewriteTablePath.Result result =
+        new GenericRewriteTablePath(table)
+            .rewriteLocationPrefix(sourceLocation, targetLocation)
+            .startVersion("v2.metadata.json")
+            .execute();
+
+    List<Pair<String, String>> copyPlan = copyPlan(result);
+    // 1 version file, 1 manifest list, 1 manifest and 1 data file
+    assertThat(copyPlan).hasSize(4);
+
+    String parentSnapshotId = String.valueOf(table.currentSnapshot().parentId());
+    assertThat(copyPlan)
+        .as("Should not copy the manifest list of the parent snapshot")
+        .noneMatch(pair -> pair.second().contains(parentSnapshotId));
+  }
+
+  @Test
+  public void testPositionDeletes() throws IOException {
+    DataFile dataFile = appendFile(0);
+    DeleteFile positionDeletes =
+        FileHelpers.writeDeleteFile(
+                table,
+                table.io().newOutputFile(sourceLocation + "/data/deletes.parquet"),
+                ImmutableList.of(Pair.of(dataFile.location(), 0L)))
+            .first();
+    table.newRowDelta().addDeletes(positionDeletes).commit();
+
+    RewriteTablePath.Result result =
+        new GenericRewriteTablePath(table)
+            .rewriteLocationPrefix(sourceLocation, targetLocation)
+            .stagingLocation(sourceLocation + "/staging")
+            .execute();
+
+    List<Pair<String, String>> copyPlan = copyPlan(result);
+    assertThat(copyPlan)
+        .as("Should copy the rewritten position delete file")
+        .contains(
+            Pair.of(
+                RewriteTablePathUtil.stagingPath(
+                    positionDeletes.location(), result.stagingLocation()),
+                targetLocation + "/data/deletes.parquet"));
+
+    copyTableFiles(copyPlan);
+    List<Record> records = readRecords(TABLES.load(targetLocation));
+    assertThat(records).hasSize(4).containsExactlyInAnyOrderElementsOf(readRecords(table));
+  }
+
+  @Test
+  public void testSameLocations() {
+    assertThatThrownBy(
+            () ->
+                new GenericRewriteTablePath(table)
+                    .rewriteLocationPrefix(sourceLocation, sourceLocation)
+                    .execute())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Source prefix cannot be the same as target prefix");
+  }
+
+  @Test
+  public void testInvalidVersion() {
+    assertThatThrownBy(
+            () ->
+                new GenericRewriteTablePath(table)
+                    .rewriteLocationPrefix(sourceLocation, targetLocation)
+                    .endVersion("v42.metadata.json")
+                    .execute())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot find provided version file v42.metadata.json in metadata log.");
+  }
+
+  private DataFile appendFile(int startId) throws IOException {
+    List<Record> records = Lists.newArrayList();
+    for (int id = startId; id < startId + 5; id += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", id);
+      record.setField("data", "data-" + id);
+      records.add(record);
+    }
+
+    DataFile file =
+        FileHelpers.writeDataFile(
+            table,
+            table.io().newOutputFile(sourceLocation + "/data/" + UUID.randomUUID() + ".parquet"),
+            records);
+    table.newAppend().appendFile(file).commit();
+    return file;
+  }
+
+  private static List<Pair<String, String>> copyPlan(RewriteTablePath.Result result)
+      throws IOException {
+    List<Pair<String, String>> copyPlan = Lists.newArrayList();
+    for (String line : Files.readAllLines(Paths.get(result.fileListLocation()))) {
+      String[] paths = line.split(",");
+      copyPlan.add(Pair.of(paths[0], paths[1]));
+    }
+
+    return copyPlan;
+  }
+
+  private static void copyTableFiles(List<Pair<String, String>> copyPlan) throws IOException {
+    for (Pair<String, String> pair : copyPlan) {
+      Path target = Paths.get(pair.second());
+      Files.createDirectories(target.getParent());
+      Files.copy(Paths.get(pair.first()), target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static List<Record> readRecords(Table table) throws IOException {
+    try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+      return Lists.newArrayList(records);
+    }
+  }
+}
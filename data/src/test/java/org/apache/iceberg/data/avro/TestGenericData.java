@@ -82,6 +82,20 @@ public class TestGenericData extends DataTest {
     for (int i = 0; i < expected.size(); i += 1) {
       DataTestHelpers.assertEquals(expectedSchema.asStruct(), expected.get(i), rows.get(i));
     }
+
+    // test reuseContainers
+    try (AvroIterable<Record> reader =
+        Avro.read(Files.localInput(testFile))
+            .project(expectedSchema)
+            .reuseContainers()
+            .createResolvingReader(PlannedDataReader::create)
+            .build()) {
+      int pos = 0;
+      for (Record actualRecord : reader) {
+        DataTestHelpers.assertEquals(expectedSchema.asStruct(), expected.get(pos), actualRecord);
+        pos += 1;
+      }
+    }
   }
 
   @Override
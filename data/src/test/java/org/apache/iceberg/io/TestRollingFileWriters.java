@@ -19,11 +19,23 @@
 package org.apache.iceberg.io;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Parameter;
 import org.apache.iceberg.ParameterizedTestExtension;
@@ -122,6 +134,89 @@ public abstract class TestRollingFileWriters<T> extends WriterTestBase<T> {
     assertThat(writer.result().dataFiles()).hasSize(4);
   }
 
+  @TestTemplate
+  public void testRollingDataWriterSplitDataWithAsyncClose() throws IOException {
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    ExecutorService closeExecutor = Executors.newFixedThreadPool(2);
+    RollingDataWriter<T> writer =
+        new RollingDataWriter<>(
+            writerFactory,
+            fileFactory,
+            table.io(),
+            SMALL_FILE_SIZE,
+            table.spec(),
+            partition,
+            closeExecutor,
+            2);
+
+    List<T> rows = Lists.newArrayListWithExpectedSize(5 * FILE_SIZE_CHECK_ROWS_DIVISOR);
+    for (int index = 0; index < 5 * FILE_SIZE_CHECK_ROWS_DIVISOR; index++) {
+      rows.add(toRow(index, PARTITION_VALUE));
+    }
+
+    try (RollingDataWriter<T> closableWriter = writer) {
+      closableWriter.write(rows);
+    } finally {
+      closeExecutor.shutdown();
+    }
+
+    // call close again to ensure it is idempotent
+    writer.close();
+
+    List<DataFile> dataFiles = writer.result().dataFiles();
+    assertThat(dataFiles).hasSize(5);
+    assertThat(dataFiles.stream().mapToLong(DataFile::recordCount).sum()).isEqualTo(rows.size());
+
+    List<String> locations =
+        dataFiles.stream().map(ContentFile::location).collect(Collectors.toList());
+    assertThat(locations).as("Files must be reported in write order").isSorted();
+  }
+
+  @TestTemplate
+  public void testRollingDataWriterPropagatesAsyncCloseFailure() throws IOException {
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    // closes the file as usual but reports a failure for every async close
+    ExecutorService closeExecutor =
+        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+          @Override
+          protected <V> RunnableFuture<V> newTaskFor(Callable<V> task) {
+            return super.newTaskFor(
+                () -> {
+                  task.call();
+                  throw new IOException("Injected close failure");
+                });
+          }
+        };
+
+    RollingDataWriter<T> writer =
+        new RollingDataWriter<>(
+            writerFactory,
+            fileFactory,
+            table.io(),
+            SMALL_FILE_SIZE,
+            table.spec(),
+            partition,
+            closeExecutor,
+            2);
+
+    try {
+      for (int index = 0; index < FILE_SIZE_CHECK_ROWS_DIVISOR; index++) {
+        writer.write(toRow(index, PARTITION_VALUE));
+      }
+
+      assertThatThrownBy(writer::close)
+          .isInstanceOf(UncheckedIOException.class)
+          .hasMessage("Failed to close writer")
+          .hasRootCauseMessage("Injected close failure");
+    } finally {
+      closeExecutor.shutdown();
+    }
+
+    assertThatThrownBy(writer::result)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageStartingWith("Cannot get result from");
+  }
+
   @TestTemplate
   public void testRollingEqualityDeleteWriterNoRecords() throws IOException {
     List<Integer> equalityFieldIds = ImmutableList.of(table.schema().findField("id").fieldId());
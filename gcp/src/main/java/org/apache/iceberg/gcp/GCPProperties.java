@@ -23,6 +23,8 @@ import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.io.HedgedRangeReader;
+import org.apache.iceberg.io.VectoredReadUtil;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.rest.RESTUtil;
@@ -62,6 +64,58 @@ public class GCPProperties implements Serializable {
    */
   public static final int GCS_DELETE_BATCH_SIZE_DEFAULT = 50;
 
+  /**
+   * The maximum gap in bytes between two ranges of a vectored read for them to be read using a
+   * single request (default: 128KB).
+   */
+  public static final String GCS_VECTORED_READ_MERGE_GAP = "gcs.vectored-read.merge-gap-bytes";
+
+  /**
+   * The maximum size in bytes of a single request that combines multiple ranges of a vectored read
+   * (default: 2MB).
+   */
+  public static final String GCS_VECTORED_READ_MAX_MERGED_SIZE =
+      "gcs.vectored-read.max-merged-size-bytes";
+
+  /**
+   * Controls whether output streams upload fixed-size component objects in parallel and compose
+   * them into the target object on close (default: false).
+   */
+  public static final String GCS_PARALLEL_UPLOAD_ENABLED = "gcs.parallel-upload.enabled";
+
+  /** The size in bytes of a component object of a parallel upload (default: 32MB). */
+  public static final String GCS_PARALLEL_UPLOAD_COMPONENT_SIZE =
+      "gcs.parallel-upload.component-size-bytes";
+
+  public static final int GCS_PARALLEL_UPLOAD_COMPONENT_SIZE_DEFAULT = 32 * 1024 * 1024;
+
+  /**
+   * The maximum number of components of a single output stream that are buffered in memory while
+   * they are uploaded (default: 4).
+   */
+  public static final String GCS_PARALLEL_UPLOAD_MAX_PENDING_COMPONENTS =
+      "gcs.parallel-upload.max-pending-components";
+
+  public static final int GCS_PARALLEL_UPLOAD_MAX_PENDING_COMPONENTS_DEFAULT = 4;
+
+  /**
+   * Number of threads to use for uploading components (shared pool across all output streams),
+   * default to {@link Runtime#availableProcessors()}
+   */
+  public static final String GCS_PARALLEL_UPLOAD_NUM_THREADS = "gcs.parallel-upload.num-threads";
+
+  /**
+   * Controls whether range reads send a hedged request when the first request is slow (default:
+   * false).
+   */
+  public static final String GCS_READ_HEDGING_ENABLED = "gcs.read.hedging.enabled";
+
+  /** The latency percentile after which a range read is hedged (default: 95). */
+  public static final String GCS_READ_HEDGING_PERCENTILE = "gcs.read.hedging.percentile";
+
+  /** The maximum fraction of range reads that send a hedged request (default: 0.05). */
+  public static final String GCS_READ_HEDGING_BUDGET = "gcs.read.hedging.budget";
+
   private final Map<String, String> allProperties;
 
   private String projectId;
@@ -82,6 +136,18 @@ public class GCPProperties implements Serializable {
   private boolean gcsOauth2RefreshCredentialsEnabled;
 
   private int gcsDeleteBatchSize = GCS_DELETE_BATCH_SIZE_DEFAULT;
+  private int gcsVectoredReadMergeGap = VectoredReadUtil.MERGE_GAP_DEFAULT;
+  private int gcsVectoredReadMaxMergedSize = VectoredReadUtil.MAX_MERGED_SIZE_DEFAULT;
+
+  private boolean gcsParallelUploadEnabled = false;
+  private int gcsParallelUploadComponentSize = GCS_PARALLEL_UPLOAD_COMPONENT_SIZE_DEFAULT;
+  private int gcsParallelUploadMaxPendingComponents =
+      GCS_PARALLEL_UPLOAD_MAX_PENDING_COMPONENTS_DEFAULT;
+  private int gcsParallelUploadNumThreads = Runtime.getRuntime().availableProcessors();
+
+  private boolean gcsReadHedgingEnabled = false;
+  private double gcsReadHedgingPercentile = HedgedRangeReader.PERCENTILE_DEFAULT;
+  private double gcsReadHedgingBudget = HedgedRangeReader.BUDGET_DEFAULT;
 
   public GCPProperties() {
     this.allProperties = ImmutableMap.of();
@@ -128,6 +194,58 @@ public class GCPProperties implements Serializable {
     gcsDeleteBatchSize =
         PropertyUtil.propertyAsInt(
             properties, GCS_DELETE_BATCH_SIZE, GCS_DELETE_BATCH_SIZE_DEFAULT);
+
+    gcsVectoredReadMergeGap =
+        PropertyUtil.propertyAsInt(
+            properties, GCS_VECTORED_READ_MERGE_GAP, VectoredReadUtil.MERGE_GAP_DEFAULT);
+    gcsVectoredReadMaxMergedSize =
+        PropertyUtil.propertyAsInt(
+            properties,
+            GCS_VECTORED_READ_MAX_MERGED_SIZE,
+            VectoredReadUtil.MAX_MERGED_SIZE_DEFAULT);
+
+    gcsParallelUploadEnabled =
+        PropertyUtil.propertyAsBoolean(properties, GCS_PARALLEL_UPLOAD_ENABLED, false);
+    gcsParallelUploadComponentSize =
+        PropertyUtil.propertyAsInt(
+            properties,
+            GCS_PARALLEL_UPLOAD_COMPONENT_SIZE,
+            GCS_PARALLEL_UPLOAD_COMPONENT_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        gcsParallelUploadComponentSize > 0,
+        "Invalid parallel upload component size: %s (must be > 0)",
+        gcsParallelUploadComponentSize);
+    gcsParallelUploadMaxPendingComponents =
+        PropertyUtil.propertyAsInt(
+            properties,
+            GCS_PARALLEL_UPLOAD_MAX_PENDING_COMPONENTS,
+            GCS_PARALLEL_UPLOAD_MAX_PENDING_COMPONENTS_DEFAULT);
+    Preconditions.checkArgument(
+        gcsParallelUploadMaxPendingComponents > 0,
+        "Invalid parallel upload max pending components: %s (must be > 0)",
+        gcsParallelUploadMaxPendingComponents);
+    gcsParallelUploadNumThreads =
+        PropertyUtil.propertyAsInt(
+            properties,
+            GCS_PARALLEL_UPLOAD_NUM_THREADS,
+            Runtime.getRuntime().availableProcessors());
+
+    gcsReadHedgingEnabled =
+        PropertyUtil.propertyAsBoolean(properties, GCS_READ_HEDGING_ENABLED, false);
+    gcsReadHedgingPercentile =
+        PropertyUtil.propertyAsDouble(
+            properties, GCS_READ_HEDGING_PERCENTILE, HedgedRangeReader.PERCENTILE_DEFAULT);
+    Preconditions.checkArgument(
+        gcsReadHedgingPercentile > 0 && gcsReadHedgingPercentile < 100,
+        "Invalid read hedging percentile: %s (must be between 0 and 100)",
+        gcsReadHedgingPercentile);
+    gcsReadHedgingBudget =
+        PropertyUtil.propertyAsDouble(
+            properties, GCS_READ_HEDGING_BUDGET, HedgedRangeReader.BUDGET_DEFAULT);
+    Preconditions.checkArgument(
+        gcsReadHedgingBudget >= 0 && gcsReadHedgingBudget <= 1,
+        "Invalid read hedging budget: %s (must be between 0 and 1)",
+        gcsReadHedgingBudget);
   }
 
   public Optional<Integer> channelReadChunkSize() {
@@ -178,6 +296,42 @@ public class GCPProperties implements Serializable {
     return gcsDeleteBatchSize;
   }
 
+  public int vectoredReadMergeGap() {
+    return gcsVectoredReadMergeGap;
+  }
+
+  public int vectoredReadMaxMergedSize() {
+    return gcsVectoredReadMaxMergedSize;
+  }
+
+  public boolean parallelUploadEnabled() {
+    return gcsParallelUploadEnabled;
+  }
+
+  public int parallelUploadComponentSize() {
+    return gcsParallelUploadComponentSize;
+  }
+
+  public int parallelUploadMaxPendingComponents() {
+    return gcsParallelUploadMaxPendingComponents;
+  }
+
+  public int parallelUploadNumThreads() {
+    return gcsParallelUploadNumThreads;
+  }
+
+  public boolean readHedgingEnabled() {
+    return gcsReadHedgingEnabled;
+  }
+
+  public double readHedgingPercentile() {
+    return gcsReadHedgingPercentile;
+  }
+
+  public double readHedgingBudget() {
+    return gcsReadHedgingBudget;
+  }
+
   public Optional<String> oauth2RefreshCredentialsEndpoint() {
     return Optional.ofNullable(gcsOauth2RefreshCredentialsEndpoint);
   }
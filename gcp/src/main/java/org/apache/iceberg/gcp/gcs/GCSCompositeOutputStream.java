@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.gcp.gcs;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.cloud.storage.Storage.ComposeRequest;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+import org.apache.iceberg.gcp.GCPProperties;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An output stream that uploads fixed-size components of an object in parallel and composes them
+ * into the target object when closed.
+ *
+ * <p>Objects smaller than a single component are uploaded directly. Components are written next to
+ * the target object and are deleted once they are composed, or when the upload fails. See <a
+ * href="https://cloud.google.com/storage/docs/parallel-composite-uploads">Parallel composite
+ * uploads</a>
+ */
+class GCSCompositeOutputStream extends OutputStream {
+  private static final Logger LOG = LoggerFactory.getLogger(GCSCompositeOutputStream.class);
+
+  // the maximum number of source objects in a single compose request
+  @VisibleForTesting static final int MAX_COMPOSE_SOURCES = 32;
+
+  private static volatile ExecutorService executorService;
+
+  private final Storage storage;
+  private final BlobId blobId;
+  private final String componentPrefix;
+  private final int componentSize;
+  private final int maxPendingComponents;
+  private final BlobTargetOption[] targetOptions;
+  private final List<BlobId> components = Lists.newArrayList();
+  private final Deque<PendingComponent> pendingComponents = Queues.newArrayDeque();
+  private final Deque<byte[]> freeBuffers = Queues.newArrayDeque();
+
+  private byte[] buffer;
+  private int bufferPos = 0;
+  private boolean failed = false;
+  private boolean closed = false;
+  // set when the upload is aborted so that components that have not started are skipped
+  private volatile boolean aborted = false;
+
+  GCSCompositeOutputStream(Storage storage, BlobId blobId, GCPProperties gcpProperties) {
+    if (executorService == null) {
+      synchronized (GCSCompositeOutputStream.class) {
+        if (executorService == null) {
+          executorService =
+              MoreExecutors.getExitingExecutorService(
+                  (ThreadPoolExecutor)
+                      Executors.newFixedThreadPool(
+                          gcpProperties.parallelUploadNumThreads(),
+                          new ThreadFactoryBuilder()
+                              .setDaemon(true)
+                              .setNameFormat("iceberg-gcsfileio-upload-%d")
+                              .build()));
+        }
+      }
+    }
+
+    this.storage = storage;
+    this.blobId = blobId;
+    this.componentPrefix = String.format("%s_%s.component-", blobId.getName(), UUID.randomUUID());
+    this.componentSize = gcpProperties.parallelUploadComponentSize();
+    this.maxPendingComponents = gcpProperties.parallelUploadMaxPendingComponents();
+
+    List<BlobTargetOption> options = Lists.newArrayList();
+    gcpProperties
+        .encryptionKey()
+        .ifPresent(key -> options.add(BlobTargetOption.encryptionKey(key)));
+    gcpProperties
+        .userProject()
+        .ifPresent(userProject -> options.add(BlobTargetOption.userProject(userProject)));
+    this.targetOptions = options.toArray(new BlobTargetOption[0]);
+
+    this.buffer = new byte[componentSize];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (bufferPos == componentSize) {
+      uploadComponent();
+    }
+
+    buffer[bufferPos] = (byte) b;
+    bufferPos += 1;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    int remaining = len;
+    int offset = off;
+    while (remaining > 0) {
+      if (bufferPos == componentSize) {
+        uploadComponent();
+      }
+
+      int writeSize = Math.min(remaining, componentSize - bufferPos);
+      System.arraycopy(b, offset, buffer, bufferPos, writeSize);
+      bufferPos += writeSize;
+      offset += writeSize;
+      remaining -= writeSize;
+    }
+  }
+
+  private void uploadComponent() throws IOException {
+    // bound the memory used by this stream by waiting for the oldest upload
+    while (pendingComponents.size() >= maxPendingComponents) {
+      try {
+        freeBuffers.addLast(pendingComponents.removeFirst().await());
+      } catch (IOException | RuntimeException e) {
+        this.failed = true;
+        throw e;
+      }
+    }
+
+    BlobId componentId = BlobId.of(blobId.getBucket(), componentPrefix + components.size());
+    components.add(componentId);
+
+    byte[] data = buffer;
+    int length = bufferPos;
+    BlobInfo componentInfo = BlobInfo.newBuilder(componentId).build();
+    CompletableFuture<Void> future =
+        CompletableFuture.runAsync(
+            () -> {
+              if (!aborted) {
+                storage.create(componentInfo, data, 0, length, targetOptions);
+              }
+            },
+            executorService);
+    pendingComponents.addLast(new PendingComponent(data, future));
+
+    this.buffer = freeBuffers.isEmpty() ? new byte[componentSize] : freeBuffers.removeFirst();
+    this.bufferPos = 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    this.closed = true;
+
+    if (components.isEmpty()) {
+      // the object fits in a single component
+      storage.create(BlobInfo.newBuilder(blobId).build(), buffer, 0, bufferPos, targetOptions);
+      return;
+    }
+
+    List<BlobId> intermediates = Lists.newArrayList();
+    try {
+      if (failed) {
+        // a component upload failed while writing, so the object must not be reported as written
+        throw new IOException(
+            "Cannot complete upload of " + blobId + ": a component upload failed");
+      }
+
+      if (bufferPos > 0) {
+        uploadComponent();
+      }
+
+      while (!pendingComponents.isEmpty()) {
+        pendingComponents.removeFirst().await();
+      }
+
+      compose(components, intermediates);
+    } catch (IOException | RuntimeException e) {
+      abort();
+      throw e;
+    } finally {
+      this.buffer = null;
+      freeBuffers.clear();
+      deleteComponents(intermediates);
+      deleteComponents(components);
+    }
+  }
+
+  private void compose(List<BlobId> sources, List<BlobId> intermediates) {
+    List<BlobId> toCompose = sources;
+    while (toCompose.size() > MAX_COMPOSE_SOURCES) {
+      // compose groups of components into intermediate objects until a single request is enough
+      List<BlobId> composed = Lists.newArrayList();
+      for (List<BlobId> group : Lists.partition(toCompose, MAX_COMPOSE_SOURCES)) {
+        BlobId intermediate =
+            BlobId.of(blobId.getBucket(), componentPrefix + "intermediate-" + intermediates.size());
+        intermediates.add(intermediate);
+        composeInto(group, intermediate);
+        composed.add(intermediate);
+      }
+
+      toCompose = composed;
+    }
+
+    composeInto(toCompose, blobId);
+  }
+
+  private void composeInto(List<BlobId> sources, BlobId target) {
+    storage.compose(
+        ComposeRequest.newBuilder()
+            .addSource(sources.stream().map(BlobId::getName).collect(Collectors.toList()))
+            .setTarget(BlobInfo.newBuilder(target).build())
+            .setTargetOptions(targetOptions)
+            .build());
+  }
+
+  private void abort() {
+    this.aborted = true;
+
+    // cancelling does not stop an upload that is running, so wait for every upload to finish before
+    // the components are deleted; otherwise a component could be created after it was deleted
+    for (PendingComponent pending : pendingComponents) {
+      pending.future.handle((ignored, failure) -> null).join();
+    }
+
+    pendingComponents.clear();
+  }
+
+  private void deleteComponents(List<BlobId> blobIds) {
+    if (blobIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      List<Boolean> deleted = storage.delete(blobIds);
+      for (int i = 0; i < deleted.size(); i += 1) {
+        if (!deleted.get(i)) {
+          LOG.debug("Component does not exist: {}", blobIds.get(i));
+        }
+      }
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to delete components of {}: {}", blobId, blobIds, e);
+    }
+  }
+
+  private static class PendingComponent {
+    private final byte[] buffer;
+    private final CompletableFuture<Void> future;
+
+    private PendingComponent(byte[] buffer, CompletableFuture<Void> future) {
+      this.buffer = buffer;
+      this.future = future;
+    }
+
+    private byte[] await() throws IOException {
+      try {
+        future.get();
+        return buffer;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while uploading component");
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+
+        throw new IOException("Failed to upload component", e.getCause());
+      }
+    }
+  }
+}
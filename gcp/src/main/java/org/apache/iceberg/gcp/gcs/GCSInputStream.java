@@ -28,16 +28,21 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntFunction;
 import org.apache.iceberg.gcp.GCPProperties;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.HedgedRangeReader;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReadUtil;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +67,9 @@ class GCSInputStream extends SeekableInputStream implements RangeReadable {
 
   private final Counter readBytes;
   private final Counter readOperations;
+  private final Counter hedgedRequests;
+  private final Counter hedgedWins;
+  private final HedgedRangeReader hedgedReader;
 
   GCSInputStream(
       Storage storage,
@@ -76,6 +84,13 @@ class GCSInputStream extends SeekableInputStream implements RangeReadable {
 
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
+    this.hedgedRequests = metrics.counter(FileIOMetricsContext.READ_HEDGED_REQUESTS);
+    this.hedgedWins = metrics.counter(FileIOMetricsContext.READ_HEDGED_WINS);
+    this.hedgedReader =
+        gcpProperties.readHedgingEnabled()
+            ? HedgedRangeReader.shared(
+                "gcs", gcpProperties.readHedgingPercentile(), gcpProperties.readHedgingBudget())
+            : null;
 
     createStack = Thread.currentThread().getStackTrace();
 
@@ -147,6 +162,21 @@ class GCSInputStream extends SeekableInputStream implements RangeReadable {
 
   @Override
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+    if (hedgedReader != null) {
+      hedgedReader.readFully(
+          (bytes, off, len) -> readRangeFully(position, bytes, off, len),
+          buffer,
+          offset,
+          length,
+          hedgedRequests,
+          hedgedWins);
+    } else {
+      readRangeFully(position, buffer, offset, length);
+    }
+  }
+
+  private void readRangeFully(long position, byte[] buffer, int offset, int length)
+      throws IOException {
     try (ReadChannel readChannel = openChannel()) {
       readChannel.seek(position);
       readChannel.limit(position + length);
@@ -170,6 +200,18 @@ class GCSInputStream extends SeekableInputStream implements RangeReadable {
     }
   }
 
+  @Override
+  public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    VectoredReadUtil.readVectored(
+        this,
+        ranges,
+        allocate,
+        ThreadPools.getReadWorkerPool(),
+        gcpProperties.vectoredReadMergeGap(),
+        gcpProperties.vectoredReadMaxMergedSize());
+  }
+
   private int read(ReadChannel readChannel, ByteBuffer buffer, int off, int len)
       throws IOException {
     buffer.position(off);
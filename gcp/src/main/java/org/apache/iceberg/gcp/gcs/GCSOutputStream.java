@@ -42,6 +42,9 @@ import org.slf4j.LoggerFactory;
 /**
  * The GCSOutputStream leverages native streaming channels from the GCS API for streaming uploads.
  * See <a href="https://cloud.google.com/storage/docs/streaming">Streaming Transfers</a>
+ *
+ * <p>When {@link GCPProperties#GCS_PARALLEL_UPLOAD_ENABLED} is set, the object is uploaded as
+ * components in parallel using {@link GCSCompositeOutputStream}.
  */
 class GCSOutputStream extends PositionOutputStream {
   private static final Logger LOG = LoggerFactory.getLogger(GCSOutputStream.class);
@@ -101,6 +104,11 @@ class GCSOutputStream extends PositionOutputStream {
   }
 
   private void openStream() {
+    if (gcpProperties.parallelUploadEnabled()) {
+      stream = new GCSCompositeOutputStream(storage, blobId, gcpProperties);
+      return;
+    }
+
     List<BlobWriteOption> writeOptions = Lists.newArrayList();
 
     gcpProperties
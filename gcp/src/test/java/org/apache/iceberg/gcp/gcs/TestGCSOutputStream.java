@@ -19,17 +19,38 @@
 package org.apache.iceberg.gcp.gcs;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.cloud.storage.Storage.ComposeRequest;
+import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.apache.iceberg.gcp.GCPProperties;
 import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,10 +59,40 @@ public class TestGCSOutputStream {
   private static final Logger LOG = LoggerFactory.getLogger(TestGCSOutputStream.class);
   private static final String BUCKET = "test-bucket";
 
-  private final GCPProperties properties = new GCPProperties();
-  private final Storage storage = LocalStorageHelper.getOptions().getService();
+  private final Storage storage = spy(LocalStorageHelper.getOptions().getService());
   private final Random random = new Random(1);
 
+  private GCPProperties properties = new GCPProperties();
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  public void before() {
+    // LocalStorageHelper doesn't support batch or compose operations, so mock them here
+    doAnswer(
+            invoke -> {
+              Iterable<BlobId> iter = invoke.getArgument(0);
+              List<Boolean> answer = Lists.newArrayList();
+              iter.forEach(blobId -> answer.add(storage.delete(blobId)));
+              return answer;
+            })
+        .when(storage)
+        .delete(any(Iterable.class));
+
+    doAnswer(
+            invoke -> {
+              ComposeRequest request = invoke.getArgument(0);
+              ByteArrayOutputStream content = new ByteArrayOutputStream();
+              for (ComposeRequest.SourceBlob source : request.getSourceBlobs()) {
+                content.write(
+                    storage.readAllBytes(request.getTarget().getBucket(), source.getName()));
+              }
+
+              return storage.create(request.getTarget(), content.toByteArray());
+            })
+        .when(storage)
+        .compose(any(ComposeRequest.class));
+  }
+
   @Test
   public void testWrite() {
     // Run tests for both byte and array write paths
@@ -56,6 +107,173 @@ public class TestGCSOutputStream {
             });
   }
 
+  @Test
+  public void testWriteWithParallelUpload() {
+    this.properties =
+        new GCPProperties(
+            ImmutableMap.of(
+                GCPProperties.GCS_PARALLEL_UPLOAD_ENABLED, "true",
+                GCPProperties.GCS_PARALLEL_UPLOAD_COMPONENT_SIZE, String.valueOf(1024 * 1024),
+                GCPProperties.GCS_PARALLEL_UPLOAD_MAX_PENDING_COMPONENTS, "2"));
+
+    Stream.of(true, false)
+        .forEach(
+            arrayWrite -> {
+              // Test small file write, which is uploaded without composing
+              writeAndVerify(storage, randomBlobId(), randomData(1024), arrayWrite);
+              verify(storage, never()).compose(any(ComposeRequest.class));
+
+              // Test large file, with a partial last component
+              writeAndVerify(
+                  storage, randomBlobId(), randomData(10 * 1024 * 1024 + 17), arrayWrite);
+              verify(storage, atLeast(1)).compose(any(ComposeRequest.class));
+            });
+
+    assertThat(storage.list(BUCKET, BlobListOption.prefix("data/")).iterateAll())
+        .as("Should delete all components")
+        .hasSize(4)
+        .noneMatch(blob -> blob.getName().contains(".component-"));
+  }
+
+  @Test
+  public void testParallelUploadWithIntermediateCompose() {
+    int componentSize = 1024;
+    int numComponents = GCSCompositeOutputStream.MAX_COMPOSE_SOURCES * 3 + 1;
+    this.properties =
+        new GCPProperties(
+            ImmutableMap.of(
+                GCPProperties.GCS_PARALLEL_UPLOAD_ENABLED, "true",
+                GCPProperties.GCS_PARALLEL_UPLOAD_COMPONENT_SIZE, String.valueOf(componentSize)));
+
+    writeAndVerify(storage, randomBlobId(), randomData(componentSize * numComponents), true);
+
+    List<Blob> blobs =
+        Lists.newArrayList(storage.list(BUCKET, BlobListOption.prefix("data/")).iterateAll());
+    assertThat(blobs).hasSize(1);
+  }
+
+  @Test
+  public void testParallelUploadFailureDeletesComponents() {
+    this.properties =
+        new GCPProperties(
+            ImmutableMap.of(
+                GCPProperties.GCS_PARALLEL_UPLOAD_ENABLED, "true",
+                GCPProperties.GCS_PARALLEL_UPLOAD_COMPONENT_SIZE, "1024"));
+
+    StorageException failure = new StorageException(503, "mock failure to upload component");
+    doThrow(failure)
+        .when(storage)
+        .create(
+            argThat((BlobInfo info) -> info.getName().endsWith(".component-3")),
+            any(byte[].class),
+            anyInt(),
+            anyInt(),
+            any(BlobTargetOption[].class));
+
+    BlobId blobId = randomBlobId();
+    assertThatThrownBy(
+            () -> {
+              try (GCSOutputStream stream =
+                  new GCSOutputStream(storage, blobId, properties, MetricsContext.nullMetrics())) {
+                stream.write(randomData(10 * 1024));
+              }
+            })
+        .isInstanceOf(StorageException.class)
+        .hasMessage(failure.getMessage());
+
+    assertThat(storage.get(blobId)).isNull();
+    assertThat(storage.list(BUCKET, BlobListOption.prefix("data/")).iterateAll())
+        .as("Should delete all components")
+        .isEmpty();
+  }
+
+  @Test
+  public void testParallelUploadFailureWaitsForPendingComponents() {
+    this.properties =
+        new GCPProperties(
+            ImmutableMap.of(
+                GCPProperties.GCS_PARALLEL_UPLOAD_ENABLED, "true",
+                GCPProperties.GCS_PARALLEL_UPLOAD_COMPONENT_SIZE, "1024"));
+
+    StorageException failure = new StorageException(503, "mock failure to upload component");
+    doThrow(failure)
+        .when(storage)
+        .create(
+            argThat((BlobInfo info) -> info.getName().endsWith(".component-1")),
+            any(byte[].class),
+            anyInt(),
+            anyInt(),
+            any(BlobTargetOption[].class));
+
+    // a slow upload that is still running when the failure is detected
+    doAnswer(
+            invoke -> {
+              Thread.sleep(500);
+              return invoke.callRealMethod();
+            })
+        .when(storage)
+        .create(
+            argThat((BlobInfo info) -> info.getName().endsWith(".component-5")),
+            any(byte[].class),
+            anyInt(),
+            anyInt(),
+            any(BlobTargetOption[].class));
+
+    BlobId blobId = randomBlobId();
+    assertThatThrownBy(
+            () -> {
+              try (GCSOutputStream stream =
+                  new GCSOutputStream(storage, blobId, properties, MetricsContext.nullMetrics())) {
+                stream.write(randomData(10 * 1024));
+              }
+            })
+        .isInstanceOf(StorageException.class)
+        .hasMessage(failure.getMessage());
+
+    assertThat(storage.get(blobId)).isNull();
+    assertThat(storage.list(BUCKET, BlobListOption.prefix("data/")).iterateAll())
+        .as("Should delete all components after pending uploads finish")
+        .isEmpty();
+  }
+
+  @Test
+  public void testCloseAfterFailedWrite() throws IOException {
+    this.properties =
+        new GCPProperties(
+            ImmutableMap.of(
+                GCPProperties.GCS_PARALLEL_UPLOAD_ENABLED, "true",
+                GCPProperties.GCS_PARALLEL_UPLOAD_COMPONENT_SIZE, "1024",
+                GCPProperties.GCS_PARALLEL_UPLOAD_MAX_PENDING_COMPONENTS, "1"));
+
+    StorageException failure = new StorageException(503, "mock failure to upload component");
+    doThrow(failure)
+        .when(storage)
+        .create(
+            argThat((BlobInfo info) -> info.getName().endsWith(".component-0")),
+            any(byte[].class),
+            anyInt(),
+            anyInt(),
+            any(BlobTargetOption[].class));
+
+    BlobId blobId = randomBlobId();
+    GCSOutputStream stream =
+        new GCSOutputStream(storage, blobId, properties, MetricsContext.nullMetrics());
+
+    // the failed upload is detected when the next component waits for a pending upload
+    assertThatThrownBy(() -> stream.write(randomData(10 * 1024)))
+        .isInstanceOf(StorageException.class)
+        .hasMessage(failure.getMessage());
+
+    assertThatThrownBy(stream::close)
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("a component upload failed");
+
+    assertThat(storage.get(blobId)).isNull();
+    assertThat(storage.list(BUCKET, BlobListOption.prefix("data/")).iterateAll())
+        .as("Should delete all components")
+        .isEmpty();
+  }
+
   @Test
   public void testMultipleClose() throws IOException {
     GCSOutputStream stream =
@@ -18,6 +18,8 @@
  */
 package org.apache.iceberg.parquet;
 
+import java.util.PrimitiveIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.page.DataPage;
@@ -34,11 +36,31 @@ public abstract class BaseColumnIterator {
   protected long advanceNextPageCount = 0L;
   protected Dictionary dictionary;
 
+  // rows selected by page index filtering or by the caller, or null if all rows are read
+  private PrimitiveIterator.OfLong selectedRows = null;
+  private long nextSelectedRow = -1L;
+
   protected BaseColumnIterator(ColumnDescriptor descriptor) {
     this.desc = descriptor;
   }
 
   public void setPageSource(PageReader source) {
+    setPageSource(source, null);
+  }
+
+  /**
+   * Sets the page source for a row group that may have been filtered using the page index.
+   *
+   * <p>When rows are selected, the page source returns only the pages that contain selected rows
+   * and the rows in those pages that are not selected are skipped. Row indexes are consumed as the
+   * column is read, so an iterator may return indexes that were added after it was passed here.
+   *
+   * @param source a page reader for the column in the row group
+   * @param rowIndexes increasing indexes of the rows to read, or null to read all rows
+   */
+  public void setPageSource(PageReader source, PrimitiveIterator.OfLong rowIndexes) {
+    this.selectedRows = rowIndexes;
+    this.nextSelectedRow = -1L;
     this.pageSource = source;
     this.triplesCount = source.getTotalValueCount();
     this.triplesRead = 0L;
@@ -59,6 +81,16 @@ public abstract class BaseColumnIterator {
         DataPage page = pageSource.readPage();
         if (page != null) {
           pageIterator.setPage(page);
+          if (selectedRows != null && !page.getFirstRowIndex().isPresent()) {
+            // pages of a row group that was not filtered are contiguous, so a page of a flat
+            // column starts at the row after the last value read from the previous page
+            Preconditions.checkState(
+                desc.getMaxRepetitionLevel() == 0,
+                "Cannot skip rows in column %s: page has no first row index",
+                desc);
+            pageIterator.firstRowIndex = triplesRead;
+          }
+
           this.advanceNextPageCount += pageIterator.currentPageCount();
         } else {
           return;
@@ -70,4 +102,23 @@ public abstract class BaseColumnIterator {
   public boolean hasNext() {
     return triplesRead < triplesCount;
   }
+
+  /** Returns true if rows in this row group that were not selected must be skipped. */
+  protected boolean skipsRows() {
+    return selectedRows != null;
+  }
+
+  /**
+   * Returns the index of the first selected row at or after the given row index.
+   *
+   * @param rowIndex a row index within the row group
+   * @return the next selected row index, or {@link Long#MAX_VALUE} if no rows remain
+   */
+  protected long nextSelectedRow(long rowIndex) {
+    while (nextSelectedRow < rowIndex) {
+      this.nextSelectedRow = selectedRows.hasNext() ? selectedRows.nextLong() : Long.MAX_VALUE;
+    }
+
+    return nextSelectedRow;
+  }
 }
@@ -52,6 +52,7 @@ public abstract class BasePageIterator {
   // page bookkeeping
   protected Dictionary dictionary = null;
   protected DataPage page = null;
+  protected long firstRowIndex = -1L;
   protected int triplesCount = 0;
   protected Encoding valueEncoding = null;
   protected IntIterator definitionLevels = null;
@@ -65,6 +66,7 @@ public abstract class BasePageIterator {
 
   protected void reset() {
     this.page = null;
+    this.firstRowIndex = -1L;
     this.triplesCount = 0;
     this.triplesRead = 0;
     this.repetitionLevels = null;
@@ -107,6 +109,7 @@ public abstract class BasePageIterator {
   public void setPage(DataPage page) {
     Preconditions.checkNotNull(page, "Cannot read from null page");
     this.page = page;
+    this.firstRowIndex = page.getFirstRowIndex().orElse(-1L);
     this.page.accept(
         new DataPage.Visitor<ValuesReader>() {
           @Override
@@ -95,6 +95,23 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
     this.pageIterator = PageIterator.newIterator(desc, writerVersion);
   }
 
+  @Override
+  protected void advance() {
+    super.advance();
+    if (skipsRows()) {
+      // skip rows that were not selected by the page index before the next row is read
+      while (pageIterator.hasNext() && pageIterator.currentRepetitionLevel() == 0) {
+        long rowIndex = pageIterator.currentRowIndex();
+        if (nextSelectedRow(rowIndex) == rowIndex) {
+          break;
+        }
+
+        this.triplesRead += pageIterator.skipRow();
+        super.advance();
+      }
+    }
+  }
+
   @Override
   public int currentDefinitionLevel() {
     advance();
@@ -101,6 +101,9 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
     }
   }
 
+  // index within the row group of the row that the current triple belongs to
+  private long rowIndex = -1L;
+
   private PageIterator(ColumnDescriptor desc, String writerVersion) {
     super(desc, writerVersion);
   }
@@ -108,9 +111,39 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
   @Override
   public void setPage(DataPage page) {
     super.setPage(page);
+    this.rowIndex = firstRowIndex - 1;
     advance();
   }
 
+  /** Returns the index within the row group of the row that the current triple belongs to. */
+  long currentRowIndex() {
+    return rowIndex;
+  }
+
+  /**
+   * Skips the remaining triples of the current row without materializing values.
+   *
+   * @return the number of triples that were skipped
+   */
+  int skipRow() {
+    int skipped = 0;
+    do {
+      int definitionLevel = currentDL;
+      advance();
+      if (definitionLevel == desc.getMaxDefinitionLevel()) {
+        try {
+          values.skip();
+        } catch (RuntimeException e) {
+          throw handleRuntimeException(e);
+        }
+      }
+
+      skipped += 1;
+    } while (hasNext && currentRL > 0);
+
+    return skipped;
+  }
+
   @Override
   public int currentDefinitionLevel() {
     Preconditions.checkArgument(currentDL >= 0, "Should not read definition, past page end");
@@ -196,6 +229,9 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
       this.currentRL = repetitionLevels.nextInt();
       this.triplesRead += 1;
       this.hasNext = true;
+      if (currentRL == 0) {
+        this.rowIndex += 1;
+      }
     } else {
       this.currentDL = -1;
       this.currentRL = -1;
@@ -47,6 +47,12 @@ import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_REC
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_BUFFER_ROWS;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_BUFFER_ROWS_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_ENABLED;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_MAX_FIELDS;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_MAX_FIELDS_DEFAULT;
 
 import java.io.File;
 import java.io.IOException;
@@ -136,6 +142,8 @@ public class Parquet {
           "parquet.read.support.class",
           "parquet.crypto.factory.class");
 
+  private static final String VECTORED_IO_ENABLED = "parquet.hadoop.vectored.io.enabled";
+
   public static WriteBuilder write(OutputFile file) {
     if (file instanceof EncryptedOutputFile) {
       return write((EncryptedOutputFile) file);
@@ -162,6 +170,7 @@ public class Parquet {
     private final Map<String, String> config = Maps.newLinkedHashMap();
     private Schema schema = null;
     private VariantShreddingFunction variantShreddingFunc = null;
+    private Function<?, ?> copyFunc = null;
     private String name = "table";
     private WriteSupport<?> writeSupport = null;
     private BiFunction<Schema, MessageType, ParquetValueWriter<?>> createWriterFunc = null;
@@ -199,6 +208,10 @@ public class Parquet {
      * field ID to produce the shredding type as a {@code typed_value} field. This field is added to
      * the result variant struct alongside the {@code metadata} and {@code value} fields.
      *
+     * <p>When no function is set, {@code write.parquet.variant.shredding.enabled} is true, and a
+     * {@link #copyFunc(Function) copy function} is set, the shredded type is inferred from the
+     * first rows written to the file.
+     *
      * @param func {@link VariantShreddingFunction} that produces a shredded {@code typed_value}
      * @return this for method chaining
      */
@@ -207,6 +220,20 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Set a function that copies rows passed to the appender.
+     *
+     * <p>Rows are buffered while the shredded layout of variant columns is inferred, and the copy
+     * must not share any mutable state with the original row so that callers can reuse rows.
+     *
+     * @param newCopyFunc a function that returns a deep copy of a row
+     * @return this for method chaining
+     */
+    public <T> WriteBuilder copyFunc(Function<T, T> newCopyFunc) {
+      this.copyFunc = newCopyFunc;
+      return this;
+    }
+
     @Override
     public WriteBuilder named(String newName) {
       this.name = newName;
@@ -447,6 +474,38 @@ public class Parquet {
 
         ParquetProperties parquetProperties = propsBuilder.build();
 
+        if (variantShreddingFunc == null
+            && copyFunc != null
+            && context.variantShreddingEnabled()
+            && VariantShreddingWriter.hasVariants(schema)) {
+          // the Parquet schema is fixed when the writer is created, so it is created after the
+          // shredded layout is inferred from the first rows
+          FileEncryptionProperties encryptionProperties = fileEncryptionProperties;
+          @SuppressWarnings("unchecked")
+          Function<D, D> rowCopyFunc = (Function<D, D>) copyFunc;
+          return new VariantShreddingWriter<>(
+              schema,
+              context.variantShreddingBufferRows(),
+              context.variantShreddingMaxFields(),
+              rowCopyFunc,
+              shreddingFunc ->
+                  ParquetVariantWriters.withIntegerWidening(
+                      () ->
+                          new org.apache.iceberg.parquet.ParquetWriter<>(
+                              conf,
+                              file,
+                              schema,
+                              ParquetSchemaUtil.convert(schema, name, shreddingFunc),
+                              rowGroupSize,
+                              metadata,
+                              createWriterFunc,
+                              codec,
+                              parquetProperties,
+                              metricsConfig,
+                              writeMode,
+                              encryptionProperties)));
+        }
+
         return new org.apache.iceberg.parquet.ParquetWriter<>(
             conf,
             file,
@@ -504,6 +563,9 @@ public class Parquet {
       private final Map<String, String> columnBloomFilterEnabled;
       private final Map<String, String> columnStatsEnabled;
       private final boolean dictionaryEnabled;
+      private final boolean variantShreddingEnabled;
+      private final int variantShreddingBufferRows;
+      private final int variantShreddingMaxFields;
 
       private Context(
           int rowGroupSize,
@@ -518,7 +580,10 @@ public class Parquet {
           Map<String, String> columnBloomFilterFpp,
           Map<String, String> columnBloomFilterEnabled,
           Map<String, String> columnStatsEnabled,
-          boolean dictionaryEnabled) {
+          boolean dictionaryEnabled,
+          boolean variantShreddingEnabled,
+          int variantShreddingBufferRows,
+          int variantShreddingMaxFields) {
         this.rowGroupSize = rowGroupSize;
         this.pageSize = pageSize;
         this.pageRowLimit = pageRowLimit;
@@ -532,6 +597,9 @@ public class Parquet {
         this.columnBloomFilterEnabled = columnBloomFilterEnabled;
         this.columnStatsEnabled = columnStatsEnabled;
         this.dictionaryEnabled = dictionaryEnabled;
+        this.variantShreddingEnabled = variantShreddingEnabled;
+        this.variantShreddingBufferRows = variantShreddingBufferRows;
+        this.variantShreddingMaxFields = variantShreddingMaxFields;
       }
 
       static Context dataContext(Map<String, String> config) {
@@ -598,6 +666,28 @@ public class Parquet {
         boolean dictionaryEnabled =
             PropertyUtil.propertyAsBoolean(config, ParquetOutputFormat.ENABLE_DICTIONARY, true);
 
+        boolean variantShreddingEnabled =
+            PropertyUtil.propertyAsBoolean(
+                config,
+                PARQUET_VARIANT_SHREDDING_ENABLED,
+                PARQUET_VARIANT_SHREDDING_ENABLED_DEFAULT);
+
+        int variantShreddingBufferRows =
+            PropertyUtil.propertyAsInt(
+                config,
+                PARQUET_VARIANT_SHREDDING_BUFFER_ROWS,
+                PARQUET_VARIANT_SHREDDING_BUFFER_ROWS_DEFAULT);
+        Preconditions.checkArgument(
+            variantShreddingBufferRows > 0, "Variant shredding buffer rows must be > 0");
+
+        int variantShreddingMaxFields =
+            PropertyUtil.propertyAsInt(
+                config,
+                PARQUET_VARIANT_SHREDDING_MAX_FIELDS,
+                PARQUET_VARIANT_SHREDDING_MAX_FIELDS_DEFAULT);
+        Preconditions.checkArgument(
+            variantShreddingMaxFields >= 0, "Variant shredding max fields must be >= 0");
+
         return new Context(
             rowGroupSize,
             pageSize,
@@ -611,7 +701,10 @@ public class Parquet {
             columnBloomFilterFpp,
             columnBloomFilterEnabled,
             columnStatsEnabled,
-            dictionaryEnabled);
+            dictionaryEnabled,
+            variantShreddingEnabled,
+            variantShreddingBufferRows,
+            variantShreddingMaxFields);
       }
 
       static Context deleteContext(Map<String, String> config) {
@@ -680,7 +773,10 @@ public class Parquet {
             ImmutableMap.of(),
             ImmutableMap.of(),
             ImmutableMap.of(),
-            dictionaryEnabled);
+            dictionaryEnabled,
+            false,
+            dataContext.variantShreddingBufferRows(),
+            dataContext.variantShreddingMaxFields());
       }
 
       private static CompressionCodecName toCodec(String codecAsString) {
@@ -742,6 +838,18 @@ public class Parquet {
       boolean dictionaryEnabled() {
         return dictionaryEnabled;
       }
+
+      boolean variantShreddingEnabled() {
+        return variantShreddingEnabled;
+      }
+
+      int variantShreddingBufferRows() {
+        return variantShreddingBufferRows;
+      }
+
+      int variantShreddingMaxFields() {
+        return variantShreddingMaxFields;
+      }
     }
   }
 
@@ -827,6 +935,11 @@ public class Parquet {
       return this;
     }
 
+    public <T> DataWriteBuilder copyFunc(Function<T, T> newCopyFunc) {
+      appenderBuilder.copyFunc(newCopyFunc);
+      return this;
+    }
+
     public DataWriteBuilder withSpec(PartitionSpec newSpec) {
       this.spec = newSpec;
       return this;
@@ -1326,6 +1439,9 @@ public class Parquet {
           optionsBuilder = HadoopReadOptions.builder(conf);
         } else {
           optionsBuilder = ParquetReadOptions.builder(new PlainParquetConfiguration());
+          // read column chunks with vectored reads if the stream is range readable
+          optionsBuilder.withUseHadoopVectoredIo(
+              PropertyUtil.propertyAsBoolean(properties, VECTORED_IO_ENABLED, true));
         }
 
         for (Map.Entry<String, String> entry : properties.entrySet()) {
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+/**
+ * A {@link ParquetValueWriter} for batches of rows that writes each column for a range of rows
+ * before moving to the next column.
+ *
+ * <p>Batches passed to a Parquet appender built with this writer are written in ranges of rows, and
+ * the appender ends a record in the column store for each row of a range after all of its columns
+ * are written.
+ *
+ * @param <B> the batch type
+ */
+public interface ParquetBatchValueWriter<B> extends ParquetValueWriter<B> {
+  /** Returns the number of rows in a batch. */
+  int numRows(B batch);
+
+  /**
+   * Writes the rows of a batch from start, inclusive, to end, exclusive, one column at a time.
+   *
+   * @param batch a batch of rows
+   * @param start the position of the first row to write
+   * @param end the position after the last row to write
+   */
+  void writeRows(B batch, int start, int end);
+
+  @Override
+  default void write(int repetitionLevel, B batch) {
+    throw new UnsupportedOperationException("Cannot write a batch as a single value");
+  }
+}
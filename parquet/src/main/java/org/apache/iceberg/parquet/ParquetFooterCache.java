@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.format.converter.ParquetMetadataConverter.MetadataFilter;
+import org.apache.parquet.format.converter.ParquetMetadataConverter.RangeMetadataFilter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.io.SeekableInputStream;
+
+/**
+ * A cache of parsed Parquet footers that is shared by all readers of a file.
+ *
+ * <p>Footers are cached by file location and length, which identify a file because Iceberg never
+ * modifies files in place. The cache is bounded by an estimate of the in-memory size of the
+ * footers. Encrypted files, and reads that filter row groups other than by split range, are not
+ * cached.
+ *
+ * <p>The JVM-wide cache is enabled by {@link SystemConfigs#PARQUET_FOOTER_CACHE_ENABLED}, and its
+ * hit and miss counts are available from {@link #sharedStats()}.
+ */
+public class ParquetFooterCache {
+  // rough estimates of the in-memory size of the parsed metadata
+  private static final int FOOTER_OVERHEAD_BYTES = 1024;
+  private static final int COLUMN_CHUNK_BYTES = 512;
+  private static final int SCHEMA_FIELD_BYTES = 128;
+
+  private static volatile ParquetFooterCache sharedCache = null;
+
+  private final Cache<Key, ParquetMetadata> cache;
+
+  ParquetFooterCache(long maxTotalBytes) {
+    Preconditions.checkArgument(
+        maxTotalBytes > 0, "Invalid max total bytes: %s (must be > 0)", maxTotalBytes);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxTotalBytes)
+            .weigher((Weigher<Key, ParquetMetadata>) (key, footer) -> estimateSize(footer))
+            .recordStats()
+            .build();
+  }
+
+  /** Returns the hit and miss statistics of the JVM-wide cache, or null if it is disabled. */
+  public static CacheStats sharedStats() {
+    ParquetFooterCache shared = shared();
+    return shared != null ? shared.stats() : null;
+  }
+
+  /** Opens a reader for the file, using the JVM-wide cache if it is enabled. */
+  static ParquetFileReader openReader(InputFile file, ParquetReadOptions options)
+      throws IOException {
+    ParquetFooterCache shared = shared();
+    if (shared != null) {
+      return shared.open(file, options);
+    }
+
+    return ParquetFileReader.open(ParquetIO.file(file), options);
+  }
+
+  /** Reads the footer of the file, using the JVM-wide cache if it is enabled. */
+  static ParquetMetadata readFooter(InputFile file) throws IOException {
+    ParquetFooterCache shared = shared();
+    if (shared != null) {
+      return shared.footer(file);
+    }
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      return reader.getFooter();
+    }
+  }
+
+  private static ParquetFooterCache shared() {
+    if (!SystemConfigs.PARQUET_FOOTER_CACHE_ENABLED.value()) {
+      return null;
+    }
+
+    if (sharedCache == null) {
+      synchronized (ParquetFooterCache.class) {
+        if (sharedCache == null) {
+          sharedCache =
+              new ParquetFooterCache(SystemConfigs.PARQUET_FOOTER_CACHE_MAX_TOTAL_BYTES.value());
+        }
+      }
+    }
+
+    return sharedCache;
+  }
+
+  CacheStats stats() {
+    return cache.stats();
+  }
+
+  ParquetFileReader open(InputFile file, ParquetReadOptions options) throws IOException {
+    org.apache.parquet.io.InputFile parquetFile = ParquetIO.file(file);
+    MetadataFilter filter = options.getMetadataFilter();
+    boolean cacheable =
+        options.getDecryptionProperties() == null
+            && (filter == ParquetMetadataConverter.NO_FILTER
+                || filter instanceof RangeMetadataFilter);
+    if (!cacheable) {
+      return ParquetFileReader.open(parquetFile, options);
+    }
+
+    SeekableInputStream stream = parquetFile.newStream();
+    try {
+      ParquetMetadata footer = footer(file, parquetFile, options, stream);
+      return new ParquetFileReader(parquetFile, filterRowGroups(footer, filter), options, stream);
+    } catch (IOException | RuntimeException e) {
+      stream.close();
+      throw e;
+    }
+  }
+
+  ParquetMetadata footer(InputFile file) throws IOException {
+    org.apache.parquet.io.InputFile parquetFile = ParquetIO.file(file);
+    ParquetReadOptions options = ParquetReadOptions.builder().build();
+    try (SeekableInputStream stream = parquetFile.newStream()) {
+      return footer(file, parquetFile, options, stream);
+    }
+  }
+
+  private ParquetMetadata footer(
+      InputFile file,
+      org.apache.parquet.io.InputFile parquetFile,
+      ParquetReadOptions options,
+      SeekableInputStream stream)
+      throws IOException {
+    Key key = new Key(file.location(), file.getLength());
+    ParquetMetadata footer = cache.getIfPresent(key);
+    if (footer == null) {
+      // cache the footer with all row groups, split ranges are applied to the cached footer
+      ParquetReadOptions readAllOptions =
+          ParquetReadOptions.builder()
+              .copy(options)
+              .withMetadataFilter(ParquetMetadataConverter.NO_FILTER)
+              .build();
+      footer = ParquetFileReader.readFooter(parquetFile, readAllOptions, stream);
+      cache.put(key, footer);
+    }
+
+    return footer;
+  }
+
+  /**
+   * Selects the row groups of a split, using the same midpoint rule as {@link
+   * ParquetMetadataConverter} when it reads a footer with a range filter.
+   */
+  private static ParquetMetadata filterRowGroups(ParquetMetadata footer, MetadataFilter filter) {
+    if (!(filter instanceof RangeMetadataFilter)) {
+      return footer;
+    }
+
+    RangeMetadataFilter range = (RangeMetadataFilter) filter;
+    List<BlockMetaData> rowGroups =
+        footer.getBlocks().stream()
+            .filter(
+                rowGroup ->
+                    range.contains(rowGroup.getStartingPos() + rowGroup.getCompressedSize() / 2))
+            .collect(Collectors.toList());
+
+    return new ParquetMetadata(footer.getFileMetaData(), rowGroups);
+  }
+
+  private static int estimateSize(ParquetMetadata footer) {
+    long size = FOOTER_OVERHEAD_BYTES;
+    size += (long) footer.getFileMetaData().getSchema().getColumns().size() * SCHEMA_FIELD_BYTES;
+    for (BlockMetaData rowGroup : footer.getBlocks()) {
+      size += (long) rowGroup.getColumns().size() * COLUMN_CHUNK_BYTES;
+    }
+
+    for (String value : footer.getFileMetaData().getKeyValueMetaData().values()) {
+      size += value != null ? 2L * value.length() : 0;
+    }
+
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  private static class Key {
+    private final String location;
+    private final long length;
+
+    private Key(String location, long length) {
+      this.location = location;
+      this.length = length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return length == that.length && location.equals(that.location);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(location, length);
+    }
+  }
+}
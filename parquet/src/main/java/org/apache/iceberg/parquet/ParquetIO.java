@@ -21,6 +21,7 @@ package org.apache.iceberg.parquet;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.List;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -29,11 +30,16 @@ import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopOutputFile;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.hadoop.util.HadoopStreams;
 import org.apache.parquet.io.DelegatingPositionOutputStream;
 import org.apache.parquet.io.DelegatingSeekableInputStream;
 import org.apache.parquet.io.InputFile;
 import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.ParquetFileRange;
 import org.apache.parquet.io.PositionOutputStream;
 import org.apache.parquet.io.SeekableInputStream;
 
@@ -121,6 +127,24 @@ class ParquetIO {
     public void seek(long newPos) throws IOException {
       delegate.seek(newPos);
     }
+
+    @Override
+    public boolean readVectoredAvailable(ByteBufferAllocator allocator) {
+      return delegate instanceof RangeReadable;
+    }
+
+    @Override
+    public void readVectored(List<ParquetFileRange> ranges, ByteBufferAllocator allocator)
+        throws IOException {
+      List<FileRange> fileRanges = Lists.newArrayListWithExpectedSize(ranges.size());
+      for (ParquetFileRange range : ranges) {
+        FileRange fileRange = new FileRange(range.getOffset(), range.getLength());
+        range.setDataReadFuture(fileRange.byteBuffer());
+        fileRanges.add(fileRange);
+      }
+
+      ((RangeReadable) delegate).readVectored(fileRanges, allocator::allocate);
+    }
   }
 
   private static class ParquetOutputStreamAdapter extends DelegatingPositionOutputStream {
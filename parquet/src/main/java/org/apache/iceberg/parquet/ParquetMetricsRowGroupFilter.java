@@ -28,6 +28,8 @@ import java.util.stream.Collectors;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundExtract;
+import org.apache.iceberg.expressions.BoundPredicate;
 import org.apache.iceberg.expressions.BoundReference;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.ExpressionVisitors;
@@ -42,6 +44,7 @@ import org.apache.iceberg.util.BinaryUtil;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
@@ -80,16 +83,21 @@ public class ParquetMetricsRowGroupFilter {
     private Map<Integer, Statistics<?>> stats = null;
     private Map<Integer, Long> valueCounts = null;
     private Map<Integer, Function<Object, Object>> conversions = null;
+    private MessageType fileSchema = null;
+    private Map<ColumnPath, ColumnChunkMetaData> chunks = null;
 
-    private boolean eval(MessageType fileSchema, BlockMetaData rowGroup) {
+    private boolean eval(MessageType parquetSchema, BlockMetaData rowGroup) {
       if (rowGroup.getRowCount() <= 0) {
         return ROWS_CANNOT_MATCH;
       }
 
+      this.fileSchema = parquetSchema;
       this.stats = Maps.newHashMap();
       this.valueCounts = Maps.newHashMap();
       this.conversions = Maps.newHashMap();
+      this.chunks = Maps.newHashMap();
       for (ColumnChunkMetaData col : rowGroup.getColumns()) {
+        chunks.put(col.getPath(), col);
         PrimitiveType colType = fileSchema.getType(col.getPath().toArray()).asPrimitiveType();
         if (colType.getId() != null) {
           int id = colType.getId().intValue();
@@ -559,12 +567,69 @@ public class ParquetMetricsRowGroupFilter {
       return (T) conversions.get(id).apply(statistics.genericGetMax());
     }
 
+    @Override
+    public <T> Boolean predicate(BoundPredicate<T> pred) {
+      if (pred.term() instanceof BoundExtract) {
+        return extract(pred, (BoundExtract<T>) pred.term());
+      }
+
+      return super.predicate(pred);
+    }
+
+    private <T> boolean extract(BoundPredicate<T> pred, BoundExtract<T> extract) {
+      ShreddedVariantPath path = ShreddedVariantPath.find(fileSchema, extract);
+      if (path == null) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      ColumnChunkMetaData valueChunk =
+          path.valuePath() != null ? chunks.get(path.valuePath()) : null;
+      if (valueChunk != null && !onlyVariantNulls(valueChunk)) {
+        // values that do not match the shredded type are stored in the value column
+        return ROWS_MIGHT_MATCH;
+      }
+
+      ColumnChunkMetaData typedChunk = chunks.get(path.typedValuePath());
+      if (typedChunk == null) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      Statistics<?> colStats = typedChunk.getStatistics();
+      if (colStats == null || colStats.isEmpty()) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      boolean hasValues = !allNulls(colStats, typedChunk.getValueCount());
+      T lower = null;
+      T upper = null;
+      if (hasValues && !minMaxUndefined(colStats)) {
+        lower = path.convert(extract, colStats.genericGetMin());
+        upper = path.convert(extract, colStats.genericGetMax());
+      }
+
+      return ShreddedVariantPath.mightMatch(pred, hasValues, lower, upper);
+    }
+
     @Override
     public <T> Boolean handleNonReference(Bound<T> term) {
       return ROWS_MIGHT_MATCH;
     }
   }
 
+  /** Returns true if all values of a variant value column chunk are null or variant null. */
+  private static boolean onlyVariantNulls(ColumnChunkMetaData valueChunk) {
+    Statistics<?> valueStats = valueChunk.getStatistics();
+    if (valueStats == null || valueStats.isEmpty()) {
+      return false;
+    } else if (allNulls(valueStats, valueChunk.getValueCount())) {
+      return true;
+    }
+
+    return !minMaxUndefined(valueStats)
+        && ShreddedVariantPath.isVariantNull(ByteBuffer.wrap(valueStats.getMinBytes()))
+        && ShreddedVariantPath.isVariantNull(ByteBuffer.wrap(valueStats.getMaxBytes()));
+  }
+
   /**
    * Older versions of Parquet statistics which may have a null count but undefined min and max
    * statistics. This is similar to the current behavior when NaN values are present.
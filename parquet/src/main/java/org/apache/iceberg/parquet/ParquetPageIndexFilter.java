@@ -0,0 +1,628 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundExtract;
+import org.apache.iceberg.expressions.BoundPredicate;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.BinaryUtil;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Evaluates an expression against the Parquet page index (column index and offset index) of a row
+ * group to find the ranges of rows that may contain matching records.
+ *
+ * <p>Pages are selected using the same rules as {@link ParquetMetricsRowGroupFilter}, using the
+ * min, max and null count of each page instead of the column chunk statistics. Columns without a
+ * page index select all rows.
+ */
+public class ParquetPageIndexFilter {
+  private static final int IN_PREDICATE_LIMIT = 200;
+
+  private final Schema schema;
+  private final Expression expr;
+
+  public ParquetPageIndexFilter(Schema schema, Expression unbound) {
+    this(schema, unbound, true);
+  }
+
+  public ParquetPageIndexFilter(Schema schema, Expression unbound, boolean caseSensitive) {
+    this.schema = schema;
+    StructType struct = schema.asStruct();
+    this.expr = Binder.bind(struct, Expressions.rewriteNot(unbound), caseSensitive);
+  }
+
+  /**
+   * Calculates the rows of a row group that may match the expression.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param rowGroup metadata for a row group
+   * @param reader a reader for the file used to read the page index
+   * @return the ranges of rows within the row group that may contain matching records
+   */
+  public RowRanges rowRanges(
+      MessageType fileSchema, BlockMetaData rowGroup, ParquetFileReader reader) {
+    return new PageIndexEvalVisitor().eval(fileSchema, rowGroup, reader);
+  }
+
+  private class PageIndexEvalVisitor extends BoundExpressionVisitor<RowRanges> {
+    private ParquetFileReader reader = null;
+    private long rowCount = 0L;
+    private Map<Integer, ColumnChunkMetaData> chunks = null;
+    private Map<Integer, PrimitiveType> types = null;
+    private Map<Integer, PageIndex> pageIndexes = null;
+    private MessageType fileSchema = null;
+    private Map<ColumnPath, ColumnChunkMetaData> chunksByPath = null;
+    private Map<ColumnPath, PageIndex> variantPageIndexes = null;
+
+    private RowRanges eval(
+        MessageType parquetSchema, BlockMetaData rowGroup, ParquetFileReader fileReader) {
+      this.rowCount = rowGroup.getRowCount();
+      if (rowCount <= 0) {
+        return RowRanges.EMPTY;
+      }
+
+      this.reader = fileReader;
+      this.fileSchema = parquetSchema;
+      this.chunks = Maps.newHashMap();
+      this.types = Maps.newHashMap();
+      this.pageIndexes = Maps.newHashMap();
+      this.chunksByPath = Maps.newHashMap();
+      this.variantPageIndexes = Maps.newHashMap();
+      for (ColumnChunkMetaData col : rowGroup.getColumns()) {
+        chunksByPath.put(col.getPath(), col);
+        PrimitiveType colType = fileSchema.getType(col.getPath().toArray()).asPrimitiveType();
+        if (colType.getId() != null) {
+          int id = colType.getId().intValue();
+          chunks.put(id, col);
+          types.put(id, colType);
+        }
+      }
+
+      return ExpressionVisitors.visit(expr, this);
+    }
+
+    private RowRanges allRows() {
+      return RowRanges.createSingle(rowCount);
+    }
+
+    @Override
+    public RowRanges alwaysTrue() {
+      return allRows();
+    }
+
+    @Override
+    public RowRanges alwaysFalse() {
+      return RowRanges.EMPTY;
+    }
+
+    @Override
+    public RowRanges not(RowRanges result) {
+      // the complement of the pages that may match is not the set of pages that may not match
+      return allRows();
+    }
+
+    @Override
+    public RowRanges and(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.intersection(leftResult, rightResult);
+    }
+
+    @Override
+    public RowRanges or(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.union(leftResult, rightResult);
+    }
+
+    @Override
+    public <T> RowRanges isNull(BoundReference<T> ref) {
+      int id = ref.fieldId();
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return allRows();
+      }
+
+      return select(id, (index, page) -> index.nullCount(page) != 0);
+    }
+
+    @Override
+    public <T> RowRanges notNull(BoundReference<T> ref) {
+      int id = ref.fieldId();
+
+      // leave nested column type filters to be evaluated post scan
+      if (schema.findType(id) instanceof Type.NestedType) {
+        return allRows();
+      }
+
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      return select(id, (index, page) -> !index.isNullPage(page));
+    }
+
+    @Override
+    public <T> RowRanges isNaN(BoundReference<T> ref) {
+      int id = ref.fieldId();
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      return select(id, (index, page) -> !index.isNullPage(page));
+    }
+
+    @Override
+    public <T> RowRanges notNaN(BoundReference<T> ref) {
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges lt(BoundReference<T> ref, Literal<T> lit) {
+      return compareToLower(ref, lit, cmp -> cmp < 0);
+    }
+
+    @Override
+    public <T> RowRanges ltEq(BoundReference<T> ref, Literal<T> lit) {
+      return compareToLower(ref, lit, cmp -> cmp <= 0);
+    }
+
+    @Override
+    public <T> RowRanges gt(BoundReference<T> ref, Literal<T> lit) {
+      return compareToUpper(ref, lit, cmp -> cmp > 0);
+    }
+
+    @Override
+    public <T> RowRanges gtEq(BoundReference<T> ref, Literal<T> lit) {
+      return compareToUpper(ref, lit, cmp -> cmp >= 0);
+    }
+
+    @Override
+    public <T> RowRanges eq(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+
+      // leave nested column type filters to be evaluated post scan
+      if (schema.findType(id) instanceof Type.NestedType) {
+        return allRows();
+      }
+
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      Comparator<T> comparator = lit.comparator();
+      return select(
+          id,
+          (index, page) -> {
+            if (index.isNullPage(page)) {
+              return false;
+            }
+
+            T lower = index.min(page);
+            T upper = index.max(page);
+            return lower == null
+                || upper == null
+                || (comparator.compare(lower, lit.value()) <= 0
+                    && comparator.compare(upper, lit.value()) >= 0);
+          });
+    }
+
+    @Override
+    public <T> RowRanges notEq(BoundReference<T> ref, Literal<T> lit) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notEq(col, X) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges in(BoundReference<T> ref, Set<T> literalSet) {
+      int id = ref.fieldId();
+
+      // leave nested column type filters to be evaluated post scan
+      if (schema.findType(id) instanceof Type.NestedType) {
+        return allRows();
+      }
+
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      if (literalSet.size() > IN_PREDICATE_LIMIT) {
+        // skip evaluating the predicate if the number of values is too big
+        return allRows();
+      }
+
+      Comparator<T> comparator = ref.comparator();
+      return select(
+          id,
+          (index, page) -> {
+            if (index.isNullPage(page)) {
+              return false;
+            }
+
+            T lower = index.min(page);
+            T upper = index.max(page);
+            if (lower == null || upper == null) {
+              return true;
+            }
+
+            for (T value : literalSet) {
+              if (comparator.compare(lower, value) <= 0 && comparator.compare(upper, value) >= 0) {
+                return true;
+              }
+            }
+
+            return false;
+          });
+    }
+
+    @Override
+    public <T> RowRanges notIn(BoundReference<T> ref, Set<T> literalSet) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notIn(col, {X, ...}) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges startsWith(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      ByteBuffer prefix = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+      return select(
+          id,
+          (index, page) -> {
+            if (index.isNullPage(page)) {
+              return false;
+            }
+
+            ByteBuffer lower = index.minBytes(page);
+            // truncate lower bound so that its length in bytes is not greater than the prefix
+            int lowerLength = Math.min(prefix.remaining(), lower.remaining());
+            if (comparator.compare(BinaryUtil.truncateBinary(lower, lowerLength), prefix) > 0) {
+              return false;
+            }
+
+            ByteBuffer upper = index.maxBytes(page);
+            // truncate upper bound so that its length in bytes is not greater than the prefix
+            int upperLength = Math.min(prefix.remaining(), upper.remaining());
+            return comparator.compare(BinaryUtil.truncateBinary(upper, upperLength), prefix) >= 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges notStartsWith(BoundReference<T> ref, Literal<T> lit) {
+      int id = ref.fieldId();
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return allRows();
+      }
+
+      ByteBuffer prefix = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+      return select(
+          id,
+          (index, page) -> {
+            if (index.nullCount(page) != 0) {
+              return true;
+            }
+
+            // notStartsWith will match unless all values must start with the prefix. this happens
+            // when the lower and upper bounds both start with the prefix.
+            ByteBuffer lower = index.minBytes(page);
+            ByteBuffer upper = index.maxBytes(page);
+            if (lower.remaining() < prefix.remaining() || upper.remaining() < prefix.remaining()) {
+              return true;
+            }
+
+            ByteBuffer lowerPrefix = BinaryUtil.truncateBinary(lower, prefix.remaining());
+            ByteBuffer upperPrefix = BinaryUtil.truncateBinary(upper, prefix.remaining());
+            boolean lowerMatches = comparator.compare(lowerPrefix, prefix) == 0;
+            boolean upperMatches = comparator.compare(upperPrefix, prefix) == 0;
+            return !(lowerMatches && upperMatches);
+          });
+    }
+
+    @Override
+    public <T> RowRanges predicate(BoundPredicate<T> pred) {
+      if (pred.term() instanceof BoundExtract) {
+        return extract(pred, (BoundExtract<T>) pred.term());
+      }
+
+      return super.predicate(pred);
+    }
+
+    private <T> RowRanges extract(BoundPredicate<T> pred, BoundExtract<T> extract) {
+      ShreddedVariantPath path = ShreddedVariantPath.find(fileSchema, extract);
+      if (path == null) {
+        return allRows();
+      }
+
+      PageIndex typedIndex = variantPageIndex(path.typedValuePath());
+      if (typedIndex == PageIndex.MISSING) {
+        return allRows();
+      }
+
+      RowRanges typedRows =
+          select(
+              typedIndex,
+              (index, page) -> {
+                if (index.isNullPage(page)) {
+                  return ShreddedVariantPath.mightMatch(pred, false, null, null);
+                }
+
+                T lower = path.convert(extract, index.min(page));
+                T upper = path.convert(extract, index.max(page));
+                return ShreddedVariantPath.mightMatch(pred, true, lower, upper);
+              });
+
+      if (path.valuePath() == null || !chunksByPath.containsKey(path.valuePath())) {
+        return typedRows;
+      }
+
+      PageIndex valueIndex = variantPageIndex(path.valuePath());
+      if (valueIndex == PageIndex.MISSING) {
+        return allRows();
+      }
+
+      // values that do not match the shredded type are stored in the value column
+      RowRanges valueRows =
+          select(
+              valueIndex,
+              (index, page) ->
+                  !index.isNullPage(page)
+                      && !(ShreddedVariantPath.isVariantNull(index.minBytes(page))
+                          && ShreddedVariantPath.isVariantNull(index.maxBytes(page))));
+
+      return RowRanges.union(typedRows, valueRows);
+    }
+
+    @Override
+    public <T> RowRanges handleNonReference(Bound<T> term) {
+      return allRows();
+    }
+
+    private <T> RowRanges compareToLower(
+        BoundReference<T> ref, Literal<T> lit, IntPredicate mightMatch) {
+      int id = ref.fieldId();
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      Comparator<T> comparator = lit.comparator();
+      return select(
+          id,
+          (index, page) -> {
+            if (index.isNullPage(page)) {
+              return false;
+            }
+
+            T lower = index.min(page);
+            return lower == null || mightMatch.test(comparator.compare(lower, lit.value()));
+          });
+    }
+
+    private <T> RowRanges compareToUpper(
+        BoundReference<T> ref, Literal<T> lit, IntPredicate mightMatch) {
+      int id = ref.fieldId();
+      if (!types.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      Comparator<T> comparator = lit.comparator();
+      return select(
+          id,
+          (index, page) -> {
+            if (index.isNullPage(page)) {
+              return false;
+            }
+
+            T upper = index.max(page);
+            return upper == null || mightMatch.test(comparator.compare(upper, lit.value()));
+          });
+    }
+
+    private RowRanges select(int id, PagePredicate mightMatch) {
+      PageIndex index = pageIndexes.computeIfAbsent(id, this::readPageIndex);
+      if (index == PageIndex.MISSING) {
+        return allRows();
+      }
+
+      return select(index, mightMatch);
+    }
+
+    private RowRanges select(PageIndex index, PagePredicate mightMatch) {
+      return RowRanges.create(
+          rowCount,
+          IntStream.range(0, index.pageCount())
+              .filter(page -> mightMatch.test(index, page))
+              .iterator(),
+          index.offsetIndex);
+    }
+
+    private PageIndex readPageIndex(int id) {
+      PrimitiveType type = types.get(id);
+      return readPageIndex(
+          chunks.get(id),
+          type,
+          ParquetConversions.converterFromParquet(type, schema.findType(id)));
+    }
+
+    private PageIndex variantPageIndex(ColumnPath path) {
+      return variantPageIndexes.computeIfAbsent(
+          path,
+          columnPath -> {
+            ColumnChunkMetaData chunk = chunksByPath.get(columnPath);
+            if (chunk == null) {
+              return PageIndex.MISSING;
+            }
+
+            // variant bounds are converted from the Parquet representation by the extract term
+            PrimitiveType type = fileSchema.getType(columnPath.toArray()).asPrimitiveType();
+            return readPageIndex(chunk, type, Function.identity());
+          });
+    }
+
+    private PageIndex readPageIndex(
+        ColumnChunkMetaData chunk, PrimitiveType type, Function<Object, Object> conversion) {
+      try {
+        ColumnIndex columnIndex = reader.readColumnIndex(chunk);
+        OffsetIndex offsetIndex = reader.readOffsetIndex(chunk);
+        if (columnIndex == null
+            || offsetIndex == null
+            || columnIndex.getNullPages().size() != offsetIndex.getPageCount()) {
+          return PageIndex.MISSING;
+        }
+
+        return new PageIndex(type, columnIndex, offsetIndex, conversion);
+      } catch (IOException e) {
+        throw new RuntimeIOException(
+            e, "Failed to read page index for column: %s", chunk.getPath());
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface PagePredicate {
+    boolean test(PageIndex index, int page);
+  }
+
+  /** Page level statistics for a column chunk, combined from its column and offset indexes. */
+  private static class PageIndex {
+    private static final PageIndex MISSING = new PageIndex(null, null, null, null);
+
+    private final PrimitiveType type;
+    private final OffsetIndex offsetIndex;
+    private final List<Boolean> nullPages;
+    private final List<Long> nullCounts;
+    private final List<ByteBuffer> minValues;
+    private final List<ByteBuffer> maxValues;
+    private final Function<Object, Object> conversion;
+
+    private PageIndex(
+        PrimitiveType type,
+        ColumnIndex columnIndex,
+        OffsetIndex offsetIndex,
+        Function<Object, Object> conversion) {
+      this.type = type;
+      this.offsetIndex = offsetIndex;
+      this.nullPages = columnIndex != null ? columnIndex.getNullPages() : null;
+      this.nullCounts = columnIndex != null ? columnIndex.getNullCounts() : null;
+      this.minValues = columnIndex != null ? columnIndex.getMinValues() : null;
+      this.maxValues = columnIndex != null ? columnIndex.getMaxValues() : null;
+      this.conversion = conversion;
+    }
+
+    private int pageCount() {
+      return offsetIndex.getPageCount();
+    }
+
+    private boolean isNullPage(int page) {
+      return nullPages.get(page);
+    }
+
+    /** Returns the number of nulls in a page, or -1 if the null count is not known. */
+    private long nullCount(int page) {
+      return nullCounts != null ? nullCounts.get(page) : -1L;
+    }
+
+    private ByteBuffer minBytes(int page) {
+      return minValues.get(page).duplicate();
+    }
+
+    private ByteBuffer maxBytes(int page) {
+      return maxValues.get(page).duplicate();
+    }
+
+    private <T> T min(int page) {
+      return convert(minValues.get(page));
+    }
+
+    private <T> T max(int page) {
+      return convert(maxValues.get(page));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convert(ByteBuffer buffer) {
+      Object value = fromBytes(type, buffer);
+      return value != null ? (T) conversion.apply(value) : null;
+    }
+  }
+
+  /** Decodes a plain encoded page index bound, or returns null if the type has no order. */
+  private static Object fromBytes(PrimitiveType type, ByteBuffer buffer) {
+    ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    switch (type.getPrimitiveTypeName()) {
+      case BOOLEAN:
+        return bytes.get(bytes.position()) != 0;
+      case INT32:
+        return bytes.getInt(bytes.position());
+      case INT64:
+        return bytes.getLong(bytes.position());
+      case FLOAT:
+        return bytes.getFloat(bytes.position());
+      case DOUBLE:
+        return bytes.getDouble(bytes.position());
+      case BINARY:
+      case FIXED_LEN_BYTE_ARRAY:
+        return Binary.fromConstantByteBuffer(bytes);
+      default:
+        return null;
+    }
+  }
+}
@@ -460,7 +460,7 @@ public class ParquetValueReaders {
 
     @Override
     public void setPageSource(PageReadStore pageStore) {
-      column.setPageSource(pageStore.getPageReader(desc));
+      column.setPageSource(pageStore.getPageReader(desc), pageStore.getRowIndexes().orElse(null));
     }
 
     @Override
@@ -718,6 +718,8 @@ public class ParquetValueReaders {
     private final ParquetValueReader<T> reader;
     private final TripleIterator<?> column;
     private final List<TripleIterator<?>> children;
+    // the container replaced by the last null value, reused when the next value is not null
+    private T lastContainer = null;
 
     OptionReader(int definitionLevel, ParquetValueReader<T> reader) {
       this.definitionLevel = definitionLevel;
@@ -738,14 +740,17 @@ public class ParquetValueReaders {
 
     @Override
     public T read(T reuse) {
+      T container = reuse != null ? reuse : lastContainer;
       if (column.currentDefinitionLevel() > definitionLevel) {
-        return reader.read(reuse);
+        this.lastContainer = null;
+        return reader.read(container);
       }
 
       for (TripleIterator<?> child : children) {
         child.nextNull();
       }
 
+      this.lastContainer = container;
       return null;
     }
 
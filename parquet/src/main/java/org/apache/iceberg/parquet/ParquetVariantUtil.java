@@ -25,6 +25,7 @@ import java.nio.ByteOrder;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.apache.iceberg.expressions.PathUtil;
@@ -216,6 +217,32 @@ class ParquetVariantUtil {
     return VariantVisitor.visit(value, new ParquetSchemaProducer());
   }
 
+  /**
+   * Creates a Parquet schema to shred an object with the given fields.
+   *
+   * @param fieldTypes a map from field name to the field's shredded type, or null to shred only the
+   *     field's value
+   * @return a Parquet schema that shreds the given object fields
+   */
+  static Type toParquetObjectSchema(Map<String, Type> fieldTypes) {
+    List<GroupType> fields = Lists.newArrayList();
+    for (Map.Entry<String, Type> entry : fieldTypes.entrySet()) {
+      fields.add(ParquetSchemaProducer.field(entry.getKey(), entry.getValue()));
+    }
+
+    return ParquetSchemaProducer.objectFields(fields);
+  }
+
+  /**
+   * Creates a Parquet schema to shred an array with elements of the given shredded type.
+   *
+   * @param elementType the shredded type of the array elements
+   * @return a Parquet schema that shreds the array as a list
+   */
+  static Type toParquetListSchema(Type elementType) {
+    return ParquetSchemaProducer.list(elementType);
+  }
+
   private static class PhysicalTypeConverter implements LogicalTypeAnnotationVisitor<PhysicalType> {
     private static final PhysicalTypeConverter INSTANCE = new PhysicalTypeConverter();
 
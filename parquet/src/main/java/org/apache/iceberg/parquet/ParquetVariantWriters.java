@@ -24,7 +24,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -40,6 +42,9 @@ import org.apache.iceberg.variants.Variants;
 import org.apache.parquet.column.ColumnWriteStore;
 
 class ParquetVariantWriters {
+  // set while writers for an inferred shredding layout are created
+  private static final ThreadLocal<Boolean> WIDEN_INTEGERS = ThreadLocal.withInitial(() -> false);
+
   private ParquetVariantWriters() {}
 
   @SuppressWarnings("unchecked")
@@ -65,6 +70,46 @@ class ParquetVariantWriters {
     return new PrimitiveWriter<>(writer, Sets.immutableEnumSet(Arrays.asList(types)));
   }
 
+  /**
+   * Creates writers for a layout that was inferred from the data, which widen integers.
+   *
+   * <p>Variant encoders store integers at the smallest width that fits, so values of a field often
+   * have several integer types. Inferred layouts use the widest integer type that was sampled, so
+   * writers created by the function for integer {@code typed_value} columns also accept narrower
+   * integers and widen them instead of writing them to the {@code value} column. Writers for a
+   * layout from a {@link VariantShreddingFunction} only shred values of the exact type.
+   *
+   * @param createWriter a function that creates writers
+   * @return the result of the function
+   */
+  static <R> R withIntegerWidening(Supplier<R> createWriter) {
+    WIDEN_INTEGERS.set(true);
+    try {
+      return createWriter.get();
+    } finally {
+      WIDEN_INTEGERS.remove();
+    }
+  }
+
+  /**
+   * Returns a writer for an integer {@code typed_value}.
+   *
+   * <p>The writer accepts narrower integers only when it is created for an inferred layout, see
+   * {@link #withIntegerWidening(Supplier)}.
+   *
+   * @param writer a writer for the Parquet integer column
+   * @param type the integer type of the column
+   * @return a writer for integer variant values
+   */
+  static ParquetValueWriter<VariantValue> integers(
+      ParquetValueWriter<?> writer, PhysicalType type) {
+    if (WIDEN_INTEGERS.get()) {
+      return new IntegerWriter<>(writer, type);
+    }
+
+    return primitive(writer, type);
+  }
+
   @SuppressWarnings("unchecked")
   static ParquetValueWriter<VariantValue> shredded(
       int valueDefinitionLevel,
@@ -253,6 +298,59 @@ class ParquetVariantWriters {
     }
   }
 
+  private static class IntegerWriter<T> implements TypedWriter {
+    private static final List<PhysicalType> WIDTHS =
+        ImmutableList.of(
+            PhysicalType.INT8, PhysicalType.INT16, PhysicalType.INT32, PhysicalType.INT64);
+
+    private final PhysicalType type;
+    private final Set<PhysicalType> types;
+    private final ParquetValueWriter<T> writer;
+
+    @SuppressWarnings("unchecked")
+    private IntegerWriter(ParquetValueWriter<?> writer, PhysicalType type) {
+      int index = WIDTHS.indexOf(type);
+      Preconditions.checkArgument(index >= 0, "Invalid integer type: %s", type);
+      this.type = type;
+      this.types = Sets.immutableEnumSet(WIDTHS.subList(0, index + 1));
+      this.writer = (ParquetValueWriter<T>) writer;
+    }
+
+    @Override
+    public Set<PhysicalType> types() {
+      return types;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(int repetitionLevel, VariantValue value) {
+      Number number = (Number) value.asPrimitive().get();
+      switch (type) {
+        case INT8:
+          writer.write(repetitionLevel, (T) (Byte) number.byteValue());
+          break;
+        case INT16:
+          writer.write(repetitionLevel, (T) (Short) number.shortValue());
+          break;
+        case INT32:
+          writer.write(repetitionLevel, (T) (Integer) number.intValue());
+          break;
+        default:
+          writer.write(repetitionLevel, (T) (Long) number.longValue());
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return writer.columns();
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      writer.setColumnStore(columnStore);
+    }
+  }
+
   private static class ShreddedVariantWriter implements ParquetValueWriter<VariantValue> {
     private final int valueDefinitionLevel;
     private final ParquetValueWriter<VariantValue> valueWriter;
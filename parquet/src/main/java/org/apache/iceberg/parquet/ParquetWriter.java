@@ -53,6 +53,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final CodecFactory.BytesCompressor compressor;
   private final MessageType parquetSchema;
   private final ParquetValueWriter<T> model;
+  private final ParquetBatchValueWriter<T> batchModel;
   private final MetricsConfig metricsConfig;
   private final int columnIndexTruncateLength;
   private final ParquetFileWriter.Mode writeMode;
@@ -93,6 +94,8 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
         new ParquetCodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
     this.parquetSchema = parquetSchema;
     this.model = (ParquetValueWriter<T>) createWriterFunc.apply(schema, parquetSchema);
+    this.batchModel =
+        model instanceof ParquetBatchValueWriter ? (ParquetBatchValueWriter<T>) model : null;
     this.metricsConfig = metricsConfig;
     this.columnIndexTruncateLength =
         conf.getInt(COLUMN_INDEX_TRUNCATE_LENGTH, DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH);
@@ -134,12 +137,35 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
 
   @Override
   public void add(T value) {
+    if (batchModel != null) {
+      addBatch(value);
+      return;
+    }
+
     recordCount += 1;
     model.write(0, value);
     writeStore.endRecord();
     checkSize();
   }
 
+  private void addBatch(T batch) {
+    int numRows = batchModel.numRows(batch);
+    int start = 0;
+    while (start < numRows) {
+      // write rows up to the next size check so row groups are flushed as they are for single rows
+      long rowsToCheck = Math.max(nextCheckRecordCount - recordCount, 1L);
+      int end = (int) Math.min(numRows, start + rowsToCheck);
+      batchModel.writeRows(batch, start, end);
+      for (int row = start; row < end; row += 1) {
+        writeStore.endRecord();
+      }
+
+      recordCount += end - start;
+      checkSize();
+      start = end;
+    }
+  }
+
   @Override
   public Metrics metrics() {
     Preconditions.checkState(closed, "Cannot return metrics for unclosed writer");
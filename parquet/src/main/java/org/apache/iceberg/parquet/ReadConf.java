@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.expressions.Expression;
@@ -36,6 +37,7 @@ import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.schema.MessageType;
 
 /**
@@ -52,6 +54,7 @@ class ReadConf<T> {
   private final VectorizedReader<T> vectorizedModel;
   private final List<BlockMetaData> rowGroups;
   private final boolean[] shouldSkip;
+  private final RowRanges[] rowRanges;
   private final long totalValues;
   private final boolean reuseContainers;
   private final Integer batchSize;
@@ -88,8 +91,17 @@ class ReadConf<T> {
       this.projection = ParquetSchemaUtil.pruneColumnsFallback(fileSchema, expectedSchema);
     }
 
+    if (readerFunc != null) {
+      this.model = (ParquetValueReader<T>) readerFunc.apply(typeWithIds);
+      this.vectorizedModel = null;
+    } else {
+      this.model = null;
+      this.vectorizedModel = (VectorizedReader<T>) batchedReaderFunc.apply(typeWithIds);
+    }
+
     this.rowGroups = reader.getRowGroups();
     this.shouldSkip = new boolean[rowGroups.size()];
+    this.rowRanges = new RowRanges[rowGroups.size()];
 
     ParquetMetricsRowGroupFilter statsFilter = null;
     ParquetDictionaryRowGroupFilter dictFilter = null;
@@ -100,6 +112,12 @@ class ReadConf<T> {
       bloomFilter = new ParquetBloomRowGroupFilter(expectedSchema, filter, caseSensitive);
     }
 
+    ParquetPageIndexFilter pageFilter = null;
+    Set<ColumnPath> projectedColumns = projectedColumns();
+    if (filter != null && usePageIndex(options, expectedSchema)) {
+      pageFilter = new ParquetPageIndexFilter(expectedSchema, filter, caseSensitive);
+    }
+
     long computedTotalValues = 0L;
     for (int i = 0; i < shouldSkip.length; i += 1) {
       BlockMetaData rowGroup = rowGroups.get(i);
@@ -110,22 +128,26 @@ class ReadConf<T> {
                       typeWithIds, rowGroup, reader.getDictionaryReader(rowGroup))
                   && bloomFilter.shouldRead(
                       typeWithIds, rowGroup, reader.getBloomFilterDataReader(rowGroup)));
+      long rowCount = rowGroup.getRowCount();
+      if (shouldRead && pageFilter != null && hasOffsetIndexes(rowGroup, projectedColumns)) {
+        RowRanges ranges = pageFilter.rowRanges(typeWithIds, rowGroup, reader);
+        shouldRead = ranges.rowCount() > 0;
+        if (ranges.rowCount() < rowCount) {
+          // only pages that may contain matching rows are read from this row group
+          this.rowRanges[i] = ranges;
+          rowCount = ranges.rowCount();
+        }
+      }
+
       this.shouldSkip[i] = !shouldRead;
       if (shouldRead) {
-        computedTotalValues += rowGroup.getRowCount();
+        computedTotalValues += rowCount;
       }
     }
 
     this.totalValues = computedTotalValues;
-    if (readerFunc != null) {
-      this.model = (ParquetValueReader<T>) readerFunc.apply(typeWithIds);
-      this.vectorizedModel = null;
-      this.columnChunkMetaDataForRowGroups = null;
-    } else {
-      this.model = null;
-      this.vectorizedModel = (VectorizedReader<T>) batchedReaderFunc.apply(typeWithIds);
-      this.columnChunkMetaDataForRowGroups = getColumnChunkMetadataForRowGroups();
-    }
+    this.columnChunkMetaDataForRowGroups =
+        vectorizedModel != null ? getColumnChunkMetadataForRowGroups() : null;
 
     this.reuseContainers = reuseContainers;
     this.batchSize = bSize;
@@ -139,6 +161,7 @@ class ReadConf<T> {
     this.model = toCopy.model;
     this.rowGroups = toCopy.rowGroups;
     this.shouldSkip = toCopy.shouldSkip;
+    this.rowRanges = toCopy.rowRanges;
     this.totalValues = toCopy.totalValues;
     this.reuseContainers = toCopy.reuseContainers;
     this.batchSize = toCopy.batchSize;
@@ -169,6 +192,16 @@ class ReadConf<T> {
     return shouldSkip;
   }
 
+  /**
+   * Returns the rows to read for each row group, or null for row groups that are read in full.
+   *
+   * <p>Row groups with ranges must be read using {@link
+   * ParquetFileReader#readFilteredRowGroup(int, RowRanges)}.
+   */
+  RowRanges[] rowRanges() {
+    return rowRanges;
+  }
+
   long totalValues() {
     return totalValues;
   }
@@ -191,17 +224,38 @@ class ReadConf<T> {
 
   private static ParquetFileReader newReader(InputFile file, ParquetReadOptions options) {
     try {
-      return ParquetFileReader.open(ParquetIO.file(file), options);
+      return ParquetFooterCache.openReader(file, options);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to open Parquet file: %s", file.location());
     }
   }
 
+  private boolean usePageIndex(ParquetReadOptions readOptions, Schema expectedSchema) {
+    // row positions are produced by counting rows, so they cannot be used with skipped pages
+    boolean readsPositions =
+        expectedSchema.findField(MetadataColumns.ROW_POSITION.fieldId()) != null
+            || expectedSchema.findField(MetadataColumns.ROW_ID.fieldId()) != null;
+    boolean modelSupportsPageFiltering =
+        vectorizedModel == null || vectorizedModel.supportsPageFiltering();
+    return readOptions.useColumnIndexFilter() && !readsPositions && modelSupportsPageFiltering;
+  }
+
+  private static boolean hasOffsetIndexes(
+      BlockMetaData rowGroup, Set<ColumnPath> projectedColumns) {
+    // filtered row groups locate the pages of every projected column using the offset index
+    return rowGroup.getColumns().stream()
+        .filter(chunk -> projectedColumns.contains(chunk.getPath()))
+        .allMatch(chunk -> chunk.getOffsetIndexReference() != null);
+  }
+
+  private Set<ColumnPath> projectedColumns() {
+    return projection.getColumns().stream()
+        .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath()))
+        .collect(Collectors.toSet());
+  }
+
   private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
-    Set<ColumnPath> projectedColumns =
-        projection.getColumns().stream()
-            .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath()))
-            .collect(Collectors.toSet());
+    Set<ColumnPath> projectedColumns = projectedColumns();
     ImmutableList.Builder<Map<ColumnPath, ColumnChunkMetaData>> listBuilder =
         ImmutableList.builder();
     for (int i = 0; i < rowGroups.size(); i++) {
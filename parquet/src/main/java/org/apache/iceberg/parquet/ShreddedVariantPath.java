@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.parquet.ParquetVariantVisitor.TYPED_VALUE;
+import static org.apache.iceberg.parquet.ParquetVariantVisitor.VALUE;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import org.apache.iceberg.expressions.BoundExtract;
+import org.apache.iceberg.expressions.BoundPredicate;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.NaNUtil;
+import org.apache.iceberg.variants.PhysicalType;
+import org.apache.iceberg.variants.Variants;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * The Parquet columns that store a variant field path that is shredded to a primitive type.
+ *
+ * <p>Values of the path that match the shredded type are stored in the {@code typed_value} column
+ * and have column statistics. Values of any other type are stored in the {@code value} column of
+ * the same field, so the statistics of the typed column can only be used where the value column is
+ * null or contains only variant nulls.
+ */
+class ShreddedVariantPath {
+  private static final int IN_PREDICATE_LIMIT = 200;
+
+  private final ColumnPath typedValuePath;
+  private final ColumnPath valuePath;
+  private final PhysicalType variantType;
+  private final int scale;
+
+  private ShreddedVariantPath(
+      ColumnPath typedValuePath, ColumnPath valuePath, PhysicalType variantType, int scale) {
+    this.typedValuePath = typedValuePath;
+    this.valuePath = valuePath;
+    this.variantType = variantType;
+    this.scale = scale;
+  }
+
+  /**
+   * Finds the columns that store the path of an extract term.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param extract a bound extract term
+   * @return the shredded columns for the path, or null if the path is not shredded to a primitive
+   */
+  static ShreddedVariantPath find(MessageType fileSchema, BoundExtract<?> extract) {
+    List<String> columnPath = Lists.newArrayList();
+    GroupType field = findVariant(fileSchema, extract.ref().fieldId(), columnPath);
+    if (field == null) {
+      return null;
+    }
+
+    for (String name : extract.pathFieldNames()) {
+      GroupType object = shreddedObject(field);
+      if (object == null || !object.containsField(name)) {
+        return null;
+      }
+
+      field = object.getType(name).asGroupType();
+      columnPath.add(TYPED_VALUE);
+      columnPath.add(name);
+    }
+
+    if (!field.containsField(TYPED_VALUE) || !field.getType(TYPED_VALUE).isPrimitive()) {
+      return null;
+    }
+
+    PrimitiveType typedValue = field.getType(TYPED_VALUE).asPrimitiveType();
+    PhysicalType variantType = ParquetVariantUtil.convert(typedValue);
+    if (variantType == null || variantType == PhysicalType.BOOLEAN_TRUE) {
+      // booleans are stored as two physical types, so their bounds are not converted
+      return null;
+    }
+
+    ColumnPath typedValuePath = columnPath(columnPath, TYPED_VALUE);
+    ColumnPath valuePath = field.containsField(VALUE) ? columnPath(columnPath, VALUE) : null;
+    return new ShreddedVariantPath(
+        typedValuePath, valuePath, variantType, ParquetVariantUtil.scale(typedValue));
+  }
+
+  private static GroupType findVariant(GroupType group, int fieldId, List<String> path) {
+    for (Type field : group.getFields()) {
+      if (field.isPrimitive() || field.isRepetition(Type.Repetition.REPEATED)) {
+        continue;
+      }
+
+      path.add(field.getName());
+      if (field.getId() != null && field.getId().intValue() == fieldId) {
+        return field.asGroupType();
+      } else if (field.getLogicalTypeAnnotation() == null) {
+        // only structs are searched, variants in lists and maps cannot be referenced
+        GroupType variant = findVariant(field.asGroupType(), fieldId, path);
+        if (variant != null) {
+          return variant;
+        }
+      }
+
+      path.remove(path.size() - 1);
+    }
+
+    return null;
+  }
+
+  private static GroupType shreddedObject(GroupType field) {
+    if (!field.containsField(TYPED_VALUE)) {
+      return null;
+    }
+
+    Type typedValue = field.getType(TYPED_VALUE);
+    if (typedValue.isPrimitive() || typedValue.getLogicalTypeAnnotation() != null) {
+      // the path continues into a primitive or a list
+      return null;
+    }
+
+    return typedValue.asGroupType();
+  }
+
+  private static ColumnPath columnPath(List<String> fieldPath, String column) {
+    String[] path = new String[fieldPath.size() + 1];
+    fieldPath.toArray(path);
+    path[fieldPath.size()] = column;
+    return ColumnPath.get(path);
+  }
+
+  ColumnPath typedValuePath() {
+    return typedValuePath;
+  }
+
+  /** Returns the path of the column that stores values that were not shredded, or null. */
+  ColumnPath valuePath() {
+    return valuePath;
+  }
+
+  /**
+   * Converts a bound of the typed column to the type of an extract term.
+   *
+   * @param extract a bound extract term
+   * @param parquetValue a min or max value of the typed column from Parquet statistics
+   * @return the bound as the extracted type, or null if it cannot be used
+   */
+  <T> T convert(BoundExtract<T> extract, Object parquetValue) {
+    if (parquetValue == null) {
+      return null;
+    }
+
+    Object value = ParquetVariantUtil.convertValue(variantType, scale, parquetValue);
+    if (NaNUtil.isNaN(value)) {
+      return null;
+    }
+
+    return extract.convert(Variants.of(variantType, value));
+  }
+
+  /**
+   * Returns true if a min or max bound of a value column is a serialized variant null.
+   *
+   * <p>A variant null is encoded as a single header byte, so when both bounds are variant nulls all
+   * of the non-null values in the column are variant nulls.
+   */
+  static boolean isVariantNull(ByteBuffer bound) {
+    return bound != null && bound.remaining() == 1 && Variants.isNull(bound);
+  }
+
+  /**
+   * Tests whether rows with values of a shredded path may match a predicate.
+   *
+   * @param pred a predicate on an extract term
+   * @param hasValues whether the rows contain any non-null value for the path
+   * @param lower the lower bound of the values, or null if it is not known
+   * @param upper the upper bound of the values, or null if it is not known
+   * @return false if the rows cannot match the predicate, true otherwise
+   */
+  static <T> boolean mightMatch(BoundPredicate<T> pred, boolean hasValues, T lower, T upper) {
+    switch (pred.op()) {
+      case NOT_NULL:
+        return hasValues;
+      case IS_NULL:
+      case IS_NAN:
+      case NOT_NAN:
+      case NOT_EQ:
+      case NOT_IN:
+      case NOT_STARTS_WITH:
+        // a null variant or a missing field produce null, so these may match without values
+        return true;
+      default:
+    }
+
+    if (!hasValues) {
+      return false;
+    } else if (lower == null || upper == null) {
+      return true;
+    }
+
+    if (pred.isLiteralPredicate()) {
+      Literal<T> lit = pred.asLiteralPredicate().literal();
+      Comparator<T> comparator = lit.comparator();
+      switch (pred.op()) {
+        case LT:
+          return comparator.compare(lower, lit.value()) < 0;
+        case LT_EQ:
+          return comparator.compare(lower, lit.value()) <= 0;
+        case GT:
+          return comparator.compare(upper, lit.value()) > 0;
+        case GT_EQ:
+          return comparator.compare(upper, lit.value()) >= 0;
+        case EQ:
+          return comparator.compare(lower, lit.value()) <= 0
+              && comparator.compare(upper, lit.value()) >= 0;
+        default:
+          return true;
+      }
+    } else if (pred.isSetPredicate() && pred.op() == Expression.Operation.IN) {
+      Set<T> literals = pred.asSetPredicate().literalSet();
+      if (literals.size() > IN_PREDICATE_LIMIT) {
+        // skip evaluating the predicate if the number of values is too big
+        return true;
+      }
+
+      Comparator<T> comparator = pred.term().comparator();
+      return literals.stream()
+          .anyMatch(v -> comparator.compare(lower, v) <= 0 && comparator.compare(upper, v) >= 0);
+    }
+
+    return true;
+  }
+}
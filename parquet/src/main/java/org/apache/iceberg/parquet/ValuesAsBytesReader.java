@@ -55,6 +55,15 @@ public class ValuesAsBytesReader extends ValuesReader {
     }
   }
 
+  /** Skips the next {@code length} bytes without slicing or copying them. */
+  public void skipBytes(long length) {
+    try {
+      valuesInputStream.skipFully(length);
+    } catch (IOException e) {
+      throw new ParquetDecodingException("Failed to skip " + length + " bytes", e);
+    }
+  }
+
   @Override
   public final int readInteger() {
     return getBuffer(4).getInt();
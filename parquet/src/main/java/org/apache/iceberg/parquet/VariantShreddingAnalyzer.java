@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.variants.PhysicalType;
+import org.apache.iceberg.variants.VariantArray;
+import org.apache.iceberg.variants.VariantObject;
+import org.apache.iceberg.variants.VariantValue;
+import org.apache.parquet.schema.Type;
+
+/**
+ * Infers a shredded {@code typed_value} type for a variant column from a sample of its values.
+ *
+ * <p>Object fields are shredded when they are present in at least 10% of the sampled objects, most
+ * frequent first, until the maximum number of shredded fields is reached. A value is shredded as a
+ * type only when that type accounts for at least half of its non-null occurrences. Values of any
+ * other type are still written to the binary {@code value} column.
+ *
+ * <p>Integers of different widths are counted as one type and shredded using the widest width in
+ * the sample, because encoders store each integer at the smallest width that fits it.
+ */
+class VariantShreddingAnalyzer {
+  private static final double MIN_FIELD_FREQUENCY = 0.1;
+  private static final double MIN_TYPE_FREQUENCY = 0.5;
+
+  private final int maxFields;
+  private final ValueStats root = new ValueStats();
+  private int remainingFields;
+
+  VariantShreddingAnalyzer(int maxFields) {
+    Preconditions.checkArgument(maxFields >= 0, "Invalid max shredded fields: %s", maxFields);
+    this.maxFields = maxFields;
+  }
+
+  void add(VariantValue value) {
+    root.add(value);
+  }
+
+  /**
+   * Returns the inferred shredded type for the sampled values.
+   *
+   * @return a Parquet {@code typed_value} type, or null if the values should not be shredded
+   */
+  Type shreddedType() {
+    this.remainingFields = maxFields;
+    return typedValue(root);
+  }
+
+  private Type typedValue(ValueStats stats) {
+    if (stats.count == 0) {
+      return null;
+    }
+
+    PhysicalType primitive = null;
+    long primitiveCount = 0;
+    for (Map.Entry<PhysicalType, Long> entry : stats.primitiveCounts.entrySet()) {
+      if (isShreddable(entry.getKey()) && entry.getValue() > primitiveCount) {
+        primitive = entry.getKey();
+        primitiveCount = entry.getValue();
+      }
+    }
+
+    long dominantCount = Math.max(Math.max(stats.objectCount, stats.arrayCount), primitiveCount);
+    if (dominantCount < MIN_TYPE_FREQUENCY * stats.count) {
+      return null;
+    } else if (dominantCount == stats.objectCount) {
+      return objectType(stats);
+    } else if (dominantCount == stats.arrayCount) {
+      return stats.elements != null ? listType(stats.elements) : null;
+    } else {
+      return ParquetVariantUtil.toParquetSchema(stats.primitiveExamples.get(primitive));
+    }
+  }
+
+  private Type objectType(ValueStats stats) {
+    double minPresentCount = MIN_FIELD_FREQUENCY * stats.objectCount;
+    List<String> candidates =
+        stats.fields.entrySet().stream()
+            .filter(entry -> entry.getValue().presentCount >= minPresentCount)
+            .sorted(
+                Comparator.comparingLong(
+                        (Map.Entry<String, ValueStats> entry) -> entry.getValue().presentCount)
+                    .reversed()
+                    .thenComparing(Map.Entry::getKey))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+
+    // claim the fields of this object before nested fields so that frequent fields at the top are
+    // not crowded out by deeply nested ones
+    List<String> selected = candidates.subList(0, Math.min(candidates.size(), remainingFields));
+    this.remainingFields -= selected.size();
+    if (selected.isEmpty()) {
+      return null;
+    }
+
+    // variant objects store fields sorted by name, keep the same order for the shredded fields
+    Map<String, Type> fieldTypes = Maps.newTreeMap();
+    for (String name : selected) {
+      fieldTypes.put(name, typedValue(stats.fields.get(name)));
+    }
+
+    return ParquetVariantUtil.toParquetObjectSchema(fieldTypes);
+  }
+
+  private Type listType(ValueStats elements) {
+    Type elementType = typedValue(elements);
+    return elementType != null ? ParquetVariantUtil.toParquetListSchema(elementType) : null;
+  }
+
+  private static boolean isShreddable(PhysicalType type) {
+    switch (type) {
+      case NULL:
+      case DECIMAL4:
+      case DECIMAL8:
+      case DECIMAL16:
+        // shredded decimals require every value to have the same scale, which a sample can't show
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  private static class ValueStats {
+    private final Map<PhysicalType, Long> primitiveCounts = Maps.newEnumMap(PhysicalType.class);
+    private final Map<PhysicalType, VariantValue> primitiveExamples =
+        Maps.newEnumMap(PhysicalType.class);
+    private final Map<String, ValueStats> fields = Maps.newHashMap();
+    private ValueStats elements = null;
+    private long presentCount = 0L;
+    private long count = 0L;
+    private long objectCount = 0L;
+    private long arrayCount = 0L;
+
+    private void add(VariantValue value) {
+      this.presentCount += 1;
+      if (value == null || value.type() == PhysicalType.NULL) {
+        return;
+      }
+
+      this.count += 1;
+      switch (value.type()) {
+        case OBJECT:
+          this.objectCount += 1;
+          VariantObject object = value.asObject();
+          for (String name : object.fieldNames()) {
+            fields.computeIfAbsent(name, ignored -> new ValueStats()).add(object.get(name));
+          }
+
+          break;
+        case ARRAY:
+          this.arrayCount += 1;
+          VariantArray array = value.asArray();
+          if (elements == null) {
+            this.elements = new ValueStats();
+          }
+
+          for (int index = 0; index < array.numElements(); index += 1) {
+            elements.add(array.get(index));
+          }
+
+          break;
+        default:
+          PhysicalType type = countedType(value.type());
+          primitiveCounts.merge(type, 1L, Long::sum);
+          VariantValue example = primitiveExamples.get(type);
+          if (example == null || integerWidth(value.type()) > integerWidth(example.type())) {
+            primitiveExamples.put(type, value);
+          }
+      }
+    }
+
+    private static PhysicalType countedType(PhysicalType type) {
+      switch (type) {
+        case BOOLEAN_FALSE:
+          // true and false are separate physical types but are shredded as one boolean column
+          return PhysicalType.BOOLEAN_TRUE;
+        case INT8:
+        case INT16:
+        case INT32:
+          // integer widths are shredded as the widest type, see integerWidth
+          return PhysicalType.INT64;
+        default:
+          return type;
+      }
+    }
+
+    private static int integerWidth(PhysicalType type) {
+      switch (type) {
+        case INT8:
+          return 1;
+        case INT16:
+          return 2;
+        case INT32:
+          return 4;
+        case INT64:
+          return 8;
+        default:
+          return 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.iceberg.Accessor;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.variants.Variant;
+import org.apache.parquet.schema.Type;
+
+/**
+ * A {@link FileAppender} that infers the shredded layout of variant columns before writing.
+ *
+ * <p>The values of each variant column in the first rows of a file are passed to a {@link
+ * VariantShreddingAnalyzer} as the rows are added. The Parquet schema is fixed when the writer is
+ * created, so copies of the rows are buffered until the writer is created with the inferred layout
+ * once the buffer is full or the appender is closed.
+ *
+ * <p>Callers may reuse row objects because buffered rows are copied with the copy function.
+ * Variant values are only sampled from rows that are {@link StructLike} and from variant fields
+ * that are not nested in a list or map; other rows are written without shredding.
+ */
+class VariantShreddingWriter<T> implements FileAppender<T> {
+  private final Map<Integer, Accessor<StructLike>> variantAccessors;
+  private final int bufferRows;
+  private final Map<Integer, VariantShreddingAnalyzer> analyzers;
+  private final Function<T, T> copyFunc;
+  private final Function<VariantShreddingFunction, FileAppender<T>> createWriterFunc;
+  private List<T> buffer;
+  private FileAppender<T> writer = null;
+
+  VariantShreddingWriter(
+      Schema schema,
+      int bufferRows,
+      int maxFields,
+      Function<T, T> copyFunc,
+      Function<VariantShreddingFunction, FileAppender<T>> createWriterFunc) {
+    Preconditions.checkArgument(
+        bufferRows > 0, "Invalid variant shredding buffer rows: %s", bufferRows);
+    Preconditions.checkArgument(copyFunc != null, "Invalid copy function: null");
+    this.variantAccessors = variantAccessors(schema);
+    this.bufferRows = bufferRows;
+    this.analyzers = Maps.newHashMap();
+    for (Integer fieldId : variantAccessors.keySet()) {
+      analyzers.put(fieldId, new VariantShreddingAnalyzer(maxFields));
+    }
+
+    this.copyFunc = copyFunc;
+    this.createWriterFunc = createWriterFunc;
+    this.buffer = Lists.newArrayList();
+  }
+
+  static boolean hasVariants(Schema schema) {
+    return !variantAccessors(schema).isEmpty();
+  }
+
+  private static Map<Integer, Accessor<StructLike>> variantAccessors(Schema schema) {
+    Map<Integer, Accessor<StructLike>> accessors = Maps.newHashMap();
+    for (Types.NestedField field : TypeUtil.indexById(schema.asStruct()).values()) {
+      Accessor<StructLike> accessor = schema.accessorForField(field.fieldId());
+      if (field.type().isVariantType() && accessor != null) {
+        accessors.put(field.fieldId(), accessor);
+      }
+    }
+
+    return accessors;
+  }
+
+  @Override
+  public void add(T row) {
+    if (writer != null) {
+      writer.add(row);
+      return;
+    }
+
+    if (row instanceof StructLike) {
+      // sample the values before the row is copied so that the caller's row can be reused
+      for (Map.Entry<Integer, Accessor<StructLike>> entry : variantAccessors.entrySet()) {
+        Variant variant = (Variant) entry.getValue().get((StructLike) row);
+        if (variant != null) {
+          analyzers.get(entry.getKey()).add(variant.value());
+        }
+      }
+
+      buffer.add(copyFunc.apply(row));
+      if (buffer.size() >= bufferRows) {
+        startWriter();
+      }
+    } else {
+      startWriter();
+      writer.add(row);
+    }
+  }
+
+  private void startWriter() {
+    Map<Integer, Type> shreddedTypes = Maps.newHashMap();
+    for (Map.Entry<Integer, VariantShreddingAnalyzer> entry : analyzers.entrySet()) {
+      Type shreddedType = entry.getValue().shreddedType();
+      if (shreddedType != null) {
+        shreddedTypes.put(entry.getKey(), shreddedType);
+      }
+    }
+
+    this.writer = createWriterFunc.apply((fieldId, name) -> shreddedTypes.get(fieldId));
+    for (T row : buffer) {
+      writer.add(row);
+    }
+
+    this.buffer = null;
+  }
+
+  @Override
+  public Metrics metrics() {
+    Preconditions.checkState(writer != null, "Cannot return metrics for unclosed writer");
+    return writer.metrics();
+  }
+
+  /**
+   * Returns the approximate length of the output file produced by this writer.
+   *
+   * <p>Rows that are buffered to infer the shredded layout are not included.
+   */
+  @Override
+  public long length() {
+    return writer != null ? writer.length() : 0L;
+  }
+
+  @Override
+  public List<Long> splitOffsets() {
+    return writer != null ? writer.splitOffsets() : null;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (writer == null) {
+      startWriter();
+    }
+
+    writer.close();
+  }
+}
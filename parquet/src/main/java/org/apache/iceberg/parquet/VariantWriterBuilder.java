@@ -112,10 +112,9 @@ public class VariantWriterBuilder extends ParquetVariantVisitor<ParquetValueWrit
               PhysicalType.BOOLEAN_TRUE,
               PhysicalType.BOOLEAN_FALSE);
         case INT32:
-          return ParquetVariantWriters.primitive(
-              ParquetValueWriters.ints(desc), PhysicalType.INT32);
+          return ParquetVariantWriters.integers(ParquetValueWriters.ints(desc), PhysicalType.INT32);
         case INT64:
-          return ParquetVariantWriters.primitive(
+          return ParquetVariantWriters.integers(
               ParquetValueWriters.longs(desc), PhysicalType.INT64);
         case FLOAT:
           // use an unboxed writer to skip metrics collection that requires an ID
@@ -256,20 +255,20 @@ public class VariantWriterBuilder extends ParquetVariantVisitor<ParquetValueWrit
       switch (logical.getBitWidth()) {
         case 8:
           writer =
-              ParquetVariantWriters.primitive(
+              ParquetVariantWriters.integers(
                   ParquetValueWriters.tinyints(desc), PhysicalType.INT8);
           return Optional.of(writer);
         case 16:
           writer =
-              ParquetVariantWriters.primitive(ParquetValueWriters.shorts(desc), PhysicalType.INT16);
+              ParquetVariantWriters.integers(ParquetValueWriters.shorts(desc), PhysicalType.INT16);
           return Optional.of(writer);
         case 32:
           writer =
-              ParquetVariantWriters.primitive(ParquetValueWriters.ints(desc), PhysicalType.INT32);
+              ParquetVariantWriters.integers(ParquetValueWriters.ints(desc), PhysicalType.INT32);
           return Optional.of(writer);
         case 64:
           writer =
-              ParquetVariantWriters.primitive(ParquetValueWriters.longs(desc), PhysicalType.INT64);
+              ParquetVariantWriters.integers(ParquetValueWriters.longs(desc), PhysicalType.INT64);
           return Optional.of(writer);
       }
 
@@ -37,6 +37,7 @@ import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.schema.MessageType;
 
 public class VectorizedParquetReader<T> extends CloseableGroup implements CloseableIterable<T> {
@@ -104,6 +105,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
   private static class FileIterator<T> implements CloseableIterator<T> {
     private final ParquetFileReader reader;
     private final boolean[] shouldSkip;
+    private final RowRanges[] rowRanges;
     private final VectorizedReader<T> model;
     private final long totalValues;
     private final int batchSize;
@@ -117,6 +119,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     FileIterator(ReadConf conf) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
+      this.rowRanges = conf.rowRanges();
       this.totalValues = conf.totalValues();
       this.reuseContainers = conf.reuseContainers();
       this.model = conf.vectorizedModel();
@@ -158,7 +161,14 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       }
       PageReadStore pages;
       try {
-        pages = reader.readNextRowGroup();
+        RowRanges ranges = rowRanges[nextRowGroup];
+        if (ranges != null) {
+          // read only the pages that may contain matching rows and move past the row group
+          pages = reader.readFilteredRowGroup(nextRowGroup, ranges);
+          reader.skipNextRowGroup();
+        } else {
+          pages = reader.readNextRowGroup();
+        }
       } catch (IOException e) {
         throw new RuntimeIOException(e);
       }
@@ -49,6 +49,18 @@ public interface VectorizedReader<T> {
             + " doesn't implement setRowGroupInfo(PageReadStore, Map<ColumnPath, ColumnChunkMetaData>)");
   }
 
+  /**
+   * Returns whether this reader can read row groups that were filtered using the page index.
+   *
+   * <p>Pages of a filtered row group may start at different rows for each column, so readers must
+   * use {@link PageReadStore#getRowIndexes()} to skip the rows that were not selected.
+   *
+   * @return true if this reader supports row groups filtered by the page index, false otherwise
+   */
+  default boolean supportsPageFiltering() {
+    return false;
+  }
+
   /** Release any resources allocated. */
   void close();
 }
@@ -28,6 +28,7 @@ import static org.apache.iceberg.parquet.ParquetWritingTestUtils.createTempFile;
 import static org.apache.iceberg.parquet.ParquetWritingTestUtils.write;
 import static org.apache.iceberg.relocated.com.google.common.collect.Iterables.getOnlyElement;
 import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
@@ -36,16 +37,34 @@ import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.generic.GenericRecordBuilder;
 import org.apache.iceberg.Files;
+import org.apache.iceberg.InternalTestHelpers;
 import org.apache.iceberg.Metrics;
 import org.apache.iceberg.MetricsConfig;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RandomInternalData;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.InternalReader;
+import org.apache.iceberg.data.parquet.InternalWriter;
+import org.apache.iceberg.inmemory.InMemoryOutputFile;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriter;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.VectoredReadUtil;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -53,6 +72,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.types.Types.IntegerType;
 import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.hadoop.ParquetFileReader;
@@ -62,6 +82,8 @@ import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.schema.MessageType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class TestParquet {
 
@@ -265,6 +287,50 @@ public class TestParquet {
     }
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void testVectoredReads(boolean vectoredIo) throws IOException {
+    Schema schema =
+        new Schema(
+            required(1, "id", Types.LongType.get()),
+            optional(2, "data", Types.StringType.get()),
+            optional(3, "value", Types.DoubleType.get()));
+    List<Record> expected = RandomInternalData.generate(schema, 1000, 31L);
+
+    OutputFile outputFile = new InMemoryOutputFile();
+    try (DataWriter<StructLike> writer =
+        Parquet.writeData(outputFile)
+            .schema(schema)
+            .createWriterFunc(InternalWriter::createWriter)
+            .set(PARQUET_ROW_GROUP_SIZE_BYTES, "4096")
+            .withSpec(PartitionSpec.unpartitioned())
+            .build()) {
+      expected.forEach(writer::write);
+    }
+
+    RangeReadableInputFile inputFile = new RangeReadableInputFile(outputFile.toInputFile());
+    List<Record> rows;
+    try (CloseableIterable<Record> reader =
+        Parquet.read(inputFile)
+            .project(schema)
+            .set("parquet.hadoop.vectored.io.enabled", String.valueOf(vectoredIo))
+            .createReaderFunc(fileSchema -> InternalReader.create(schema, fileSchema))
+            .build()) {
+      rows = Lists.newArrayList(reader);
+    }
+
+    assertThat(rows).hasSameSizeAs(expected);
+    for (int i = 0; i < expected.size(); i += 1) {
+      InternalTestHelpers.assertEquals(schema.asStruct(), expected.get(i), rows.get(i));
+    }
+
+    if (vectoredIo) {
+      assertThat(inputFile.vectoredReads()).as("Should use vectored reads").isGreaterThan(0);
+    } else {
+      assertThat(inputFile.vectoredReads()).as("Should not use vectored reads").isEqualTo(0);
+    }
+  }
+
   private Pair<File, Long> generateFile(
       Function<MessageType, ParquetValueWriter<?>> createWriterFunc,
       int desiredRecordCount,
@@ -305,4 +371,97 @@ public class TestParquet {
             records.toArray(new GenericData.Record[] {}));
     return Pair.of(file, size);
   }
+
+  /** An input file with range readable streams that counts vectored reads. */
+  private static class RangeReadableInputFile implements InputFile {
+    private final InputFile delegate;
+    private final AtomicInteger vectoredReads = new AtomicInteger(0);
+
+    private RangeReadableInputFile(InputFile delegate) {
+      this.delegate = delegate;
+    }
+
+    int vectoredReads() {
+      return vectoredReads.get();
+    }
+
+    @Override
+    public long getLength() {
+      return delegate.getLength();
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new RangeReadableStream();
+    }
+
+    @Override
+    public String location() {
+      return delegate.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return delegate.exists();
+    }
+
+    private class RangeReadableStream extends SeekableInputStream implements RangeReadable {
+      private final SeekableInputStream stream = delegate.newStream();
+
+      @Override
+      public long getPos() throws IOException {
+        return stream.getPos();
+      }
+
+      @Override
+      public void seek(long newPos) throws IOException {
+        stream.seek(newPos);
+      }
+
+      @Override
+      public int read() throws IOException {
+        return stream.read();
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return stream.read(b, off, len);
+      }
+
+      @Override
+      public void readFully(long position, byte[] buffer, int offset, int length)
+          throws IOException {
+        // ranges are read concurrently, so each read uses a separate stream
+        try (SeekableInputStream in = delegate.newStream()) {
+          in.seek(position);
+          IOUtil.readFully(in, buffer, offset, length);
+        }
+      }
+
+      @Override
+      public int readTail(byte[] buffer, int offset, int length) throws IOException {
+        try (SeekableInputStream in = delegate.newStream()) {
+          in.seek(getLength() - length);
+          return IOUtil.readRemaining(in, buffer, offset, length);
+        }
+      }
+
+      @Override
+      public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+        vectoredReads.incrementAndGet();
+        VectoredReadUtil.readVectored(
+            this,
+            ranges,
+            allocate,
+            ThreadPools.getReadWorkerPool(),
+            VectoredReadUtil.MERGE_GAP_DEFAULT,
+            VectoredReadUtil.MAX_MERGED_SIZE_DEFAULT);
+      }
+
+      @Override
+      public void close() throws IOException {
+        stream.close();
+      }
+    }
+  }
 }
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT;
+import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT;
+import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
+import static org.apache.iceberg.parquet.ParquetWritingTestUtils.writeRecords;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.avro.generic.GenericData;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestParquetFooterCache {
+  private static final Schema SCHEMA =
+      new Schema(
+          optional(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+  private static final int NUM_RECORDS = 10;
+
+  @TempDir private Path temp;
+
+  private InputFile inputFile;
+
+  @BeforeEach
+  public void writeFile() throws IOException {
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(SCHEMA.asStruct());
+    GenericData.Record[] records = new GenericData.Record[NUM_RECORDS];
+    for (int i = 0; i < NUM_RECORDS; i += 1) {
+      records[i] = new GenericData.Record(avroSchema);
+      records[i].put("id", i);
+      records[i].put("data", "data-" + i);
+    }
+
+    // write one row group per record
+    this.inputFile =
+        Files.localInput(
+            writeRecords(
+                temp,
+                SCHEMA,
+                ImmutableMap.of(
+                    PARQUET_ROW_GROUP_SIZE_BYTES, "1",
+                    PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "1",
+                    PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT, "1"),
+                ParquetAvroWriter::buildWriter,
+                records));
+  }
+
+  @Test
+  public void testCachedFooterIsShared() throws IOException {
+    ParquetFooterCache cache = new ParquetFooterCache(1024 * 1024);
+    ParquetReadOptions options = ParquetReadOptions.builder().build();
+
+    try (ParquetFileReader reader = cache.open(inputFile, options)) {
+      assertThat(reader.getRowGroups()).hasSize(NUM_RECORDS);
+    }
+
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+    assertThat(cache.stats().hitCount()).isEqualTo(0);
+
+    try (ParquetFileReader reader = cache.open(inputFile, options)) {
+      assertThat(reader.getRowGroups()).hasSize(NUM_RECORDS);
+      assertThat(reader.readNextRowGroup().getRowCount()).isEqualTo(1);
+      assertThat(reader.getFooter().getFileMetaData())
+          .isSameAs(cache.footer(inputFile).getFileMetaData());
+    }
+
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+    assertThat(cache.stats().hitCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void testSplitRanges() throws IOException {
+    ParquetFooterCache cache = new ParquetFooterCache(1024 * 1024);
+    long length = inputFile.getLength();
+    long splitSize = length / 3;
+
+    int totalRowGroups = 0;
+    for (long start = 0; start < length; start += splitSize) {
+      long end = Math.min(start + splitSize, length);
+      ParquetReadOptions options = ParquetReadOptions.builder().withRange(start, end).build();
+
+      List<Long> expected;
+      try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(inputFile), options)) {
+        expected = startingPositions(reader.getRowGroups());
+      }
+
+      try (ParquetFileReader reader = cache.open(inputFile, options)) {
+        assertThat(startingPositions(reader.getRowGroups())).isEqualTo(expected);
+        totalRowGroups += reader.getRowGroups().size();
+      }
+    }
+
+    assertThat(totalRowGroups).isEqualTo(NUM_RECORDS);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+  }
+
+  private static List<Long> startingPositions(List<BlockMetaData> rowGroups) {
+    return rowGroups.stream().map(BlockMetaData::getStartingPos).collect(Collectors.toList());
+  }
+}
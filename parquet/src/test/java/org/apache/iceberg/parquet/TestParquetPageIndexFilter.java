@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES;
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_SIZE_BYTES;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.schema.MessageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestParquetPageIndexFilter {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), optional(2, "data", Types.StringType.get()));
+  private static final int NUM_RECORDS = 1000;
+
+  @TempDir private Path temp;
+
+  private File file;
+  private List<Record> records;
+
+  @BeforeEach
+  public void writeFile() throws IOException {
+    this.file = temp.resolve("page-index.parquet").toFile();
+    this.records = Lists.newArrayList();
+    for (long id = 0; id < NUM_RECORDS; id += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", id);
+      // longer values so that the data column has more pages than the id column
+      record.setField("data", id % 7 == 0 ? null : String.format("data-%050d", id));
+      records.add(record);
+    }
+
+    // id pages are cut by row count and data pages by size, so page boundaries differ
+    try (FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(file))
+            .schema(SCHEMA)
+            .createWriterFunc(GenericParquetWriter::create)
+            .set(PARQUET_PAGE_SIZE_BYTES, "512")
+            .set(PARQUET_DICT_SIZE_BYTES, "512")
+            .set(PARQUET_PAGE_ROW_LIMIT, "50")
+            .build()) {
+      appender.addAll(records);
+    }
+  }
+
+  @Test
+  public void testRowRanges() throws IOException {
+    assertThat(rowRanges(Expressions.equal("id", 500L)).rowCount())
+        .isGreaterThan(0)
+        .isLessThan(NUM_RECORDS);
+    assertThat(rowRanges(Expressions.lessThan("id", 10L)).rowCount()).isLessThan(NUM_RECORDS);
+    assertThat(rowRanges(Expressions.greaterThanOrEqual("id", 1000L)).rowCount()).isEqualTo(0);
+    assertThat(rowRanges(Expressions.notEqual("id", 500L)).rowCount()).isEqualTo(NUM_RECORDS);
+    assertThat(rowRanges(Expressions.isNull("data")).rowCount()).isEqualTo(NUM_RECORDS);
+    assertThat(
+            rowRanges(
+                    Expressions.or(
+                        Expressions.lessThan("id", 10L), Expressions.greaterThan("id", 990L)))
+                .rowCount())
+        .isLessThan(NUM_RECORDS);
+    assertThat(
+            rowRanges(
+                    Expressions.and(
+                        Expressions.lessThan("id", 10L), Expressions.greaterThan("id", 990L)))
+                .rowCount())
+        .isEqualTo(0);
+  }
+
+  @Test
+  public void testReadFilteredPages() throws IOException {
+    assertFilteredRead(Expressions.equal("id", 500L), 500);
+    assertFilteredRead(Expressions.in("id", 3L, 777L), 3, 777);
+    assertFilteredRead(Expressions.greaterThan("id", 995L), 996, 997, 998, 999);
+    assertFilteredRead(Expressions.startsWith("data", String.format("data-%050d", 123)), 123);
+  }
+
+  @Test
+  public void testPageFilteringDisabled() throws IOException {
+    List<Record> actual =
+        read(Expressions.equal("id", 500L), SCHEMA, "parquet.filter.columnindex.enabled", "false");
+    assertThat(actual).hasSize(NUM_RECORDS);
+  }
+
+  @Test
+  public void testPageFilteringWithRowPositions() throws IOException {
+    Schema schemaWithPos = new Schema(SCHEMA.columns().get(0), MetadataColumns.ROW_POSITION);
+    List<Record> actual = read(Expressions.equal("id", 500L), schemaWithPos, null, null);
+    assertThat(actual).hasSize(NUM_RECORDS);
+    for (Record record : actual) {
+      assertThat(record.getField(MetadataColumns.ROW_POSITION.name())).isEqualTo(record.get(0));
+    }
+  }
+
+  private void assertFilteredRead(Expression filter, long... expectedIds) throws IOException {
+    List<Record> actual = read(filter, SCHEMA, null, null);
+    assertThat(actual).hasSizeLessThan(NUM_RECORDS);
+
+    // rows are read from whole pages, so every row must match the written row with the same id
+    for (Record record : actual) {
+      assertThat(record).isEqualTo(records.get(((Long) record.get(0)).intValue()));
+    }
+
+    List<Long> ids = Lists.transform(actual, record -> (Long) record.get(0));
+    for (long expectedId : expectedIds) {
+      assertThat(ids).contains(expectedId);
+    }
+  }
+
+  private List<Record> read(Expression filter, Schema projection, String key, String value)
+      throws IOException {
+    Parquet.ReadBuilder builder =
+        Parquet.read(Files.localInput(file))
+            .project(projection)
+            .filter(filter)
+            .createReaderFunc(
+                fileSchema -> GenericParquetReaders.buildReader(projection, fileSchema));
+    if (key != null) {
+      builder.set(key, value);
+    }
+
+    try (CloseableIterable<Record> reader = builder.build()) {
+      return Lists.newArrayList(Iterables.transform(reader, Record::copy));
+    }
+  }
+
+  private RowRanges rowRanges(Expression filter) throws IOException {
+    ParquetPageIndexFilter pageFilter = new ParquetPageIndexFilter(SCHEMA, filter, true);
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(ParquetIO.file(Files.localInput(file)))) {
+      MessageType fileSchema = reader.getFileMetaData().getSchema();
+      BlockMetaData rowGroup = Iterables.getOnlyElement(reader.getRowGroups());
+      return pageFilter.rowRanges(fileSchema, rowGroup, reader);
+    }
+  }
+}
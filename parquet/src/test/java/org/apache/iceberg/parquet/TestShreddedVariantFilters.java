@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.extract;
+import static org.apache.iceberg.expressions.Expressions.greaterThan;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.isNull;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.notEqual;
+import static org.apache.iceberg.expressions.Expressions.notNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.InternalWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.inmemory.InMemoryOutputFile;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.variants.ShreddedObject;
+import org.apache.iceberg.variants.Variant;
+import org.apache.iceberg.variants.VariantMetadata;
+import org.apache.iceberg.variants.VariantTestUtil;
+import org.apache.iceberg.variants.VariantValue;
+import org.apache.iceberg.variants.Variants;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.schema.MessageType;
+import org.junit.jupiter.api.Test;
+
+public class TestShreddedVariantFilters {
+  private static final VariantMetadata METADATA =
+      VariantMetadata.from(VariantTestUtil.createMetadata(Set.of("a", "b"), true));
+
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "var", Types.VariantType.get()));
+
+  private static final int NUM_RECORDS = 1000;
+
+  @Test
+  public void testRowGroupFilter() throws IOException {
+    InputFile file = writeParquet(false);
+
+    assertThat(shouldRead(file, equal(extract("var", "$.a", "int"), 500))).isTrue();
+    assertThat(shouldRead(file, greaterThan(extract("var", "$.a", "int"), 998))).isTrue();
+    assertThat(shouldRead(file, greaterThan(extract("var", "$.a", "int"), 999))).isFalse();
+    assertThat(shouldRead(file, lessThan(extract("var", "$.a", "int"), 0))).isFalse();
+    assertThat(shouldRead(file, in(extract("var", "$.a", "int"), 1000, 2000))).isFalse();
+    assertThat(shouldRead(file, notEqual(extract("var", "$.a", "int"), 500))).isTrue();
+    assertThat(shouldRead(file, notNull(extract("var", "$.a", "int")))).isTrue();
+    assertThat(shouldRead(file, isNull(extract("var", "$.a", "int")))).isTrue();
+
+    // int values are promoted to long bounds
+    assertThat(shouldRead(file, greaterThan(extract("var", "$.a", "long"), 999L))).isFalse();
+
+    // b is not shredded
+    assertThat(shouldRead(file, equal(extract("var", "$.b", "string"), "nope"))).isTrue();
+  }
+
+  @Test
+  public void testRowGroupFilterWithUnshreddedValues() throws IOException {
+    InputFile file = writeParquet(true);
+
+    // the last row's value for a is a string and is stored in the value column
+    assertThat(shouldRead(file, greaterThan(extract("var", "$.a", "int"), 999))).isTrue();
+    assertThat(shouldRead(file, lessThan(extract("var", "$.a", "int"), 0))).isTrue();
+  }
+
+  @Test
+  public void testPageIndexFilter() throws IOException {
+    InputFile file = writeParquet(false);
+
+    assertThat(rowRanges(file, equal(extract("var", "$.a", "int"), 500)).rowCount())
+        .isGreaterThan(0)
+        .isLessThan(NUM_RECORDS);
+    assertThat(rowRanges(file, lessThan(extract("var", "$.a", "int"), 10)).rowCount())
+        .isGreaterThan(0)
+        .isLessThan(NUM_RECORDS);
+    assertThat(rowRanges(file, greaterThan(extract("var", "$.a", "int"), 999)).rowCount())
+        .isEqualTo(0);
+    assertThat(rowRanges(file, notEqual(extract("var", "$.a", "int"), 500)).rowCount())
+        .isEqualTo(NUM_RECORDS);
+    assertThat(rowRanges(file, equal(extract("var", "$.b", "string"), "nope")).rowCount())
+        .isEqualTo(NUM_RECORDS);
+  }
+
+  @Test
+  public void testPageIndexFilterWithUnshreddedValues() throws IOException {
+    InputFile file = writeParquet(true);
+
+    // only the pages that contain the value column's non-null values are selected
+    assertThat(rowRanges(file, greaterThan(extract("var", "$.a", "int"), 999)).rowCount())
+        .isGreaterThan(0)
+        .isLessThan(NUM_RECORDS);
+  }
+
+  private static boolean shouldRead(InputFile file, Expression filter) throws IOException {
+    ParquetMetricsRowGroupFilter rowGroupFilter = new ParquetMetricsRowGroupFilter(SCHEMA, filter);
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      MessageType fileSchema = reader.getFileMetaData().getSchema();
+      BlockMetaData rowGroup = Iterables.getOnlyElement(reader.getRowGroups());
+      return rowGroupFilter.shouldRead(fileSchema, rowGroup);
+    }
+  }
+
+  private static RowRanges rowRanges(InputFile file, Expression filter) throws IOException {
+    ParquetPageIndexFilter pageFilter = new ParquetPageIndexFilter(SCHEMA, filter);
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      MessageType fileSchema = reader.getFileMetaData().getSchema();
+      BlockMetaData rowGroup = Iterables.getOnlyElement(reader.getRowGroups());
+      return pageFilter.rowRanges(fileSchema, rowGroup, reader);
+    }
+  }
+
+  /** Writes rows where a is shredded as an int, optionally storing the last a as a string. */
+  private static InputFile writeParquet(boolean unshreddedLast) throws IOException {
+    ShreddedObject example = object(Variants.of(0));
+    InMemoryOutputFile out = new InMemoryOutputFile();
+    GenericRecord record = GenericRecord.create(SCHEMA);
+
+    try (FileAppender<Record> writer =
+        Parquet.write(out)
+            .schema(SCHEMA)
+            .variantShreddingFunc((id, name) -> ParquetVariantUtil.toParquetSchema(example))
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .set(PARQUET_PAGE_ROW_LIMIT, "50")
+            .build()) {
+      for (int id = 0; id < NUM_RECORDS; id += 1) {
+        VariantValue a =
+            unshreddedLast && id == NUM_RECORDS - 1 ? Variants.of("999") : Variants.of(id);
+        record.setField("id", (long) id);
+        record.setField("var", id % 10 == 0 ? null : Variant.of(METADATA, object(a)));
+        writer.add(record);
+      }
+    }
+
+    return out.toInputFile();
+  }
+
+  private static ShreddedObject object(VariantValue a) {
+    ShreddedObject object = Variants.object(METADATA);
+    object.put("a", a);
+    return object;
+  }
+}
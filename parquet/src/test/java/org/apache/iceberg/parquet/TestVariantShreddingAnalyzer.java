@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.variants.ValueArray;
+import org.apache.iceberg.variants.VariantTestUtil;
+import org.apache.iceberg.variants.VariantValue;
+import org.apache.iceberg.variants.Variants;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.Type;
+import org.junit.jupiter.api.Test;
+
+public class TestVariantShreddingAnalyzer {
+
+  @Test
+  public void testPrimitive() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer(10);
+    for (int i = 0; i < 10; i += 1) {
+      analyzer.add(Variants.of(i));
+    }
+
+    analyzer.add(Variants.ofNull());
+    analyzer.add(Variants.of("not an int"));
+
+    assertThat(analyzer.shreddedType())
+        .isEqualTo(ParquetVariantUtil.toParquetSchema(Variants.of(0)));
+  }
+
+  @Test
+  public void testMixedIntegerWidths() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer(10);
+    // ids are encoded at the smallest width that fits, so most values are not the widest type
+    for (int id = 1; id <= 100; id += 1) {
+      analyzer.add(Variants.of((byte) id));
+    }
+
+    for (int id = 1000; id < 1100; id += 1) {
+      analyzer.add(Variants.of((short) id));
+    }
+
+    analyzer.add(Variants.of(100000));
+
+    assertThat(analyzer.shreddedType())
+        .isEqualTo(ParquetVariantUtil.toParquetSchema(Variants.of(0)));
+  }
+
+  @Test
+  public void testArray() {
+    ValueArray array = Variants.array();
+    array.add(Variants.of("iceberg"));
+    array.add(Variants.of("string"));
+
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer(10);
+    analyzer.add(array);
+    analyzer.add(Variants.array());
+
+    assertThat(analyzer.shreddedType()).isEqualTo(ParquetVariantUtil.toParquetSchema(array));
+  }
+
+  @Test
+  public void testDecimalsAreNotShredded() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer(10);
+    analyzer.add(Variants.of(new BigDecimal("123456.789")));
+    analyzer.add(Variants.of(new BigDecimal("123.45")));
+
+    assertThat(analyzer.shreddedType()).isNull();
+  }
+
+  @Test
+  public void testRareFieldsAreNotShredded() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer(10);
+    for (int i = 0; i < 20; i += 1) {
+      if (i == 0) {
+        analyzer.add(object(ImmutableMap.of("a", Variants.of(i), "z", Variants.of(true))));
+      } else {
+        analyzer.add(object(ImmutableMap.of("a", Variants.of(i), "b", Variants.of("str"))));
+      }
+    }
+
+    GroupType typedValue = analyzer.shreddedType().asGroupType();
+    assertThat(typedValue.getFields()).extracting(Type::getName).containsExactly("a", "b");
+    assertThat(typedValue.getType("a").asGroupType().getType("typed_value"))
+        .isEqualTo(ParquetVariantUtil.toParquetSchema(Variants.of(0)));
+    assertThat(typedValue.getType("b").asGroupType().getType("typed_value"))
+        .isEqualTo(ParquetVariantUtil.toParquetSchema(Variants.of("str")));
+  }
+
+  @Test
+  public void testUnstableFieldTypes() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer(10);
+    analyzer.add(object(ImmutableMap.of("a", Variants.of(34))));
+    analyzer.add(object(ImmutableMap.of("a", Variants.of("str"))));
+    analyzer.add(object(ImmutableMap.of("a", Variants.of(true))));
+
+    // the field is still shredded, but only to its binary value column
+    GroupType typedValue = analyzer.shreddedType().asGroupType();
+    assertThat(typedValue.getFields()).extracting(Type::getName).containsExactly("a");
+    assertThat(typedValue.getType("a").asGroupType().containsField("typed_value")).isFalse();
+  }
+
+  @Test
+  public void testMaxFields() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer(2);
+    for (int i = 0; i < 10; i += 1) {
+      ImmutableMap.Builder<String, VariantValue> fields = ImmutableMap.builder();
+      fields.put("a", Variants.of(i));
+      if (i < 5) {
+        fields.put("b", Variants.of(i));
+      }
+
+      if (i < 8) {
+        fields.put("c", Variants.of(i));
+      }
+
+      analyzer.add(object(fields.build()));
+    }
+
+    GroupType typedValue = analyzer.shreddedType().asGroupType();
+    assertThat(typedValue.getFields()).extracting(Type::getName).containsExactly("a", "c");
+  }
+
+  private static VariantValue object(Map<String, VariantValue> fields) {
+    return VariantTestUtil.variant(fields).value();
+  }
+}
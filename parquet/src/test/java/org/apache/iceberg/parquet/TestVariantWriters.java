@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.iceberg.InternalTestHelpers;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.data.parquet.InternalReader;
@@ -35,6 +36,7 @@ import org.apache.iceberg.data.parquet.InternalWriter;
 import org.apache.iceberg.inmemory.InMemoryOutputFile;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
@@ -49,6 +51,11 @@ import org.apache.iceberg.variants.VariantObject;
 import org.apache.iceberg.variants.VariantTestUtil;
 import org.apache.iceberg.variants.VariantValue;
 import org.apache.iceberg.variants.Variants;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.FieldSource;
 
@@ -228,6 +235,185 @@ public class TestVariantWriters {
     }
   }
 
+  @Test
+  public void testInferredShredding() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    for (int i = 0; i < 10; i += 1) {
+      VariantObject object = i % 2 == 0 ? SIMILAR_OBJECT : TEST_OBJECT;
+      expected.add(RECORD.copy("id", i, "var", Variant.of(TEST_METADATA, object)));
+    }
+
+    // values after the buffered rows are written with the inferred layout
+    for (int i = 0; i < VARIANTS.length; i += 1) {
+      expected.add(RECORD.copy("id", 10 + i, "var", VARIANTS[i]));
+    }
+
+    OutputFile outputFile = new InMemoryOutputFile();
+    try (FileAppender<Record> writer =
+        Parquet.write(outputFile)
+            .schema(SCHEMA)
+            .set(TableProperties.PARQUET_VARIANT_SHREDDING_ENABLED, "true")
+            .set(TableProperties.PARQUET_VARIANT_SHREDDING_BUFFER_ROWS, "10")
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .copyFunc(Record::copy)
+            .build()) {
+      writer.addAll(expected);
+    }
+
+    MessageType fileSchema;
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(ParquetIO.file(outputFile.toInputFile()))) {
+      fileSchema = reader.getFileMetaData().getSchema();
+    }
+
+    GroupType typedValue =
+        fileSchema.getType("var").asGroupType().getType("typed_value").asGroupType();
+    assertThat(typedValue.getFields()).extracting(Type::getName).containsExactly("a", "c", "d");
+    assertThat(typedValue.getType("a").asGroupType().getType("typed_value"))
+        .isEqualTo(ParquetVariantUtil.toParquetSchema(Variants.of(34)));
+
+    List<Record> actual = read(outputFile.toInputFile());
+    assertThat(actual.size()).isEqualTo(expected.size());
+
+    for (int i = 0; i < expected.size(); i += 1) {
+      InternalTestHelpers.assertEquals(SCHEMA.asStruct(), expected.get(i), actual.get(i));
+    }
+  }
+
+  @Test
+  public void testInferredShreddingWidensIntegers() throws IOException {
+    // encoders store integers at the smallest width that fits
+    VariantValue[] values =
+        new VariantValue[] {
+          Variants.of((byte) 34),
+          Variants.of((short) 1234),
+          Variants.of(12345),
+          Variants.of((byte) -1),
+          Variants.of(-1L)
+        };
+
+    List<Record> records = Lists.newArrayList();
+    for (int i = 0; i < values.length; i += 1) {
+      records.add(RECORD.copy("id", i, "var", Variant.of(EMPTY_METADATA, values[i])));
+    }
+
+    OutputFile outputFile = new InMemoryOutputFile();
+    try (FileAppender<Record> writer =
+        Parquet.write(outputFile)
+            .schema(SCHEMA)
+            .set(TableProperties.PARQUET_VARIANT_SHREDDING_ENABLED, "true")
+            .set(TableProperties.PARQUET_VARIANT_SHREDDING_BUFFER_ROWS, "3")
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .copyFunc(Record::copy)
+            .build()) {
+      writer.addAll(records);
+    }
+
+    // the inferred layout uses the widest integer type in the buffered rows
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(ParquetIO.file(outputFile.toInputFile()))) {
+      GroupType var = reader.getFileMetaData().getSchema().getType("var").asGroupType();
+      assertThat(var.getType("typed_value"))
+          .isEqualTo(ParquetVariantUtil.toParquetSchema(Variants.of(0)));
+    }
+
+    // narrower integers are widened to the inferred int32 and the long is stored in value
+    List<Record> actual = read(outputFile.toInputFile());
+    assertThat(actual).hasSize(values.length);
+    VariantTestUtil.assertEqual(Variants.of(34), ((Variant) actual.get(0).get(1)).value());
+    VariantTestUtil.assertEqual(Variants.of(1234), ((Variant) actual.get(1).get(1)).value());
+    VariantTestUtil.assertEqual(Variants.of(12345), ((Variant) actual.get(2).get(1)).value());
+    VariantTestUtil.assertEqual(Variants.of(-1), ((Variant) actual.get(3).get(1)).value());
+    VariantTestUtil.assertEqual(Variants.of(-1L), ((Variant) actual.get(4).get(1)).value());
+  }
+
+  @Test
+  public void testExplicitShreddingKeepsIntegerTypes() throws IOException {
+    List<Record> records =
+        ImmutableList.of(
+            RECORD.copy("id", 0, "var", Variant.of(EMPTY_METADATA, Variants.of((byte) 34))),
+            RECORD.copy("id", 1, "var", Variant.of(EMPTY_METADATA, Variants.of(12345))));
+
+    // an explicit int32 layout only shreds int32 values, narrower values are stored in value
+    List<Record> actual =
+        writeAndRead((id, name) -> ParquetVariantUtil.toParquetSchema(Variants.of(0)), records);
+
+    assertThat(actual).hasSize(records.size());
+    for (int i = 0; i < records.size(); i += 1) {
+      InternalTestHelpers.assertEquals(SCHEMA.asStruct(), records.get(i), actual.get(i));
+    }
+  }
+
+  @Test
+  public void testInferredShreddingWithReusedRecord() throws IOException {
+    List<Record> expected = Lists.newArrayList();
+    for (int i = 0; i < 25; i += 1) {
+      VariantObject object = i % 2 == 0 ? SIMILAR_OBJECT : TEST_OBJECT;
+      expected.add(RECORD.copy("id", i, "var", Variant.of(TEST_METADATA, object)));
+    }
+
+    OutputFile outputFile = new InMemoryOutputFile();
+    try (FileAppender<Record> writer =
+        Parquet.write(outputFile)
+            .schema(SCHEMA)
+            .set(TableProperties.PARQUET_VARIANT_SHREDDING_ENABLED, "true")
+            .set(TableProperties.PARQUET_VARIANT_SHREDDING_BUFFER_ROWS, "10")
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .copyFunc(Record::copy)
+            .build()) {
+      // the same record is passed for every row, including the rows that are buffered
+      GenericRecord reused = GenericRecord.create(SCHEMA);
+      for (Record record : expected) {
+        reused.set(0, record.get(0));
+        reused.set(1, record.get(1));
+        writer.add(reused);
+      }
+    }
+
+    assertThat(shreddedFields(outputFile.toInputFile())).containsExactly("a", "c", "d");
+
+    List<Record> actual = read(outputFile.toInputFile());
+    assertThat(actual.size()).isEqualTo(expected.size());
+
+    for (int i = 0; i < expected.size(); i += 1) {
+      InternalTestHelpers.assertEquals(SCHEMA.asStruct(), expected.get(i), actual.get(i));
+    }
+  }
+
+  @Test
+  public void testInferredShreddingWithoutCopyFunc() throws IOException {
+    OutputFile outputFile = new InMemoryOutputFile();
+    try (FileAppender<Record> writer =
+        Parquet.write(outputFile)
+            .schema(SCHEMA)
+            .set(TableProperties.PARQUET_VARIANT_SHREDDING_ENABLED, "true")
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .build()) {
+      writer.add(RECORD.copy("id", 1, "var", Variant.of(TEST_METADATA, TEST_OBJECT)));
+    }
+
+    // rows cannot be buffered safely without a copy function, so the layout is not inferred
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(ParquetIO.file(outputFile.toInputFile()))) {
+      GroupType var = reader.getFileMetaData().getSchema().getType("var").asGroupType();
+      assertThat(var.containsField("typed_value")).isFalse();
+    }
+  }
+
+  private static List<String> shreddedFields(InputFile inputFile) throws IOException {
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(inputFile))) {
+      GroupType typedValue =
+          reader
+              .getFileMetaData()
+              .getSchema()
+              .getType("var")
+              .asGroupType()
+              .getType("typed_value")
+              .asGroupType();
+      return typedValue.getFields().stream().map(Type::getName).collect(Collectors.toList());
+    }
+  }
+
   private static Record writeAndRead(VariantShreddingFunction shreddingFunc, Record record)
       throws IOException {
     return Iterables.getOnlyElement(writeAndRead(shreddingFunc, List.of(record)));
@@ -248,8 +434,12 @@ public class TestVariantWriters {
       }
     }
 
+    return read(outputFile.toInputFile());
+  }
+
+  private static List<Record> read(InputFile inputFile) throws IOException {
     try (CloseableIterable<Record> reader =
-        Parquet.read(outputFile.toInputFile())
+        Parquet.read(inputFile)
             .project(SCHEMA)
             .createReaderFunc(fileSchema -> InternalReader.create(SCHEMA, fileSchema))
             .build()) {